@@ -51,6 +51,14 @@ public abstract class BrokerClient {
         return 0;
     }
 
+    /**
+     * Gets maximum number of concurrent requests allowed by broker rate limit
+     * @return max concurrency
+     */
+    public int getMaxConcurrency() {
+        return 1;
+    }
+
     public abstract Balance getBalance() throws InterruptedException;
 
     public abstract Order submitOrder(Asset asset, Order order) throws InterruptedException;
@@ -1,25 +1,24 @@
 package org.chomookun.fintics.core.broker.client.kis;
 
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Kis access throttler
  * appKey 별 초당 20건 호출 제한
+ * 호출 시점(slot)은 lock 안에서 예약 하고, 대기는 lock 밖에서 수행 (virtual thread pinning 방지)
  */
 public class KisAccessThrottler {
 
-    private static final ConcurrentHashMap<String, LockAndCondition> requestLocks = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, AccessSlot> accessSlots = new ConcurrentHashMap<>();
 
     /**
-     * Lock and condition class
+     * Access slot class
      */
-    private static class LockAndCondition {
+    private static class AccessSlot {
         final Lock lock = new ReentrantLock();
-        final Condition condition = lock.newCondition();
-        long lastAccessTime = 0;
+        long nextAccessTime = 0;
     }
 
     /**
@@ -28,20 +27,20 @@ public class KisAccessThrottler {
      * @param sleepMillis sleep milli seconds
      */
     public static void sleep(String appKey, long sleepMillis) throws InterruptedException {
-        LockAndCondition lockAndCondition = requestLocks.computeIfAbsent(appKey, k -> new LockAndCondition());
-        lockAndCondition.lock.lock();
+        AccessSlot accessSlot = accessSlots.computeIfAbsent(appKey, k -> new AccessSlot());
+        long waitMillis;
+        accessSlot.lock.lockInterruptibly();
         try {
             long currentTime = System.currentTimeMillis();
-            long timeSinceLastAccess = currentTime - lockAndCondition.lastAccessTime;
-
-            if (timeSinceLastAccess < sleepMillis) {
-                long sleepTime = sleepMillis - timeSinceLastAccess;
-                lockAndCondition.condition.awaitNanos(sleepTime * 1_000_000);
-            }
-            // Update the last access time for this access token
-            lockAndCondition.lastAccessTime = currentTime;
+            long accessTime = Math.max(currentTime, accessSlot.nextAccessTime);
+            // reserves next access time for this app key
+            accessSlot.nextAccessTime = accessTime + sleepMillis;
+            waitMillis = accessTime - currentTime;
         } finally {
-            lockAndCondition.lock.unlock();
+            accessSlot.lock.unlock();
+        }
+        if (waitMillis > 0) {
+            Thread.sleep(waitMillis);
         }
     }
 
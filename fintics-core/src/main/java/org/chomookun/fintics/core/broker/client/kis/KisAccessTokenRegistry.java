@@ -11,6 +11,8 @@ import org.springframework.web.client.RestTemplate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Kis access token registry in memory
@@ -20,7 +22,7 @@ public class KisAccessTokenRegistry {
 
     private static final Set<KisAccessToken> accessTokens = Collections.synchronizedSet(new HashSet<>());
 
-    private final static Object LOCK_OBJECT = new Object();
+    private final static Lock LOCK = new ReentrantLock();
 
     /**
      * Returns rest template
@@ -39,8 +41,9 @@ public class KisAccessTokenRegistry {
      * @param appSecret api secret
      * @return access token
      */
-    synchronized static KisAccessToken getAccessToken(String apiUrl, String appKey, String appSecret) throws InterruptedException {
-        synchronized (LOCK_OBJECT) {
+    static KisAccessToken getAccessToken(String apiUrl, String appKey, String appSecret) throws InterruptedException {
+        LOCK.lockInterruptibly();
+        try {
             KisAccessToken accessToken = accessTokens.stream()
                     .filter(element ->
                             Objects.equals(element.getApiUrl(), apiUrl)
@@ -71,6 +74,8 @@ public class KisAccessTokenRegistry {
             }
             // return
             return accessToken;
+        } finally {
+            LOCK.unlock();
         }
     }
 
@@ -78,7 +83,7 @@ public class KisAccessTokenRegistry {
      * Saves access token
      * @param accessToken access token
      */
-    synchronized static void saveAccessToken(KisAccessToken accessToken) {
+    static void saveAccessToken(KisAccessToken accessToken) {
         accessTokens.remove(accessToken);
         accessTokens.add(accessToken);
     }
@@ -93,7 +98,7 @@ public class KisAccessTokenRegistry {
      *     [접근토큰발급(P)[인증-001]]
      *     </a>
      */
-    synchronized static KisAccessToken createAccessToken(String apiUrl, String appKey, String appSecret) throws InterruptedException {
+    static KisAccessToken createAccessToken(String apiUrl, String appKey, String appSecret) throws InterruptedException {
         log.info("Refresh Access Token - {}", apiUrl);
         RestTemplate restTemplate = getRestTemplate();
         ValueMap payloadMap = new ValueMap(){{
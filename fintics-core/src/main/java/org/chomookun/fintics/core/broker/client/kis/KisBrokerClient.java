@@ -41,8 +41,6 @@ import java.util.stream.Collectors;
 @Slf4j
 public class KisBrokerClient extends BrokerClient {
 
-    private final static Object LOCK_OBJECT = new Object();
-
     private final boolean production;
 
     private final String apiUrl;
@@ -95,11 +93,15 @@ public class KisBrokerClient extends BrokerClient {
         return httpHeaders;
     }
 
-    private synchronized void sleep() throws InterruptedException {
-        synchronized (LOCK_OBJECT) {
-            long sleepMillis = production ? 200 : 1_000;
-            KisAccessThrottler.sleep(appKey, sleepMillis);
-        }
+    private void sleep() throws InterruptedException {
+        long sleepMillis = production ? 200 : 1_000;
+        KisAccessThrottler.sleep(appKey, sleepMillis);
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        // production 은 초당 20건, 모의 투자 는 초당 2건 제한
+        return production ? 4 : 1;
     }
 
     @Override
@@ -38,6 +38,8 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -45,6 +47,8 @@ public class UpbitBrokerClient extends BrokerClient {
 
     private static final String API_URL = "https://api.upbit.com";
 
+    private static final Lock SLEEP_LOCK = new ReentrantLock();
+
     private static final String QUERY_HASH_ALGORITHM = "SHA-512";
 
     private final String accessKey;
@@ -75,13 +79,24 @@ public class UpbitBrokerClient extends BrokerClient {
                 .build();
     }
 
+    @Override
+    public int getMaxConcurrency() {
+        // all calls are serialized by global sleep lock
+        return 1;
+    }
+
     @Override
     public boolean isOpened(LocalDateTime datetime) throws InterruptedException {
         return true;
     }
 
-    private synchronized static void sleep() throws InterruptedException {
-        Thread.sleep(300);
+    private static void sleep() throws InterruptedException {
+        SLEEP_LOCK.lockInterruptibly();
+        try {
+            Thread.sleep(300);
+        } finally {
+            SLEEP_LOCK.unlock();
+        }
     }
 
     HttpHeaders createHeaders(String queryString) {
@@ -0,0 +1,190 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.chomookun.fintics.core.ohlcv.model.OhlcvColumns;
+import org.chomookun.fintics.core.ohlcv.model.OhlcvSeries;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Double series
+ * primitive input of indicator calculator (time ascending, same order as calculator series).
+ * common intermediates (true range, typical price, moving averages of close and true range) are
+ * calculated once and shared by calculators of same double series (not thread-safe, returned arrays must not be modified).
+ */
+@Getter
+public class DoubleSeries {
+
+    private final int size;
+
+    private final double[] open;
+
+    private final double[] high;
+
+    private final double[] low;
+
+    private final double[] close;
+
+    private final double[] volume;
+
+    @Getter(AccessLevel.NONE)
+    private double[] trs;
+
+    @Getter(AccessLevel.NONE)
+    private double[] typicalPrices;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, double[]> closeEmas = new HashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, double[]> closeSmas = new HashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private final Map<Integer, double[]> trEmas = new HashMap<>();
+
+    /**
+     * Constructor
+     * @param open open prices
+     * @param high high prices
+     * @param low low prices
+     * @param close close prices
+     * @param volume volumes
+     */
+    public DoubleSeries(double[] open, double[] high, double[] low, double[] close, double[] volume) {
+        this.size = close.length;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+    }
+
+    /**
+     * Gets true range (calculated once)
+     * @return true range
+     */
+    public double[] getTrs() {
+        if (trs == null) {
+            trs = IndicatorKernels.getInstance().trs(high, low, close);
+        }
+        return trs;
+    }
+
+    /**
+     * Gets typical price (calculated once)
+     * @return typical price
+     */
+    public double[] getTypicalPrices() {
+        if (typicalPrices == null) {
+            typicalPrices = IndicatorKernels.getInstance().typicalPrices(high, low, close);
+        }
+        return typicalPrices;
+    }
+
+    /**
+     * Gets exponential moving average of close (calculated once per period)
+     * @param period period
+     * @return exponential moving average of close
+     */
+    public double[] getCloseEmas(int period) {
+        return closeEmas.computeIfAbsent(period, key -> IndicatorCalculator.emas(close, key));
+    }
+
+    /**
+     * Gets simple moving average of close (calculated once per period)
+     * @param period period
+     * @return simple moving average of close
+     */
+    public double[] getCloseSmas(int period) {
+        return closeSmas.computeIfAbsent(period, key -> IndicatorKernels.getInstance().smas(close, key));
+    }
+
+    /**
+     * Gets exponential moving average of true range (calculated once per period)
+     * @param period period
+     * @return exponential moving average of true range
+     */
+    public double[] getTrEmas(int period) {
+        return trEmas.computeIfAbsent(period, key -> IndicatorCalculator.emas(getTrs(), key));
+    }
+
+    /**
+     * Creates double series from ohlcvs
+     * @param series ohlcvs (time ascending)
+     * @return double series
+     */
+    public static DoubleSeries of(List<Ohlcv> series) {
+        int size = series.size();
+        double[] open = new double[size];
+        double[] high = new double[size];
+        double[] low = new double[size];
+        double[] close = new double[size];
+        double[] volume = new double[size];
+        for (int i = 0; i < size; i ++) {
+            Ohlcv ohlcv = series.get(i);
+            open[i] = toDouble(ohlcv.getOpen());
+            high[i] = toDouble(ohlcv.getHigh());
+            low[i] = toDouble(ohlcv.getLow());
+            close[i] = toDouble(ohlcv.getClose());
+            volume[i] = toDouble(ohlcv.getVolume());
+        }
+        return new DoubleSeries(open, high, low, close, volume);
+    }
+
+    /**
+     * Creates double series from ohlcv columns
+     * @param ohlcvColumns ohlcv columns (time descending)
+     * @return double series (time ascending)
+     */
+    public static DoubleSeries of(OhlcvColumns ohlcvColumns) {
+        return new DoubleSeries(
+                reverse(ohlcvColumns.getOpen()),
+                reverse(ohlcvColumns.getHigh()),
+                reverse(ohlcvColumns.getLow()),
+                reverse(ohlcvColumns.getClose()),
+                reverse(ohlcvColumns.getVolume()));
+    }
+
+    /**
+     * Creates double series from ohlcv series
+     * @param ohlcvSeries ohlcv series (any view order)
+     * @return double series (time ascending)
+     */
+    public static DoubleSeries of(OhlcvSeries ohlcvSeries) {
+        OhlcvSeries series = ohlcvSeries.ascending();
+        return new DoubleSeries(
+                toDoubles(series.getOpens()),
+                toDoubles(series.getHighs()),
+                toDoubles(series.getLows()),
+                toDoubles(series.getCloses()),
+                toDoubles(series.getVolumes()));
+    }
+
+    private static double[] toDoubles(double[] values) {
+        // null value(NaN) is zero, same as ohlcvs
+        for (int i = 0; i < values.length; i ++) {
+            if (Double.isNaN(values[i])) {
+                values[i] = 0.0;
+            }
+        }
+        return values;
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : 0.0;
+    }
+
+    static double[] reverse(double[] values) {
+        double[] reversed = new double[values.length];
+        for (int i = 0; i < values.length; i ++) {
+            reversed[i] = values[values.length - 1 - i];
+        }
+        return reversed;
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Exponential moving average accumulator
+ * same as {@link IndicatorCalculator#emas(java.util.List, int, MathContext)} value by value,
+ * and last add can be undone (for replacing last bar).
+ */
+public class EmaAccumulator {
+
+    private final BigDecimal multiplier;
+
+    private final MathContext mathContext;
+
+    private BigDecimal ema;
+
+    private BigDecimal previousEma;
+
+    /**
+     * Constructor
+     * @param period period
+     * @param mathContext math context
+     */
+    public EmaAccumulator(int period, MathContext mathContext) {
+        this.multiplier = BigDecimal.valueOf(2.0)
+                .divide(BigDecimal.valueOf(period + 1), mathContext);
+        this.mathContext = mathContext;
+    }
+
+    /**
+     * Adds value
+     * @param value value
+     * @return exponential moving average
+     */
+    public BigDecimal add(BigDecimal value) {
+        previousEma = ema;
+        ema = ema == null
+                ? value
+                : value.subtract(ema).multiply(multiplier, mathContext).add(ema);
+        return ema;
+    }
+
+    /**
+     * Undoes last add
+     */
+    public void undo() {
+        ema = previousEma;
+        previousEma = null;
+    }
+
+    /**
+     * Gets exponential moving average
+     * @return exponential moving average (null if empty)
+     */
+    public BigDecimal get() {
+        return ema;
+    }
+
+    /**
+     * Clears value
+     */
+    public void clear() {
+        ema = null;
+        previousEma = null;
+    }
+
+}
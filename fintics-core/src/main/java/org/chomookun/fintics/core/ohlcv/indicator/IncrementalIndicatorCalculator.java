@@ -0,0 +1,226 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import lombok.Getter;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Incremental indicator calculator
+ * keeps calculation state, so appending or replacing last bar costs O(1)
+ * instead of recalculating whole series.
+ * results are same as batch calculator over all bars consumed since state was reset.
+ * evicted head of series (e.g. rolling window) is not recalculated, so state keeps effect of evicted bars
+ * (e.g. seed of ema, base of obv) and may differ from batch calculator over current series only.
+ * @param <C> indicator context
+ * @param <R> indicator
+ */
+public abstract class IncrementalIndicatorCalculator<C extends IndicatorContext, R extends Indicator> {
+
+    @Getter
+    private final C context;
+
+    // ascending order (oldest first), evicted bars are skipped by offset
+    private final ArrayList<Ohlcv> ohlcvs = new ArrayList<>();
+
+    private final ArrayList<R> indicators = new ArrayList<>();
+
+    private int offset;
+
+    private final List<R> view = new IndicatorView();
+
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * Constructor
+     * @param context context
+     */
+    public IncrementalIndicatorCalculator(C context) {
+        this.context = context;
+    }
+
+    /**
+     * Advances state with next bar
+     * @param ohlcv next bar
+     * @return indicator of bar
+     */
+    protected abstract R push(Ohlcv ohlcv);
+
+    /**
+     * Reverts state of last push
+     */
+    protected abstract void undo();
+
+    /**
+     * Clears state
+     */
+    protected abstract void clear();
+
+    /**
+     * Updates with new bar
+     * @param ohlcv new bar
+     * @return indicator of new bar
+     */
+    public R update(Ohlcv ohlcv) {
+        lock.lock();
+        try {
+            R indicator = push(ohlcv);
+            ohlcvs.add(ohlcv);
+            indicators.add(indicator);
+            return indicator;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces last bar (e.g. current minute bar is changed)
+     * @param ohlcv last bar
+     * @return indicator of last bar
+     */
+    public R replaceLast(Ohlcv ohlcv) {
+        lock.lock();
+        try {
+            if (size() == 0) {
+                return update(ohlcv);
+            }
+            undo();
+            R indicator = push(ohlcv);
+            ohlcvs.set(ohlcvs.size() - 1, ohlcv);
+            indicators.set(indicators.size() - 1, indicator);
+            return indicator;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Synchronizes state with series.
+     * evicted head bars are skipped, last consumed bar is replaced and newer bars are appended,
+     * and state is reset (recalculated) only if series is not continued from consumed bars.
+     * @param series series (time ascending)
+     * @return indicators of series (time ascending, read-only view valid until next update of this calculator)
+     */
+    public List<R> sync(List<Ohlcv> series) {
+        lock.lock();
+        try {
+            int lastIndex = getLastIndex(series);
+            if (lastIndex < 0) {
+                reset();
+                for (Ohlcv ohlcv : series) {
+                    update(ohlcv);
+                }
+            } else {
+                evict(size() - 1 - lastIndex);
+                replaceLast(series.get(lastIndex));
+                for (int i = lastIndex + 1; i < series.size(); i ++) {
+                    update(series.get(i));
+                }
+            }
+            return view;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets index of last consumed bar in series
+     * @param series series (time ascending)
+     * @return index of last consumed bar (-1 if series is not continued from consumed bars)
+     */
+    private int getLastIndex(List<Ohlcv> series) {
+        if (size() == 0 || series.isEmpty()) {
+            return -1;
+        }
+        LocalDateTime lastDateTime = ohlcvs.get(ohlcvs.size() - 1).getDateTime();
+        if (lastDateTime == null) {
+            return -1;
+        }
+        // searches from tail (only new bars are scanned)
+        int lastIndex = series.size() - 1;
+        while (lastIndex >= 0 && series.get(lastIndex).getDateTime() != null
+                && series.get(lastIndex).getDateTime().isAfter(lastDateTime)) {
+            lastIndex --;
+        }
+        if (lastIndex < 0 || !lastDateTime.equals(series.get(lastIndex).getDateTime())) {
+            return -1;
+        }
+        // series must not have older bars than consumed bars
+        if (lastIndex > size() - 1) {
+            return -1;
+        }
+        // bar before last consumed bar must be unchanged (only last bar is replaced)
+        if (lastIndex > 0 && !ohlcvs.get(ohlcvs.size() - 2).equals(series.get(lastIndex - 1))) {
+            return -1;
+        }
+        return lastIndex;
+    }
+
+    /**
+     * Evicts head bars (state is kept)
+     * @param count number of evicted bars
+     */
+    private void evict(int count) {
+        for (int i = 0; i < count; i ++) {
+            ohlcvs.set(offset, null);
+            indicators.set(offset, null);
+            offset ++;
+        }
+        // compacts when half of storage is evicted (amortized)
+        if (offset > 0 && offset >= ohlcvs.size() / 2) {
+            ohlcvs.subList(0, offset).clear();
+            indicators.subList(0, offset).clear();
+            offset = 0;
+        }
+    }
+
+    /**
+     * Resets state
+     */
+    public void reset() {
+        lock.lock();
+        try {
+            clear();
+            ohlcvs.clear();
+            indicators.clear();
+            offset = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets number of bars in state (except evicted bars)
+     * @return size
+     */
+    public int size() {
+        return ohlcvs.size() - offset;
+    }
+
+    /**
+     * Time ascending read-only view of indicators (except evicted bars)
+     */
+    private class IndicatorView extends AbstractList<R> implements RandomAccess {
+
+        @Override
+        public R get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return indicators.get(offset + index);
+        }
+
+        @Override
+        public int size() {
+            return IncrementalIndicatorCalculator.this.size();
+        }
+
+    }
+
+}
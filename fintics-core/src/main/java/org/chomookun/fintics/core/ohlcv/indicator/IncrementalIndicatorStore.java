@@ -0,0 +1,90 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Incremental indicator store
+ * holds state of incremental indicator calculator per (series id, indicator context) across trade cycles.
+ * least recently used state is evicted when exceeds max size.
+ */
+public class IncrementalIndicatorStore {
+
+    private static final int MAX_SIZE = 10_000;
+
+    private static final Map<Key, IncrementalIndicatorCalculator<?,?>> calculatorMap = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, IncrementalIndicatorCalculator<?,?>> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    private static final Lock lock = new ReentrantLock();
+
+    /**
+     * Key of state
+     * @param seriesId series id (e.g. asset id, ohlcv type and period)
+     * @param context indicator context
+     */
+    private record Key(String seriesId, IndicatorContext context) {}
+
+    /**
+     * Gets incremental indicator calculator (creates if not exists)
+     * @param seriesId series id
+     * @param context indicator context
+     * @return incremental indicator calculator
+     * @param <C> indicator context
+     * @param <R> indicator
+     */
+    @SuppressWarnings("unchecked")
+    public static <C extends IndicatorContext, R extends Indicator> IncrementalIndicatorCalculator<C,R> getCalculator(String seriesId, C context) {
+        lock.lock();
+        try {
+            return (IncrementalIndicatorCalculator<C,R>) calculatorMap.computeIfAbsent(new Key(seriesId, context),
+                    key -> IndicatorCalculatorFactory.getIncrementalIndicator(context));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Evicts states of series
+     * @param seriesId series id
+     */
+    public static void evict(String seriesId) {
+        lock.lock();
+        try {
+            calculatorMap.keySet().removeIf(key -> key.seriesId().equals(seriesId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Clears all states
+     */
+    public static void clear() {
+        lock.lock();
+        try {
+            calculatorMap.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets number of states
+     * @return size
+     */
+    public static int size() {
+        lock.lock();
+        try {
+            return calculatorMap.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
@@ -1,14 +1,21 @@
 package org.chomookun.fintics.core.ohlcv.indicator;
 
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 
 import java.time.LocalDateTime;
 
+/**
+ * Indicator (immutable, so results can be shared by indicator cache)
+ */
 @SuperBuilder
-@Data
+@Getter
+@EqualsAndHashCode
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public abstract class Indicator {
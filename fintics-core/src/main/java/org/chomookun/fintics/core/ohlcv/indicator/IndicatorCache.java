@@ -0,0 +1,225 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Indicator cache
+ * shares indicator results of same series (asset id, ohlcv type and period), bars and indicator context
+ * between strategy calls and trades in same cycle.
+ * bars are identified by digest of all bars (any changed bar in history is a miss, not only last bar).
+ * results are read-only lists of immutable indicators, so cached result is not changed by callers.
+ * least recently used result is evicted when exceeds max size.
+ * metrics are published to meter registry (if exists) as fintics.indicator.cache.*.
+ */
+@Component
+public class IndicatorCache implements MeterBinder {
+
+    private final int maxSize;
+
+    private final Map<Key, List<? extends Indicator>> resultMap;
+
+    private final Lock lock = new ReentrantLock();
+
+    @Getter
+    private final Metrics metrics = new Metrics();
+
+    /**
+     * Constructor
+     * @param indicatorCacheProperties indicator cache properties
+     */
+    public IndicatorCache(IndicatorCacheProperties indicatorCacheProperties) {
+        this.maxSize = indicatorCacheProperties.getMaxSize();
+        this.resultMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, List<? extends Indicator>> eldest) {
+                if (size() > maxSize) {
+                    metrics.evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Key of result
+     * @param seriesId series id (e.g. asset id, ohlcv type and period)
+     * @param size number of bars
+     * @param digest digest of all bars
+     * @param context indicator context
+     */
+    private record Key(String seriesId, int size, String digest, IndicatorContext context) {}
+
+    /**
+     * Metrics of cache
+     */
+    @Getter
+    public static class Metrics {
+
+        private final AtomicLong hitCount = new AtomicLong();
+
+        private final AtomicLong missCount = new AtomicLong();
+
+        private final AtomicLong evictionCount = new AtomicLong();
+
+        /**
+         * Gets hit ratio
+         * @return hit ratio (0 if not requested)
+         */
+        public double getHitRatio() {
+            long requestCount = hitCount.get() + missCount.get();
+            return requestCount == 0 ? 0.0 : (double) hitCount.get() / requestCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hit:%d, miss:%d, eviction:%d, hit ratio:%.2f", hitCount.get(), missCount.get(), evictionCount.get(), getHitRatio());
+        }
+
+    }
+
+    /**
+     * Binds metrics to meter registry
+     * @param registry meter registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("fintics.indicator.cache.gets", metrics, value -> value.hitCount.get())
+                .tag("result", "hit")
+                .description("number of cache hits")
+                .register(registry);
+        FunctionCounter.builder("fintics.indicator.cache.gets", metrics, value -> value.missCount.get())
+                .tag("result", "miss")
+                .description("number of cache misses")
+                .register(registry);
+        FunctionCounter.builder("fintics.indicator.cache.evictions", metrics, value -> value.evictionCount.get())
+                .description("number of cache evictions")
+                .register(registry);
+        Gauge.builder("fintics.indicator.cache.size", this, IndicatorCache::size)
+                .description("number of cached results")
+                .register(registry);
+    }
+
+    /**
+     * Gets indicators (calculates if not cached)
+     * @param seriesId series id
+     * @param ohlcvs OHLCV data (time descending)
+     * @param context indicator context
+     * @param calculator calculates indicators (time descending) on miss
+     * @return indicators (read-only, time descending)
+     * @param <C> indicator context
+     * @param <R> indicator
+     */
+    public <C extends IndicatorContext, R extends Indicator> List<R> get(String seriesId, List<Ohlcv> ohlcvs, C context, Supplier<List<R>> calculator) {
+        return get(seriesId, ohlcvs, digest(ohlcvs), context, calculator);
+    }
+
+    /**
+     * Gets indicators with digest of bars (calculates if not cached)
+     * digest may be memoized by caller (e.g. per resampled series in cycle), so bars are not digested on every get.
+     * @param seriesId series id
+     * @param ohlcvs OHLCV data (time descending)
+     * @param digest digest of bars (see {@link #digest(List)})
+     * @param context indicator context
+     * @param calculator calculates indicators (time descending) on miss
+     * @return indicators (read-only, time descending)
+     * @param <C> indicator context
+     * @param <R> indicator
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends IndicatorContext, R extends Indicator> List<R> get(String seriesId, List<Ohlcv> ohlcvs, String digest, C context, Supplier<List<R>> calculator) {
+        Key key = new Key(seriesId, ohlcvs.size(), digest, context);
+        lock.lock();
+        try {
+            List<? extends Indicator> indicators = resultMap.get(key);
+            if (indicators != null) {
+                metrics.hitCount.incrementAndGet();
+                return (List<R>) indicators;
+            }
+        } finally {
+            lock.unlock();
+        }
+        // calculates outside lock (same key may be calculated concurrently, last one is kept)
+        metrics.missCount.incrementAndGet();
+        List<R> indicators = Collections.unmodifiableList(new ArrayList<>(calculator.get()));
+        lock.lock();
+        try {
+            resultMap.put(key, indicators);
+        } finally {
+            lock.unlock();
+        }
+        return indicators;
+    }
+
+    /**
+     * Creates digest of bars (date time and prices of all bars)
+     * @param ohlcvs OHLCV data
+     * @return digest (hex)
+     */
+    public static String digest(List<Ohlcv> ohlcvs) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (Ohlcv ohlcv : ohlcvs) {
+            String bar = String.join(",",
+                    String.valueOf(ohlcv.getDateTime()),
+                    String.valueOf(ohlcv.getOpen()),
+                    String.valueOf(ohlcv.getHigh()),
+                    String.valueOf(ohlcv.getLow()),
+                    String.valueOf(ohlcv.getClose()),
+                    String.valueOf(ohlcv.getVolume()));
+            messageDigest.update(bar.getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte) ';');
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    /**
+     * Clears all results
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            resultMap.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets number of results
+     * @return size
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return resultMap.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
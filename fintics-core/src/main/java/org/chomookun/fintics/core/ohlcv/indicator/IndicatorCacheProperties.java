@@ -0,0 +1,22 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Indicator cache properties
+ */
+@ConfigurationProperties(prefix = "fintics.core.ohlcv.indicator-cache")
+@AllArgsConstructor
+@Getter
+@Builder
+public class IndicatorCacheProperties {
+
+    /**
+     * max number of cached results (least recently used result is evicted when exceeded)
+     */
+    private final int maxSize;
+
+}
@@ -5,8 +5,11 @@ import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.TreeSet;
 
 public abstract class IndicatorCalculator<C extends IndicatorContext, R extends Indicator> {
 
@@ -24,6 +27,21 @@ public abstract class IndicatorCalculator<C extends IndicatorContext, R extends
      */
     public abstract List<R> calculate(List<Ohlcv> series);
 
+    /**
+     * Calculate abstract method (double computation)
+     * @param series double series (time ascending)
+     * @return indicator values by field name of indicator
+     */
+    public abstract IndicatorValues calculate(DoubleSeries series);
+
+    /**
+     * Checks double computation mode
+     * @return whether computation mode of context is double
+     */
+    protected boolean isDoubleComputation() {
+        return context.getComputationMode() == IndicatorContext.ComputationMode.DOUBLE;
+    }
+
     /**
      * Calculates exponential moving average
      * @param series series
@@ -49,20 +67,24 @@ public abstract class IndicatorCalculator<C extends IndicatorContext, R extends
 
     /**
      * Calculates simple moving average
+     * running sum is kept exactly, so result is same as summing each window (O(n)).
      * @param series series
      * @param period period
      * @param mathContext math context
      * @return list of simple moving average
      */
     public static List<BigDecimal> smas(List<BigDecimal> series, int period, MathContext mathContext) {
-        List<BigDecimal> smas = new ArrayList<>();
+        List<BigDecimal> smas = new ArrayList<>(series.size());
+        int[] windowScales = windowScales(series, period);
+        BigDecimal sum = BigDecimal.ZERO;
         for(int i = 0; i < series.size(); i ++) {
-            List<BigDecimal> periodSeries = series.subList(Math.max(i - period + 1, 0), i + 1);
-            BigDecimal sum = BigDecimal.ZERO;
-            for(BigDecimal value : periodSeries) {
-                sum = sum.add(value);
+            int from = i - period + 1;
+            sum = sum.add(series.get(i));
+            if (from > 0) {
+                sum = sum.subtract(series.get(from - 1));
             }
-            BigDecimal sma = sum.divide(BigDecimal.valueOf(periodSeries.size()), mathContext);
+            int size = i - Math.max(from, 0) + 1;
+            BigDecimal sma = rescale(sum, windowScales[i]).divide(BigDecimal.valueOf(size), mathContext);
             smas.add(sma);
         }
         return smas;
@@ -70,23 +92,35 @@ public abstract class IndicatorCalculator<C extends IndicatorContext, R extends
 
     /**
      * Calculates standard deviation
+     * sum of squared deviations is derived from exact running sum of values and squares
+     * (sum(x^2) - 2 * mean * sum(x) + size * mean^2), so result is same as summing each window (O(n)).
      * @param series series
      * @param period period
      * @param mathContext math context
      * @return list of standard deviation
      */
     public static List<BigDecimal> sds(List<BigDecimal> series, int period, MathContext mathContext) {
-        List<BigDecimal> stds = new ArrayList<>();
+        List<BigDecimal> stds = new ArrayList<>(series.size());
+        int[] windowScales = windowScales(series, period);
+        BigDecimal sum = BigDecimal.ZERO;
+        BigDecimal sumSquares = BigDecimal.ZERO;
         for (int i = 0; i < series.size(); i ++) {
-            List<BigDecimal> periodSeries = series.subList(Math.max(i - period + 1, 0), i + 1);
-            BigDecimal mean = periodSeries.stream()
-                    .reduce(BigDecimal.ZERO, BigDecimal::add)
-                    .divide(BigDecimal.valueOf(periodSeries.size()), mathContext);
-            BigDecimal sumSquaredDeviations = periodSeries.stream()
-                    .map(x -> x.subtract(mean).pow(2))
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            int from = i - period + 1;
+            BigDecimal value = series.get(i);
+            sum = sum.add(value);
+            sumSquares = sumSquares.add(value.multiply(value));
+            if (from > 0) {
+                BigDecimal removedValue = series.get(from - 1);
+                sum = sum.subtract(removedValue);
+                sumSquares = sumSquares.subtract(removedValue.multiply(removedValue));
+            }
+            BigDecimal size = BigDecimal.valueOf(i - Math.max(from, 0) + 1);
+            BigDecimal mean = rescale(sum, windowScales[i]).divide(size, mathContext);
+            BigDecimal sumSquaredDeviations = sumSquares
+                    .subtract(mean.multiply(sum).multiply(BigDecimal.valueOf(2)))
+                    .add(mean.multiply(mean).multiply(size));
             BigDecimal variance = sumSquaredDeviations
-                    .divide(BigDecimal.valueOf(periodSeries.size()), mathContext);
+                    .divide(size, mathContext);
             BigDecimal std = BigDecimal.valueOf(Math.sqrt(variance.doubleValue()));
             stds.add(std);
         }
@@ -95,24 +129,259 @@ public abstract class IndicatorCalculator<C extends IndicatorContext, R extends
 
     /**
      * Calculates absolute deviation
+     * count and sum of values below mean are queried from fenwick tree over value ranks
+     * (mean * below count - below sum + above sum - mean * above count),
+     * so result is same as summing each window (O(n log n)).
      * @param series series
      * @param period period
      * @param mathContext math context
      * @return list of absolute deviation
      */
     public static List<BigDecimal> ads(List<BigDecimal> series, int period, MathContext mathContext) {
-        List<BigDecimal> ads = new ArrayList<>();
+        List<BigDecimal> ads = new ArrayList<>(series.size());
+        int[] windowScales = windowScales(series, period);
+        BigDecimal[] rankedValues = new TreeSet<>(series).toArray(new BigDecimal[0]);
+        RankedSums rankedSums = new RankedSums(rankedValues);
+        BigDecimal sum = BigDecimal.ZERO;
         for (int i = 0; i < series.size(); i ++) {
-            List<BigDecimal> periodSeries = series.subList(Math.max(i - period + 1, 0), i + 1);
-            BigDecimal sum = periodSeries.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
-            BigDecimal mean = sum.divide(BigDecimal.valueOf(periodSeries.size()), mathContext);
-            BigDecimal sumOfAbsoluteDifferences = periodSeries.stream()
-                    .map(value -> value.subtract(mean).abs())
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            BigDecimal ad = sumOfAbsoluteDifferences.divide(BigDecimal.valueOf(periodSeries.size()), mathContext);
+            int from = i - period + 1;
+            sum = sum.add(series.get(i));
+            rankedSums.add(series.get(i), 1);
+            if (from > 0) {
+                sum = sum.subtract(series.get(from - 1));
+                rankedSums.add(series.get(from - 1), -1);
+            }
+            int size = i - Math.max(from, 0) + 1;
+            BigDecimal mean = rescale(sum, windowScales[i]).divide(BigDecimal.valueOf(size), mathContext);
+            int belowRank = rankedSums.rankOf(mean);
+            int belowCount = rankedSums.count(belowRank);
+            BigDecimal belowSum = rankedSums.sum(belowRank);
+            BigDecimal sumOfAbsoluteDifferences = mean.multiply(BigDecimal.valueOf(belowCount))
+                    .subtract(belowSum)
+                    .add(sum.subtract(belowSum))
+                    .subtract(mean.multiply(BigDecimal.valueOf(size - belowCount)));
+            int scale = Math.max(windowScales[i], mean.scale());
+            BigDecimal ad = rescale(sumOfAbsoluteDifferences, scale).divide(BigDecimal.valueOf(size), mathContext);
             ads.add(ad);
         }
         return ads;
     }
 
+    /**
+     * Calculates exponential moving average (double)
+     * @param series series
+     * @param period period
+     * @return exponential moving average
+     */
+    public static double[] emas(double[] series, int period) {
+        double[] emas = new double[series.length];
+        double multiplier = 2.0 / (period + 1);
+        double ema = series.length == 0 ? 0.0 : series[0];
+        for (int i = 0; i < series.length; i ++) {
+            if (i > 0) {
+                ema = (series[i] - ema) * multiplier + ema;
+            }
+            emas[i] = ema;
+        }
+        return emas;
+    }
+
+    /**
+     * Calculates simple moving average (double)
+     * @param series series
+     * @param period period
+     * @return simple moving average
+     */
+    public static double[] smas(double[] series, int period) {
+        return IndicatorKernels.getInstance().smas(series, period);
+    }
+
+    /**
+     * Calculates standard deviation (double)
+     * @param series series
+     * @param period period
+     * @return standard deviation
+     */
+    public static double[] sds(double[] series, int period) {
+        return IndicatorKernels.getInstance().sds(series, period);
+    }
+
+    /**
+     * Calculates absolute deviation (double)
+     * @param series series
+     * @param period period
+     * @return absolute deviation
+     */
+    public static double[] ads(double[] series, int period) {
+        return IndicatorKernels.getInstance().ads(series, period);
+    }
+
+    /**
+     * Calculates true range (double)
+     * @param series double series
+     * @return true range
+     */
+    public static double[] trs(DoubleSeries series) {
+        return series.getTrs();
+    }
+
+    /**
+     * Calculates typical price (double)
+     * @param series double series
+     * @return typical price
+     */
+    public static double[] typicalPrices(DoubleSeries series) {
+        return series.getTypicalPrices();
+    }
+
+    /**
+     * Calculates on balance volume (double)
+     * @param series double series
+     * @return on balance volume
+     */
+    public static double[] obvs(DoubleSeries series) {
+        return IndicatorKernels.getInstance().obvs(series.getClose(), series.getVolume());
+    }
+
+    /**
+     * Rounds value with half up (same as big decimal set scale with HALF_UP)
+     * @param value value
+     * @param scale scale
+     * @return rounded value
+     */
+    public static double round(double value, int scale) {
+        double factor = Math.pow(10, scale);
+        return Math.signum(value) * Math.floor(Math.abs(value) * factor + 0.5) / factor;
+    }
+
+    /**
+     * Rounds values with half up
+     * @param values values
+     * @param scale scale
+     * @return rounded values
+     */
+    public static double[] round(double[] values, int scale) {
+        double[] rounded = new double[values.length];
+        for (int i = 0; i < values.length; i ++) {
+            rounded[i] = round(values[i], scale);
+        }
+        return rounded;
+    }
+
+    /**
+     * Calculates scale of window sum (maximum scale of values in window, not less than zero)
+     * with monotonic deque of indexes
+     * @param series series
+     * @param period period
+     * @return scale of window sum at each index
+     */
+    private static int[] windowScales(List<BigDecimal> series, int period) {
+        int[] windowScales = new int[series.size()];
+        int[] deque = new int[series.size()];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < series.size(); i ++) {
+            int scale = series.get(i).scale();
+            while (tail > head && series.get(deque[tail - 1]).scale() <= scale) {
+                tail --;
+            }
+            deque[tail ++] = i;
+            if (deque[head] <= i - period) {
+                head ++;
+            }
+            windowScales[i] = Math.max(series.get(deque[head]).scale(), 0);
+        }
+        return windowScales;
+    }
+
+    /**
+     * Rescales running value to scale of the value summed over window.
+     * running value has the exact value but may keep larger scale of removed values,
+     * which changes scale of division result (e.g. 1.50 instead of 1.5).
+     * @param value running value
+     * @param scale scale of window sum
+     * @return rescaled value
+     */
+    private static BigDecimal rescale(BigDecimal value, int scale) {
+        return value.scale() > scale ? value.setScale(scale, RoundingMode.UNNECESSARY) : value;
+    }
+
+    /**
+     * Fenwick tree of count and exact sum by value rank
+     */
+    private static class RankedSums {
+
+        private final BigDecimal[] rankedValues;
+
+        private final int[] counts;
+
+        private final BigDecimal[] sums;
+
+        RankedSums(BigDecimal[] rankedValues) {
+            this.rankedValues = rankedValues;
+            this.counts = new int[rankedValues.length + 1];
+            this.sums = new BigDecimal[rankedValues.length + 1];
+            Arrays.fill(this.sums, BigDecimal.ZERO);
+        }
+
+        /**
+         * Adds (or removes) value
+         * @param value value
+         * @param count 1 to add, -1 to remove
+         */
+        void add(BigDecimal value, int count) {
+            BigDecimal signedValue = count > 0 ? value : value.negate();
+            for (int i = Arrays.binarySearch(rankedValues, value) + 1; i < counts.length; i += i & -i) {
+                counts[i] += count;
+                sums[i] = sums[i].add(signedValue);
+            }
+        }
+
+        /**
+         * Gets rank of value (number of ranked values less than or equal to value)
+         * @param value value
+         * @return rank
+         */
+        int rankOf(BigDecimal value) {
+            int low = 0;
+            int high = rankedValues.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (rankedValues[middle].compareTo(value) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Gets count of values of which rank is less than or equal to rank
+         * @param rank rank
+         * @return count
+         */
+        int count(int rank) {
+            int count = 0;
+            for (int i = rank; i > 0; i -= i & -i) {
+                count += counts[i];
+            }
+            return count;
+        }
+
+        /**
+         * Gets sum of values of which rank is less than or equal to rank
+         * @param rank rank
+         * @return sum
+         */
+        BigDecimal sum(int rank) {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int i = rank; i > 0; i -= i & -i) {
+                sum = sum.add(sums[i]);
+            }
+            return sum;
+        }
+
+    }
+
 }
@@ -12,22 +12,28 @@ import org.chomookun.fintics.core.ohlcv.indicator.chaikinoscillator.ChaikinOscil
 import org.chomookun.fintics.core.ohlcv.indicator.dmi.DmiCalculator;
 import org.chomookun.fintics.core.ohlcv.indicator.dmi.DmiContext;
 import org.chomookun.fintics.core.ohlcv.indicator.ema.EmaCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.ema.IncrementalEmaCalculator;
 import org.chomookun.fintics.core.ohlcv.indicator.ema.EmaContext;
 import org.chomookun.fintics.core.ohlcv.indicator.keltnerchannel.KeltnerChannelCalculator;
 import org.chomookun.fintics.core.ohlcv.indicator.keltnerchannel.KeltnerChannelContext;
 import org.chomookun.fintics.core.ohlcv.indicator.macd.MacdCalculator;
 import org.chomookun.fintics.core.ohlcv.indicator.macd.MacdContext;
 import org.chomookun.fintics.core.ohlcv.indicator.obv.ObvCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.obv.IncrementalObvCalculator;
 import org.chomookun.fintics.core.ohlcv.indicator.obv.ObvContext;
 import org.chomookun.fintics.core.ohlcv.indicator.pricechannel.PriceChannelCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.pricechannel.IncrementalPriceChannelCalculator;
 import org.chomookun.fintics.core.ohlcv.indicator.pricechannel.PriceChannelContext;
 import org.chomookun.fintics.core.ohlcv.indicator.rsi.RsiCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.rsi.IncrementalRsiCalculator;
 import org.chomookun.fintics.core.ohlcv.indicator.rsi.RsiContext;
 import org.chomookun.fintics.core.ohlcv.indicator.sma.SmaCalculator;
 import org.chomookun.fintics.core.ohlcv.indicator.sma.SmaContext;
 import org.chomookun.fintics.core.ohlcv.indicator.stochasticslow.StochasticSlowCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.stochasticslow.IncrementalStochasticSlowCalculator;
 import org.chomookun.fintics.core.ohlcv.indicator.stochasticslow.StochasticSlowContext;
 import org.chomookun.fintics.core.ohlcv.indicator.williamsr.WilliamsRCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.williamsr.IncrementalWilliamsRCalculator;
 import org.chomookun.fintics.core.ohlcv.indicator.williamsr.WilliamsRContext;
 
 import java.lang.reflect.Constructor;
@@ -57,6 +63,18 @@ public class IndicatorCalculatorFactory {
         registry.put(KeltnerChannelContext.class, KeltnerChannelCalculator.class);
     }
 
+    @Getter
+    private final static Map<Class<?>, Class<?>> incrementalRegistry = new LinkedHashMap<>();
+
+    static {
+        incrementalRegistry.put(EmaContext.class, IncrementalEmaCalculator.class);
+        incrementalRegistry.put(RsiContext.class, IncrementalRsiCalculator.class);
+        incrementalRegistry.put(ObvContext.class, IncrementalObvCalculator.class);
+        incrementalRegistry.put(StochasticSlowContext.class, IncrementalStochasticSlowCalculator.class);
+        incrementalRegistry.put(WilliamsRContext.class, IncrementalWilliamsRCalculator.class);
+        incrementalRegistry.put(PriceChannelContext.class, IncrementalPriceChannelCalculator.class);
+    }
+
     /**
      * Get indicator calculator
      * @param context context
@@ -77,4 +95,36 @@ public class IndicatorCalculatorFactory {
         return (T) calculator;
     }
 
+    /**
+     * Checks incremental indicator calculator is supported
+     * @param context context
+     * @return whether supported
+     */
+    public static boolean isIncrementalSupported(IndicatorContext context) {
+        return incrementalRegistry.containsKey(context.getClass());
+    }
+
+    /**
+     * Get incremental indicator calculator
+     * @param context context
+     * @return incremental indicator calculator
+     * @param <C> indicator context
+     * @param <R> indicator
+     * @param <T> incremental indicator calculator
+     */
+    public static <C extends IndicatorContext, R extends Indicator, T extends IncrementalIndicatorCalculator<C,R>> T getIncrementalIndicator(C context) {
+        Class<?> calculatorType = incrementalRegistry.get(context.getClass());
+        if (calculatorType == null) {
+            throw new IllegalArgumentException("incremental calculator not supported - " + context.getClass().getSimpleName());
+        }
+        IncrementalIndicatorCalculator<?,?> calculator;
+        try {
+            Constructor<?> constructor = calculatorType.getConstructor(context.getClass());
+            calculator = (IncrementalIndicatorCalculator<?,?>) constructor.newInstance(context);
+        } catch (NoSuchMethodException | InvocationTargetException | InstantiationException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+        return (T) calculator;
+    }
+
 }
@@ -1,16 +1,31 @@
 package org.chomookun.fintics.core.ohlcv.indicator;
 
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
 import java.math.MathContext;
 
 @SuperBuilder
+@EqualsAndHashCode
 public abstract class IndicatorContext {
 
+    /**
+     * Computation mode
+     * DOUBLE computes with primitive double (math context is ignored).
+     * values agree with BIG_DECIMAL within relative error of math context precision
+     * (about 1e-6 for DECIMAL32, amplified up to period times by ema smoothing),
+     * and values rounded to fixed scale (rsi, williams R, obv, chaikin oscillator) within one unit of last digit.
+     */
+    public enum ComputationMode { BIG_DECIMAL, DOUBLE }
+
     @Getter
     @Builder.Default
     private MathContext mathContext = MathContext.DECIMAL32;
 
+    @Getter
+    @Builder.Default
+    private ComputationMode computationMode = ComputationMode.BIG_DECIMAL;
+
 }
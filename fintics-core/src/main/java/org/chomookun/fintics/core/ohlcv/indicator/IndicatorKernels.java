@@ -0,0 +1,90 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import java.util.Optional;
+
+/**
+ * Indicator kernels
+ * primitive inner loops of double computation.
+ * vector(SIMD) implementation is used if system property 'fintics.indicator.vector' is true
+ * and jdk.incubator.vector module is available (--add-modules jdk.incubator.vector),
+ * otherwise scalar implementation is used.
+ */
+public interface IndicatorKernels {
+
+    String VECTOR_PROPERTY = "fintics.indicator.vector";
+
+    /**
+     * Calculates simple moving average
+     * @param series series
+     * @param period period
+     * @return simple moving average
+     */
+    double[] smas(double[] series, int period);
+
+    /**
+     * Calculates standard deviation
+     * @param series series
+     * @param period period
+     * @return standard deviation
+     */
+    double[] sds(double[] series, int period);
+
+    /**
+     * Calculates absolute deviation (from simple moving average)
+     * @param series series
+     * @param period period
+     * @return absolute deviation
+     */
+    double[] ads(double[] series, int period);
+
+    /**
+     * Calculates true range (previous close of first is its close)
+     * @param high high prices
+     * @param low low prices
+     * @param close close prices
+     * @return true range
+     */
+    double[] trs(double[] high, double[] low, double[] close);
+
+    /**
+     * Calculates typical price ((high + low + close) / 3)
+     * @param high high prices
+     * @param low low prices
+     * @param close close prices
+     * @return typical price
+     */
+    double[] typicalPrices(double[] high, double[] low, double[] close);
+
+    /**
+     * Calculates on balance volume
+     * @param close close prices
+     * @param volume volumes
+     * @return on balance volume
+     */
+    double[] obvs(double[] close, double[] volume);
+
+    /**
+     * Gets kernels (selected once by system property)
+     * @return kernels
+     */
+    static IndicatorKernels getInstance() {
+        return IndicatorKernelsLoader.INSTANCE;
+    }
+
+    /**
+     * Gets scalar kernels
+     * @return scalar kernels
+     */
+    static IndicatorKernels scalar() {
+        return ScalarIndicatorKernels.INSTANCE;
+    }
+
+    /**
+     * Gets vector kernels
+     * @return vector kernels (empty if jdk.incubator.vector module is not available)
+     */
+    static Optional<IndicatorKernels> vector() {
+        return IndicatorKernelsLoader.loadVector();
+    }
+
+}
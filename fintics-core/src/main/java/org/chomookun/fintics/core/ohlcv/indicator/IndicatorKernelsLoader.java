@@ -0,0 +1,55 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+
+/**
+ * Loader of indicator kernels
+ */
+@Slf4j
+final class IndicatorKernelsLoader {
+
+    static final String VECTOR_CLASS_NAME = IndicatorKernelsLoader.class.getPackageName() + ".VectorIndicatorKernels";
+
+    static final IndicatorKernels INSTANCE = load(Boolean.getBoolean(IndicatorKernels.VECTOR_PROPERTY), VECTOR_CLASS_NAME);
+
+    private IndicatorKernelsLoader() {}
+
+    /**
+     * Loads indicator kernels
+     * @param vector whether vector kernels are enabled
+     * @param vectorClassName class name of vector kernels
+     * @return vector kernels if enabled and available, otherwise scalar kernels
+     */
+    static IndicatorKernels load(boolean vector, String vectorClassName) {
+        if (!vector) {
+            return ScalarIndicatorKernels.INSTANCE;
+        }
+        return loadVector(vectorClassName).orElse(ScalarIndicatorKernels.INSTANCE);
+    }
+
+    /**
+     * Loads vector kernels
+     * @return vector kernels (empty if not available)
+     */
+    static Optional<IndicatorKernels> loadVector() {
+        return loadVector(VECTOR_CLASS_NAME);
+    }
+
+    /**
+     * Loads vector kernels reflectively (class refers incubator module and is compiled in vector source set, so must not be linked directly)
+     * @param vectorClassName class name of vector kernels
+     * @return vector kernels (empty if not available)
+     */
+    static Optional<IndicatorKernels> loadVector(String vectorClassName) {
+        try {
+            Class<?> clazz = Class.forName(vectorClassName);
+            return Optional.of((IndicatorKernels) clazz.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("vector kernels not available, falls back to scalar kernels: {}", e.toString());
+            return Optional.empty();
+        }
+    }
+
+}
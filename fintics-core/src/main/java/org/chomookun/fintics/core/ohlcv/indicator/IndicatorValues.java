@@ -0,0 +1,98 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indicator values
+ * primitive output of indicator calculator, values by field name of indicator (e.g. value, signal)
+ * in same order and size as input series.
+ * values array must not be modified after put.
+ */
+public class IndicatorValues {
+
+    @Getter
+    private final int size;
+
+    private final Map<String, double[]> values = new LinkedHashMap<>();
+
+    /**
+     * Constructor
+     * @param size size of series
+     */
+    public IndicatorValues(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Puts values
+     * @param name field name
+     * @param values values
+     * @return this
+     */
+    public IndicatorValues put(String name, double[] values) {
+        if (values.length != size) {
+            throw new IllegalArgumentException(String.format("size of %s (%d) is not %d", name, values.length, size));
+        }
+        this.values.put(name, values);
+        return this;
+    }
+
+    /**
+     * Gets field names
+     * @return field names
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    /**
+     * Gets values
+     * @param name field name
+     * @return values
+     */
+    public double[] get(String name) {
+        double[] array = values.get(name);
+        if (array == null) {
+            throw new IllegalArgumentException(String.format("%s is not in %s", name, values.keySet()));
+        }
+        return array;
+    }
+
+    /**
+     * Gets value
+     * @param name field name
+     * @param index index
+     * @return value
+     */
+    public double get(String name, int index) {
+        return get(name)[index];
+    }
+
+    /**
+     * Gets value as big decimal
+     * @param name field name
+     * @param index index
+     * @return big decimal value (null if not a number)
+     */
+    public BigDecimal getBigDecimal(String name, int index) {
+        double value = get(name, index);
+        return Double.isFinite(value) ? BigDecimal.valueOf(value) : null;
+    }
+
+    /**
+     * Returns reversed indicator values
+     * @return reversed indicator values
+     */
+    public IndicatorValues reversed() {
+        IndicatorValues reversed = new IndicatorValues(size);
+        values.forEach((name, array) -> reversed.put(name, DoubleSeries.reverse(array)));
+        return reversed;
+    }
+
+}
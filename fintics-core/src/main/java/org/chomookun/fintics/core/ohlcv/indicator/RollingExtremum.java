@@ -0,0 +1,167 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Rolling extremum (maximum or minimum) of last period values
+ * with monotonic deque (amortized O(1) per value).
+ * earliest value is returned among equal values (same as stream max/min),
+ * and last add can be undone (for replacing last bar).
+ * @param <T> value type
+ */
+public class RollingExtremum<T> {
+
+    private final int period;
+
+    private final Comparator<? super T> comparator;
+
+    private final Deque<Entry<T>> deque = new ArrayDeque<>();
+
+    private final List<Entry<T>> poppedEntries = new ArrayList<>();
+
+    private Entry<T> evictedEntry;
+
+    private boolean undoable;
+
+    private long count;
+
+    private record Entry<T>(long index, T value) {}
+
+    /**
+     * Constructor
+     * @param period period
+     * @param comparator comparator (extremum is the greatest by comparator)
+     */
+    public RollingExtremum(int period, Comparator<? super T> comparator) {
+        this.period = period;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Creates rolling maximum
+     * @param period period
+     * @param <T> value type
+     * @return rolling maximum
+     */
+    public static <T extends Comparable<? super T>> RollingExtremum<T> max(int period) {
+        return new RollingExtremum<>(period, Comparator.naturalOrder());
+    }
+
+    /**
+     * Creates rolling minimum
+     * @param period period
+     * @param <T> value type
+     * @return rolling minimum
+     */
+    public static <T extends Comparable<? super T>> RollingExtremum<T> min(int period) {
+        return new RollingExtremum<>(period, Comparator.reverseOrder());
+    }
+
+    /**
+     * Adds value (value older than period is evicted)
+     * @param value value
+     */
+    public void add(T value) {
+        long index = count ++;
+        evictedEntry = null;
+        if (!deque.isEmpty() && deque.peekFirst().index() <= index - period) {
+            evictedEntry = deque.pollFirst();
+        }
+        poppedEntries.clear();
+        while (!deque.isEmpty() && comparator.compare(deque.peekLast().value(), value) < 0) {
+            poppedEntries.add(deque.pollLast());
+        }
+        deque.offerLast(new Entry<>(index, value));
+        undoable = true;
+    }
+
+    /**
+     * Undoes last add
+     */
+    public void undo() {
+        if (!undoable) {
+            throw new IllegalStateException("nothing to undo");
+        }
+        deque.pollLast();
+        for (int i = poppedEntries.size() - 1; i >= 0; i --) {
+            deque.offerLast(poppedEntries.get(i));
+        }
+        if (evictedEntry != null) {
+            deque.offerFirst(evictedEntry);
+        }
+        poppedEntries.clear();
+        evictedEntry = null;
+        undoable = false;
+        count --;
+    }
+
+    /**
+     * Gets extremum of window
+     * @return extremum (null if empty)
+     */
+    public T get() {
+        return deque.isEmpty() ? null : deque.peekFirst().value();
+    }
+
+    /**
+     * Clears values
+     */
+    public void clear() {
+        deque.clear();
+        poppedEntries.clear();
+        evictedEntry = null;
+        undoable = false;
+        count = 0;
+    }
+
+    /**
+     * Calculates rolling maximum of last period values at each index (double)
+     * @param values values
+     * @param period period
+     * @return rolling maximum
+     */
+    public static double[] rollingMax(double[] values, int period) {
+        return rolling(values, period, true);
+    }
+
+    /**
+     * Calculates rolling minimum of last period values at each index (double)
+     * @param values values
+     * @param period period
+     * @return rolling minimum
+     */
+    public static double[] rollingMin(double[] values, int period) {
+        return rolling(values, period, false);
+    }
+
+    /**
+     * Calculates rolling extremum with monotonic deque of indexes
+     * @param values values
+     * @param period period
+     * @param max true if maximum, false if minimum
+     * @return rolling extremum
+     */
+    private static double[] rolling(double[] values, int period, boolean max) {
+        double[] extremums = new double[values.length];
+        int[] deque = new int[values.length];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < values.length; i ++) {
+            double value = values[i];
+            if (tail > head && deque[head] <= i - period) {
+                head ++;
+            }
+            while (tail > head && (max ? values[deque[tail - 1]] < value : values[deque[tail - 1]] > value)) {
+                tail --;
+            }
+            deque[tail ++] = i;
+            extremums[i] = values[deque[head]];
+        }
+        return extremums;
+    }
+
+}
@@ -0,0 +1,108 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+/**
+ * Scalar indicator kernels
+ */
+class ScalarIndicatorKernels implements IndicatorKernels {
+
+    static final ScalarIndicatorKernels INSTANCE = new ScalarIndicatorKernels();
+
+    @Override
+    public double[] smas(double[] series, int period) {
+        double[] smas = new double[series.length];
+        double sum = 0.0;
+        for (int i = 0; i < series.length; i ++) {
+            int from = i - period + 1;
+            sum += series[i];
+            if (from > 0) {
+                sum -= series[from - 1];
+            }
+            smas[i] = sum / (i - Math.max(from, 0) + 1);
+        }
+        return smas;
+    }
+
+    /**
+     * Calculates standard deviation
+     * with sliding window welford update (mean and sum of squared deviations).
+     * @param series series
+     * @param period period
+     * @return standard deviation
+     */
+    @Override
+    public double[] sds(double[] series, int period) {
+        double[] sds = new double[series.length];
+        double mean = 0.0;
+        double m2 = 0.0;
+        int count = 0;
+        for (int i = 0; i < series.length; i ++) {
+            double value = series[i];
+            count ++;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+            int from = i - period + 1;
+            if (from > 0) {
+                double removedValue = series[from - 1];
+                count --;
+                double removedDelta = removedValue - mean;
+                mean -= removedDelta / count;
+                m2 -= removedDelta * (removedValue - mean);
+            }
+            sds[i] = Math.sqrt(Math.max(m2, 0.0) / count);
+        }
+        return sds;
+    }
+
+    @Override
+    public double[] ads(double[] series, int period) {
+        double[] ads = new double[series.length];
+        double[] smas = smas(series, period);
+        for (int i = 0; i < series.length; i ++) {
+            int from = Math.max(i - period + 1, 0);
+            double sumOfAbsoluteDifferences = 0.0;
+            for (int j = from; j <= i; j ++) {
+                sumOfAbsoluteDifferences += Math.abs(series[j] - smas[i]);
+            }
+            ads[i] = sumOfAbsoluteDifferences / (i - from + 1);
+        }
+        return ads;
+    }
+
+    @Override
+    public double[] trs(double[] high, double[] low, double[] close) {
+        double[] trs = new double[close.length];
+        for (int i = 0; i < trs.length; i ++) {
+            double previousClose = close[Math.max(i - 1, 0)];
+            trs[i] = Math.max(Math.abs(high[i] - low[i]),
+                    Math.max(Math.abs(high[i] - previousClose), Math.abs(previousClose - low[i])));
+        }
+        return trs;
+    }
+
+    @Override
+    public double[] typicalPrices(double[] high, double[] low, double[] close) {
+        double[] typicalPrices = new double[close.length];
+        for (int i = 0; i < typicalPrices.length; i ++) {
+            typicalPrices[i] = (high[i] + low[i] + close[i]) / 3;
+        }
+        return typicalPrices;
+    }
+
+    @Override
+    public double[] obvs(double[] close, double[] volume) {
+        double[] obvs = new double[close.length];
+        double obv = 0.0;
+        for (int i = 1; i < obvs.length; i ++) {
+            double priceDiff = close[i] - close[i - 1];
+            if (priceDiff > 0) {
+                obv += volume[i];
+            } else if (priceDiff < 0) {
+                obv -= volume[i];
+            }
+            obvs[i] = obv;
+        }
+        return obvs;
+    }
+
+}
@@ -2,12 +2,18 @@ package org.chomookun.fintics.core.ohlcv.indicator;
 
 import com.mitchtalmadge.asciidata.graph.ASCIIGraph;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.chomookun.fintics.core.ohlcv.model.OhlcvColumns;
+import org.chomookun.fintics.core.ohlcv.model.OhlcvSeries;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 import java.util.function.Supplier;
 
 /**
@@ -17,6 +23,7 @@ public class Tools {
 
     /**
      * Calculate technical indicator
+     * not cached, because series of ohlcvs is not identified (use trade asset indicators for cached results).
      * @param ohlcvs OHLCV data (time descending)
      * @param context calculator context
      * @param <C> calculator context type
@@ -35,6 +42,149 @@ public class Tools {
         return calculateResults;
     }
 
+    /**
+     * Calculate technical indicator
+     * @param ohlcvSeries OHLCV series (any view order)
+     * @param context calculator context
+     * @param <C> calculator context type
+     * @param <R> return type
+     * @return technical indicator results (time descending)
+     */
+    public static <C extends IndicatorContext, R extends Indicator> List<R> indicators(OhlcvSeries ohlcvSeries, C context) {
+        // series (ohlcvs are created once from time ascending view)
+        List<Ohlcv> series = new ArrayList<>(ohlcvSeries.ascending().toList());
+        // calculate
+        IndicatorCalculator<C,R> calculator = IndicatorCalculatorFactory.getIndicator(context);
+        List<R> calculateResults =  calculator.calculate(series);
+        // reverse and return
+        Collections.reverse(calculateResults);
+        return calculateResults;
+    }
+
+    /**
+     * Calculate technical indicator incrementally
+     * results are shared by series id, bars and context in indicator cache.
+     * @param indicatorCache indicator cache
+     * @param seriesId series id (e.g. asset id, ohlcv type and period)
+     * @param ohlcvs OHLCV data (time descending)
+     * @param context calculator context
+     * @param <C> calculator context type
+     * @param <R> return type
+     * @return technical indicator results (read-only)
+     */
+    public static <C extends IndicatorContext, R extends Indicator> List<R> indicators(IndicatorCache indicatorCache, String seriesId, List<Ohlcv> ohlcvs, C context) {
+        return indicatorCache.get(seriesId, ohlcvs, context, () -> indicators(seriesId, ohlcvs, context));
+    }
+
+    /**
+     * Calculate technical indicator incrementally
+     * state is kept per series id and context, so only changed last bar and new bars are calculated.
+     * falls back to full calculation if incremental calculator is not supported.
+     * @param seriesId series id (e.g. asset id, ohlcv type and period)
+     * @param ohlcvs OHLCV data (time descending)
+     * @param context calculator context
+     * @param <C> calculator context type
+     * @param <R> return type
+     * @return technical indicator results (read-only view, valid until next calculation of same series id and context)
+     */
+    public static <C extends IndicatorContext, R extends Indicator> List<R> indicators(String seriesId, List<Ohlcv> ohlcvs, C context) {
+        if (!IndicatorCalculatorFactory.isIncrementalSupported(context)) {
+            return indicators(ohlcvs, context);
+        }
+        // calculate (series and results are reversed views, not copied)
+        IncrementalIndicatorCalculator<C,R> calculator = IncrementalIndicatorStore.getCalculator(seriesId, context);
+        return new ReversedList<>(calculator.sync(new ReversedList<>(ohlcvs)));
+    }
+
+    /**
+     * Calculate technical indicator values (double computation)
+     * @param ohlcvs OHLCV data (time descending)
+     * @param context calculator context
+     * @param <C> calculator context type
+     * @return technical indicator values by field name (time descending)
+     */
+    public static <C extends IndicatorContext> IndicatorValues indicatorValues(List<Ohlcv> ohlcvs, C context) {
+        // series
+        List<Ohlcv> series = new ArrayList<>(ohlcvs);
+        Collections.reverse(series);
+        return indicatorValues(DoubleSeries.of(series), context);
+    }
+
+    /**
+     * Calculate technical indicator values (double computation)
+     * @param ohlcvColumns OHLCV columns (time descending)
+     * @param context calculator context
+     * @param <C> calculator context type
+     * @return technical indicator values by field name (time descending)
+     */
+    public static <C extends IndicatorContext> IndicatorValues indicatorValues(OhlcvColumns ohlcvColumns, C context) {
+        return indicatorValues(DoubleSeries.of(ohlcvColumns), context);
+    }
+
+    /**
+     * Calculate technical indicator values (double computation)
+     * @param ohlcvSeries OHLCV series (any view order)
+     * @param context calculator context
+     * @param <C> calculator context type
+     * @return technical indicator values by field name (time descending)
+     */
+    public static <C extends IndicatorContext> IndicatorValues indicatorValues(OhlcvSeries ohlcvSeries, C context) {
+        return indicatorValues(DoubleSeries.of(ohlcvSeries), context);
+    }
+
+    /**
+     * Calculate technical indicator values of contexts at once (double computation)
+     * columns are extracted once, and true range, typical price and moving averages of close and true range
+     * are calculated once for all contexts (math context and computation mode of context are ignored).
+     * @param ohlcvs OHLCV data (time descending)
+     * @param contexts calculator contexts
+     * @return technical indicator values by context (time descending)
+     */
+    public static Map<IndicatorContext, IndicatorValues> indicatorValues(List<Ohlcv> ohlcvs, List<? extends IndicatorContext> contexts) {
+        // series
+        List<Ohlcv> series = new ArrayList<>(ohlcvs);
+        Collections.reverse(series);
+        return indicatorValues(DoubleSeries.of(series), contexts);
+    }
+
+    /**
+     * Calculate technical indicator values of contexts at once (double computation)
+     * @param ohlcvSeries OHLCV series (any view order)
+     * @param contexts calculator contexts
+     * @return technical indicator values by context (time descending)
+     */
+    public static Map<IndicatorContext, IndicatorValues> indicatorValues(OhlcvSeries ohlcvSeries, List<? extends IndicatorContext> contexts) {
+        return indicatorValues(DoubleSeries.of(ohlcvSeries), contexts);
+    }
+
+    /**
+     * Calculates indicator values of contexts on shared double series
+     * @param series double series (time ascending)
+     * @param contexts calculator contexts
+     * @return indicator values by context (time descending)
+     */
+    private static Map<IndicatorContext, IndicatorValues> indicatorValues(DoubleSeries series, List<? extends IndicatorContext> contexts) {
+        Map<IndicatorContext, IndicatorValues> indicatorValuesMap = new LinkedHashMap<>();
+        for (IndicatorContext context : contexts) {
+            if (!indicatorValuesMap.containsKey(context)) {
+                indicatorValuesMap.put(context, indicatorValues(series, context));
+            }
+        }
+        return indicatorValuesMap;
+    }
+
+    /**
+     * Calculates indicator values of double series
+     * @param series double series (time ascending)
+     * @param context calculator context
+     * @param <C> calculator context type
+     * @return indicator values (time descending)
+     */
+    private static <C extends IndicatorContext> IndicatorValues indicatorValues(DoubleSeries series, C context) {
+        IndicatorCalculator<C,?> calculator = IndicatorCalculatorFactory.getIndicator(context);
+        return calculator.calculate(series).reversed();
+    }
+
     /**
      * Calculates percentage of change at each data point
      * @param values data points (time descending)
@@ -276,4 +426,31 @@ public class Tools {
         };
     }
 
+    /**
+     * Reversed read-only view of list
+     * @param <T> element type
+     */
+    private static class ReversedList<T> extends AbstractList<T> implements RandomAccess {
+
+        private final List<T> list;
+
+        ReversedList(List<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return list.get(list.size() - 1 - index);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+    }
+
 }
@@ -1,6 +1,8 @@
 package org.chomookun.fintics.core.ohlcv.indicator.atr;
 
+import org.chomookun.fintics.core.ohlcv.indicator.DoubleSeries;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorValues;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
@@ -24,6 +26,18 @@ public class AtrCalculator extends IndicatorCalculator<AtrContext, Atr> {
      */
     @Override
     public List<Atr> calculate(List<Ohlcv> series) {
+        if (isDoubleComputation()) {
+            IndicatorValues values = calculate(DoubleSeries.of(series));
+            List<Atr> atrs = new ArrayList<>();
+            for (int i = 0; i < series.size(); i ++) {
+                atrs.add(Atr.builder()
+                        .dateTime(series.get(i).getDateTime())
+                        .value(values.getBigDecimal("value", i))
+                        .signal(values.getBigDecimal("signal", i))
+                        .build());
+            }
+            return atrs;
+        }
         // true ranges
         List<BigDecimal> trs = new ArrayList<>();
         for(int i = 0; i < series.size(); i ++ ) {
@@ -52,4 +66,18 @@ public class AtrCalculator extends IndicatorCalculator<AtrContext, Atr> {
         return atrs;
     }
 
+    /**
+     * Calculates atr (double)
+     * @param series double series
+     * @return atr values
+     */
+    @Override
+    public IndicatorValues calculate(DoubleSeries series) {
+        double[] values = smas(trs(series), getContext().getPeriod());
+        double[] signals = emas(values, getContext().getSignalPeriod());
+        return new IndicatorValues(series.getSize())
+                .put("value", values)
+                .put("signal", signals);
+    }
+
 }
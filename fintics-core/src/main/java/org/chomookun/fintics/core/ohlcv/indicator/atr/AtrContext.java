@@ -1,11 +1,13 @@
 package org.chomookun.fintics.core.ohlcv.indicator.atr;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorContext;
 
 @SuperBuilder
 @Getter
+@EqualsAndHashCode(callSuper = true)
 public class AtrContext extends IndicatorContext {
 
     public static final AtrContext DEFAULT = AtrContext.of(14, 9);
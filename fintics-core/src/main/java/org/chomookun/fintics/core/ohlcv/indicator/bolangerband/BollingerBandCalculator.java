@@ -1,6 +1,8 @@
 package org.chomookun.fintics.core.ohlcv.indicator.bolangerband;
 
+import org.chomookun.fintics.core.ohlcv.indicator.DoubleSeries;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorValues;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
@@ -25,6 +27,21 @@ public class BollingerBandCalculator extends IndicatorCalculator<BollingerBandCo
      */
     @Override
     public List<BollingerBand> calculate(List<Ohlcv> series) {
+        if (isDoubleComputation()) {
+            IndicatorValues values = calculate(DoubleSeries.of(series));
+            List<BollingerBand> bollingerBands = new ArrayList<>();
+            for (int i = 0; i < series.size(); i ++) {
+                bollingerBands.add(BollingerBand.builder()
+                        .dateTime(series.get(i).getDateTime())
+                        .middle(values.getBigDecimal("middle", i))
+                        .upper(values.getBigDecimal("upper", i))
+                        .lower(values.getBigDecimal("lower", i))
+                        .width(values.getBigDecimal("width", i))
+                        .percentB(values.getBigDecimal("percentB", i))
+                        .build());
+            }
+            return bollingerBands;
+        }
         int period = getContext().getPeriod();
         BigDecimal sdMultiplier = BigDecimal.valueOf(getContext().getSdMultiplier());
         MathContext mathContext = getContext().getMathContext();
@@ -68,4 +85,35 @@ public class BollingerBandCalculator extends IndicatorCalculator<BollingerBandCo
         return bollingerBands;
     }
 
+    /**
+     * Calculates bollinger bands (double)
+     * @param series double series
+     * @return bollinger bands values
+     */
+    @Override
+    public IndicatorValues calculate(DoubleSeries series) {
+        int size = series.getSize();
+        double sdMultiplier = getContext().getSdMultiplier();
+        double[] closePrices = series.getClose();
+        double[] middles = series.getCloseSmas(getContext().getPeriod());
+        double[] sds = sds(closePrices, getContext().getPeriod());
+        double[] uppers = new double[size];
+        double[] lowers = new double[size];
+        double[] widths = new double[size];
+        double[] percentBs = new double[size];
+        for (int i = 0; i < size; i ++) {
+            uppers[i] = middles[i] + sds[i] * sdMultiplier;
+            lowers[i] = middles[i] - sds[i] * sdMultiplier;
+            double diffUpperLower = uppers[i] - lowers[i];
+            widths[i] = middles[i] != 0 ? diffUpperLower / middles[i] : 0.0;
+            percentBs[i] = diffUpperLower != 0 ? (closePrices[i] - lowers[i]) / diffUpperLower * 100 : 0.0;
+        }
+        return new IndicatorValues(size)
+                .put("middle", middles)
+                .put("upper", uppers)
+                .put("lower", lowers)
+                .put("width", widths)
+                .put("percentB", percentBs);
+    }
+
 }
@@ -1,11 +1,13 @@
 package org.chomookun.fintics.core.ohlcv.indicator.bolangerband;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorContext;
 
 @SuperBuilder
 @Getter
+@EqualsAndHashCode(callSuper = true)
 public class BollingerBandContext extends IndicatorContext {
 
     public static final BollingerBandContext DEFAULT = BollingerBandContext.of(20, 2);
@@ -1,6 +1,8 @@
 package org.chomookun.fintics.core.ohlcv.indicator.cci;
 
+import org.chomookun.fintics.core.ohlcv.indicator.DoubleSeries;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorValues;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
@@ -27,6 +29,18 @@ public class CciCalculator extends IndicatorCalculator<CciContext, Cci> {
      */
     @Override
     public List<Cci> calculate(List<Ohlcv> series) {
+        if (isDoubleComputation()) {
+            IndicatorValues values = calculate(DoubleSeries.of(series));
+            List<Cci> ccis = new ArrayList<>();
+            for (int i = 0; i < series.size(); i ++) {
+                ccis.add(Cci.builder()
+                        .dateTime(series.get(i).getDateTime())
+                        .value(values.getBigDecimal("value", i))
+                        .signal(values.getBigDecimal("signal", i))
+                        .build());
+            }
+            return ccis;
+        }
         int period = getContext().getPeriod();
         int signalPeriod = getContext().getSignalPeriod();
         MathContext mathContext = getContext().getMathContext();
@@ -68,4 +82,26 @@ public class CciCalculator extends IndicatorCalculator<CciContext, Cci> {
         return ccis;
     }
 
+    /**
+     * Calculates cci (double)
+     * @param series double series
+     * @return cci values
+     */
+    @Override
+    public IndicatorValues calculate(DoubleSeries series) {
+        int size = series.getSize();
+        int period = getContext().getPeriod();
+        double[] typicalPrices = typicalPrices(series);
+        double[] smas = smas(typicalPrices, period);
+        double[] ads = ads(typicalPrices, period);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i ++) {
+            values[i] = ads[i] != 0 ? (typicalPrices[i] - smas[i]) / (ads[i] * SCALING_FACTOR.doubleValue()) : 0.0;
+        }
+        double[] signals = emas(values, getContext().getSignalPeriod());
+        return new IndicatorValues(size)
+                .put("value", values)
+                .put("signal", signals);
+    }
+
 }
@@ -1,11 +1,13 @@
 package org.chomookun.fintics.core.ohlcv.indicator.cci;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorContext;
 
 @SuperBuilder
 @Getter
+@EqualsAndHashCode(callSuper = true)
 public class CciContext extends IndicatorContext {
 
     public static final CciContext DEFAULT = CciContext.of(14, 9);
@@ -1,6 +1,8 @@
 package org.chomookun.fintics.core.ohlcv.indicator.chaikinoscillator;
 
+import org.chomookun.fintics.core.ohlcv.indicator.DoubleSeries;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorValues;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
@@ -25,6 +27,18 @@ public class ChaikinOscillatorCalculator extends IndicatorCalculator<ChaikinOsci
      */
     @Override
     public List<ChaikinOscillator> calculate(List<Ohlcv> series) {
+        if (isDoubleComputation()) {
+            IndicatorValues values = calculate(DoubleSeries.of(series));
+            List<ChaikinOscillator> chaikinOscillators = new ArrayList<>();
+            for (int i = 0; i < series.size(); i ++) {
+                chaikinOscillators.add(ChaikinOscillator.builder()
+                        .dateTime(series.get(i).getDateTime())
+                        .value(values.getBigDecimal("value", i))
+                        .signal(values.getBigDecimal("signal", i))
+                        .build());
+            }
+            return chaikinOscillators;
+        }
         // ad values
         List<BigDecimal> adValues = new ArrayList<>();
         BigDecimal adValue = BigDecimal.ZERO;
@@ -66,4 +80,40 @@ public class ChaikinOscillatorCalculator extends IndicatorCalculator<ChaikinOsci
         return cos;
     }
 
+    /**
+     * Calculates chaikin's oscillator (double)
+     * @param series double series
+     * @return chaikin's oscillator values
+     */
+    @Override
+    public IndicatorValues calculate(DoubleSeries series) {
+        int size = series.getSize();
+        double[] highs = series.getHigh();
+        double[] lows = series.getLow();
+        double[] closePrices = series.getClose();
+        double[] volumes = series.getVolume();
+        // ad values
+        double[] adValues = new double[size];
+        double adValue = 0.0;
+        for (int i = 0; i < size; i ++) {
+            double highLowDiff = highs[i] - lows[i];
+            double mfm = highLowDiff != 0
+                    ? ((closePrices[i] - lows[i]) - (highs[i] - closePrices[i])) / highLowDiff
+                    : 0.0;
+            adValue += mfm * volumes[i];
+            adValues[i] = adValue;
+        }
+        // values
+        double[] shortEmas = emas(adValues, getContext().getShortPeriod());
+        double[] longEmas = emas(adValues, getContext().getLongPeriod());
+        double[] values = new double[size];
+        for (int i = 0; i < size; i ++) {
+            values[i] = shortEmas[i] - longEmas[i];
+        }
+        double[] signals = emas(values, getContext().getSignalPeriod());
+        return new IndicatorValues(size)
+                .put("value", round(values, 2))
+                .put("signal", round(signals, 2));
+    }
+
 }
@@ -1,6 +1,8 @@
 package org.chomookun.fintics.core.ohlcv.indicator.dmi;
 
+import org.chomookun.fintics.core.ohlcv.indicator.DoubleSeries;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorValues;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
@@ -24,6 +26,19 @@ public class DmiCalculator extends IndicatorCalculator<DmiContext, Dmi> {
      */
     @Override
     public List<Dmi> calculate(List<Ohlcv> series) {
+        if (isDoubleComputation()) {
+            IndicatorValues values = calculate(DoubleSeries.of(series));
+            List<Dmi> dmis = new ArrayList<>();
+            for (int i = 0; i < series.size(); i ++) {
+                dmis.add(Dmi.builder()
+                        .dateTime(series.get(i).getDateTime())
+                        .pdi(values.getBigDecimal("pdi", i))
+                        .mdi(values.getBigDecimal("mdi", i))
+                        .adx(values.getBigDecimal("adx", i))
+                        .build());
+            }
+            return dmis;
+        }
         List<BigDecimal> highSeries = series.stream()
                 .map(Ohlcv::getHigh)
                 .toList();
@@ -176,4 +191,41 @@ public class DmiCalculator extends IndicatorCalculator<DmiContext, Dmi> {
                 .multiply(BigDecimal.valueOf(100));
     }
 
+    /**
+     * Calculates dmi (double)
+     * @param series double series
+     * @return dmi values
+     */
+    @Override
+    public IndicatorValues calculate(DoubleSeries series) {
+        int size = series.getSize();
+        double[] highs = series.getHigh();
+        double[] lows = series.getLow();
+        double[] pdms = new double[size];
+        double[] mdms = new double[size];
+        for (int i = 0; i < size; i ++) {
+            double upMove = highs[i] - highs[Math.max(i - 1, 0)];
+            double downMove = lows[Math.max(i - 1, 0)] - lows[i];
+            pdms[i] = upMove > downMove && upMove > 0 ? upMove : 0.0;
+            mdms[i] = downMove > upMove && downMove > 0 ? downMove : 0.0;
+        }
+        pdms = emas(pdms, getContext().getPeriod());
+        mdms = emas(mdms, getContext().getPeriod());
+        double[] trs = series.getTrEmas(getContext().getPeriod());
+        double[] pdis = new double[size];
+        double[] mdis = new double[size];
+        double[] dxs = new double[size];
+        for (int i = 0; i < size; i ++) {
+            pdis[i] = trs[i] != 0 ? pdms[i] / trs[i] * 100 : 0.0;
+            mdis[i] = trs[i] != 0 ? mdms[i] / trs[i] * 100 : 0.0;
+            double sumDi = pdis[i] + mdis[i];
+            dxs[i] = sumDi != 0 ? Math.abs(pdis[i] - mdis[i]) / sumDi * 100 : 0.0;
+        }
+        double[] adxs = emas(dxs, getContext().getPeriod());
+        return new IndicatorValues(size)
+                .put("pdi", pdis)
+                .put("mdi", mdis)
+                .put("adx", adxs);
+    }
+
 }
@@ -1,11 +1,13 @@
 package org.chomookun.fintics.core.ohlcv.indicator.dmi;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorContext;
 
 @SuperBuilder
 @Getter
+@EqualsAndHashCode(callSuper = true)
 public class DmiContext extends IndicatorContext {
 
     public static final DmiContext DEFAULT = DmiContext.of(14);
@@ -1,6 +1,8 @@
 package org.chomookun.fintics.core.ohlcv.indicator.ema;
 
+import org.chomookun.fintics.core.ohlcv.indicator.DoubleSeries;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorValues;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
@@ -24,6 +26,17 @@ public class EmaCalculator extends IndicatorCalculator<EmaContext, Ema> {
      */
     @Override
     public List<Ema> calculate(List<Ohlcv> series) {
+        if (isDoubleComputation()) {
+            IndicatorValues values = calculate(DoubleSeries.of(series));
+            List<Ema> emas = new ArrayList<>();
+            for (int i = 0; i < series.size(); i ++) {
+                emas.add(Ema.builder()
+                        .dateTime(series.get(i).getDateTime())
+                        .value(values.getBigDecimal("value", i))
+                        .build());
+            }
+            return emas;
+        }
         List<BigDecimal> closePrices = series.stream()
                 .map(Ohlcv::getClose)
                 .toList();
@@ -38,4 +51,15 @@ public class EmaCalculator extends IndicatorCalculator<EmaContext, Ema> {
         return emas;
     }
 
+    /**
+     * Calculates ema (double)
+     * @param series double series
+     * @return ema values
+     */
+    @Override
+    public IndicatorValues calculate(DoubleSeries series) {
+        return new IndicatorValues(series.getSize())
+                .put("value", series.getCloseEmas(getContext().getPeriod()));
+    }
+
 }
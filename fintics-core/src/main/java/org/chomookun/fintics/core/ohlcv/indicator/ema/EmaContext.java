@@ -1,5 +1,6 @@
 package org.chomookun.fintics.core.ohlcv.indicator.ema;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorContext;
@@ -8,6 +9,7 @@ import java.math.MathContext;
 
 @SuperBuilder
 @Getter
+@EqualsAndHashCode(callSuper = true)
 public class EmaContext extends IndicatorContext {
 
     public static final EmaContext DEFAULT = EmaContext.of(20);
@@ -0,0 +1,38 @@
+package org.chomookun.fintics.core.ohlcv.indicator.ema;
+
+import org.chomookun.fintics.core.ohlcv.indicator.EmaAccumulator;
+import org.chomookun.fintics.core.ohlcv.indicator.IncrementalIndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+
+public class IncrementalEmaCalculator extends IncrementalIndicatorCalculator<EmaContext, Ema> {
+
+    private final EmaAccumulator ema;
+
+    /**
+     * Constructor
+     * @param context ema context
+     */
+    public IncrementalEmaCalculator(EmaContext context) {
+        super(context);
+        this.ema = new EmaAccumulator(context.getPeriod(), context.getMathContext());
+    }
+
+    @Override
+    protected Ema push(Ohlcv ohlcv) {
+        return Ema.builder()
+                .dateTime(ohlcv.getDateTime())
+                .value(ema.add(ohlcv.getClose()))
+                .build();
+    }
+
+    @Override
+    protected void undo() {
+        ema.undo();
+    }
+
+    @Override
+    protected void clear() {
+        ema.clear();
+    }
+
+}
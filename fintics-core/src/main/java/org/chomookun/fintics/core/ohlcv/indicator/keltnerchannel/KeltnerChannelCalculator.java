@@ -1,6 +1,8 @@
 package org.chomookun.fintics.core.ohlcv.indicator.keltnerchannel;
 
+import org.chomookun.fintics.core.ohlcv.indicator.DoubleSeries;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorValues;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
@@ -25,6 +27,18 @@ public class KeltnerChannelCalculator extends IndicatorCalculator<KeltnerChannel
      */
     @Override
     public List<KeltnerChannel> calculate(List<Ohlcv> series) {
+        if (isDoubleComputation()) {
+            IndicatorValues values = calculate(DoubleSeries.of(series));
+            List<KeltnerChannel> keltnerChannels = new ArrayList<>();
+            for (int i = getContext().getAtrPeriod(); i < series.size(); i ++) {
+                keltnerChannels.add(KeltnerChannel.builder()
+                        .center(values.getBigDecimal("center", i))
+                        .upper(values.getBigDecimal("upper", i))
+                        .lower(values.getBigDecimal("lower", i))
+                        .build());
+            }
+            return keltnerChannels;
+        }
         KeltnerChannelContext context = getContext();
         MathContext mathContext = context.getMathContext();
         int period = context.getPeriod();
@@ -66,4 +80,31 @@ public class KeltnerChannelCalculator extends IndicatorCalculator<KeltnerChannel
         return keltnerChannels;
     }
 
+    /**
+     * Calculates keltner channel (double)
+     * @param series double series
+     * @return keltner channel values
+     */
+    @Override
+    public IndicatorValues calculate(DoubleSeries series) {
+        int size = series.getSize();
+        double multiplier = getContext().getMultiplier();
+        double[] emas = series.getCloseEmas(getContext().getPeriod());
+        double[] atrs = series.getTrEmas(getContext().getAtrPeriod());
+        double[] centers = new double[size];
+        double[] uppers = new double[size];
+        double[] lowers = new double[size];
+        for (int i = 0; i < size; i ++) {
+            // not a number before atr period (big decimal computation returns from atr period)
+            boolean valid = i >= getContext().getAtrPeriod();
+            centers[i] = valid ? emas[i] : Double.NaN;
+            uppers[i] = valid ? emas[i] + atrs[i] * multiplier : Double.NaN;
+            lowers[i] = valid ? emas[i] - atrs[i] * multiplier : Double.NaN;
+        }
+        return new IndicatorValues(size)
+                .put("center", centers)
+                .put("upper", uppers)
+                .put("lower", lowers);
+    }
+
 }
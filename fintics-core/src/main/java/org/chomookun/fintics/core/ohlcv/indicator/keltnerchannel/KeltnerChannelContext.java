@@ -1,11 +1,13 @@
 package org.chomookun.fintics.core.ohlcv.indicator.keltnerchannel;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorContext;
 
 @SuperBuilder
 @Getter
+@EqualsAndHashCode(callSuper = true)
 public class KeltnerChannelContext extends IndicatorContext {
 
     public static final KeltnerChannelContext DEFAULT = KeltnerChannelContext.of(20,10, 1.5);
@@ -1,6 +1,8 @@
 package org.chomookun.fintics.core.ohlcv.indicator.macd;
 
+import org.chomookun.fintics.core.ohlcv.indicator.DoubleSeries;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorValues;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
@@ -24,6 +26,19 @@ public class MacdCalculator extends IndicatorCalculator<MacdContext, Macd> {
      */
     @Override
     public List<Macd> calculate(List<Ohlcv> series) {
+        if (isDoubleComputation()) {
+            IndicatorValues values = calculate(DoubleSeries.of(series));
+            List<Macd> macds = new ArrayList<>();
+            for (int i = 0; i < series.size(); i ++) {
+                macds.add(Macd.builder()
+                        .dateTime(series.get(i).getDateTime())
+                        .value(values.getBigDecimal("value", i))
+                        .signal(values.getBigDecimal("signal", i))
+                        .oscillator(values.getBigDecimal("oscillator", i))
+                        .build());
+            }
+            return macds;
+        }
         List<BigDecimal> closePrices = series.stream()
                 .map(Ohlcv::getClose)
                 .toList();
@@ -57,4 +72,29 @@ public class MacdCalculator extends IndicatorCalculator<MacdContext, Macd> {
         return macds;
     }
 
+    /**
+     * Calculates macd (double)
+     * @param series double series
+     * @return macd values
+     */
+    @Override
+    public IndicatorValues calculate(DoubleSeries series) {
+        int size = series.getSize();
+        double[] shortTermEmas = series.getCloseEmas(getContext().getShortPeriod());
+        double[] longTermEmas = series.getCloseEmas(getContext().getLongPeriod());
+        double[] values = new double[size];
+        for (int i = 0; i < size; i ++) {
+            values[i] = shortTermEmas[i] - longTermEmas[i];
+        }
+        double[] signals = emas(values, getContext().getSignalPeriod());
+        double[] oscillators = new double[size];
+        for (int i = 0; i < size; i ++) {
+            oscillators[i] = values[i] - signals[i];
+        }
+        return new IndicatorValues(size)
+                .put("value", values)
+                .put("signal", signals)
+                .put("oscillator", oscillators);
+    }
+
 }
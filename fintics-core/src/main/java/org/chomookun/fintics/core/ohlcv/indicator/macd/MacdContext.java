@@ -1,11 +1,13 @@
 package org.chomookun.fintics.core.ohlcv.indicator.macd;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorContext;
 
 @SuperBuilder
 @Getter
+@EqualsAndHashCode(callSuper = true)
 public class MacdContext extends IndicatorContext {
 
     public static final MacdContext DEFAULT = MacdContext.of(12, 26, 9);
@@ -0,0 +1,70 @@
+package org.chomookun.fintics.core.ohlcv.indicator.obv;
+
+import org.chomookun.fintics.core.ohlcv.indicator.EmaAccumulator;
+import org.chomookun.fintics.core.ohlcv.indicator.IncrementalIndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class IncrementalObvCalculator extends IncrementalIndicatorCalculator<ObvContext, Obv> {
+
+    private final EmaAccumulator signal;
+
+    private BigDecimal obvValue;
+
+    private BigDecimal previousObvValue;
+
+    private BigDecimal close;
+
+    private BigDecimal previousClose;
+
+    /**
+     * Constructor
+     * @param context obv context
+     */
+    public IncrementalObvCalculator(ObvContext context) {
+        super(context);
+        this.signal = new EmaAccumulator(context.getSignalPeriod(), context.getMathContext());
+    }
+
+    @Override
+    protected Obv push(Ohlcv ohlcv) {
+        previousObvValue = obvValue;
+        previousClose = close;
+        if (obvValue == null) {
+            obvValue = BigDecimal.ZERO;
+        } else {
+            BigDecimal priceDiff = ohlcv.getClose().subtract(close);
+            if (priceDiff.compareTo(BigDecimal.ZERO) > 0) {
+                obvValue = obvValue.add(ohlcv.getVolume());
+            } else if (priceDiff.compareTo(BigDecimal.ZERO) < 0) {
+                obvValue = obvValue.subtract(ohlcv.getVolume());
+            }
+        }
+        close = ohlcv.getClose();
+        BigDecimal signalValue = signal.add(obvValue).setScale(0, RoundingMode.HALF_UP);
+        return Obv.builder()
+                .dateTime(ohlcv.getDateTime())
+                .value(obvValue.setScale(0, RoundingMode.HALF_UP))
+                .signal(signalValue)
+                .build();
+    }
+
+    @Override
+    protected void undo() {
+        obvValue = previousObvValue;
+        close = previousClose;
+        signal.undo();
+    }
+
+    @Override
+    protected void clear() {
+        obvValue = null;
+        previousObvValue = null;
+        close = null;
+        previousClose = null;
+        signal.clear();
+    }
+
+}
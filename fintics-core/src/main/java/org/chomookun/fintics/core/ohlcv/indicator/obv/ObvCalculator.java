@@ -1,6 +1,8 @@
 package org.chomookun.fintics.core.ohlcv.indicator.obv;
 
+import org.chomookun.fintics.core.ohlcv.indicator.DoubleSeries;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorValues;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
@@ -25,6 +27,18 @@ public class ObvCalculator extends IndicatorCalculator<ObvContext, Obv> {
      */
     @Override
     public List<Obv> calculate(List<Ohlcv> series) {
+        if (isDoubleComputation()) {
+            IndicatorValues values = calculate(DoubleSeries.of(series));
+            List<Obv> obvs = new ArrayList<>();
+            for (int i = 0; i < series.size(); i ++) {
+                obvs.add(Obv.builder()
+                        .dateTime(series.get(i).getDateTime())
+                        .value(values.getBigDecimal("value", i))
+                        .signal(values.getBigDecimal("signal", i))
+                        .build());
+            }
+            return obvs;
+        }
         // values
         List<BigDecimal> obvValues = new ArrayList<>();
         obvValues.add(BigDecimal.ZERO);
@@ -58,4 +72,19 @@ public class ObvCalculator extends IndicatorCalculator<ObvContext, Obv> {
         return obvs;
     }
 
+    /**
+     * Calculates obv (double)
+     * @param series double series
+     * @return obv values
+     */
+    @Override
+    public IndicatorValues calculate(DoubleSeries series) {
+        int size = series.getSize();
+        double[] values = obvs(series);
+        double[] signals = round(emas(values, getContext().getSignalPeriod()), 0);
+        return new IndicatorValues(size)
+                .put("value", round(values, 0))
+                .put("signal", signals);
+    }
+
 }
@@ -1,11 +1,13 @@
 package org.chomookun.fintics.core.ohlcv.indicator.obv;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorContext;
 
 @SuperBuilder
 @Getter
+@EqualsAndHashCode(callSuper = true)
 public class ObvContext extends IndicatorContext {
 
     public static final ObvContext DEFAULT = ObvContext.of(14, 9);
@@ -0,0 +1,55 @@
+package org.chomookun.fintics.core.ohlcv.indicator.pricechannel;
+
+import org.chomookun.fintics.core.ohlcv.indicator.IncrementalIndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.RollingExtremum;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+public class IncrementalPriceChannelCalculator extends IncrementalIndicatorCalculator<PriceChannelContext, PriceChannel> {
+
+    private final RollingExtremum<BigDecimal> highs;
+
+    private final RollingExtremum<BigDecimal> lows;
+
+    /**
+     * Constructor
+     * @param context price channel context
+     */
+    public IncrementalPriceChannelCalculator(PriceChannelContext context) {
+        super(context);
+        this.highs = RollingExtremum.max(context.getPeriod());
+        this.lows = RollingExtremum.min(context.getPeriod());
+    }
+
+    @Override
+    protected PriceChannel push(Ohlcv ohlcv) {
+        // period series (except current tick. shift 1 tick)
+        BigDecimal upper = Optional.ofNullable(highs.get()).orElse(BigDecimal.ZERO);
+        BigDecimal lower = Optional.ofNullable(lows.get()).orElse(BigDecimal.ZERO);
+        BigDecimal middle = upper.add(lower)
+                .divide(new BigDecimal(2), getContext().getMathContext());
+        highs.add(ohlcv.getHigh());
+        lows.add(ohlcv.getLow());
+        return PriceChannel.builder()
+                .dateTime(ohlcv.getDateTime())
+                .upper(upper)
+                .lower(lower)
+                .middle(middle)
+                .build();
+    }
+
+    @Override
+    protected void undo() {
+        highs.undo();
+        lows.undo();
+    }
+
+    @Override
+    protected void clear() {
+        highs.clear();
+        lows.clear();
+    }
+
+}
@@ -1,13 +1,16 @@
 package org.chomookun.fintics.core.ohlcv.indicator.pricechannel;
 
+import org.chomookun.fintics.core.ohlcv.indicator.DoubleSeries;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorValues;
+import org.chomookun.fintics.core.ohlcv.indicator.RollingExtremum;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 public class PriceChannelCalculator extends IndicatorCalculator<PriceChannelContext, PriceChannel> {
 
@@ -26,27 +29,32 @@ public class PriceChannelCalculator extends IndicatorCalculator<PriceChannelCont
      */
     @Override
     public List<PriceChannel> calculate(List<Ohlcv> series) {
+        if (isDoubleComputation()) {
+            IndicatorValues values = calculate(DoubleSeries.of(series));
+            List<PriceChannel> priceChannels = new ArrayList<>();
+            for (int i = 0; i < series.size(); i ++) {
+                priceChannels.add(PriceChannel.builder()
+                        .dateTime(series.get(i).getDateTime())
+                        .upper(values.getBigDecimal("upper", i))
+                        .lower(values.getBigDecimal("lower", i))
+                        .middle(values.getBigDecimal("middle", i))
+                        .build());
+            }
+            return priceChannels;
+        }
         PriceChannelContext context = getContext();
         MathContext mathContext = context.getMathContext();
         int period = context.getPeriod();
+        RollingExtremum<BigDecimal> highs = RollingExtremum.max(period);
+        RollingExtremum<BigDecimal> lows = RollingExtremum.min(period);
         // loop
         List<PriceChannel> priceChannels = new ArrayList<>();
         for (int i = 0; i < series.size(); i++) {
             // period series (except current tick. shift 1 tick)
-            List<Ohlcv> periodSeries = series.subList(
-                    Math.max(i - period , 0),
-                    i
-            );
-            // upper
-            BigDecimal upper = periodSeries.stream()
-                    .map(Ohlcv::getHigh)
-                    .max(Comparator.naturalOrder())
-                    .orElse(BigDecimal.ZERO);
-            // lower
-            BigDecimal lower = periodSeries.stream()
-                    .map(Ohlcv::getLow)
-                    .min(Comparator.naturalOrder())
-                    .orElse(BigDecimal.ZERO);
+            BigDecimal upper = Optional.ofNullable(highs.get()).orElse(BigDecimal.ZERO);
+            BigDecimal lower = Optional.ofNullable(lows.get()).orElse(BigDecimal.ZERO);
+            highs.add(series.get(i).getHigh());
+            lows.add(series.get(i).getLow());
             // middle
             BigDecimal middle = upper.add(lower)
                     .divide(new BigDecimal(2), mathContext);
@@ -63,4 +71,30 @@ public class PriceChannelCalculator extends IndicatorCalculator<PriceChannelCont
         return priceChannels;
     }
 
+    /**
+     * Calculates price channel (double)
+     * @param series double series
+     * @return price channel values
+     */
+    @Override
+    public IndicatorValues calculate(DoubleSeries series) {
+        int size = series.getSize();
+        int period = getContext().getPeriod();
+        double[] highs = RollingExtremum.rollingMax(series.getHigh(), period);
+        double[] lows = RollingExtremum.rollingMin(series.getLow(), period);
+        double[] uppers = new double[size];
+        double[] lowers = new double[size];
+        double[] middles = new double[size];
+        for (int i = 0; i < size; i ++) {
+            // period series (except current tick. shift 1 tick)
+            uppers[i] = i > 0 ? highs[i - 1] : 0.0;
+            lowers[i] = i > 0 ? lows[i - 1] : 0.0;
+            middles[i] = (uppers[i] + lowers[i]) / 2;
+        }
+        return new IndicatorValues(size)
+                .put("upper", uppers)
+                .put("lower", lowers)
+                .put("middle", middles);
+    }
+
 }
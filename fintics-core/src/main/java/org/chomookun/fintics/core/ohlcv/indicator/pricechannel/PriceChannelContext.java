@@ -1,11 +1,13 @@
 package org.chomookun.fintics.core.ohlcv.indicator.pricechannel;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorContext;
 
 @SuperBuilder
 @Getter
+@EqualsAndHashCode(callSuper = true)
 public class PriceChannelContext extends IndicatorContext {
 
     public static final PriceChannelContext DEFAULT = PriceChannelContext.of(20);
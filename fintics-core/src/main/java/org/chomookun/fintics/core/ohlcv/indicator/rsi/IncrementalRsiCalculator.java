@@ -0,0 +1,138 @@
+package org.chomookun.fintics.core.ohlcv.indicator.rsi;
+
+import org.chomookun.fintics.core.ohlcv.indicator.EmaAccumulator;
+import org.chomookun.fintics.core.ohlcv.indicator.IncrementalIndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+public class IncrementalRsiCalculator extends IncrementalIndicatorCalculator<RsiContext, Rsi> {
+
+    private final EmaAccumulator signal;
+
+    // gains/losses of period (running sums are exact, so averages are same as batch)
+    private final Deque<BigDecimal> gains = new ArrayDeque<>();
+
+    private final Deque<BigDecimal> losses = new ArrayDeque<>();
+
+    private BigDecimal gainSum = BigDecimal.ZERO;
+
+    private BigDecimal lossSum = BigDecimal.ZERO;
+
+    private int count;
+
+    private BigDecimal close;
+
+    private BigDecimal previousClose;
+
+    private BigDecimal evictedGain;
+
+    private BigDecimal evictedLoss;
+
+    /**
+     * Constructor
+     * @param context rsi context
+     */
+    public IncrementalRsiCalculator(RsiContext context) {
+        super(context);
+        this.signal = new EmaAccumulator(context.getSignalPeriod(), context.getMathContext());
+    }
+
+    @Override
+    protected Rsi push(Ohlcv ohlcv) {
+        int period = getContext().getPeriod();
+        // gain/loss
+        BigDecimal priceChange = close == null ? BigDecimal.ZERO : ohlcv.getClose().subtract(close);
+        BigDecimal gain = BigDecimal.ZERO;
+        BigDecimal loss = BigDecimal.ZERO;
+        if (priceChange.compareTo(BigDecimal.ZERO) > 0) {
+            gain = priceChange;
+        } else if (priceChange.compareTo(BigDecimal.ZERO) < 0) {
+            loss = priceChange.multiply(BigDecimal.valueOf(-1));
+        }
+        previousClose = close;
+        close = ohlcv.getClose();
+        gains.offerLast(gain);
+        losses.offerLast(loss);
+        gainSum = gainSum.add(gain);
+        lossSum = lossSum.add(loss);
+        evictedGain = null;
+        evictedLoss = null;
+        if (gains.size() > period) {
+            evictedGain = gains.pollFirst();
+            evictedLoss = losses.pollFirst();
+            gainSum = gainSum.subtract(evictedGain);
+            lossSum = lossSum.subtract(evictedLoss);
+        }
+        int index = count ++;
+        // rsi value
+        BigDecimal rsiValue = calculateRsiValue(index);
+        BigDecimal signalValue = signal.add(rsiValue).setScale(2, RoundingMode.HALF_UP);
+        return Rsi.builder()
+                .dateTime(ohlcv.getDateTime())
+                .value(rsiValue)
+                .signal(signalValue)
+                .build();
+    }
+
+    /**
+     * Calculates rsi value (same as batch calculator)
+     * @param index index of bar
+     * @return rsi value
+     */
+    private BigDecimal calculateRsiValue(int index) {
+        // The average before period +1 is not an accurate period average, so it is set to neutral (50.00)
+        if (index < getContext().getPeriod() + 1) {
+            return BigDecimal.valueOf(50.00);
+        }
+        BigDecimal avgGain = gainSum.divide(BigDecimal.valueOf(gains.size()), MathContext.DECIMAL32);
+        BigDecimal avgLoss = lossSum.divide(BigDecimal.valueOf(losses.size()), MathContext.DECIMAL32);
+        if (avgLoss.compareTo(BigDecimal.ZERO) == 0) {
+            return avgGain.compareTo(BigDecimal.ZERO) == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(100.0);
+        }
+        BigDecimal rs = avgGain.divide(avgLoss, MathContext.DECIMAL128)
+                .setScale(5, RoundingMode.HALF_UP);
+        return rs
+                .divide(rs.add(BigDecimal.valueOf(1)), MathContext.DECIMAL32)
+                .multiply(BigDecimal.valueOf(100))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Override
+    protected void undo() {
+        BigDecimal gain = gains.pollLast();
+        BigDecimal loss = losses.pollLast();
+        gainSum = gainSum.subtract(gain);
+        lossSum = lossSum.subtract(loss);
+        if (evictedGain != null) {
+            gains.offerFirst(evictedGain);
+            losses.offerFirst(evictedLoss);
+            gainSum = gainSum.add(evictedGain);
+            lossSum = lossSum.add(evictedLoss);
+        }
+        evictedGain = null;
+        evictedLoss = null;
+        close = previousClose;
+        count --;
+        signal.undo();
+    }
+
+    @Override
+    protected void clear() {
+        gains.clear();
+        losses.clear();
+        gainSum = BigDecimal.ZERO;
+        lossSum = BigDecimal.ZERO;
+        count = 0;
+        close = null;
+        previousClose = null;
+        evictedGain = null;
+        evictedLoss = null;
+        signal.clear();
+    }
+
+}
@@ -1,6 +1,8 @@
 package org.chomookun.fintics.core.ohlcv.indicator.rsi;
 
+import org.chomookun.fintics.core.ohlcv.indicator.DoubleSeries;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorValues;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
@@ -26,6 +28,18 @@ public class RsiCalculator extends IndicatorCalculator<RsiContext, Rsi> {
      */
     @Override
     public List<Rsi> calculate(List<Ohlcv> series) {
+        if (isDoubleComputation()) {
+            IndicatorValues values = calculate(DoubleSeries.of(series));
+            List<Rsi> rsis = new ArrayList<>();
+            for (int i = 0; i < series.size(); i ++) {
+                rsis.add(Rsi.builder()
+                        .dateTime(series.get(i).getDateTime())
+                        .value(values.getBigDecimal("value", i))
+                        .signal(values.getBigDecimal("signal", i))
+                        .build());
+            }
+            return rsis;
+        }
         // price changes
         List<BigDecimal> priceChanges = new ArrayList<>();
         for (int i = 0; i < series.size(); i++) {
@@ -115,4 +129,48 @@ public class RsiCalculator extends IndicatorCalculator<RsiContext, Rsi> {
                 .divide(BigDecimal.valueOf(values.size()), MathContext.DECIMAL32);
     }
 
+    /**
+     * Calculates rsi (double)
+     * @param series double series
+     * @return rsi values
+     */
+    @Override
+    public IndicatorValues calculate(DoubleSeries series) {
+        int size = series.getSize();
+        int period = getContext().getPeriod();
+        double[] closePrices = series.getClose();
+        double[] values = new double[size];
+        double gainSum = 0.0;
+        double lossSum = 0.0;
+        for (int i = 0; i < size; i ++) {
+            double priceChange = i == 0 ? 0.0 : closePrices[i] - closePrices[i - 1];
+            gainSum += Math.max(priceChange, 0.0);
+            lossSum += Math.max(-priceChange, 0.0);
+            int from = i - period + 1;
+            if (from > 0) {
+                double removedPriceChange = from - 1 == 0 ? 0.0 : closePrices[from - 1] - closePrices[from - 2];
+                gainSum -= Math.max(removedPriceChange, 0.0);
+                lossSum -= Math.max(-removedPriceChange, 0.0);
+            }
+            // The average before period +1 is not an accurate period average, so it is set to neutral (50.00)
+            if (i < period + 1) {
+                values[i] = 50.0;
+                continue;
+            }
+            // running sum of zero values could be remained as tiny error
+            double avgGain = Math.max(gainSum, 0.0) / (i - Math.max(from, 0) + 1);
+            double avgLoss = Math.max(lossSum, 0.0) / (i - Math.max(from, 0) + 1);
+            if (avgLoss <= 0.0) {
+                values[i] = avgGain <= 0.0 ? 0.0 : 100.0;
+                continue;
+            }
+            double rs = round(avgGain / avgLoss, 5);
+            values[i] = round(rs / (rs + 1) * 100, 2);
+        }
+        double[] signals = round(emas(values, getContext().getSignalPeriod()), 2);
+        return new IndicatorValues(size)
+                .put("value", values)
+                .put("signal", signals);
+    }
+
 }
@@ -1,11 +1,13 @@
 package org.chomookun.fintics.core.ohlcv.indicator.rsi;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorContext;
 
 @SuperBuilder
 @Getter
+@EqualsAndHashCode(callSuper = true)
 public class RsiContext extends IndicatorContext {
 
     public static final RsiContext DEFAULT = RsiContext.of(14, 9);
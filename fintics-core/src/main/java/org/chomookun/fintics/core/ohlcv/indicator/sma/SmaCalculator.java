@@ -1,6 +1,8 @@
 package org.chomookun.fintics.core.ohlcv.indicator.sma;
 
+import org.chomookun.fintics.core.ohlcv.indicator.DoubleSeries;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorValues;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
@@ -24,6 +26,17 @@ public class SmaCalculator extends IndicatorCalculator<SmaContext, Sma> {
      */
     @Override
     public List<Sma> calculate(List<Ohlcv> series) {
+        if (isDoubleComputation()) {
+            IndicatorValues values = calculate(DoubleSeries.of(series));
+            List<Sma> smas = new ArrayList<>();
+            for (int i = 0; i < series.size(); i ++) {
+                smas.add(Sma.builder()
+                        .dateTime(series.get(i).getDateTime())
+                        .value(values.getBigDecimal("value", i))
+                        .build());
+            }
+            return smas;
+        }
         List<BigDecimal> closePrices = series.stream()
                 .map(Ohlcv::getClose)
                 .toList();
@@ -38,4 +51,15 @@ public class SmaCalculator extends IndicatorCalculator<SmaContext, Sma> {
         return smas;
     }
 
+    /**
+     * Calculates sma (double)
+     * @param series double series
+     * @return sma values
+     */
+    @Override
+    public IndicatorValues calculate(DoubleSeries series) {
+        return new IndicatorValues(series.getSize())
+                .put("value", series.getCloseSmas(getContext().getPeriod()));
+    }
+
 }
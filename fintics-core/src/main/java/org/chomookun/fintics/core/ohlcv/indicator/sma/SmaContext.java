@@ -6,6 +6,7 @@ import org.chomookun.fintics.core.ohlcv.indicator.IndicatorContext;
 
 @SuperBuilder
 @Getter
+@EqualsAndHashCode(callSuper = true)
 public class SmaContext extends IndicatorContext {
 
     public static final SmaContext DEFAULT = SmaContext.of(20);
@@ -0,0 +1,68 @@
+package org.chomookun.fintics.core.ohlcv.indicator.stochasticslow;
+
+import org.chomookun.fintics.core.ohlcv.indicator.EmaAccumulator;
+import org.chomookun.fintics.core.ohlcv.indicator.IncrementalIndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.RollingExtremum;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+
+import java.math.BigDecimal;
+
+public class IncrementalStochasticSlowCalculator extends IncrementalIndicatorCalculator<StochasticSlowContext, StochasticSlow> {
+
+    private final RollingExtremum<BigDecimal> highs;
+
+    private final RollingExtremum<BigDecimal> lows;
+
+    private final EmaAccumulator slowK;
+
+    private final EmaAccumulator slowD;
+
+    /**
+     * Constructor
+     * @param context stochastic slow context
+     */
+    public IncrementalStochasticSlowCalculator(StochasticSlowContext context) {
+        super(context);
+        this.highs = RollingExtremum.max(context.getPeriod());
+        this.lows = RollingExtremum.min(context.getPeriod());
+        this.slowK = new EmaAccumulator(context.getPeriodK(), context.getMathContext());
+        this.slowD = new EmaAccumulator(context.getPeriodD(), context.getMathContext());
+    }
+
+    @Override
+    protected StochasticSlow push(Ohlcv ohlcv) {
+        highs.add(ohlcv.getHigh());
+        lows.add(ohlcv.getLow());
+        BigDecimal high = highs.get();
+        BigDecimal low = lows.get();
+        BigDecimal rawK = BigDecimal.valueOf(50);   // neutral
+        if (high.compareTo(low) != 0) {
+            rawK = ohlcv.getClose().subtract(low)
+                    .divide(high.subtract(low), getContext().getMathContext())
+                    .multiply(BigDecimal.valueOf(100));
+        }
+        BigDecimal slowKValue = slowK.add(rawK);
+        BigDecimal slowDValue = slowD.add(slowKValue);
+        return StochasticSlow.builder()
+                .slowK(slowKValue)
+                .slowD(slowDValue)
+                .build();
+    }
+
+    @Override
+    protected void undo() {
+        highs.undo();
+        lows.undo();
+        slowK.undo();
+        slowD.undo();
+    }
+
+    @Override
+    protected void clear() {
+        highs.clear();
+        lows.clear();
+        slowK.clear();
+        slowD.clear();
+    }
+
+}
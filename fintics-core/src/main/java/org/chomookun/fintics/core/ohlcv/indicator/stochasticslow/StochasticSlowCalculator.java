@@ -1,6 +1,9 @@
 package org.chomookun.fintics.core.ohlcv.indicator.stochasticslow;
 
+import org.chomookun.fintics.core.ohlcv.indicator.DoubleSeries;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorValues;
+import org.chomookun.fintics.core.ohlcv.indicator.RollingExtremum;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
@@ -25,25 +28,30 @@ public class StochasticSlowCalculator extends IndicatorCalculator<StochasticSlow
      */
     @Override
     public List<StochasticSlow> calculate(List<Ohlcv> series) {
+        if (isDoubleComputation()) {
+            IndicatorValues values = calculate(DoubleSeries.of(series));
+            List<StochasticSlow> stochasticSlows = new ArrayList<>();
+            for (int i = 0; i < series.size(); i ++) {
+                stochasticSlows.add(StochasticSlow.builder()
+                        .slowK(values.getBigDecimal("slowK", i))
+                        .slowD(values.getBigDecimal("slowD", i))
+                        .build());
+            }
+            return stochasticSlows;
+        }
         int period = getContext().getPeriod();
         int periodK = getContext().getPeriodK();
         int periodD = getContext().getPeriodD();
         MathContext mathContext = getContext().getMathContext();
         // rawK
+        RollingExtremum<BigDecimal> highs = RollingExtremum.max(period);
+        RollingExtremum<BigDecimal> lows = RollingExtremum.min(period);
         List<BigDecimal> rawKs = new ArrayList<>();
         for (int i = 0; i < series.size(); i++) {
-            List<Ohlcv> periodSeries = series.subList(
-                    Math.max(i - period + 1, 0),
-                    i + 1
-            );
-            BigDecimal high = periodSeries.stream()
-                    .map(Ohlcv::getHigh)
-                    .max(BigDecimal::compareTo)
-                    .get();
-            BigDecimal low = periodSeries.stream()
-                    .map(Ohlcv::getLow)
-                    .min(BigDecimal::compareTo)
-                    .get();
+            highs.add(series.get(i).getHigh());
+            lows.add(series.get(i).getLow());
+            BigDecimal high = highs.get();
+            BigDecimal low = lows.get();
             BigDecimal close = series.get(i).getClose();
 
             BigDecimal rawK = BigDecimal.valueOf(50);   // neutral
@@ -71,4 +79,26 @@ public class StochasticSlowCalculator extends IndicatorCalculator<StochasticSlow
         return stochasticSlows;
     }
 
+    /**
+     * Calculates stochastic slow (double)
+     * @param series double series
+     * @return stochastic slow values
+     */
+    @Override
+    public IndicatorValues calculate(DoubleSeries series) {
+        int size = series.getSize();
+        int period = getContext().getPeriod();
+        double[] highs = RollingExtremum.rollingMax(series.getHigh(), period);
+        double[] lows = RollingExtremum.rollingMin(series.getLow(), period);
+        double[] rawKs = new double[size];
+        for (int i = 0; i < size; i ++) {
+            rawKs[i] = highs[i] != lows[i] ? (series.getClose()[i] - lows[i]) / (highs[i] - lows[i]) * 100 : 50.0;
+        }
+        double[] slowKs = emas(rawKs, getContext().getPeriodK());
+        double[] slowDs = emas(slowKs, getContext().getPeriodD());
+        return new IndicatorValues(size)
+                .put("slowK", slowKs)
+                .put("slowD", slowDs);
+    }
+
 }
@@ -1,11 +1,13 @@
 package org.chomookun.fintics.core.ohlcv.indicator.stochasticslow;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorContext;
 
 @SuperBuilder
 @Getter
+@EqualsAndHashCode(callSuper = true)
 public class StochasticSlowContext extends IndicatorContext {
 
     public static final StochasticSlowContext DEFAULT = StochasticSlowContext.of(14, 3, 3);
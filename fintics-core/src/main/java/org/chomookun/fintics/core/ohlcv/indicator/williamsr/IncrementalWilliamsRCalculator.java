@@ -0,0 +1,75 @@
+package org.chomookun.fintics.core.ohlcv.indicator.williamsr;
+
+import org.chomookun.fintics.core.ohlcv.indicator.EmaAccumulator;
+import org.chomookun.fintics.core.ohlcv.indicator.IncrementalIndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.RollingExtremum;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+public class IncrementalWilliamsRCalculator extends IncrementalIndicatorCalculator<WilliamsRContext, WilliamsR> {
+
+    private final RollingExtremum<BigDecimal> highs;
+
+    private final RollingExtremum<BigDecimal> lows;
+
+    private final EmaAccumulator signal;
+
+    private int count;
+
+    /**
+     * Constructor
+     * @param context williams R context
+     */
+    public IncrementalWilliamsRCalculator(WilliamsRContext context) {
+        super(context);
+        this.highs = RollingExtremum.max(context.getPeriod());
+        this.lows = RollingExtremum.min(context.getPeriod());
+        this.signal = new EmaAccumulator(context.getSignalPeriod(), context.getMathContext());
+    }
+
+    @Override
+    protected WilliamsR push(Ohlcv ohlcv) {
+        highs.add(ohlcv.getHigh());
+        lows.add(ohlcv.getLow());
+        int index = count ++;
+        BigDecimal williamsRValue;
+        if (index < getContext().getPeriod() - 1) {
+            williamsRValue = BigDecimal.valueOf(50.00); // 중립값 설정
+        } else {
+            BigDecimal highestHigh = highs.get();
+            BigDecimal lowestLow = lows.get();
+            williamsRValue = (highestHigh.equals(lowestLow))
+                    ? BigDecimal.ZERO
+                    : highestHigh.subtract(ohlcv.getClose())
+                    .divide(highestHigh.subtract(lowestLow), MathContext.DECIMAL128)
+                    .multiply(BigDecimal.valueOf(-100))
+                    .setScale(2, RoundingMode.HALF_UP);
+        }
+        BigDecimal signalValue = signal.add(williamsRValue).setScale(2, RoundingMode.HALF_UP);
+        return WilliamsR.builder()
+                .dateTime(ohlcv.getDateTime())
+                .value(williamsRValue)
+                .signal(signalValue)
+                .build();
+    }
+
+    @Override
+    protected void undo() {
+        highs.undo();
+        lows.undo();
+        signal.undo();
+        count --;
+    }
+
+    @Override
+    protected void clear() {
+        highs.clear();
+        lows.clear();
+        signal.clear();
+        count = 0;
+    }
+
+}
@@ -1,6 +1,9 @@
 package org.chomookun.fintics.core.ohlcv.indicator.williamsr;
 
+import org.chomookun.fintics.core.ohlcv.indicator.DoubleSeries;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCalculator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorValues;
+import org.chomookun.fintics.core.ohlcv.indicator.RollingExtremum;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 
 import java.math.BigDecimal;
@@ -26,22 +29,32 @@ public class WilliamsRCalculator extends IndicatorCalculator<WilliamsRContext, W
      */
     @Override
     public List<WilliamsR> calculate(List<Ohlcv> series) {
+        if (isDoubleComputation()) {
+            IndicatorValues values = calculate(DoubleSeries.of(series));
+            List<WilliamsR> williamsRs = new ArrayList<>();
+            for (int i = 0; i < series.size(); i ++) {
+                williamsRs.add(WilliamsR.builder()
+                        .dateTime(series.get(i).getDateTime())
+                        .value(values.getBigDecimal("value", i))
+                        .signal(values.getBigDecimal("signal", i))
+                        .build());
+            }
+            return williamsRs;
+        }
+        RollingExtremum<BigDecimal> highs = RollingExtremum.max(getContext().getPeriod());
+        RollingExtremum<BigDecimal> lows = RollingExtremum.min(getContext().getPeriod());
         List<BigDecimal> williamsRValues = new ArrayList<>();
         for (int i = 0; i < series.size(); i++) {
+            highs.add(series.get(i).getHigh());
+            lows.add(series.get(i).getLow());
             if (i < getContext().getPeriod() - 1) {
                 williamsRValues.add(BigDecimal.valueOf(50.00)); // 중립값 설정
                 continue;
             }
             // high price
-            BigDecimal highestHigh = series.subList(i - getContext().getPeriod() + 1, i + 1).stream()
-                    .map(Ohlcv::getHigh)
-                    .max(BigDecimal::compareTo)
-                    .orElse(BigDecimal.ZERO);
+            BigDecimal highestHigh = highs.get();
             // low price
-            BigDecimal lowestLow = series.subList(i - getContext().getPeriod() + 1, i + 1).stream()
-                    .map(Ohlcv::getLow)
-                    .min(BigDecimal::compareTo)
-                    .orElse(BigDecimal.ZERO);
+            BigDecimal lowestLow = lows.get();
             // close price
             BigDecimal closePrice = series.get(i).getClose();
             // williams R
@@ -72,4 +85,33 @@ public class WilliamsRCalculator extends IndicatorCalculator<WilliamsRContext, W
         return williamsRs;
     }
 
+    /**
+     * Calculates williams R (double)
+     * @param series double series
+     * @return williams R values
+     */
+    @Override
+    public IndicatorValues calculate(DoubleSeries series) {
+        int size = series.getSize();
+        int period = getContext().getPeriod();
+        double[] highs = RollingExtremum.rollingMax(series.getHigh(), period);
+        double[] lows = RollingExtremum.rollingMin(series.getLow(), period);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i ++) {
+            if (i < period - 1) {
+                values[i] = 50.0; // 중립값 설정
+                continue;
+            }
+            double highestHigh = highs[i];
+            double lowestLow = lows[i];
+            values[i] = highestHigh != lowestLow
+                    ? round((highestHigh - series.getClose()[i]) / (highestHigh - lowestLow) * -100, 2)
+                    : 0.0;
+        }
+        double[] signals = round(emas(values, getContext().getSignalPeriod()), 2);
+        return new IndicatorValues(size)
+                .put("value", values)
+                .put("signal", signals);
+    }
+
 }
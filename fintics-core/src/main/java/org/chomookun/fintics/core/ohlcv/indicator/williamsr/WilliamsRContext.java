@@ -1,11 +1,13 @@
 package org.chomookun.fintics.core.ohlcv.indicator.williamsr;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.chomookun.fintics.core.ohlcv.indicator.IndicatorContext;
 
 @SuperBuilder
 @Getter
+@EqualsAndHashCode(callSuper = true)
 public class WilliamsRContext extends IndicatorContext {
 
     public static final WilliamsRContext DEFAULT = WilliamsRContext.of(14, 3);
@@ -0,0 +1,72 @@
+package org.chomookun.fintics.core.ohlcv.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Ohlcv columns
+ * columnar view of ohlcv series as primitive arrays (time descending, same order as ohlcvs).
+ * arrays are exposed to strategy scripts as polyglot arrays without per element host call,
+ * so must not be modified.
+ * @see OhlcvSeries
+ */
+@Getter
+public class OhlcvColumns {
+
+    public static final OhlcvColumns EMPTY = OhlcvColumns.of(OhlcvSeries.EMPTY);
+
+    private final int size;
+
+    /**
+     * epoch milliseconds (time zone of ohlcv, UTC if not specified)
+     */
+    private final long[] timestamps;
+
+    private final double[] open;
+
+    private final double[] high;
+
+    private final double[] low;
+
+    private final double[] close;
+
+    private final double[] volume;
+
+    private OhlcvColumns(int size, long[] timestamps, double[] open, double[] high, double[] low, double[] close, double[] volume) {
+        this.size = size;
+        this.timestamps = timestamps;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+    }
+
+    /**
+     * Creates ohlcv columns
+     * @param ohlcvs ohlcvs (time descending)
+     * @return ohlcv columns
+     */
+    public static OhlcvColumns of(List<Ohlcv> ohlcvs) {
+        return of(OhlcvSeries.of(ohlcvs));
+    }
+
+    /**
+     * Creates ohlcv columns of series
+     * @param ohlcvSeries ohlcv series
+     * @return ohlcv columns (time descending)
+     */
+    public static OhlcvColumns of(OhlcvSeries ohlcvSeries) {
+        OhlcvSeries series = ohlcvSeries.descending();
+        return new OhlcvColumns(
+                series.size(),
+                series.getEpochMillis(),
+                series.getOpens(),
+                series.getHighs(),
+                series.getLows(),
+                series.getCloses(),
+                series.getVolumes());
+    }
+
+}
@@ -0,0 +1,367 @@
+package org.chomookun.fintics.core.ohlcv.model;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ohlcv resampler
+ * resamples ohlcvs into buckets by mode (see {@link Mode}).
+ * default mode is calendar for minute (aligned to clock of day) and bar count for daily
+ * (trading days are not regular in calendar, e.g. holidays, or 7 days a week for crypto).
+ * keeps buckets across calls, so only last bucket (and first bucket if head is evicted) is resampled
+ * when source is continued from previous call.
+ */
+public class OhlcvResampler {
+
+    private static final LocalDate EPOCH_MONDAY = LocalDate.of(1970, 1, 5);
+
+    @Getter
+    private final Ohlcv.Type type;
+
+    @Getter
+    private final int period;
+
+    @Getter
+    private final Mode mode;
+
+    // ascending order (oldest first), evicted buckets are skipped by offset
+    private final ArrayList<Ohlcv> buckets = new ArrayList<>();
+
+    private int offset;
+
+    private final List<Ohlcv> view = new DescendingView();
+
+    // last source (to detect unchanged and continued source)
+    private Ohlcv lastOhlcv;
+
+    private int sourceSize;
+
+    private LocalDateTime firstDateTime;
+
+    private LocalDateTime previousDateTime;
+
+    @Getter
+    private int resampledCount;
+
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * Resample mode
+     */
+    public enum Mode {
+        /**
+         * period bars per bucket counted from newest bar (oldest bucket may be partial),
+         * date time of bucket is date time of newest bar in bucket.
+         */
+        BAR_COUNT,
+        /**
+         * buckets anchored to calendar, date time of bucket is start of bucket.
+         * minute buckets are aligned to clock of day (e.g. 5 minutes period starts at 09:00, 09:05, ...),
+         * daily buckets are ISO weeks starting at monday (period is number of weeks).
+         */
+        CALENDAR
+    }
+
+    /**
+     * Constructor (default mode of type)
+     * @param type ohlcv type
+     * @param period resample period
+     */
+    public OhlcvResampler(Ohlcv.Type type, int period) {
+        this(type, period, getDefaultMode(type));
+    }
+
+    /**
+     * Constructor
+     * @param type ohlcv type
+     * @param period resample period
+     * @param mode resample mode
+     */
+    public OhlcvResampler(Ohlcv.Type type, int period, Mode mode) {
+        this.type = type;
+        this.period = period;
+        this.mode = mode;
+    }
+
+    /**
+     * Gets default mode of type
+     * @param type ohlcv type
+     * @return calendar for minute, bar count for daily
+     */
+    public static Mode getDefaultMode(Ohlcv.Type type) {
+        return type == Ohlcv.Type.MINUTE ? Mode.CALENDAR : Mode.BAR_COUNT;
+    }
+
+    /**
+     * Gets date time of calendar bucket
+     * @param type ohlcv type
+     * @param period resample period (minutes for minute, weeks for daily)
+     * @param dateTime date time
+     * @return start date time of bucket
+     */
+    public static LocalDateTime getBucketDateTime(Ohlcv.Type type, int period, LocalDateTime dateTime) {
+        switch (type) {
+            case MINUTE -> {
+                if (period <= 1) {
+                    return dateTime;
+                }
+                int minuteOfDay = dateTime.getHour() * 60 + dateTime.getMinute();
+                return dateTime.truncatedTo(ChronoUnit.DAYS)
+                        .plusMinutes(Math.floorDiv(minuteOfDay, period) * (long) period);
+            }
+            case DAILY -> {
+                LocalDate monday = dateTime.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                if (period <= 1) {
+                    return monday.atStartOfDay();
+                }
+                long weekIndex = ChronoUnit.WEEKS.between(EPOCH_MONDAY, monday);
+                return EPOCH_MONDAY.plusWeeks(Math.floorDiv(weekIndex, period) * period).atStartOfDay();
+            }
+            default -> throw new IllegalArgumentException("invalid Ohlcv type");
+        }
+    }
+
+    /**
+     * Resamples ohlcvs
+     * @param ohlcvs ohlcvs (time descending)
+     * @return resampled ohlcvs (time descending, read-only view updated by next call)
+     */
+    public List<Ohlcv> resample(List<Ohlcv> ohlcvs) {
+        lock.lock();
+        try {
+            resampledCount = 0;
+            if (ohlcvs.isEmpty() || period <= 0) {
+                clear();
+                return view;
+            }
+            if (mode == Mode.BAR_COUNT) {
+                if (!updateBarCount(ohlcvs)) {
+                    clear();
+                    appendBarCount(ohlcvs);
+                }
+            } else if (!update(ohlcvs)) {
+                clear();
+                append(ohlcvs, ohlcvs.size() - 1);
+            }
+            lastOhlcv = ohlcvs.get(0);
+            sourceSize = ohlcvs.size();
+            firstDateTime = ohlcvs.get(ohlcvs.size() - 1).getDateTime();
+            return view;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Updates buckets with source continued from previous call
+     * @param ohlcvs ohlcvs (time descending)
+     * @return false if source is not continued (requires full resample)
+     */
+    private boolean update(List<Ohlcv> ohlcvs) {
+        if (size() == 0) {
+            return false;
+        }
+        LocalDateTime newFirstDateTime = ohlcvs.get(ohlcvs.size() - 1).getDateTime();
+        // unchanged
+        if (ohlcvs.get(0) == lastOhlcv && ohlcvs.size() == sourceSize && newFirstDateTime.equals(firstDateTime)) {
+            return true;
+        }
+        // bars of last bucket and newer, bar before them must be same as previous call
+        LocalDateTime lastBucketDateTime = buckets.get(buckets.size() - 1).getDateTime();
+        int tailCount = 0;
+        while (tailCount < ohlcvs.size() && !getBucketDateTime(ohlcvs.get(tailCount).getDateTime()).isBefore(lastBucketDateTime)) {
+            tailCount ++;
+        }
+        if (tailCount == ohlcvs.size() || !ohlcvs.get(tailCount).getDateTime().equals(previousDateTime)) {
+            return false;
+        }
+        if (newFirstDateTime.isBefore(firstDateTime)) {
+            return false;
+        }
+        // head (bars older than horizon are evicted from source)
+        if (!newFirstDateTime.equals(firstDateTime)) {
+            LocalDateTime firstBucketDateTime = getBucketDateTime(newFirstDateTime);
+            while (offset < buckets.size() - 1 && buckets.get(offset).getDateTime().isBefore(firstBucketDateTime)) {
+                buckets.set(offset, null);
+                offset ++;
+            }
+            if (size() == 1 || !buckets.get(offset).getDateTime().equals(firstBucketDateTime)) {
+                return false;
+            }
+            int fromIndex = ohlcvs.size() - 1;
+            int toIndex = fromIndex;
+            while (toIndex > 0 && getBucketDateTime(ohlcvs.get(toIndex - 1).getDateTime()).equals(firstBucketDateTime)) {
+                toIndex --;
+            }
+            buckets.set(offset, createBucket(firstBucketDateTime, ohlcvs, fromIndex, toIndex));
+            resampledCount ++;
+            compact();
+        }
+        // tail (last bucket is replaced and newer buckets are appended)
+        buckets.remove(buckets.size() - 1);
+        append(ohlcvs, tailCount - 1);
+        return true;
+    }
+
+    /**
+     * Updates bar count buckets with source of which only newest bar is changed
+     * (buckets are counted from newest bar, so new bar or evicted head shifts all buckets)
+     * @param ohlcvs ohlcvs (time descending)
+     * @return false if not only newest bar is changed (requires full resample)
+     */
+    private boolean updateBarCount(List<Ohlcv> ohlcvs) {
+        if (size() == 0 || ohlcvs.size() != sourceSize
+                || !ohlcvs.get(0).getDateTime().equals(lastOhlcv.getDateTime())
+                || !ohlcvs.get(ohlcvs.size() - 1).getDateTime().equals(firstDateTime)) {
+            return false;
+        }
+        if (ohlcvs.get(0) != lastOhlcv) {
+            buckets.set(buckets.size() - 1, createBucket(ohlcvs.get(0).getDateTime(), ohlcvs, Math.min(period, ohlcvs.size()) - 1, 0));
+            resampledCount ++;
+        }
+        return true;
+    }
+
+    /**
+     * Appends bar count buckets of ohlcvs (oldest bucket first)
+     * @param ohlcvs ohlcvs (time descending)
+     */
+    private void appendBarCount(List<Ohlcv> ohlcvs) {
+        int bucketCount = (ohlcvs.size() + period - 1) / period;
+        for (int i = bucketCount - 1; i >= 0; i --) {
+            int toIndex = i * period;
+            int fromIndex = Math.min(toIndex + period, ohlcvs.size()) - 1;
+            buckets.add(createBucket(ohlcvs.get(toIndex).getDateTime(), ohlcvs, fromIndex, toIndex));
+            resampledCount ++;
+        }
+    }
+
+    /**
+     * Appends buckets of ohlcvs from index to newest in single pass
+     * @param ohlcvs ohlcvs (time descending)
+     * @param fromIndex index of oldest bar to append
+     */
+    private void append(List<Ohlcv> ohlcvs, int fromIndex) {
+        LocalDateTime bucketDateTime = null;
+        int bucketFromIndex = fromIndex;
+        for (int i = fromIndex; i >= 0; i --) {
+            LocalDateTime dateTime = getBucketDateTime(ohlcvs.get(i).getDateTime());
+            if (dateTime.equals(bucketDateTime)) {
+                continue;
+            }
+            if (bucketDateTime != null) {
+                buckets.add(createBucket(bucketDateTime, ohlcvs, bucketFromIndex, i + 1));
+                resampledCount ++;
+            }
+            bucketDateTime = dateTime;
+            bucketFromIndex = i;
+        }
+        if (bucketDateTime != null) {
+            buckets.add(createBucket(bucketDateTime, ohlcvs, bucketFromIndex, 0));
+            resampledCount ++;
+            previousDateTime = bucketFromIndex + 1 < ohlcvs.size() ? ohlcvs.get(bucketFromIndex + 1).getDateTime() : null;
+        }
+    }
+
+    /**
+     * Creates bucket
+     * @param bucketDateTime date time of bucket
+     * @param ohlcvs ohlcvs (time descending)
+     * @param fromIndex index of oldest bar
+     * @param toIndex index of newest bar
+     * @return bucket
+     */
+    private Ohlcv createBucket(LocalDateTime bucketDateTime, List<Ohlcv> ohlcvs, int fromIndex, int toIndex) {
+        Ohlcv first = ohlcvs.get(fromIndex);
+        BigDecimal high = first.getHigh();
+        BigDecimal low = first.getLow();
+        BigDecimal volume = first.getVolume();
+        for (int i = fromIndex - 1; i >= toIndex; i --) {
+            Ohlcv ohlcv = ohlcvs.get(i);
+            if (ohlcv.getHigh().compareTo(high) > 0) {
+                high = ohlcv.getHigh();
+            }
+            if (ohlcv.getLow().compareTo(low) < 0) {
+                low = ohlcv.getLow();
+            }
+            volume = volume.add(ohlcv.getVolume());
+        }
+        return Ohlcv.builder()
+                .type(first.getType())
+                .dateTime(bucketDateTime)
+                .timeZone(first.getTimeZone())
+                .open(first.getOpen())
+                .high(high)
+                .low(low)
+                .close(ohlcvs.get(toIndex).getClose())
+                .volume(volume)
+                .build();
+    }
+
+    private LocalDateTime getBucketDateTime(LocalDateTime dateTime) {
+        return getBucketDateTime(type, period, dateTime);
+    }
+
+    /**
+     * Compacts when half of storage is evicted (amortized)
+     */
+    private void compact() {
+        if (offset > 0 && offset >= buckets.size() / 2) {
+            buckets.subList(0, offset).clear();
+            offset = 0;
+        }
+    }
+
+    /**
+     * Clears buckets
+     */
+    private void clear() {
+        buckets.clear();
+        offset = 0;
+        lastOhlcv = null;
+        sourceSize = 0;
+        firstDateTime = null;
+        previousDateTime = null;
+    }
+
+    /**
+     * Gets number of buckets
+     * @return size
+     */
+    public int size() {
+        return buckets.size() - offset;
+    }
+
+    /**
+     * Time descending read-only view of buckets
+     */
+    private class DescendingView extends AbstractList<Ohlcv> implements RandomAccess {
+
+        @Override
+        public Ohlcv get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return buckets.get(buckets.size() - 1 - index);
+        }
+
+        @Override
+        public int size() {
+            return OhlcvResampler.this.size();
+        }
+
+    }
+
+}
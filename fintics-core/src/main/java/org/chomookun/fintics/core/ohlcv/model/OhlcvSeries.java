@@ -0,0 +1,471 @@
+package org.chomookun.fintics.core.ohlcv.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Ohlcv series
+ * immutable columnar storage of ohlcvs.
+ * date times are stored as epoch minutes (local date time) and prices/volumes as scaled long
+ * (scale of column is max scale of values, so values are restored without loss).
+ * asset id, type and time zone are stored once per series.
+ * slice and descending view share same storage (zero copy).
+ */
+public final class OhlcvSeries {
+
+    public static final OhlcvSeries EMPTY = OhlcvSeries.of(List.of());
+
+    private static final long NULL = Long.MIN_VALUE;
+
+    private static final byte INTERPOLATED = 1;
+
+    private static final byte CACHED = 2;
+
+    private final String assetId;
+
+    private final Ohlcv.Type type;
+
+    private final ZoneId timeZone;
+
+    // storage is time ascending (oldest first)
+    private final long[] timestamps;
+
+    private final Column open;
+
+    private final Column high;
+
+    private final Column low;
+
+    private final Column close;
+
+    private final Column volume;
+
+    private final byte[] flags;
+
+    private final int offset;
+
+    private final int size;
+
+    private final boolean descending;
+
+    /**
+     * Scaled long column
+     * @param values unscaled values (NULL if value is null)
+     * @param scale scale
+     */
+    private record Column(long[] values, int scale) {
+
+        static Column of(BigDecimal[] values) {
+            int scale = 0;
+            for (BigDecimal value : values) {
+                if (value != null) {
+                    scale = Math.max(scale, value.scale());
+                }
+            }
+            long[] unscaledValues = new long[values.length];
+            for (int i = 0; i < values.length; i ++) {
+                unscaledValues[i] = values[i] != null
+                        ? values[i].setScale(scale).unscaledValue().longValueExact()
+                        : NULL;
+            }
+            return new Column(unscaledValues, scale);
+        }
+
+        BigDecimal getBigDecimal(int index) {
+            long value = values[index];
+            return value != NULL ? BigDecimal.valueOf(value, scale) : null;
+        }
+
+        double getDouble(int index) {
+            long value = values[index];
+            if (value == NULL) {
+                return Double.NaN;
+            }
+            // same as BigDecimal.doubleValue() when unscaled value is exact in double
+            return scale == 0 ? value : value / Math.pow(10, scale);
+        }
+
+    }
+
+    private OhlcvSeries(String assetId, Ohlcv.Type type, ZoneId timeZone, long[] timestamps, Column open, Column high, Column low, Column close, Column volume, byte[] flags, int offset, int size, boolean descending) {
+        this.assetId = assetId;
+        this.type = type;
+        this.timeZone = timeZone;
+        this.timestamps = timestamps;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+        this.flags = flags;
+        this.offset = offset;
+        this.size = size;
+        this.descending = descending;
+    }
+
+    /**
+     * Creates ohlcv series (asset id, type and time zone of first ohlcv are used)
+     * @param ohlcvs ohlcvs (time descending)
+     * @return ohlcv series (time descending view)
+     */
+    public static OhlcvSeries of(List<Ohlcv> ohlcvs) {
+        // list adapted from series is returned without copy
+        if (ohlcvs instanceof OhlcvList ohlcvList) {
+            return ohlcvList.series;
+        }
+        int size = ohlcvs.size();
+        long[] timestamps = new long[size];
+        BigDecimal[] opens = new BigDecimal[size];
+        BigDecimal[] highs = new BigDecimal[size];
+        BigDecimal[] lows = new BigDecimal[size];
+        BigDecimal[] closes = new BigDecimal[size];
+        BigDecimal[] volumes = new BigDecimal[size];
+        byte[] flags = new byte[size];
+        int index = size - 1;
+        for (Ohlcv ohlcv : ohlcvs) {
+            timestamps[index] = toTimestamp(ohlcv.getDateTime());
+            opens[index] = ohlcv.getOpen();
+            highs[index] = ohlcv.getHigh();
+            lows[index] = ohlcv.getLow();
+            closes[index] = ohlcv.getClose();
+            volumes[index] = ohlcv.getVolume();
+            flags[index] = (byte) ((ohlcv.isInterpolated() ? INTERPOLATED : 0) | (ohlcv.isCached() ? CACHED : 0));
+            index --;
+        }
+        Ohlcv first = size > 0 ? ohlcvs.get(0) : null;
+        return new OhlcvSeries(
+                first != null ? first.getAssetId() : null,
+                first != null ? first.getType() : null,
+                first != null ? first.getTimeZone() : null,
+                timestamps,
+                Column.of(opens),
+                Column.of(highs),
+                Column.of(lows),
+                Column.of(closes),
+                Column.of(volumes),
+                flags,
+                0,
+                size,
+                true);
+    }
+
+    private static long toTimestamp(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NULL;
+        }
+        if (dateTime.getSecond() != 0 || dateTime.getNano() != 0) {
+            throw new IllegalArgumentException("date time is not truncated to minutes: " + dateTime);
+        }
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime toDateTime(long timestamp) {
+        return timestamp != NULL ? LocalDateTime.ofEpochSecond(timestamp * 60, 0, ZoneOffset.UTC) : null;
+    }
+
+    /**
+     * Gets storage index of view index
+     * @param index index (view order)
+     * @return storage index
+     */
+    private int toStorageIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return descending ? offset + size - 1 - index : offset + index;
+    }
+
+    public String getAssetId() {
+        return assetId;
+    }
+
+    public Ohlcv.Type getType() {
+        return type;
+    }
+
+    public ZoneId getTimeZone() {
+        return timeZone;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks view is time descending
+     * @return whether time descending
+     */
+    public boolean isDescending() {
+        return descending;
+    }
+
+    /**
+     * Gets time ascending view
+     * @return ohlcv series (shares storage)
+     */
+    public OhlcvSeries ascending() {
+        return descending ? withView(offset, size, false) : this;
+    }
+
+    /**
+     * Gets time descending view
+     * @return ohlcv series (shares storage)
+     */
+    public OhlcvSeries descending() {
+        return descending ? this : withView(offset, size, true);
+    }
+
+    /**
+     * Slices series
+     * @param fromIndex from index (inclusive, view order)
+     * @param toIndex to index (exclusive, view order)
+     * @return ohlcv series (shares storage)
+     */
+    public OhlcvSeries slice(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(String.format("fromIndex: %d, toIndex: %d, size: %d", fromIndex, toIndex, size));
+        }
+        int sliceSize = toIndex - fromIndex;
+        int sliceOffset = descending ? offset + size - toIndex : offset + fromIndex;
+        return withView(sliceOffset, sliceSize, descending);
+    }
+
+    /**
+     * Slices series by date time (binary search, series must be sorted by date time)
+     * @param dateTimeFrom date time from (inclusive)
+     * @param dateTimeTo date time to (inclusive)
+     * @return ohlcv series (shares storage)
+     */
+    public OhlcvSeries slice(LocalDateTime dateTimeFrom, LocalDateTime dateTimeTo) {
+        int from = lowerBound(Math.floorDiv(dateTimeFrom.toEpochSecond(ZoneOffset.UTC), 60) + (dateTimeFrom.getSecond() != 0 || dateTimeFrom.getNano() != 0 ? 1 : 0));
+        int to = Math.max(lowerBound(Math.floorDiv(dateTimeTo.toEpochSecond(ZoneOffset.UTC), 60) + 1), from);
+        return withView(from, to - from, descending);
+    }
+
+    /**
+     * Finds first storage index of which timestamp is not less than timestamp
+     * @param timestamp epoch minute
+     * @return storage index
+     */
+    private int lowerBound(long timestamp) {
+        int low = offset;
+        int high = offset + size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (timestamps[middle] < timestamp) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private OhlcvSeries withView(int offset, int size, boolean descending) {
+        return new OhlcvSeries(assetId, type, timeZone, timestamps, open, high, low, close, volume, flags, offset, size, descending);
+    }
+
+    /**
+     * Gets timestamp
+     * @param index index
+     * @return epoch minute of local date time
+     */
+    public long getTimestamp(int index) {
+        return timestamps[toStorageIndex(index)];
+    }
+
+    /**
+     * Gets epoch millisecond
+     * @param index index
+     * @return epoch millisecond (time zone of series, UTC if not specified, 0 if date time is null)
+     */
+    public long getEpochMilli(int index) {
+        return toEpochMilli(timestamps[toStorageIndex(index)]);
+    }
+
+    /**
+     * Gets epoch milliseconds as long array
+     * @return epoch milliseconds (view order)
+     */
+    public long[] getEpochMillis() {
+        long[] epochMillis = new long[size];
+        for (int i = 0; i < size; i ++) {
+            epochMillis[i] = toEpochMilli(timestamps[toStorageIndex(i)]);
+        }
+        return epochMillis;
+    }
+
+    private long toEpochMilli(long timestamp) {
+        if (timestamp == NULL) {
+            return 0L;
+        }
+        LocalDateTime dateTime = toDateTime(timestamp);
+        return timeZone != null
+                ? dateTime.atZone(timeZone).toInstant().toEpochMilli()
+                : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public LocalDateTime getDateTime(int index) {
+        return toDateTime(timestamps[toStorageIndex(index)]);
+    }
+
+    public BigDecimal getOpen(int index) {
+        return open.getBigDecimal(toStorageIndex(index));
+    }
+
+    public BigDecimal getHigh(int index) {
+        return high.getBigDecimal(toStorageIndex(index));
+    }
+
+    public BigDecimal getLow(int index) {
+        return low.getBigDecimal(toStorageIndex(index));
+    }
+
+    public BigDecimal getClose(int index) {
+        return close.getBigDecimal(toStorageIndex(index));
+    }
+
+    public BigDecimal getVolume(int index) {
+        return volume.getBigDecimal(toStorageIndex(index));
+    }
+
+    public boolean isInterpolated(int index) {
+        return (flags[toStorageIndex(index)] & INTERPOLATED) != 0;
+    }
+
+    public boolean isCached(int index) {
+        return (flags[toStorageIndex(index)] & CACHED) != 0;
+    }
+
+    /**
+     * Gets open prices as double array
+     * @return open prices (view order, NaN if null)
+     */
+    public double[] getOpens() {
+        return toDoubles(open);
+    }
+
+    /**
+     * Gets high prices as double array
+     * @return high prices (view order, NaN if null)
+     */
+    public double[] getHighs() {
+        return toDoubles(high);
+    }
+
+    /**
+     * Gets low prices as double array
+     * @return low prices (view order, NaN if null)
+     */
+    public double[] getLows() {
+        return toDoubles(low);
+    }
+
+    /**
+     * Gets close prices as double array
+     * @return close prices (view order, NaN if null)
+     */
+    public double[] getCloses() {
+        return toDoubles(close);
+    }
+
+    /**
+     * Gets volumes as double array
+     * @return volumes (view order, NaN if null)
+     */
+    public double[] getVolumes() {
+        return toDoubles(volume);
+    }
+
+    private double[] toDoubles(Column column) {
+        double[] values = new double[size];
+        for (int i = 0; i < size; i ++) {
+            values[i] = column.getDouble(toStorageIndex(i));
+        }
+        return values;
+    }
+
+    /**
+     * Gets ohlcv (created on each call)
+     * @param index index
+     * @return ohlcv
+     */
+    public Ohlcv getOhlcv(int index) {
+        int storageIndex = toStorageIndex(index);
+        return Ohlcv.builder()
+                .assetId(assetId)
+                .type(type)
+                .dateTime(toDateTime(timestamps[storageIndex]))
+                .timeZone(timeZone)
+                .open(open.getBigDecimal(storageIndex))
+                .high(high.getBigDecimal(storageIndex))
+                .low(low.getBigDecimal(storageIndex))
+                .close(close.getBigDecimal(storageIndex))
+                .volume(volume.getBigDecimal(storageIndex))
+                .interpolated((flags[storageIndex] & INTERPOLATED) != 0)
+                .cached((flags[storageIndex] & CACHED) != 0)
+                .build();
+    }
+
+    /**
+     * Gets ohlcvs as list (read-only, ohlcv is created lazily on first access and kept by list)
+     * @return ohlcvs (view order)
+     */
+    public List<Ohlcv> toList() {
+        return new OhlcvList(this, new Ohlcv[size], 0);
+    }
+
+    /**
+     * Read-only list adapter of series
+     * ohlcvs created on access are kept in cache shared with sub lists,
+     * so repeated access does not allocate (not shared with other lists of series).
+     */
+    private static class OhlcvList extends AbstractList<Ohlcv> implements RandomAccess {
+
+        private final OhlcvSeries series;
+
+        private final Ohlcv[] cache;
+
+        private final int cacheOffset;
+
+        OhlcvList(OhlcvSeries series, Ohlcv[] cache, int cacheOffset) {
+            this.series = series;
+            this.cache = cache;
+            this.cacheOffset = cacheOffset;
+        }
+
+        @Override
+        public Ohlcv get(int index) {
+            if (index < 0 || index >= series.size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            Ohlcv ohlcv = cache[cacheOffset + index];
+            if (ohlcv == null) {
+                ohlcv = series.getOhlcv(index);
+                cache[cacheOffset + index] = ohlcv;
+            }
+            return ohlcv;
+        }
+
+        @Override
+        public int size() {
+            return series.size();
+        }
+
+        @Override
+        public List<Ohlcv> subList(int fromIndex, int toIndex) {
+            return new OhlcvList(series.slice(fromIndex, toIndex), cache, cacheOffset + fromIndex);
+        }
+
+    }
+
+}
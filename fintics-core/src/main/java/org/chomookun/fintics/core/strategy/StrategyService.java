@@ -11,6 +11,7 @@ import org.chomookun.fintics.core.strategy.repository.StrategyRepository;
 import org.chomookun.fintics.core.trade.repository.TradeRepository;
 import org.chomookun.fintics.core.strategy.model.Strategy;
 import org.chomookun.fintics.core.strategy.model.StrategySearch;
+import org.chomookun.fintics.core.strategy.runner.StrategyRunnerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -34,6 +35,8 @@ public class StrategyService {
 
     private final TradeRepository tradeRepository;
 
+    private final StrategyRunnerFactory strategyRunnerFactory;
+
     /**
      * Saves strategy
      * @param strategy strategy
@@ -41,6 +44,8 @@ public class StrategyService {
      */
     @Transactional
     public Strategy saveStrategy(Strategy strategy) {
+        // fails fast if script is not compilable
+        strategyRunnerFactory.validate(strategy);
         StrategyEntity strategyEntity = Optional.ofNullable(strategy.getStrategyId())
                 .flatMap(strategyRepository::findById)
                 .orElseGet(() -> StrategyEntity.builder()
@@ -53,8 +58,11 @@ public class StrategyService {
                 .map(PbePropertiesUtil::encodePropertiesString)
                 .orElse(null));
         strategyEntity.setScript(strategy.getScript());
+        strategyEntity.setCompileStatic(strategy.isCompileStatic());
         StrategyEntity savedStrategyEntity = strategyRepository.saveAndFlush(strategyEntity);
         entityManager.refresh(savedStrategyEntity);
+        // evicts compiled script
+        strategyRunnerFactory.evict(savedStrategyEntity.getStrategyId());
         return Strategy.from(savedStrategyEntity);
     }
 
@@ -82,6 +90,8 @@ public class StrategyService {
         // deletes
         strategyRepository.delete(strategyEntity);
         strategyRepository.flush();
+        // evicts compiled script
+        strategyRunnerFactory.evict(strategyId);
     }
 
     /**
@@ -3,6 +3,7 @@ package org.chomookun.fintics.core.strategy.entity;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.chomookun.arch4j.core.common.data.BaseEntity;
+import org.chomookun.arch4j.core.common.data.converter.BooleanConverter;
 import org.chomookun.arch4j.core.common.data.converter.GenericEnumConverter;
 import org.chomookun.fintics.core.strategy.model.Strategy;
 
@@ -46,6 +47,11 @@ public class StrategyEntity extends BaseEntity {
     @Comment("Script")
     private String script;
 
+    @Column(name = "compile_static", length = 1)
+    @Convert(converter = BooleanConverter.class)
+    @Comment("Compile static")
+    private boolean compileStatic;
+
     @Converter
     public static class LanguageConverter extends GenericEnumConverter<Strategy.Language> {}
 
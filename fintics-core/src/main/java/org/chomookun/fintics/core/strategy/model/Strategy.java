@@ -25,11 +25,13 @@ public class Strategy {
 
     private String script;
 
+    private boolean compileStatic;
+
     /**
      * Strategy language
      */
     public enum Language {
-        GROOVY, PYTHON
+        GROOVY, PYTHON, JAVA
     }
 
     /**
@@ -45,6 +47,7 @@ public class Strategy {
                 .language(strategyEntity.getLanguage())
                 .variables(strategyEntity.getVariables())
                 .script(strategyEntity.getScript())
+                .compileStatic(strategyEntity.isCompileStatic())
                 .build();
     }
 
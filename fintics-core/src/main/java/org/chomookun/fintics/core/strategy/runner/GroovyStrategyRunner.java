@@ -2,7 +2,9 @@ package org.chomookun.fintics.core.strategy.runner;
 
 import groovy.lang.Binding;
 import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyCodeSource;
 import groovy.lang.GroovyShell;
+import groovy.lang.Script;
 import lombok.Builder;
 import org.chomookun.fintics.core.asset.model.Asset;
 import org.chomookun.fintics.core.basket.model.Basket;
@@ -13,13 +15,54 @@ import org.chomookun.fintics.core.ohlcv.indicator.*;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 import org.chomookun.fintics.core.strategy.model.Strategy;
 import org.chomookun.fintics.core.trade.model.TradeAsset;
+import groovy.transform.CompileStatic;
+import groovy.transform.ThreadInterrupt;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.MultipleCompilationErrorsException;
+import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
+import org.codehaus.groovy.control.customizers.ImportCustomizer;
+import org.codehaus.groovy.control.messages.Message;
+import org.codehaus.groovy.control.messages.SyntaxErrorMessage;
+import org.codehaus.groovy.syntax.SyntaxException;
+import org.codehaus.groovy.runtime.InvokerHelper;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class GroovyStrategyRunner extends StrategyRunner {
 
+    private static final Map<String, CompiledScript> compiledScriptMap = new ConcurrentHashMap<>();
+
+    private static volatile Set<String> importPaths;
+
+    /**
+     * Compiled script class of strategy
+     * @param scriptHash hash of script text
+     * @param compileStatic whether statically compiled
+     * @param classLoader class loader (owns script class)
+     * @param scriptClass script class
+     */
+    private record CompiledScript(String scriptHash, boolean compileStatic, GroovyClassLoader classLoader, Class<? extends Script> scriptClass) {
+
+        boolean matches(String scriptHash, boolean compileStatic) {
+            return this.scriptHash.equals(scriptHash) && this.compileStatic == compileStatic;
+        }
+
+        void close() {
+            try {
+                classLoader.clearCache();
+                classLoader.close();
+            } catch (IOException ignore) {
+                // ignore
+            }
+        }
+
+    }
+
     @Builder
     public GroovyStrategyRunner(Strategy strategy, String variables, LocalDateTime dateTime, BasketAsset basketAsset, TradeAsset tradeAsset, BalanceAsset balanceAsset, OrderBook orderBook) {
         super(strategy, variables, dateTime, basketAsset, tradeAsset, balanceAsset, orderBook);
@@ -27,8 +70,7 @@ public class GroovyStrategyRunner extends StrategyRunner {
 
     @Override
     public StrategyResult run() {
-        ClassLoader classLoader = this.getClass().getClassLoader();
-        try (GroovyClassLoader groovyClassLoader = new GroovyClassLoader(classLoader)) {
+        try {
             Binding binding = new Binding();
             binding.setVariable("variables", loadRuleConfigAsProperties(variables));
             binding.setVariable("log", log);
@@ -37,9 +79,9 @@ public class GroovyStrategyRunner extends StrategyRunner {
             binding.setVariable("tradeAsset", tradeAsset);
             binding.setVariable("balanceAsset", balanceAsset);
             binding.setVariable("orderBook", orderBook);
-            String scriptText = getImportClause() + "\n" + strategy.getScript();
-            GroovyShell groovyShell = new GroovyShell(groovyClassLoader, binding);
-            Object result = groovyShell.evaluate(scriptText);
+            // instantiates cached script class with fresh binding
+            Script script = InvokerHelper.createScript(getScriptClass(strategy), binding);
+            Object result = script.run();
             if (result != null) {
                 return (StrategyResult) result;
             }
@@ -49,30 +91,174 @@ public class GroovyStrategyRunner extends StrategyRunner {
         }
     }
 
-    static String getImportClause() {
-        Set<String> importPaths = new HashSet<>();
-        // models
-        importPaths.add(Asset.class.getName());
-        importPaths.add(Basket.class.getName());
-        importPaths.add(BasketAsset.class.getName());
-        importPaths.add(Ohlcv.class.getName());
-        importPaths.add(TradeAsset.class.getName());
-        importPaths.add(StrategyResult.class.getName());
-        importPaths.add(StrategyResult.Action.class.getName());
-        // indicator
-        importPaths.add(Tools.class.getPackageName() + ".*");
-        importPaths.add(Indicator.class.getPackageName() + ".*");
-        importPaths.add(IndicatorContext.class.getPackageName() + ".*");
-        importPaths.add(IndicatorCalculator.class.getPackageName() + ".*");
-        IndicatorCalculatorFactory.getRegistry().forEach((context, calculator) -> {
-            importPaths.add(context.getPackageName() + ".*");
-            importPaths.add(calculator.getPackageName() + ".*");
+    /**
+     * Gets compiled script class (compiles only when strategy script changed)
+     * compiles outside of map lock, so compiling strategy does not block other strategies.
+     * @param strategy strategy
+     * @return script class
+     */
+    static Class<? extends Script> getScriptClass(Strategy strategy) {
+        String key = Optional.ofNullable(strategy.getStrategyId()).orElse("");
+        String scriptHash = getScriptHash(strategy.getScript());
+        boolean compileStatic = strategy.isCompileStatic();
+        CompiledScript compiledScript = compiledScriptMap.get(key);
+        if (compiledScript != null && compiledScript.matches(scriptHash, compileStatic)) {
+            return compiledScript.scriptClass();
+        }
+        CompiledScript newCompiledScript = compile(strategy.getScript(), scriptHash, compileStatic);
+        CompiledScript[] replacedCompiledScript = new CompiledScript[1];
+        compiledScript = compiledScriptMap.compute(key, (k, value) -> {
+            // compiled concurrently by other thread
+            if (value != null && value.matches(scriptHash, compileStatic)) {
+                return value;
+            }
+            replacedCompiledScript[0] = value;
+            return newCompiledScript;
         });
-        // returns as import clause
-        return importPaths.stream()
-                .map(it -> it.replaceAll("\\$", "."))   // inner class
-                .map(it -> "import " + it + ";\n")
-                .collect(Collectors.joining());
+        // releases unused or previous class loader
+        if (compiledScript != newCompiledScript) {
+            newCompiledScript.close();
+        }
+        if (replacedCompiledScript[0] != null) {
+            replacedCompiledScript[0].close();
+        }
+        return compiledScript.scriptClass();
+    }
+
+    /**
+     * Evicts compiled script class of strategy
+     * @param strategyId strategy id
+     */
+    public static void evictScriptClass(String strategyId) {
+        CompiledScript compiledScript = compiledScriptMap.remove(Optional.ofNullable(strategyId).orElse(""));
+        if (compiledScript != null) {
+            compiledScript.close();
+        }
+    }
+
+    /**
+     * Evicts compiled script classes of strategies not in strategy ids
+     * @param strategyIds strategy ids to retain
+     */
+    public static void retainScriptClasses(Set<String> strategyIds) {
+        for (String key : new ArrayList<>(compiledScriptMap.keySet())) {
+            if (!strategyIds.contains(key)) {
+                evictScriptClass(key);
+            }
+        }
+    }
+
+    /**
+     * Validates strategy script is compilable (fails fast before saving)
+     * @param strategy strategy
+     * @throws StrategyCompileException if script is not compilable
+     */
+    public static void validate(Strategy strategy) {
+        String scriptHash = getScriptHash(strategy.getScript());
+        compile(strategy.getScript(), scriptHash, strategy.isCompileStatic()).close();
+    }
+
+    /**
+     * Compiles script in dedicated class loader
+     * @param scriptText script text
+     * @param scriptHash script hash
+     * @param compileStatic compiles with static type checking
+     * @return compiled script
+     * @throws StrategyCompileException if script is not compilable
+     */
+    @SuppressWarnings("unchecked")
+    private static CompiledScript compile(String scriptText, String scriptHash, boolean compileStatic) {
+        CompilerConfiguration compilerConfiguration = new CompilerConfiguration();
+        compilerConfiguration.addCompilationCustomizers(getImportCustomizer());
+        // checks thread interrupted in loops and closures (stops script when time budget exceeded)
+        compilerConfiguration.addCompilationCustomizers(new ASTTransformationCustomizer(ThreadInterrupt.class));
+        if (compileStatic) {
+            // typed binding variables (tradeAsset, balanceAsset, orderBook, dateTime...) for static type checking
+            compilerConfiguration.setScriptBaseClass(GroovyStrategyScript.class.getName());
+            compilerConfiguration.addCompilationCustomizers(new ASTTransformationCustomizer(CompileStatic.class));
+        }
+        GroovyClassLoader groovyClassLoader = new GroovyClassLoader(GroovyStrategyRunner.class.getClassLoader(), compilerConfiguration);
+        try {
+            GroovyCodeSource groovyCodeSource = new GroovyCodeSource(Optional.ofNullable(scriptText).orElse(""), "Strategy_" + scriptHash.substring(0, 16) + ".groovy", GroovyShell.DEFAULT_CODE_BASE);
+            Class<? extends Script> scriptClass = (Class<? extends Script>) groovyClassLoader.parseClass(groovyCodeSource, false);
+            return new CompiledScript(scriptHash, compileStatic, groovyClassLoader, scriptClass);
+        } catch (MultipleCompilationErrorsException e) {
+            new CompiledScript(scriptHash, compileStatic, groovyClassLoader, null).close();
+            throw new StrategyCompileException(compileStatic
+                    ? "strategy script is not statically compilable"
+                    : "strategy script is not compilable", getCompileErrors(e), e);
+        } catch (RuntimeException e) {
+            new CompiledScript(scriptHash, compileStatic, groovyClassLoader, null).close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets readable compile errors
+     * @param exception compilation errors exception
+     * @return compile errors
+     */
+    static List<String> getCompileErrors(MultipleCompilationErrorsException exception) {
+        List<String> errors = new ArrayList<>();
+        for (Message error : exception.getErrorCollector().getErrors()) {
+            if (error instanceof SyntaxErrorMessage syntaxErrorMessage) {
+                SyntaxException cause = syntaxErrorMessage.getCause();
+                errors.add(String.format("[line %d, column %d] %s",
+                        cause.getStartLine(), cause.getStartColumn(), cause.getOriginalMessage()));
+            } else {
+                StringWriter writer = new StringWriter();
+                error.write(new PrintWriter(writer));
+                errors.add(writer.toString().trim());
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Gets import paths of strategy script (computed once)
+     * @return import paths
+     */
+    static Set<String> getImportPaths() {
+        if (importPaths == null) {
+            Set<String> paths = new HashSet<>();
+            // models
+            paths.add(Asset.class.getName());
+            paths.add(Basket.class.getName());
+            paths.add(BasketAsset.class.getName());
+            paths.add(Ohlcv.class.getName());
+            paths.add(TradeAsset.class.getName());
+            paths.add(StrategyResult.class.getName());
+            paths.add(StrategyResult.Action.class.getName());
+            // indicator
+            paths.add(Tools.class.getPackageName() + ".*");
+            paths.add(Indicator.class.getPackageName() + ".*");
+            paths.add(IndicatorContext.class.getPackageName() + ".*");
+            paths.add(IndicatorCalculator.class.getPackageName() + ".*");
+            IndicatorCalculatorFactory.getRegistry().forEach((context, calculator) -> {
+                paths.add(context.getPackageName() + ".*");
+                paths.add(calculator.getPackageName() + ".*");
+            });
+            importPaths = Collections.unmodifiableSet(paths);
+        }
+        return importPaths;
+    }
+
+    /**
+     * Gets import customizer of import paths
+     * @return import customizer
+     */
+    static ImportCustomizer getImportCustomizer() {
+        ImportCustomizer importCustomizer = new ImportCustomizer();
+        for (String importPath : getImportPaths()) {
+            if (importPath.endsWith(".*")) {
+                importCustomizer.addStarImports(importPath.substring(0, importPath.length() - 2));
+            } else {
+                // alias is required for inner class (binary name)
+                String alias = importPath.substring(Math.max(importPath.lastIndexOf('.'), importPath.lastIndexOf('$')) + 1);
+                importCustomizer.addImport(alias, importPath);
+            }
+        }
+        return importCustomizer;
     }
 
 }
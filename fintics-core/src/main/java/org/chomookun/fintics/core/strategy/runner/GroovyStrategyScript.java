@@ -0,0 +1,75 @@
+package org.chomookun.fintics.core.strategy.runner;
+
+import groovy.lang.Script;
+import org.chomookun.fintics.core.basket.model.BasketAsset;
+import org.chomookun.fintics.core.broker.model.BalanceAsset;
+import org.chomookun.fintics.core.broker.model.OrderBook;
+import org.chomookun.fintics.core.trade.model.TradeAsset;
+import org.slf4j.Logger;
+
+import java.time.LocalDateTime;
+import java.util.Properties;
+
+/**
+ * Groovy strategy script base class
+ * exposes binding variables as typed properties, so statically compiled script can resolve them.
+ */
+public abstract class GroovyStrategyScript extends Script {
+
+    /**
+     * Gets variables
+     * @return variables
+     */
+    public Properties getVariables() {
+        return (Properties) getBinding().getVariable("variables");
+    }
+
+    /**
+     * Gets logger
+     * @return logger
+     */
+    public Logger getLog() {
+        return (Logger) getBinding().getVariable("log");
+    }
+
+    /**
+     * Gets date time
+     * @return date time
+     */
+    public LocalDateTime getDateTime() {
+        return (LocalDateTime) getBinding().getVariable("dateTime");
+    }
+
+    /**
+     * Gets basket asset
+     * @return basket asset
+     */
+    public BasketAsset getBasketAsset() {
+        return (BasketAsset) getBinding().getVariable("basketAsset");
+    }
+
+    /**
+     * Gets trade asset
+     * @return trade asset
+     */
+    public TradeAsset getTradeAsset() {
+        return (TradeAsset) getBinding().getVariable("tradeAsset");
+    }
+
+    /**
+     * Gets balance asset
+     * @return balance asset
+     */
+    public BalanceAsset getBalanceAsset() {
+        return (BalanceAsset) getBinding().getVariable("balanceAsset");
+    }
+
+    /**
+     * Gets order book
+     * @return order book
+     */
+    public OrderBook getOrderBook() {
+        return (OrderBook) getBinding().getVariable("orderBook");
+    }
+
+}
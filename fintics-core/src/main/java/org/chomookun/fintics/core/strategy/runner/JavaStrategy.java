@@ -0,0 +1,20 @@
+package org.chomookun.fintics.core.strategy.runner;
+
+/**
+ * Java strategy
+ * script of java language must declare public class implementing this interface (with no-args constructor).
+ * instance is created for each run, so state should be kept in trade asset context.
+ * long running loop should check {@code Thread.currentThread().isInterrupted()} to stop on timeout,
+ * otherwise its worker is retired from strategy runner pool until the run ends.
+ */
+public interface JavaStrategy {
+
+    /**
+     * Runs strategy
+     * @param context java strategy context
+     * @return strategy result (null if no action)
+     * @throws Exception exception
+     */
+    StrategyResult run(JavaStrategyContext context) throws Exception;
+
+}
@@ -0,0 +1,32 @@
+package org.chomookun.fintics.core.strategy.runner;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.chomookun.fintics.core.basket.model.BasketAsset;
+import org.chomookun.fintics.core.broker.model.BalanceAsset;
+import org.chomookun.fintics.core.broker.model.OrderBook;
+import org.chomookun.fintics.core.trade.model.TradeAsset;
+import org.slf4j.Logger;
+
+import java.time.LocalDateTime;
+import java.util.Properties;
+
+@Builder
+@Getter
+public class JavaStrategyContext {
+
+    private final Properties variables;
+
+    private final Logger log;
+
+    private final LocalDateTime dateTime;
+
+    private final BasketAsset basketAsset;
+
+    private final TradeAsset tradeAsset;
+
+    private final BalanceAsset balanceAsset;
+
+    private final OrderBook orderBook;
+
+}
@@ -0,0 +1,366 @@
+package org.chomookun.fintics.core.strategy.runner;
+
+import lombok.Builder;
+import org.chomookun.fintics.core.basket.model.BasketAsset;
+import org.chomookun.fintics.core.broker.model.BalanceAsset;
+import org.chomookun.fintics.core.broker.model.OrderBook;
+import org.chomookun.fintics.core.strategy.model.Strategy;
+import org.chomookun.fintics.core.trade.model.TradeAsset;
+
+import javax.tools.*;
+import java.io.*;
+import java.net.JarURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class JavaStrategyRunner extends StrategyRunner {
+
+    private static final Pattern PACKAGE_PATTERN = Pattern.compile("^\\s*package\\s+([\\w.]+)\\s*;", Pattern.MULTILINE);
+
+    private static final Pattern CLASS_NAME_PATTERN = Pattern.compile("\\bpublic\\s+(?:final\\s+)?class\\s+(\\w+)");
+
+    private static final Map<String, CompiledStrategy> compiledStrategyMap = new ConcurrentHashMap<>();
+
+    /**
+     * Compiled strategy class
+     * @param scriptHash hash of script text
+     * @param strategyClass strategy class (owned by isolated class loader)
+     */
+    private record CompiledStrategy(String scriptHash, Class<? extends JavaStrategy> strategyClass) {}
+
+    @Builder
+    public JavaStrategyRunner(Strategy strategy, String variables, LocalDateTime dateTime, BasketAsset basketAsset, TradeAsset tradeAsset, BalanceAsset balanceAsset, OrderBook orderBook) {
+        super(strategy, variables, dateTime, basketAsset, tradeAsset, balanceAsset, orderBook);
+    }
+
+    @Override
+    public StrategyResult run() {
+        try {
+            JavaStrategyContext context = JavaStrategyContext.builder()
+                    .variables(loadRuleConfigAsProperties(variables))
+                    .log(log)
+                    .dateTime(dateTime)
+                    .basketAsset(basketAsset)
+                    .tradeAsset(tradeAsset)
+                    .balanceAsset(balanceAsset)
+                    .orderBook(orderBook)
+                    .build();
+            JavaStrategy javaStrategy = getStrategyClass(strategy).getDeclaredConstructor().newInstance();
+            return javaStrategy.run(context);
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Gets compiled strategy class (compiles only when strategy script changed)
+     * @param strategy strategy
+     * @return strategy class
+     */
+    static Class<? extends JavaStrategy> getStrategyClass(Strategy strategy) {
+        String key = Optional.ofNullable(strategy.getStrategyId()).orElse("");
+        String scriptHash = getScriptHash(strategy.getScript());
+        return compiledStrategyMap.compute(key, (k, value) -> {
+            if (value != null && value.scriptHash().equals(scriptHash)) {
+                return value;
+            }
+            return new CompiledStrategy(scriptHash, compile(strategy.getScript()));
+        }).strategyClass();
+    }
+
+    /**
+     * Evicts compiled strategy class of strategy
+     * @param strategyId strategy id
+     */
+    public static void evictStrategyClass(String strategyId) {
+        compiledStrategyMap.remove(Optional.ofNullable(strategyId).orElse(""));
+    }
+
+    /**
+     * Evicts compiled strategy classes of strategies not in strategy ids
+     * @param strategyIds strategy ids to retain
+     */
+    public static void retainStrategyClasses(Set<String> strategyIds) {
+        compiledStrategyMap.keySet().retainAll(strategyIds);
+    }
+
+    /**
+     * Validates strategy script is compilable
+     * @param strategy strategy
+     * @throws StrategyCompileException if script is not compilable
+     */
+    public static void validate(Strategy strategy) {
+        compile(strategy.getScript());
+    }
+
+    /**
+     * Compiles java source in memory and loads into isolated class loader
+     * @param scriptText java source
+     * @return strategy class
+     * @throws StrategyCompileException if script is not compilable
+     */
+    static Class<? extends JavaStrategy> compile(String scriptText) {
+        JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+        if (javaCompiler == null) {
+            throw new IllegalStateException("java compiler is not available (runs on JDK, not JRE)");
+        }
+        String source = Optional.ofNullable(scriptText).orElse("");
+        String packageName = Optional.of(PACKAGE_PATTERN.matcher(source))
+                .filter(Matcher::find)
+                .map(it -> it.group(1))
+                .orElse(null);
+        String className = Optional.of(CLASS_NAME_PATTERN.matcher(source))
+                .filter(Matcher::find)
+                .map(it -> it.group(1))
+                .orElseThrow(() -> new StrategyCompileException("strategy script is not compilable",
+                        List.of("public class implementing JavaStrategy is required"), null));
+        String binaryName = packageName != null ? packageName + "." + className : className;
+        ClassLoader parentClassLoader = JavaStrategyRunner.class.getClassLoader();
+        DiagnosticCollector<JavaFileObject> diagnosticCollector = new DiagnosticCollector<>();
+        StandardJavaFileManager standardJavaFileManager = javaCompiler.getStandardFileManager(diagnosticCollector, null, StandardCharsets.UTF_8);
+        try (MemoryJavaFileManager memoryJavaFileManager = new MemoryJavaFileManager(standardJavaFileManager, parentClassLoader)) {
+            JavaFileObject sourceFile = new SourceJavaFileObject(binaryName, addImports(source, packageName));
+            List<String> options = List.of("-proc:none", "-g", "-Xlint:none");
+            Boolean success = javaCompiler.getTask(null, memoryJavaFileManager, diagnosticCollector, options, null, List.of(sourceFile)).call();
+            if (!Boolean.TRUE.equals(success)) {
+                List<String> errors = diagnosticCollector.getDiagnostics().stream()
+                        .filter(it -> it.getKind() == Diagnostic.Kind.ERROR)
+                        .map(it -> String.format("[line %d, column %d] %s", it.getLineNumber(), it.getColumnNumber(), it.getMessage(Locale.ENGLISH)))
+                        .collect(Collectors.toList());
+                throw new StrategyCompileException("strategy script is not compilable", errors, null);
+            }
+            // isolated class loader per compilation (unloaded with compiled strategy)
+            MemoryClassLoader memoryClassLoader = new MemoryClassLoader(parentClassLoader, memoryJavaFileManager.getClassBytesMap());
+            Class<?> strategyClass = memoryClassLoader.loadClass(binaryName);
+            if (!JavaStrategy.class.isAssignableFrom(strategyClass)) {
+                throw new StrategyCompileException("strategy script is not compilable",
+                        List.of(String.format("%s must implement %s", className, JavaStrategy.class.getSimpleName())), null);
+            }
+            return strategyClass.asSubclass(JavaStrategy.class);
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Adds default imports (same as groovy strategy) in first line, so line numbers of errors are kept
+     * @param source java source
+     * @param packageName package name
+     * @return source with imports
+     */
+    static String addImports(String source, String packageName) {
+        Set<String> importPaths = new LinkedHashSet<>(GroovyStrategyRunner.getImportPaths());
+        importPaths.add(JavaStrategy.class.getName());
+        importPaths.add(JavaStrategyContext.class.getName());
+        String importClause = importPaths.stream()
+                .map(it -> "import " + it.replace('$', '.') + ";")
+                .collect(Collectors.joining(" "));
+        if (packageName != null) {
+            Matcher matcher = PACKAGE_PATTERN.matcher(source);
+            if (matcher.find()) {
+                return source.substring(0, matcher.end()) + " " + importClause + source.substring(matcher.end());
+            }
+        }
+        return importClause + " " + source;
+    }
+
+    /**
+     * Source file object (in memory)
+     */
+    private static class SourceJavaFileObject extends SimpleJavaFileObject {
+
+        private final String source;
+
+        SourceJavaFileObject(String binaryName, String source) {
+            super(URI.create("string:///" + binaryName.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+
+    }
+
+    /**
+     * Class file object (in memory output)
+     */
+    private static class MemoryClassFileObject extends SimpleJavaFileObject {
+
+        private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        MemoryClassFileObject(String binaryName) {
+            super(URI.create("bytes:///" + binaryName.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return outputStream;
+        }
+
+        byte[] getBytes() {
+            return outputStream.toByteArray();
+        }
+
+    }
+
+    /**
+     * Class file object of class loader resource (class path of spring boot nested jar)
+     */
+    private static class ResourceClassFileObject extends SimpleJavaFileObject {
+
+        private final String binaryName;
+
+        private final URL url;
+
+        ResourceClassFileObject(String binaryName, URL url) {
+            // jar url is opaque (has no path), so uses class path uri
+            super(URI.create("classpath:///" + binaryName.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+            this.binaryName = binaryName;
+            this.url = url;
+        }
+
+        String getBinaryName() {
+            return binaryName;
+        }
+
+        @Override
+        public InputStream openInputStream() throws IOException {
+            return url.openStream();
+        }
+
+    }
+
+    /**
+     * Java file manager
+     * writes class files in memory, and resolves class path from class loader
+     * when standard file manager cannot see it (ex. spring boot executable jar).
+     */
+    private static class MemoryJavaFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+        private final ClassLoader classLoader;
+
+        private final Map<String, MemoryClassFileObject> classFileObjectMap = new LinkedHashMap<>();
+
+        MemoryJavaFileManager(StandardJavaFileManager fileManager, ClassLoader classLoader) {
+            super(fileManager);
+            this.classLoader = classLoader;
+        }
+
+        Map<String, byte[]> getClassBytesMap() {
+            Map<String, byte[]> classBytesMap = new HashMap<>();
+            classFileObjectMap.forEach((name, classFileObject) -> classBytesMap.put(name, classFileObject.getBytes()));
+            return classBytesMap;
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+            MemoryClassFileObject classFileObject = new MemoryClassFileObject(className);
+            classFileObjectMap.put(className, classFileObject);
+            return classFileObject;
+        }
+
+        @Override
+        public String inferBinaryName(Location location, JavaFileObject file) {
+            if (file instanceof ResourceClassFileObject resourceClassFileObject) {
+                return resourceClassFileObject.getBinaryName();
+            }
+            return super.inferBinaryName(location, file);
+        }
+
+        @Override
+        public Iterable<JavaFileObject> list(Location location, String packageName, Set<JavaFileObject.Kind> kinds, boolean recurse) throws IOException {
+            Iterable<JavaFileObject> fileObjects = super.list(location, packageName, kinds, recurse);
+            if (location != StandardLocation.CLASS_PATH || !kinds.contains(JavaFileObject.Kind.CLASS) || fileObjects.iterator().hasNext()) {
+                return fileObjects;
+            }
+            return listFromClassLoader(packageName, recurse);
+        }
+
+        private List<JavaFileObject> listFromClassLoader(String packageName, boolean recurse) throws IOException {
+            String packagePath = packageName.replace('.', '/');
+            List<JavaFileObject> fileObjects = new ArrayList<>();
+            for (URL url : Collections.list(classLoader.getResources(packagePath))) {
+                URLConnection urlConnection = url.openConnection();
+                if (urlConnection instanceof JarURLConnection jarURLConnection) {
+                    jarURLConnection.setUseCaches(false);
+                    try (JarFile jarFile = jarURLConnection.getJarFile()) {
+                        for (JarEntry jarEntry : Collections.list(jarFile.entries())) {
+                            String entryName = jarEntry.getName();
+                            if (isClassInPackage(entryName, packagePath, recurse)) {
+                                fileObjects.add(createResourceClassFileObject(entryName));
+                            }
+                        }
+                    }
+                } else if ("file".equals(url.getProtocol())) {
+                    Path directory = Paths.get(URI.create(url.toString()));
+                    try (Stream<Path> paths = recurse ? Files.walk(directory) : Files.list(directory)) {
+                        for (Path path : paths.collect(Collectors.toList())) {
+                            String entryName = packagePath + "/" + directory.relativize(path).toString().replace(File.separatorChar, '/');
+                            if (isClassInPackage(entryName, packagePath, recurse)) {
+                                fileObjects.add(createResourceClassFileObject(entryName));
+                            }
+                        }
+                    }
+                }
+            }
+            return fileObjects;
+        }
+
+        private boolean isClassInPackage(String entryName, String packagePath, boolean recurse) {
+            if (!entryName.startsWith(packagePath + "/") || !entryName.endsWith(JavaFileObject.Kind.CLASS.extension)) {
+                return false;
+            }
+            return recurse || entryName.indexOf('/', packagePath.length() + 1) < 0;
+        }
+
+        private JavaFileObject createResourceClassFileObject(String entryName) throws IOException {
+            String binaryName = entryName.substring(0, entryName.length() - JavaFileObject.Kind.CLASS.extension.length()).replace('/', '.');
+            URL url = classLoader.getResource(entryName);
+            if (url == null) {
+                throw new FileNotFoundException(entryName);
+            }
+            return new ResourceClassFileObject(binaryName, url);
+        }
+
+    }
+
+    /**
+     * Class loader of compiled classes (isolated per compilation)
+     */
+    private static class MemoryClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classBytesMap;
+
+        MemoryClassLoader(ClassLoader parent, Map<String, byte[]> classBytesMap) {
+            super(parent);
+            this.classBytesMap = classBytesMap;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] classBytes = classBytesMap.get(name);
+            if (classBytes == null) {
+                return super.findClass(name);
+            }
+            return defineClass(name, classBytes, 0, classBytes.length);
+        }
+
+    }
+
+}
@@ -1,7 +1,5 @@
 package org.chomookun.fintics.core.strategy.runner;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Builder;
 import org.chomookun.fintics.core.broker.model.BalanceAsset;
 import org.chomookun.fintics.core.basket.model.BasketAsset;
@@ -9,15 +7,46 @@ import org.chomookun.fintics.core.broker.model.OrderBook;
 import org.chomookun.fintics.core.strategy.model.Strategy;
 import org.chomookun.fintics.core.trade.model.TradeAsset;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class PythonStrategyRunner extends StrategyRunner {
 
+    private static final String LANGUAGE_ID = "python";
+
+    private static final int CONTEXT_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+    private static volatile Engine engine;
+
+    private static final Map<String, CachedSource> cachedSourceMap = new ConcurrentHashMap<>();
+
+    private static final BlockingQueue<PooledContext> contextPool = new ArrayBlockingQueue<>(CONTEXT_POOL_SIZE);
+
+    /**
+     * Cached source of strategy
+     * @param scriptHash hash of script text
+     * @param source source (parsed code is shared in engine)
+     */
+    private record CachedSource(String scriptHash, Source source) {}
+
+    /**
+     * Pooled context
+     * @param context context
+     * @param initialMemberKeys member keys of bindings before first run
+     */
+    private record PooledContext(Context context, Set<String> initialMemberKeys) {}
+
+    private final AtomicReference<Context> runningContext = new AtomicReference<>();
+
     /**
      * constructor
      *
@@ -36,10 +65,12 @@ public class PythonStrategyRunner extends StrategyRunner {
 
     @Override
     public StrategyResult run() {
-        try (Context context = Context.newBuilder("python")
-                .allowAllAccess(true)
-                .build()) {
-            Value bindings = context.getBindings("python");
+        Source source = getSource(strategy);
+        PooledContext pooledContext = borrowContext();
+        runningContext.set(pooledContext.context());
+        boolean reusable = false;
+        try {
+            Value bindings = pooledContext.context().getBindings(LANGUAGE_ID);
             bindings.putMember("variables", variables);
             bindings.putMember("log", log);
             bindings.putMember("date_time", dateTime);
@@ -48,33 +79,180 @@ public class PythonStrategyRunner extends StrategyRunner {
             bindings.putMember("balance_asset", balanceAsset);
             bindings.putMember("order_book", orderBook);
             bindings.putMember("strategy_result", null);
-            context.eval("python",
-                    strategy.getScript()
-            );
-            Value strategyResultValue = bindings.getMember("strategy_result");
-            if (!strategyResultValue.isNull()) {
-                Map<String, Object> strategyResultMap;
-                try {
-                    // TODO graalvm 에서 type casting 이 제대로 안됨. 일단 땜빵.
-                    strategyResultMap = new ObjectMapper().readValue(strategyResultValue.toString().replaceAll("'", "\""), new TypeReference<>() {});
-                } catch (Exception e) {
-                    log.error(e.getMessage(), e);
-                    throw new RuntimeException(e);
+            pooledContext.context().eval(source);
+            StrategyResult strategyResult = toStrategyResult(bindings.getMember("strategy_result"));
+            reusable = true;
+            return strategyResult;
+        } finally {
+            // context being cancelled by other thread is not reused
+            boolean cancelled = runningContext.getAndSet(null) == null;
+            releaseContext(pooledContext, reusable && !cancelled);
+        }
+    }
+
+    @Override
+    public void cancel() {
+        // interrupt does not stop python code, so closes context with cancel (not returned to pool)
+        Context context = runningContext.getAndSet(null);
+        if (context != null) {
+            context.close(true);
+        }
+    }
+
+    /**
+     * Gets shared engine (code cache and JIT warmup are shared between contexts)
+     * @return engine
+     */
+    static Engine getEngine() {
+        if (engine == null) {
+            synchronized (PythonStrategyRunner.class) {
+                if (engine == null) {
+                    engine = Engine.newBuilder()
+                            .option("engine.WarnInterpreterOnly", "false")
+                            .build();
                 }
-                log.info("strategyResultMap:{}", strategyResultMap);
-                StrategyResult.Action action = StrategyResult.Action.valueOf(strategyResultMap.get("action").toString());
-                BigDecimal position = new BigDecimal(strategyResultMap.get("position").toString());
-                String description = Optional.ofNullable(strategyResultMap.get("description"))
-                        .map(Object::toString)
-                        .orElse(null);
-                return StrategyResult.builder()
-                        .action(action)
-                        .position(position)
-                        .description(description)
-                        .build();
             }
+        }
+        return engine;
+    }
+
+    /**
+     * Gets cached source (creates only when strategy script changed)
+     * @param strategy strategy
+     * @return source
+     */
+    static Source getSource(Strategy strategy) {
+        String key = Optional.ofNullable(strategy.getStrategyId()).orElse("");
+        String scriptHash = getScriptHash(strategy.getScript());
+        return cachedSourceMap.compute(key, (k, value) -> {
+            if (value != null && value.scriptHash().equals(scriptHash)) {
+                return value;
+            }
+            Source source = Source.newBuilder(LANGUAGE_ID, Optional.ofNullable(strategy.getScript()).orElse(""), "Strategy_" + scriptHash.substring(0, 16) + ".py")
+                    .cached(true)
+                    .buildLiteral();
+            return new CachedSource(scriptHash, source);
+        }).source();
+    }
+
+    /**
+     * Evicts cached source of strategy
+     * @param strategyId strategy id
+     */
+    public static void evictSource(String strategyId) {
+        cachedSourceMap.remove(Optional.ofNullable(strategyId).orElse(""));
+    }
+
+    /**
+     * Evicts cached sources of strategies not in strategy ids
+     * @param strategyIds strategy ids to retain
+     */
+    public static void retainSources(Set<String> strategyIds) {
+        cachedSourceMap.keySet().retainAll(strategyIds);
+    }
+
+    /**
+     * Borrows context from pool (creates new one when pool is empty)
+     * @return pooled context
+     */
+    private static PooledContext borrowContext() {
+        PooledContext pooledContext = contextPool.poll();
+        if (pooledContext != null) {
+            return pooledContext;
+        }
+        Context context = Context.newBuilder(LANGUAGE_ID)
+                .engine(getEngine())
+                .allowAllAccess(true)
+                .build();
+        Set<String> initialMemberKeys = new HashSet<>(context.getBindings(LANGUAGE_ID).getMemberKeys());
+        return new PooledContext(context, initialMemberKeys);
+    }
+
+    /**
+     * Releases context to pool
+     * @param pooledContext pooled context
+     * @param reusable whether context is reusable (false if evaluation failed)
+     */
+    private static void releaseContext(PooledContext pooledContext, boolean reusable) {
+        if (reusable) {
+            try {
+                // resets globals defined by previous run
+                Value bindings = pooledContext.context().getBindings(LANGUAGE_ID);
+                for (String memberKey : new ArrayList<>(bindings.getMemberKeys())) {
+                    if (!pooledContext.initialMemberKeys().contains(memberKey)) {
+                        bindings.removeMember(memberKey);
+                    }
+                }
+                if (contextPool.offer(pooledContext)) {
+                    return;
+                }
+            } catch (RuntimeException ignore) {
+                // closes broken context
+            }
+        }
+        pooledContext.context().close(true);
+    }
+
+    /**
+     * Converts polyglot value (dict, object or host strategy result) to strategy result
+     * @param value polyglot value
+     * @return strategy result
+     */
+    static StrategyResult toStrategyResult(Value value) {
+        if (value == null || value.isNull()) {
             return null;
         }
+        if (value.isHostObject() && value.asHostObject() instanceof StrategyResult strategyResult) {
+            return strategyResult;
+        }
+        StrategyResult.Action action = Optional.ofNullable(getEntry(value, "action"))
+                .map(it -> StrategyResult.Action.valueOf(it.isHostObject() ? it.asHostObject().toString() : it.asString()))
+                .orElseThrow(() -> new IllegalArgumentException("strategy_result.action is required"));
+        BigDecimal position = Optional.ofNullable(getEntry(value, "position"))
+                .map(PythonStrategyRunner::toBigDecimal)
+                .orElse(null);
+        String description = Optional.ofNullable(getEntry(value, "description"))
+                .map(it -> it.isString() ? it.asString() : it.toString())
+                .orElse(null);
+        return StrategyResult.builder()
+                .action(action)
+                .position(position)
+                .description(description)
+                .build();
+    }
+
+    /**
+     * Gets entry of dict or member of object
+     * @param value polyglot value
+     * @param key key
+     * @return entry value (null if not exists or none)
+     */
+    private static Value getEntry(Value value, String key) {
+        Value entry = null;
+        if (value.hasHashEntries()) {
+            entry = value.getHashValue(key);
+        } else if (value.hasMember(key)) {
+            entry = value.getMember(key);
+        }
+        return (entry == null || entry.isNull()) ? null : entry;
+    }
+
+    /**
+     * Converts polyglot number (or numeric string) to big decimal
+     * @param value polyglot value
+     * @return big decimal
+     */
+    private static BigDecimal toBigDecimal(Value value) {
+        if (value.isHostObject() && value.asHostObject() instanceof BigDecimal bigDecimal) {
+            return bigDecimal;
+        }
+        if (value.fitsInLong()) {
+            return BigDecimal.valueOf(value.asLong());
+        }
+        if (value.fitsInDouble()) {
+            return BigDecimal.valueOf(value.asDouble());
+        }
+        return new BigDecimal(value.isString() ? value.asString() : value.toString());
     }
 
 }
@@ -0,0 +1,27 @@
+package org.chomookun.fintics.core.strategy.runner;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Strategy compile exception
+ * thrown when strategy script is not compilable, has readable error of each line.
+ */
+@Getter
+public class StrategyCompileException extends IllegalArgumentException {
+
+    private final List<String> errors;
+
+    /**
+     * Constructor
+     * @param message message
+     * @param errors compile errors ("[line x, column y] message")
+     * @param cause cause
+     */
+    public StrategyCompileException(String message, List<String> errors, Throwable cause) {
+        super(message + "\n" + String.join("\n", errors), cause);
+        this.errors = List.copyOf(errors);
+    }
+
+}
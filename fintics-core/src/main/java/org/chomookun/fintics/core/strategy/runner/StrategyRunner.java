@@ -9,7 +9,12 @@ import org.chomookun.fintics.core.strategy.model.Strategy;
 import org.chomookun.fintics.core.trade.model.TradeAsset;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
 import java.util.Properties;
 
 public abstract class StrategyRunner {
@@ -72,6 +77,14 @@ public abstract class StrategyRunner {
      */
     public abstract StrategyResult run();
 
+    /**
+     * cancels running strategy (called from other thread when time budget exceeded)
+     * running thread is interrupted by executor, so runner cancels only what interrupt cannot stop.
+     */
+    public void cancel() {
+        // no-op
+    }
+
     /**
      * loads properties string to properties object
      * @param propertiesString property string
@@ -81,4 +94,19 @@ public abstract class StrategyRunner {
         return PbePropertiesUtil.loadProperties(propertiesString);
     }
 
-}
\ No newline at end of file
+    /**
+     * Gets SHA-256 hash of script text
+     * @param scriptText script text
+     * @return hex string of hash
+     */
+    static String getScriptHash(String scriptText) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(Optional.ofNullable(scriptText).orElse("").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,257 @@
+package org.chomookun.fintics.core.strategy.runner;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Strategy runner executor
+ * runs strategies in dedicated bounded pool with time budget of each run,
+ * so runaway strategy cannot block trade and heavy strategies cannot saturate all cores.
+ * time budget starts when worker begins the run (waiting in queue is not counted).
+ * worker of timed out run which does not stop on interrupt (e.g. java strategy without interrupt check)
+ * is retired from pool and replaced by new worker until the run ends,
+ * and next run of same strategy is refused while the stuck run is still running.
+ */
+@Component
+public class StrategyRunnerExecutor {
+
+    private final StrategyRunnerExecutorProperties strategyRunnerExecutorProperties;
+
+    private final ThreadPoolExecutor executorService;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    private final Map<String, Metrics> metricsMap = new ConcurrentHashMap<>();
+
+    private final Lock poolSizeLock = new ReentrantLock();
+
+    /**
+     * Constructor
+     * @param strategyRunnerExecutorProperties strategy runner executor properties
+     */
+    public StrategyRunnerExecutor(StrategyRunnerExecutorProperties strategyRunnerExecutorProperties) {
+        this.strategyRunnerExecutorProperties = strategyRunnerExecutorProperties;
+        AtomicInteger threadNumber = new AtomicInteger();
+        int poolSize = Math.max(strategyRunnerExecutorProperties.getPoolSize(), 1);
+        this.executorService = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "strategy-runner-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (threadMXBean.isThreadCpuTimeSupported() && !threadMXBean.isThreadCpuTimeEnabled()) {
+            threadMXBean.setThreadCpuTimeEnabled(true);
+        }
+    }
+
+    /**
+     * Execution of strategy run
+     * @param strategyResult strategy result
+     * @param elapsedTime wall clock time in nanoseconds (includes waiting in queue)
+     * @param cpuTime cpu time in nanoseconds (-1 if not supported)
+     */
+    public record Execution(StrategyResult strategyResult, long elapsedTime, long cpuTime) {}
+
+    /**
+     * Metrics of strategy
+     */
+    @Getter
+    public static class Metrics {
+
+        private final AtomicLong runCount = new AtomicLong();
+
+        private final AtomicLong timeoutCount = new AtomicLong();
+
+        private final AtomicLong cpuTime = new AtomicLong();
+
+        private final AtomicLong stuckCount = new AtomicLong();
+
+        // number of stuck runs still running (worker retired from pool)
+        private final AtomicInteger stuckRunningCount = new AtomicInteger();
+
+        @Override
+        public String toString() {
+            return String.format("run:%d, timeout:%d, stuck:%d, cpuTime:%dms", runCount.get(), timeoutCount.get(), stuckCount.get(),
+                    TimeUnit.NANOSECONDS.toMillis(cpuTime.get()));
+        }
+
+    }
+
+    /**
+     * State of run (shared by caller and worker)
+     */
+    private static class Run {
+
+        static final int RUNNING = 0;
+
+        static final int DONE = 1;
+
+        static final int STUCK = 2;
+
+        final CountDownLatch started = new CountDownLatch(1);
+
+        final AtomicInteger state = new AtomicInteger(RUNNING);
+
+        volatile long startTime;
+
+    }
+
+    /**
+     * Executes strategy runner within time budget
+     * @param strategyId strategy id
+     * @param strategyRunner strategy runner
+     * @return execution
+     * @throws StrategyTimeoutException if time budget exceeded (or previous run of strategy is still stuck)
+     * @throws InterruptedException if caller is interrupted
+     */
+    public Execution execute(String strategyId, StrategyRunner strategyRunner) throws InterruptedException {
+        Metrics metrics = getMetrics(strategyId);
+        if (metrics.stuckRunningCount.get() > 0) {
+            metrics.timeoutCount.incrementAndGet();
+            throw new StrategyTimeoutException("strategy timeout - previous run is still running");
+        }
+        long timeout = strategyRunnerExecutorProperties.getTimeout();
+        long submitTime = System.nanoTime();
+        AtomicLong cpuTime = new AtomicLong(-1);
+        Run run = new Run();
+        Future<StrategyResult> future = executorService.submit(() -> {
+            run.startTime = System.nanoTime();
+            run.started.countDown();
+            long cpuStartTime = getCurrentThreadCpuTime();
+            try {
+                return strategyRunner.run();
+            } finally {
+                if (cpuStartTime >= 0) {
+                    long runCpuTime = getCurrentThreadCpuTime() - cpuStartTime;
+                    cpuTime.set(runCpuTime);
+                    metrics.cpuTime.addAndGet(runCpuTime);
+                }
+                metrics.runCount.incrementAndGet();
+                // restores retired worker
+                if (!run.state.compareAndSet(Run.RUNNING, Run.DONE)) {
+                    metrics.stuckRunningCount.decrementAndGet();
+                    resizePool(-1);
+                }
+            }
+        });
+        try {
+            StrategyResult strategyResult;
+            if (timeout > 0) {
+                // deadline starts when worker begins
+                run.started.await();
+                long remaining = TimeUnit.MILLISECONDS.toNanos(timeout) - (System.nanoTime() - run.startTime);
+                strategyResult = future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+            } else {
+                strategyResult = future.get();
+            }
+            return new Execution(strategyResult, System.nanoTime() - submitTime, cpuTime.get());
+        } catch (TimeoutException e) {
+            cancel(future, strategyRunner, run, metrics);
+            metrics.timeoutCount.incrementAndGet();
+            throw new StrategyTimeoutException(String.format("strategy timeout - exceeded %dms", timeout));
+        } catch (InterruptedException e) {
+            cancel(future, strategyRunner, run, metrics);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * Cancels run
+     * interrupts groovy (thread interrupt check) and cancels python context.
+     * if run is not ended yet, its worker is retired and replaced by new worker until run ends.
+     * @param future future
+     * @param strategyRunner strategy runner
+     * @param run run
+     * @param metrics metrics
+     */
+    private void cancel(Future<StrategyResult> future, StrategyRunner strategyRunner, Run run, Metrics metrics) {
+        future.cancel(true);
+        strategyRunner.cancel();
+        // not started (removed from queue)
+        if (run.started.getCount() > 0) {
+            return;
+        }
+        if (run.state.compareAndSet(Run.RUNNING, Run.STUCK)) {
+            metrics.stuckCount.incrementAndGet();
+            metrics.stuckRunningCount.incrementAndGet();
+            resizePool(1);
+        }
+    }
+
+    /**
+     * Resizes pool (adds replacement worker of stuck run or removes it when run ended)
+     * @param delta delta of pool size
+     */
+    private void resizePool(int delta) {
+        poolSizeLock.lock();
+        try {
+            if (executorService.isShutdown()) {
+                return;
+            }
+            int poolSize = executorService.getCorePoolSize() + delta;
+            // maximum pool size must not be less than core pool size
+            if (delta > 0) {
+                executorService.setMaximumPoolSize(poolSize);
+                executorService.setCorePoolSize(poolSize);
+            } else {
+                executorService.setCorePoolSize(poolSize);
+                executorService.setMaximumPoolSize(poolSize);
+            }
+        } finally {
+            poolSizeLock.unlock();
+        }
+    }
+
+    /**
+     * Gets current pool size (includes replacement workers of stuck runs)
+     * @return pool size
+     */
+    public int getPoolSize() {
+        return executorService.getCorePoolSize();
+    }
+
+    /**
+     * Gets metrics of strategy
+     * @param strategyId strategy id
+     * @return metrics
+     */
+    public Metrics getMetrics(String strategyId) {
+        return metricsMap.computeIfAbsent(Optional.ofNullable(strategyId).orElse(""), key -> new Metrics());
+    }
+
+    /**
+     * Gets cpu time of current thread
+     * @return cpu time in nanoseconds (-1 if not supported)
+     */
+    private long getCurrentThreadCpuTime() {
+        return threadMXBean.isCurrentThreadCpuTimeSupported() ? threadMXBean.getCurrentThreadCpuTime() : -1;
+    }
+
+    /**
+     * Shuts down executor
+     */
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+}
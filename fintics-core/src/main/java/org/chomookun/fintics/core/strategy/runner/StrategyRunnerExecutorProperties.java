@@ -0,0 +1,27 @@
+package org.chomookun.fintics.core.strategy.runner;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Strategy runner executor properties
+ */
+@ConfigurationProperties(prefix = "fintics.core.strategy.strategy-runner-executor")
+@AllArgsConstructor
+@Getter
+@Builder
+public class StrategyRunnerExecutorProperties {
+
+    /**
+     * number of threads running strategies (max strategies running at the same time)
+     */
+    private final int poolSize;
+
+    /**
+     * time budget of each strategy run in milliseconds
+     */
+    private final long timeout;
+
+}
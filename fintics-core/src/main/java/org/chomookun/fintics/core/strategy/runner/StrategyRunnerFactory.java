@@ -3,6 +3,8 @@ package org.chomookun.fintics.core.strategy.runner;
 import org.chomookun.fintics.core.strategy.model.Strategy;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
+
 @Component
 public class StrategyRunnerFactory {
 
@@ -36,8 +38,53 @@ public class StrategyRunnerFactory {
                         .orderBook(context.getOrderBook())
                         .build();
             }
+            case JAVA -> {
+                return JavaStrategyRunner.builder()
+                        .strategy(context.getStrategy())
+                        .variables(context.getVariables())
+                        .dateTime(context.getDateTime())
+                        .basketAsset(context.getBasketAsset())
+                        .tradeAsset(context.getTradeAsset())
+                        .balanceAsset(context.getBalanceAsset())
+                        .orderBook(context.getOrderBook())
+                        .build();
+            }
             default -> throw new RuntimeException("invalid strategy.language");
         }
     }
 
+    /**
+     * validates strategy script (statically compiled groovy and java script are checked)
+     * @param strategy strategy
+     * @throws StrategyCompileException if script is not compilable
+     */
+    public void validate(Strategy strategy) {
+        if (strategy.getLanguage() == Strategy.Language.GROOVY && strategy.isCompileStatic()) {
+            GroovyStrategyRunner.validate(strategy);
+        }
+        if (strategy.getLanguage() == Strategy.Language.JAVA) {
+            JavaStrategyRunner.validate(strategy);
+        }
+    }
+
+    /**
+     * evicts cached compilation of strategy
+     * @param strategyId strategy id
+     */
+    public void evict(String strategyId) {
+        GroovyStrategyRunner.evictScriptClass(strategyId);
+        PythonStrategyRunner.evictSource(strategyId);
+        JavaStrategyRunner.evictStrategyClass(strategyId);
+    }
+
+    /**
+     * evicts cached compilation of strategies not in strategy ids (e.g. deleted strategies)
+     * @param strategyIds strategy ids to retain
+     */
+    public void retain(Set<String> strategyIds) {
+        GroovyStrategyRunner.retainScriptClasses(strategyIds);
+        PythonStrategyRunner.retainSources(strategyIds);
+        JavaStrategyRunner.retainStrategyClasses(strategyIds);
+    }
+
 }
@@ -0,0 +1,17 @@
+package org.chomookun.fintics.core.strategy.runner;
+
+/**
+ * Strategy timeout exception
+ * thrown when strategy run exceeds time budget.
+ */
+public class StrategyTimeoutException extends RuntimeException {
+
+    /**
+     * Constructor
+     * @param message message
+     */
+    public StrategyTimeoutException(String message) {
+        super(message);
+    }
+
+}
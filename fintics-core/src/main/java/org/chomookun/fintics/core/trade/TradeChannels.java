@@ -12,4 +12,8 @@ public class TradeChannels {
 
     public static final ChannelTopic TRADE_ASSET_CHANNEL = ChannelTopic.of(TRADE_ASSET);
 
+    public static final String TRADE_CHANGE = "fintics:trade:trade_change";
+
+    public static final ChannelTopic TRADE_CHANGE_CHANNEL = ChannelTopic.of(TRADE_CHANGE);
+
 }
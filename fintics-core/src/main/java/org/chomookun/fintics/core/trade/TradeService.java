@@ -1,5 +1,6 @@
 package org.chomookun.fintics.core.trade;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.chomookun.arch4j.core.common.data.IdGenerator;
@@ -26,12 +27,16 @@ import org.chomookun.fintics.core.trade.entity.TradeAssetEntity;
 import org.chomookun.fintics.core.trade.entity.TradeEntity;
 import org.chomookun.fintics.core.trade.model.Trade;
 import org.chomookun.fintics.core.trade.model.TradeAsset;
+import org.chomookun.fintics.core.trade.model.TradeChange;
 import org.chomookun.fintics.core.trade.model.TradeSearch;
 import org.chomookun.fintics.core.trade.repository.TradeAssetRepository;
 import org.chomookun.fintics.core.trade.repository.TradeRepository;
 import org.springframework.data.domain.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -62,6 +67,10 @@ public class TradeService {
 
     private final AssetRepository assetRepository;
 
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
     @PersistenceContext
     private final EntityManager entityManager;
 
@@ -128,6 +137,7 @@ public class TradeService {
         // save and return
         TradeEntity savedTradeEntity = tradeRepository.saveAndFlush(tradeEntity);
         entityManager.refresh(savedTradeEntity);
+        publishTradeChange(savedTradeEntity.getTradeId(), TradeChange.Type.SAVED);
         return Trade.from(savedTradeEntity);
     }
 
@@ -140,6 +150,51 @@ public class TradeService {
         tradeAssetRepository.deleteByTradeId(tradeId);
         tradeRepository.deleteById(tradeId);
         tradeRepository.flush();
+        publishTradeChange(tradeId, TradeChange.Type.DELETED);
+    }
+
+    /**
+     * Publishes trade change event (after commit)
+     * @param tradeId trade id
+     * @param type change type
+     */
+    void publishTradeChange(String tradeId, TradeChange.Type type) {
+        TradeChange tradeChange = TradeChange.builder()
+                .tradeId(tradeId)
+                .type(type)
+                .build();
+        runAfterCommit(() -> sendTradeChange(tradeChange));
+    }
+
+    /**
+     * Runs task after current transaction commits (immediately if not in transaction)
+     * @param task task
+     */
+    static void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * Sends trade change message
+     * (daemon reconciles periodically, so failure is only logged)
+     * @param tradeChange trade change
+     */
+    private void sendTradeChange(TradeChange tradeChange) {
+        try {
+            String message = objectMapper.writeValueAsString(tradeChange);
+            stringRedisTemplate.convertAndSend(TradeChannels.TRADE_CHANGE, message);
+        } catch (Exception e) {
+            log.warn("Publish trade change error: {}", e.getMessage());
+        }
     }
 
     /**
@@ -214,6 +269,21 @@ public class TradeService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * gets trade asset
+     * @param tradeId trade id
+     * @param assetId asset id
+     * @return trade asset
+     */
+    public Optional<TradeAsset> getTradeAsset(String tradeId, String assetId) {
+        TradeAssetEntity.Pk pk = TradeAssetEntity.Pk.builder()
+                .tradeId(tradeId)
+                .assetId(assetId)
+                .build();
+        return tradeAssetRepository.findById(pk)
+                .map(TradeAsset::from);
+    }
+
     public Page<Order> getOrders(String tradeId, String assetId, Order.Type type, Order.Result result, Pageable pageable) {
         // order search
         OrderSearch orderSearch = OrderSearch.builder()
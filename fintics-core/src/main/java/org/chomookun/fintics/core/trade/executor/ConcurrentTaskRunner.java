@@ -0,0 +1,64 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Concurrent task runner
+ * runs task of each item in bounded pool and waits all.
+ * failure of task is passed to error handler and does not stop other tasks.
+ */
+class ConcurrentTaskRunner {
+
+    /**
+     * Task of item
+     * @param <T> item type
+     */
+    @FunctionalInterface
+    interface Task<T> {
+        void run(T item) throws Exception;
+    }
+
+    /**
+     * Runs tasks
+     * @param threadNamePrefix thread name prefix
+     * @param items items
+     * @param concurrency max number of tasks at the same time
+     * @param task task
+     * @param errorHandler error handler
+     * @param <T> item type
+     */
+    static <T> void run(String threadNamePrefix, List<T> items, int concurrency, Task<T> task, Consumer<Throwable> errorHandler) throws InterruptedException {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.max(concurrency, 1), runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (T item : items) {
+                futures.add(executorService.submit(() -> {
+                    task.run(item);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    errorHandler.accept(e.getCause());
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import org.chomookun.fintics.core.broker.model.OrderBook;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+/**
+ * Lazy order book
+ * fetches order book on first access of strategy and memoizes it for the cycle.
+ */
+public class LazyOrderBook extends OrderBook {
+
+    private Supplier<OrderBook> loader;
+
+    /**
+     * Constructor
+     * @param loader order book loader
+     */
+    LazyOrderBook(Supplier<OrderBook> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Checks order book is loaded
+     * @return whether loaded
+     */
+    boolean isLoaded() {
+        return loader == null;
+    }
+
+    private void load() {
+        if (loader != null) {
+            OrderBook orderBook = loader.get();
+            loader = null;
+            super.setPrice(orderBook.getPrice());
+            super.setAskPrice(orderBook.getAskPrice());
+            super.setBidPrice(orderBook.getBidPrice());
+            super.setTickPrice(orderBook.getTickPrice());
+        }
+    }
+
+    @Override
+    public BigDecimal getPrice() {
+        load();
+        return super.getPrice();
+    }
+
+    @Override
+    public BigDecimal getAskPrice() {
+        load();
+        return super.getAskPrice();
+    }
+
+    @Override
+    public BigDecimal getBidPrice() {
+        load();
+        return super.getBidPrice();
+    }
+
+    @Override
+    public BigDecimal getTickPrice() {
+        load();
+        return super.getTickPrice();
+    }
+
+    @Override
+    public void setPrice(BigDecimal price) {
+        load();
+        super.setPrice(price);
+    }
+
+    @Override
+    public void setAskPrice(BigDecimal askPrice) {
+        load();
+        super.setAskPrice(askPrice);
+    }
+
+    @Override
+    public void setBidPrice(BigDecimal bidPrice) {
+        load();
+        super.setBidPrice(bidPrice);
+    }
+
+    @Override
+    public void setTickPrice(BigDecimal tickPrice) {
+        load();
+        super.setTickPrice(tickPrice);
+    }
+
+}
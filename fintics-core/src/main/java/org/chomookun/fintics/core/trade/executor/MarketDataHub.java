@@ -0,0 +1,226 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.chomookun.fintics.core.asset.model.Asset;
+import org.chomookun.fintics.core.broker.client.BrokerClient;
+import org.chomookun.fintics.core.broker.model.OrderBook;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Market data hub
+ * shares market data of same broker and asset between trades.
+ * concurrent identical requests are merged into single broker call (single-flight),
+ * and completed results are served from short TTL cache.
+ */
+@Component
+@RequiredArgsConstructor
+public class MarketDataHub {
+
+    private static final int PURGE_INTERVAL = 1000;
+
+    private final MarketDataHubProperties marketDataHubProperties;
+
+    private final Map<String, Entry> entryMap = new ConcurrentHashMap<>();
+
+    private final Map<String, Metrics> metricsMap = new ConcurrentHashMap<>();
+
+    private final AtomicLong loadCount = new AtomicLong();
+
+    /**
+     * Market data kind
+     */
+    enum Kind { DAILY_OHLCVS, MINUTE_OHLCVS, ORDER_BOOK }
+
+    /**
+     * Loader of market data
+     * @param <T> market data type
+     */
+    @FunctionalInterface
+    interface Loader<T> {
+        T load() throws InterruptedException;
+    }
+
+    /**
+     * Cache entry (in-flight or completed)
+     */
+    private static class Entry {
+
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        private volatile long completedAt;
+
+        boolean isValid(long now, long ttl) {
+            if (!future.isDone()) {
+                return true;
+            }
+            return !future.isCompletedExceptionally() && now - completedAt < ttl;
+        }
+
+    }
+
+    /**
+     * Metrics of broker
+     */
+    @Getter
+    public static class Metrics {
+
+        private final AtomicLong hitCount = new AtomicLong();
+
+        private final AtomicLong joinCount = new AtomicLong();
+
+        private final AtomicLong missCount = new AtomicLong();
+
+        /**
+         * Gets number of broker calls saved (served from cache or joined in-flight call)
+         * @return saved count
+         */
+        public long getSavedCount() {
+            return hitCount.get() + joinCount.get();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hit:%d, join:%d, miss:%d, saved:%d", hitCount.get(), joinCount.get(), missCount.get(), getSavedCount());
+        }
+
+    }
+
+    /**
+     * Gets daily ohlcvs (read-only, time descending)
+     * @param brokerId broker id
+     * @param brokerClient broker client
+     * @param asset asset
+     * @return daily ohlcvs
+     */
+    public List<Ohlcv> getDailyOhlcvs(String brokerId, BrokerClient brokerClient, Asset asset) throws InterruptedException {
+        return get(brokerId, asset, Kind.DAILY_OHLCVS, marketDataHubProperties.getOhlcvTtl(),
+                () -> Collections.unmodifiableList(brokerClient.getDailyOhlcvs(asset)));
+    }
+
+    /**
+     * Gets minute ohlcvs (read-only, time descending)
+     * @param brokerId broker id
+     * @param brokerClient broker client
+     * @param asset asset
+     * @return minute ohlcvs
+     */
+    public List<Ohlcv> getMinuteOhlcvs(String brokerId, BrokerClient brokerClient, Asset asset) throws InterruptedException {
+        return get(brokerId, asset, Kind.MINUTE_OHLCVS, marketDataHubProperties.getOhlcvTtl(),
+                () -> Collections.unmodifiableList(brokerClient.getMinuteOhlcvs(asset)));
+    }
+
+    /**
+     * Gets order book (shared, must not be modified)
+     * @param brokerId broker id
+     * @param brokerClient broker client
+     * @param asset asset
+     * @return order book
+     */
+    public OrderBook getOrderBook(String brokerId, BrokerClient brokerClient, Asset asset) throws InterruptedException {
+        return get(brokerId, asset, Kind.ORDER_BOOK, marketDataHubProperties.getOrderBookTtl(),
+                () -> brokerClient.getOrderBook(asset));
+    }
+
+    /**
+     * Gets metrics of broker
+     * @param brokerId broker id
+     * @return metrics
+     */
+    public Metrics getMetrics(String brokerId) {
+        return metricsMap.computeIfAbsent(brokerId, key -> new Metrics());
+    }
+
+    /**
+     * Gets market data (single-flight and cached)
+     * @param brokerId broker id
+     * @param asset asset
+     * @param kind market data kind
+     * @param ttl time to live in milliseconds
+     * @param loader loader
+     * @return market data
+     * @param <T> market data type
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(String brokerId, Asset asset, Kind kind, long ttl, Loader<T> loader) throws InterruptedException {
+        String key = String.format("%s:%s:%s", brokerId, asset.getAssetId(), kind);
+        Metrics metrics = getMetrics(brokerId);
+        while (true) {
+            long now = System.currentTimeMillis();
+            Entry entry = entryMap.get(key);
+            if (entry != null && entry.isValid(now, ttl)) {
+                if (entry.future.isDone()) {
+                    metrics.hitCount.incrementAndGet();
+                } else {
+                    metrics.joinCount.incrementAndGet();
+                }
+                return (T) await(entry);
+            }
+            // only one caller wins and loads
+            Entry newEntry = new Entry();
+            boolean acquired = (entry == null)
+                    ? entryMap.putIfAbsent(key, newEntry) == null
+                    : entryMap.replace(key, entry, newEntry);
+            if (!acquired) {
+                continue;
+            }
+            metrics.missCount.incrementAndGet();
+            if (loadCount.incrementAndGet() % PURGE_INTERVAL == 0) {
+                purge(now);
+            }
+            try {
+                T value = loader.load();
+                newEntry.completedAt = System.currentTimeMillis();
+                newEntry.future.complete(value);
+                return value;
+            } catch (Throwable e) {
+                // waiters receive same error, next caller retries
+                newEntry.future.completeExceptionally(e);
+                entryMap.remove(key, newEntry);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Waits result of entry
+     * @param entry entry
+     * @return result
+     */
+    private Object await(Entry entry) throws InterruptedException {
+        try {
+            return entry.future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            if (cause instanceof InterruptedException) {
+                throw new RuntimeException("shared market data request interrupted", cause);
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * Purges expired entries
+     * @param now current time millis
+     */
+    private void purge(long now) {
+        long maxTtl = Math.max(marketDataHubProperties.getOhlcvTtl(), marketDataHubProperties.getOrderBookTtl());
+        entryMap.entrySet().removeIf(it -> it.getValue().future.isDone() && now - it.getValue().completedAt >= maxTtl);
+    }
+
+}
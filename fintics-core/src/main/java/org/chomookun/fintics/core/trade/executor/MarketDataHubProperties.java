@@ -0,0 +1,27 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Market data hub properties
+ */
+@ConfigurationProperties(prefix = "fintics.core.trade.market-data-hub")
+@AllArgsConstructor
+@Getter
+@Builder
+public class MarketDataHubProperties {
+
+    /**
+     * time to live of ohlcvs in milliseconds (0 is single-flight only)
+     */
+    private final long ohlcvTtl;
+
+    /**
+     * time to live of order book in milliseconds (0 is single-flight only)
+     */
+    private final long orderBookTtl;
+
+}
@@ -3,6 +3,7 @@ package org.chomookun.fintics.core.trade.executor;
 import lombok.*;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 import org.chomookun.fintics.core.ohlcv.OhlcvService;
+import org.chomookun.fintics.core.ohlcv.model.OhlcvSeries;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,7 +12,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Component
 @RequiredArgsConstructor
@@ -23,24 +25,38 @@ public class OhlcvCacheManager {
 
     private final OhlcvService ohlcvService;
 
-    private final Object dailyOhlcvsLock = new Object();
+    private final Lock dailyOhlcvsLock = new ReentrantLock();
 
-    private final Object minuteOhlcvsLock = new Object();
+    private final Lock minuteOhlcvsLock = new ReentrantLock();
 
     private LocalDateTime dailyOhlcvsExpireDateTime = LocalDateTime.now();
 
     private LocalDateTime minuteOhlcvsExpireDateTime = LocalDateTime.now();
 
-    private Map<String, List<Ohlcv>> dailyOhlcvsCache = new ConcurrentHashMap<>();
+    // columnar series shared between trades (ohlcv objects are created lazily on access)
+    private Map<String, OhlcvSeries> dailyOhlcvsCache = new ConcurrentHashMap<>();
 
-    private Map<String, List<Ohlcv>> minuteOhlcvsCache = new ConcurrentHashMap<>();
+    private Map<String, OhlcvSeries> minuteOhlcvsCache = new ConcurrentHashMap<>();
 
     @Transactional(readOnly = true)
     public List<Ohlcv> getDailyOhlcvs(String assetId, LocalDateTime dateTimeFrom, LocalDateTime dateTimeTo) {
-        List<Ohlcv> cachedDailyOhlcvs;
+        return getDailyOhlcvSeries(assetId, dateTimeFrom, dateTimeTo).toList();
+    }
+
+    /**
+     * Gets daily ohlcv series
+     * @param assetId asset id
+     * @param dateTimeFrom date time from (inclusive)
+     * @param dateTimeTo date time to (inclusive)
+     * @return daily ohlcv series (time descending, shares cached storage)
+     */
+    @Transactional(readOnly = true)
+    public OhlcvSeries getDailyOhlcvSeries(String assetId, LocalDateTime dateTimeFrom, LocalDateTime dateTimeTo) {
+        OhlcvSeries cachedDailyOhlcvs;
 
         // check and load cache
-        synchronized (dailyOhlcvsLock) {
+        dailyOhlcvsLock.lock();
+        try {
             // check and clear cache
             if (LocalDateTime.now().isAfter(dailyOhlcvsExpireDateTime)) {
                 dailyOhlcvsCache = new ConcurrentHashMap<>();   // clear causes overhead, so delegate it to GC
@@ -49,26 +65,38 @@ public class OhlcvCacheManager {
             // load cache
             cachedDailyOhlcvs = dailyOhlcvsCache.get(assetId);
             if (cachedDailyOhlcvs == null || cachedDailyOhlcvs.size() < 250) {
-                cachedDailyOhlcvs = ohlcvService.getOhlcvs(assetId, Ohlcv.Type.DAILY, LocalDateTime.now().minusYears(3), LocalDateTime.now(), PageRequest.of(0, 500));
-                cachedDailyOhlcvs.forEach(it -> it.setCached(true));
+                List<Ohlcv> dailyOhlcvs = ohlcvService.getOhlcvs(assetId, Ohlcv.Type.DAILY, LocalDateTime.now().minusYears(3), LocalDateTime.now(), PageRequest.of(0, 500));
+                dailyOhlcvs.forEach(it -> it.setCached(true));
+                cachedDailyOhlcvs = OhlcvSeries.of(dailyOhlcvs);
                 dailyOhlcvsCache.put(assetId, cachedDailyOhlcvs);
             }
+        } finally {
+            dailyOhlcvsLock.unlock();
         }
 
-        // filter ohlcvs
-        return cachedDailyOhlcvs.stream()
-                .filter(ohlcv ->
-                        (ohlcv.getDateTime().equals(dateTimeFrom) || ohlcv.getDateTime().isAfter(dateTimeFrom))
-                        && (ohlcv.getDateTime().equals(dateTimeTo) || ohlcv.getDateTime().isBefore(dateTimeTo))
-                ).collect(Collectors.toList());
+        // filter ohlcvs (binary search, no copy)
+        return cachedDailyOhlcvs.slice(dateTimeFrom, dateTimeTo);
     }
 
     @Transactional(readOnly = true)
     public List<Ohlcv> getMinuteOhlcvs(String assetId, LocalDateTime dateTimeFrom, LocalDateTime dateTimeTo) {
-        List<Ohlcv> cachedMinuteOhlcvs;
+        return getMinuteOhlcvSeries(assetId, dateTimeFrom, dateTimeTo).toList();
+    }
+
+    /**
+     * Gets minute ohlcv series
+     * @param assetId asset id
+     * @param dateTimeFrom date time from (inclusive)
+     * @param dateTimeTo date time to (inclusive)
+     * @return minute ohlcv series (time descending, shares cached storage)
+     */
+    @Transactional(readOnly = true)
+    public OhlcvSeries getMinuteOhlcvSeries(String assetId, LocalDateTime dateTimeFrom, LocalDateTime dateTimeTo) {
+        OhlcvSeries cachedMinuteOhlcvs;
 
         // check and load cache
-        synchronized (minuteOhlcvsLock) {
+        minuteOhlcvsLock.lock();
+        try {
             // check and clear cache
             if (LocalDateTime.now().isAfter(minuteOhlcvsExpireDateTime)) {
                 minuteOhlcvsCache = new ConcurrentHashMap<>();  // clear causes overhead, so delegate it to GC
@@ -77,18 +105,17 @@ public class OhlcvCacheManager {
             // load cache
             cachedMinuteOhlcvs = minuteOhlcvsCache.get(assetId);
             if (cachedMinuteOhlcvs == null || cachedMinuteOhlcvs.size() < 3_000) {
-                cachedMinuteOhlcvs = ohlcvService.getOhlcvs(assetId, Ohlcv.Type.MINUTE, LocalDateTime.now().minusMonths(1), LocalDateTime.now(), PageRequest.of(0, 6_000));
-                cachedMinuteOhlcvs.forEach(it -> it.setCached(true));
+                List<Ohlcv> minuteOhlcvs = ohlcvService.getOhlcvs(assetId, Ohlcv.Type.MINUTE, LocalDateTime.now().minusMonths(1), LocalDateTime.now(), PageRequest.of(0, 6_000));
+                minuteOhlcvs.forEach(it -> it.setCached(true));
+                cachedMinuteOhlcvs = OhlcvSeries.of(minuteOhlcvs);
                 minuteOhlcvsCache.put(assetId, cachedMinuteOhlcvs);
             }
+        } finally {
+            minuteOhlcvsLock.unlock();
         }
 
-        // fiter ohlcvs
-        return cachedMinuteOhlcvs.stream()
-                .filter(ohlcv ->
-                        (ohlcv.getDateTime().equals(dateTimeFrom) || ohlcv.getDateTime().isAfter(dateTimeFrom))
-                                && (ohlcv.getDateTime().equals(dateTimeTo) || ohlcv.getDateTime().isBefore(dateTimeTo))
-                ).collect(Collectors.toList());
+        // filter ohlcvs (binary search, no copy)
+        return cachedMinuteOhlcvs.slice(dateTimeFrom, dateTimeTo);
     }
 
 }
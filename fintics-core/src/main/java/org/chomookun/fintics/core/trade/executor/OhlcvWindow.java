@@ -0,0 +1,161 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import lombok.Getter;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAmount;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Rolling ohlcv window of trade asset
+ * keeps ohlcvs across cycles, merges only bars newer than last date time,
+ * and evicts bars older than horizon.
+ */
+class OhlcvWindow {
+
+    private final TemporalAmount horizon;
+
+    // ascending order (oldest first), evicted bars are skipped by offset
+    private final ArrayList<Ohlcv> series = new ArrayList<>();
+
+    private int offset;
+
+    private final List<Ohlcv> view = new DescendingView();
+
+    @Getter
+    private int mergedCount;
+
+    /**
+     * Constructor
+     * @param horizon horizon of window
+     */
+    OhlcvWindow(TemporalAmount horizon) {
+        this.horizon = horizon;
+    }
+
+    /**
+     * Checks window is empty
+     * @return whether empty
+     */
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets size of window
+     * @return size
+     */
+    int size() {
+        return series.size() - offset;
+    }
+
+    /**
+     * Gets last(latest) date time of window
+     * @return last date time
+     */
+    LocalDateTime getLastDateTime() {
+        return isEmpty() ? null : series.get(series.size() - 1).getDateTime();
+    }
+
+    /**
+     * Merges latest ohlcvs (time descending) into window.
+     * bar of same date time as last bar replaces it, newer bars are appended.
+     * @param ohlcvs latest ohlcvs (time descending)
+     * @return false if window is empty or not overlapped (requires reset)
+     */
+    boolean merge(List<Ohlcv> ohlcvs) {
+        mergedCount = 0;
+        if (isEmpty()) {
+            return false;
+        }
+        if (ohlcvs.isEmpty()) {
+            return true;
+        }
+        LocalDateTime lastDateTime = getLastDateTime();
+        // gap between window and latest ohlcvs
+        if (ohlcvs.get(ohlcvs.size() - 1).getDateTime().isAfter(lastDateTime)) {
+            return false;
+        }
+        int count = 0;
+        while (count < ohlcvs.size() && !ohlcvs.get(count).getDateTime().isBefore(lastDateTime)) {
+            count ++;
+        }
+        // validates new bars only
+        List<Ohlcv> newOhlcvs = ohlcvs.subList(0, count);
+        TradeValidator.validateOhlcvs(newOhlcvs);
+        for (int i = count - 1; i >= 0; i --) {
+            Ohlcv ohlcv = newOhlcvs.get(i);
+            if (ohlcv.getDateTime().equals(lastDateTime)) {
+                series.set(series.size() - 1, ohlcv);
+            } else {
+                series.add(ohlcv);
+            }
+        }
+        mergedCount = count;
+        return true;
+    }
+
+    /**
+     * Resets window with ohlcvs (time descending, already validated)
+     * @param ohlcvs ohlcvs
+     */
+    void reset(List<Ohlcv> ohlcvs) {
+        series.clear();
+        offset = 0;
+        series.ensureCapacity(ohlcvs.size());
+        for (int i = ohlcvs.size() - 1; i >= 0; i --) {
+            series.add(ohlcvs.get(i));
+        }
+        mergedCount = ohlcvs.size();
+    }
+
+    /**
+     * Evicts ohlcvs older than horizon from date time
+     * @param dateTime date time
+     */
+    void evict(LocalDateTime dateTime) {
+        LocalDateTime dateTimeFrom = dateTime.minus(horizon);
+        while (offset < series.size() && series.get(offset).getDateTime().isBefore(dateTimeFrom)) {
+            series.set(offset, null);
+            offset ++;
+        }
+        // compacts when half of storage is evicted (amortized)
+        if (offset > 0 && offset >= series.size() / 2) {
+            series.subList(0, offset).clear();
+            offset = 0;
+        }
+    }
+
+    /**
+     * Gets ohlcvs (time descending, read-only view)
+     * @return ohlcvs
+     */
+    List<Ohlcv> getOhlcvs() {
+        return view;
+    }
+
+    /**
+     * Time descending read-only view of window
+     */
+    private class DescendingView extends AbstractList<Ohlcv> implements RandomAccess {
+
+        @Override
+        public Ohlcv get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return series.get(series.size() - 1 - index);
+        }
+
+        @Override
+        public int size() {
+            return OhlcvWindow.this.size();
+        }
+
+    }
+
+}
@@ -0,0 +1,91 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import org.chomookun.fintics.core.broker.model.BalanceAsset;
+import org.chomookun.fintics.core.broker.model.OrderBook;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.chomookun.fintics.core.strategy.model.Strategy;
+import org.chomookun.fintics.core.strategy.runner.StrategyResult;
+import org.chomookun.fintics.core.trade.model.TradeAsset;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Strategy input fingerprint
+ * key of inputs read by strategy, compared by value equality of all key elements (not by hash).
+ * only inputs loaded in previous evaluation are included, so unused lazy inputs are not fetched to compare.
+ * date time of evaluation is excluded, so strategy depending on wall-clock time
+ * (not on date time of ohlcvs) must not be used with skipping unchanged inputs.
+ * @param key key of inputs
+ * @param dailyOhlcvsUsed whether daily ohlcvs were read
+ * @param minuteOhlcvsUsed whether minute ohlcvs were read
+ * @param orderBookUsed whether order book was read
+ * @param strategyResult strategy result of evaluation
+ */
+record StrategyInputFingerprint(
+        List<Object> key,
+        boolean dailyOhlcvsUsed,
+        boolean minuteOhlcvsUsed,
+        boolean orderBookUsed,
+        StrategyResult strategyResult
+) {
+
+    /**
+     * Computes key of inputs
+     * @param strategy strategy
+     * @param variables strategy variables
+     * @param tradeAsset trade asset
+     * @param balanceAsset balance asset
+     * @param orderBook order book
+     * @param context snapshot of trade asset context before evaluation
+     * @param dailyOhlcvsUsed includes latest daily ohlcv
+     * @param minuteOhlcvsUsed includes latest minute ohlcv
+     * @param orderBookUsed includes order book
+     * @return key (immutable values only)
+     */
+    static List<Object> computeKey(Strategy strategy, String variables, TradeAsset tradeAsset, BalanceAsset balanceAsset, OrderBook orderBook,
+                                   Map<String, Object> context, boolean dailyOhlcvsUsed, boolean minuteOhlcvsUsed, boolean orderBookUsed) {
+        BigDecimal quantity = balanceAsset != null ? balanceAsset.getQuantity() : null;
+        return Collections.unmodifiableList(Arrays.asList(
+                // strategy version
+                strategy.getLanguage(),
+                strategy.getScript(),
+                variables,
+                // position and state
+                quantity != null ? quantity.stripTrailingZeros() : null,
+                context,
+                // market data
+                dailyOhlcvsUsed ? getLatestOhlcvKey(tradeAsset.getDailyOhlcvs()) : null,
+                minuteOhlcvsUsed ? getLatestOhlcvKey(tradeAsset.getMinuteOhlcvs()) : null,
+                orderBookUsed ? orderBook.getAskPrice() : null,
+                orderBookUsed ? orderBook.getBidPrice() : null,
+                orderBookUsed ? orderBook.getPrice() : null
+        ));
+    }
+
+    /**
+     * Gets key of latest ohlcv (copies values, ohlcv is mutable)
+     * @param ohlcvs ohlcvs (time descending)
+     * @return key of latest ohlcv
+     */
+    private static List<Object> getLatestOhlcvKey(List<Ohlcv> ohlcvs) {
+        if (ohlcvs == null || ohlcvs.isEmpty()) {
+            return null;
+        }
+        Ohlcv ohlcv = ohlcvs.get(0);
+        return Arrays.asList(ohlcv.getDateTime(), ohlcv.getOpen(), ohlcv.getHigh(), ohlcv.getLow(), ohlcv.getClose(), ohlcv.getVolume());
+    }
+
+    /**
+     * Checks inputs are same as this fingerprint
+     * @param key key of current inputs
+     * @return whether same
+     */
+    boolean matches(List<Object> key) {
+        return this.key.equals(key);
+    }
+
+}
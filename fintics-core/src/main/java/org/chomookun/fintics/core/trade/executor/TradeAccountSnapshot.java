@@ -0,0 +1,121 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import lombok.Getter;
+import org.chomookun.fintics.core.asset.model.Asset;
+import org.chomookun.fintics.core.broker.client.BrokerClient;
+import org.chomookun.fintics.core.broker.model.Balance;
+import org.chomookun.fintics.core.order.model.Order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cycle scoped account snapshot (balance, waiting orders)
+ * fetches once per cycle, and applies submitted/amended orders locally.
+ * balance is re-fetched lazily only after an order changes the position.
+ */
+class TradeAccountSnapshot {
+
+    @Getter
+    private final BrokerClient brokerClient;
+
+    private final Lock lock = new ReentrantLock();
+
+    private Balance balance;
+
+    private List<Order> waitingOrders;
+
+    @Getter
+    private int balanceFetchCount;
+
+    @Getter
+    private int waitingOrdersFetchCount;
+
+    /**
+     * Constructor
+     * @param brokerClient broker client
+     */
+    TradeAccountSnapshot(BrokerClient brokerClient) {
+        this.brokerClient = brokerClient;
+    }
+
+    /**
+     * Gets balance
+     * @return balance
+     */
+    Balance getBalance() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (balance == null) {
+                balance = brokerClient.getBalance();
+                balanceFetchCount ++;
+            }
+            return balance;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets waiting orders
+     * @return waiting orders
+     */
+    List<Order> getWaitingOrders() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (waitingOrders == null) {
+                waitingOrders = new ArrayList<>(brokerClient.getWaitingOrders());
+                waitingOrdersFetchCount ++;
+            }
+            return new ArrayList<>(waitingOrders);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Submits order and applies to snapshot
+     * @param asset asset
+     * @param order order
+     * @return submitted order
+     */
+    Order submitOrder(Asset asset, Order order) throws InterruptedException {
+        Order submittedOrder = brokerClient.submitOrder(asset, order);
+        lock.lockInterruptibly();
+        try {
+            // limit order remains as waiting order (submitted order has broker order id)
+            if (waitingOrders != null && order.getKind() == Order.Kind.LIMIT) {
+                waitingOrders.add(submittedOrder);
+            }
+            // position changed, re-fetches balance on next access
+            balance = null;
+        } finally {
+            lock.unlock();
+        }
+        return submittedOrder;
+    }
+
+    /**
+     * Amends waiting order and applies to snapshot
+     * @param asset asset
+     * @param order waiting order (already modified)
+     * @return amended order
+     */
+    Order amendOrder(Asset asset, Order order) throws InterruptedException {
+        try {
+            return brokerClient.amendOrder(asset, order);
+        } catch (Throwable e) {
+            // local waiting order is already modified, re-fetches on next access
+            lock.lockInterruptibly();
+            try {
+                waitingOrders = null;
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+    }
+
+}
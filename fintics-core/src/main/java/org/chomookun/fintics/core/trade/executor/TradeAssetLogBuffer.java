@@ -0,0 +1,32 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffers log events of trade asset, and flushes them to trade logger at once
+ */
+class TradeAssetLogBuffer extends AppenderBase<ILoggingEvent> {
+
+    private final List<ILoggingEvent> events = new ArrayList<>();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+        events.add(event);
+    }
+
+    /**
+     * Flushes buffered events to target logger appenders
+     * @param target target logger
+     */
+    void flush(Logger target) {
+        events.forEach(target::callAppenders);
+        events.clear();
+    }
+
+}
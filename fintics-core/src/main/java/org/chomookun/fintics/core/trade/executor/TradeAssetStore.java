@@ -1,9 +1,12 @@
 package org.chomookun.fintics.core.trade.executor;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.chomookun.fintics.core.trade.TradeChannels;
 import org.chomookun.fintics.core.trade.entity.TradeAssetEntity;
 import org.chomookun.fintics.core.trade.repository.TradeAssetRepository;
@@ -14,12 +17,19 @@ import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
-@Builder
+/**
+ * Trade asset store (write-behind)
+ * saves are coalesced per trade asset in pending map and flushed by background flusher,
+ * then changed fields are published (all fields periodically, so subscriber can recover from missed deltas).
+ * failed saves are retried by next flush (newer save of same trade asset wins) up to max retry count.
+ */
 @Getter
+@Slf4j
 public class TradeAssetStore {
 
     private final StringRedisTemplate stringRedisTemplate;
@@ -30,50 +40,299 @@ public class TradeAssetStore {
 
     private final PlatformTransactionManager transactionManager;
 
-    private final Map<String, TradeAsset> tradeAssetCacheMap = new HashMap<>();
+    private final TradeAssetStoreProperties tradeAssetStoreProperties;
 
+    // read-through cache (latest saved state, ahead of database)
+    private final Map<TradeAssetEntity.Pk, TradeAssetEntity> tradeAssetCacheMap = new ConcurrentHashMap<>();
+
+    private final Map<TradeAssetEntity.Pk, PublishedState> publishedStateMap = new ConcurrentHashMap<>();
+
+    private final Lock flushLock = new ReentrantLock();
+
+    // pending saves (latest per trade asset)
+    private final Map<TradeAssetEntity.Pk, TradeAssetEntity> pendingMap = new ConcurrentHashMap<>();
+
+    private final Map<TradeAssetEntity.Pk, Integer> retryCountMap = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService flusher;
+
+    /**
+     * Constructor
+     * @param stringRedisTemplate string redis template
+     * @param objectMapper object mapper
+     * @param tradeAssetRepository trade asset repository
+     * @param transactionManager transaction manager
+     * @param tradeAssetStoreProperties trade asset store properties
+     */
+    @Builder
+    public TradeAssetStore(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper, TradeAssetRepository tradeAssetRepository,
+                           PlatformTransactionManager transactionManager, TradeAssetStoreProperties tradeAssetStoreProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.tradeAssetRepository = tradeAssetRepository;
+        this.transactionManager = transactionManager;
+        this.tradeAssetStoreProperties = tradeAssetStoreProperties;
+    }
+
+    /**
+     * Published state of trade asset
+     */
+    private static class PublishedState {
+
+        private final Map<String, JsonNode> fields = new HashMap<>();
+
+        private long fullPublishedMillis;
+
+    }
+
+    /**
+     * Starts background flusher
+     */
+    public synchronized void start() {
+        if (flusher != null) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "trade-asset-store-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long flushInterval = Math.max(tradeAssetStoreProperties.getFlushInterval(), 1);
+        flusher.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops background flusher and flushes pending saves
+     */
+    public synchronized void close() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(10, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        flusher = null;
+    }
+
+    /**
+     * Loads trade asset (cache first)
+     * context of loaded trade asset is a copy, so cached and pending entity is not changed by strategy.
+     * @param tradeId trade id
+     * @param assetId asset id
+     * @return trade asset
+     */
     public Optional<TradeAsset> load(String tradeId, String assetId) {
         TradeAssetEntity.Pk pk = TradeAssetEntity.Pk.builder()
                 .tradeId(tradeId)
                 .assetId(assetId)
                 .build();
-        return tradeAssetRepository.findById(pk)
-                .map(TradeAsset::from);
+        TradeAssetEntity tradeAssetEntity = tradeAssetCacheMap.get(pk);
+        if (tradeAssetEntity == null) {
+            tradeAssetEntity = tradeAssetRepository.findById(pk).orElse(null);
+            if (tradeAssetEntity == null) {
+                return Optional.empty();
+            }
+            tradeAssetCacheMap.putIfAbsent(pk, tradeAssetEntity);
+        }
+        return Optional.of(TradeAsset.from(tradeAssetEntity));
     }
 
+    /**
+     * Saves trade asset (queued)
+     * @param tradeAsset trade asset
+     */
     public void save(TradeAsset tradeAsset) {
         // trim message
         tradeAsset.setMessage(Optional.ofNullable(tradeAsset.getMessage())
                 .map(String::trim)
                 .orElse(null));
 
-        // send message
-        String jsonString = null;
+        // snapshot of current state (context is mutated by next cycle)
+        TradeAssetEntity tradeAssetEntity = TradeAssetEntity.builder()
+                .tradeId(tradeAsset.getTradeId())
+                .assetId(tradeAsset.getAssetId())
+                .dateTime(tradeAsset.getDateTime())
+                .previousClose(tradeAsset.getPreviousClose())
+                .open(tradeAsset.getOpen())
+                .close(tradeAsset.getClose())
+                .volume(tradeAsset.getVolume())
+                .message(tradeAsset.getMessage())
+                .context(tradeAsset.getContext() != null ? new HashMap<>(tradeAsset.getContext()) : null)
+                .strategyResult(tradeAsset.getStrategyResult())
+                .build();
+        TradeAssetEntity.Pk pk = toPk(tradeAssetEntity);
+        tradeAssetCacheMap.put(pk, tradeAssetEntity);
+
+        // not started, writes through
+        if (flusher == null) {
+            persist(List.of(tradeAssetEntity));
+            return;
+        }
+        // coalesces with pending save of same trade asset
+        pendingMap.put(pk, tradeAssetEntity);
+        retryCountMap.remove(pk);
+        // pending is full, flushes on caller thread (back pressure)
+        if (pendingMap.size() > Math.max(tradeAssetStoreProperties.getQueueCapacity(), 1)) {
+            flush();
+        }
+    }
+
+    /**
+     * Flushes queued saves
+     */
+    void flush() {
+        flushLock.lock();
         try {
-            jsonString = objectMapper.writeValueAsString(tradeAsset);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+            if (pendingMap.isEmpty()) {
+                return;
+            }
+            List<TradeAssetEntity> tradeAssetEntities = new ArrayList<>();
+            for (TradeAssetEntity.Pk pk : new ArrayList<>(pendingMap.keySet())) {
+                TradeAssetEntity tradeAssetEntity = pendingMap.remove(pk);
+                if (tradeAssetEntity != null) {
+                    tradeAssetEntities.add(tradeAssetEntity);
+                }
+            }
+            try {
+                persist(tradeAssetEntities);
+                tradeAssetEntities.forEach(tradeAssetEntity -> retryCountMap.remove(toPk(tradeAssetEntity)));
+            } catch (Throwable e) {
+                log.error(e.getMessage(), e);
+                requeue(tradeAssetEntities);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Re-queues failed saves (newer pending save wins, dropped after max retry count)
+     * @param tradeAssetEntities failed trade asset entities
+     */
+    private void requeue(List<TradeAssetEntity> tradeAssetEntities) {
+        for (TradeAssetEntity tradeAssetEntity : tradeAssetEntities) {
+            TradeAssetEntity.Pk pk = toPk(tradeAssetEntity);
+            int retryCount = retryCountMap.merge(pk, 1, Integer::sum);
+            if (retryCount > tradeAssetStoreProperties.getMaxRetryCount()) {
+                log.warn("drops trade asset save after {} retries: {}", retryCount - 1, pk);
+                retryCountMap.remove(pk);
+                continue;
+            }
+            pendingMap.putIfAbsent(pk, tradeAssetEntity);
         }
-        stringRedisTemplate.convertAndSend(TradeChannels.TRADE_ASSET, jsonString);
+    }
 
-        // persist entity
+    /**
+     * Evicts cached and published state of trade (on trade stopped or deleted)
+     * pending saves are flushed before eviction.
+     * @param tradeId trade id
+     */
+    public void evict(String tradeId) {
+        flush();
+        tradeAssetCacheMap.keySet().removeIf(pk -> Objects.equals(pk.getTradeId(), tradeId));
+        publishedStateMap.keySet().removeIf(pk -> Objects.equals(pk.getTradeId(), tradeId));
+    }
+
+    /**
+     * Evicts cached and published state of assets removed from trade
+     * @param tradeId trade id
+     * @param assetIds asset ids of trade
+     */
+    public void retainAssets(String tradeId, Set<String> assetIds) {
+        tradeAssetCacheMap.keySet().removeIf(pk -> Objects.equals(pk.getTradeId(), tradeId) && !assetIds.contains(pk.getAssetId()));
+        publishedStateMap.keySet().removeIf(pk -> Objects.equals(pk.getTradeId(), tradeId) && !assetIds.contains(pk.getAssetId()));
+    }
+
+    /**
+     * Gets number of pending saves
+     * @return pending count
+     */
+    public int getPendingCount() {
+        return pendingMap.size();
+    }
+
+    /**
+     * Persists trade asset entities in single transaction and publishes changes
+     * existing rows are loaded by one query per trade first, so merge of saveAll updates loaded rows
+     * without select per row (only first save of trade asset is selected before insert).
+     * @param tradeAssetEntities trade asset entities
+     */
+    private void persist(Collection<TradeAssetEntity> tradeAssetEntities) {
         DefaultTransactionDefinition transactionDefinition = new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
         TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager, transactionDefinition);
         transactionTemplate.executeWithoutResult(transactionStatus -> {
-            TradeAssetEntity tradeAssetEntity = TradeAssetEntity.builder()
-                    .tradeId(tradeAsset.getTradeId())
-                    .assetId(tradeAsset.getAssetId())
-                    .dateTime(tradeAsset.getDateTime())
-                    .previousClose(tradeAsset.getPreviousClose())
-                    .open(tradeAsset.getOpen())
-                    .close(tradeAsset.getClose())
-                    .volume(tradeAsset.getVolume())
-                    .message(tradeAsset.getMessage())
-                    .context(tradeAsset.getContext())
-                    .strategyResult(tradeAsset.getStrategyResult())
-                    .build();
-            tradeAssetRepository.save(tradeAssetEntity);
+            tradeAssetEntities.stream()
+                    .map(TradeAssetEntity::getTradeId)
+                    .distinct()
+                    .forEach(tradeAssetRepository::findAllByTradeId);
+            tradeAssetRepository.saveAll(tradeAssetEntities);
         });
+        for (TradeAssetEntity tradeAssetEntity : tradeAssetEntities) {
+            try {
+                publish(tradeAssetEntity);
+            } catch (Throwable e) {
+                log.warn("publish trade asset failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Publishes changed fields of trade asset (ohlcvs and context are excluded)
+     * all fields are published with full flag at first and every full publish interval.
+     * @param tradeAssetEntity trade asset entity
+     */
+    private void publish(TradeAssetEntity tradeAssetEntity) {
+        TradeAssetEntity.Pk pk = toPk(tradeAssetEntity);
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("dateTime", tradeAssetEntity.getDateTime());
+        fields.put("previousClose", tradeAssetEntity.getPreviousClose());
+        fields.put("open", tradeAssetEntity.getOpen());
+        fields.put("close", tradeAssetEntity.getClose());
+        fields.put("volume", tradeAssetEntity.getVolume());
+        fields.put("message", tradeAssetEntity.getMessage());
+        fields.put("strategyResult", tradeAssetEntity.getStrategyResult());
+        // compares as json tree (value equality of all fields)
+        PublishedState publishedState = publishedStateMap.computeIfAbsent(pk, key -> new PublishedState());
+        ObjectNode delta = objectMapper.createObjectNode();
+        delta.put("tradeId", tradeAssetEntity.getTradeId());
+        delta.put("assetId", tradeAssetEntity.getAssetId());
+        boolean changed;
+        synchronized (publishedState) {
+            long currentMillis = System.currentTimeMillis();
+            boolean full = publishedState.fields.isEmpty()
+                    || currentMillis - publishedState.fullPublishedMillis >= tradeAssetStoreProperties.getFullPublishInterval();
+            delta.put("full", full);
+            changed = full;
+            for (Map.Entry<String, Object> field : fields.entrySet()) {
+                JsonNode value = Optional.ofNullable((JsonNode) objectMapper.valueToTree(field.getValue()))
+                        .orElse(NullNode.getInstance());
+                if (full || !value.equals(publishedState.fields.get(field.getKey()))) {
+                    delta.set(field.getKey(), value);
+                    publishedState.fields.put(field.getKey(), value);
+                    changed = true;
+                }
+            }
+            if (full) {
+                publishedState.fullPublishedMillis = currentMillis;
+            }
+        }
+        if (changed) {
+            stringRedisTemplate.convertAndSend(TradeChannels.TRADE_ASSET, delta.toString());
+        }
+    }
+
+    private static TradeAssetEntity.Pk toPk(TradeAssetEntity tradeAssetEntity) {
+        return TradeAssetEntity.Pk.builder()
+                .tradeId(tradeAssetEntity.getTradeId())
+                .assetId(tradeAssetEntity.getAssetId())
+                .build();
     }
 
 }
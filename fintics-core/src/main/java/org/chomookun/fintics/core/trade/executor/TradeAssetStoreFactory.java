@@ -1,6 +1,7 @@
 package org.chomookun.fintics.core.trade.executor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.chomookun.fintics.core.trade.repository.TradeAssetRepository;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -19,13 +20,36 @@ public class TradeAssetStoreFactory {
 
     private final PlatformTransactionManager transactionManager;
 
-    public TradeAssetStore getObject() {
-        return TradeAssetStore.builder()
-                .stringRedisTemplate(stringRedisTemplate)
-                .objectMapper(objectMapper)
-                .tradeAssetRepository(profileRepository)
-                .transactionManager(transactionManager)
-                .build();
+    private final TradeAssetStoreProperties tradeAssetStoreProperties;
+
+    private TradeAssetStore tradeAssetStore;
+
+    /**
+     * Gets shared trade asset store (started on first access)
+     * @return trade asset store
+     */
+    public synchronized TradeAssetStore getObject() {
+        if (tradeAssetStore == null) {
+            tradeAssetStore = TradeAssetStore.builder()
+                    .stringRedisTemplate(stringRedisTemplate)
+                    .objectMapper(objectMapper)
+                    .tradeAssetRepository(profileRepository)
+                    .transactionManager(transactionManager)
+                    .tradeAssetStoreProperties(tradeAssetStoreProperties)
+                    .build();
+            tradeAssetStore.start();
+        }
+        return tradeAssetStore;
+    }
+
+    /**
+     * Flushes pending saves on shutdown
+     */
+    @PreDestroy
+    public synchronized void destroy() {
+        if (tradeAssetStore != null) {
+            tradeAssetStore.close();
+        }
     }
 
 }
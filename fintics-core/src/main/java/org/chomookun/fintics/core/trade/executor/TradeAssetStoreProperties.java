@@ -0,0 +1,37 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Trade asset store properties
+ */
+@ConfigurationProperties(prefix = "fintics.core.trade.trade-asset-store")
+@AllArgsConstructor
+@Getter
+@Builder
+public class TradeAssetStoreProperties {
+
+    /**
+     * max number of pending trade assets (flushes on caller thread when full)
+     */
+    private final int queueCapacity;
+
+    /**
+     * flush interval in milliseconds
+     */
+    private final long flushInterval;
+
+    /**
+     * max number of retries of failed save (dropped when exceeded)
+     */
+    private final int maxRetryCount;
+
+    /**
+     * interval of publishing all fields in milliseconds (changed fields only between)
+     */
+    private final long fullPublishInterval;
+
+}
@@ -2,6 +2,7 @@ package org.chomookun.fintics.core.trade.executor;
 
 import ch.qos.logback.classic.Logger;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.chomookun.arch4j.core.notification.NotificationService;
@@ -13,7 +14,9 @@ import org.chomookun.fintics.core.basket.model.BasketAsset;
 import org.chomookun.fintics.core.broker.client.BrokerClient;
 import org.chomookun.fintics.core.asset.AssetService;
 import org.chomookun.fintics.core.basket.BasketService;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCache;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.chomookun.fintics.core.ohlcv.model.OhlcvResampler;
 import org.chomookun.fintics.core.ohlcv.OhlcvService;
 import org.chomookun.fintics.core.order.model.Order;
 import org.chomookun.fintics.core.broker.model.OrderBook;
@@ -22,7 +25,9 @@ import org.chomookun.fintics.core.strategy.model.Strategy;
 import org.chomookun.fintics.core.strategy.runner.StrategyResult;
 import org.chomookun.fintics.core.strategy.runner.StrategyRunner;
 import org.chomookun.fintics.core.strategy.runner.StrategyRunnerContext;
+import org.chomookun.fintics.core.strategy.runner.StrategyRunnerExecutor;
 import org.chomookun.fintics.core.strategy.runner.StrategyRunnerFactory;
+import org.chomookun.fintics.core.strategy.runner.StrategyTimeoutException;
 import org.chomookun.fintics.core.trade.model.Trade;
 import org.chomookun.fintics.core.trade.model.TradeAsset;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -34,7 +39,13 @@ import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.time.*;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 @Builder
 public class TradeExecutor {
@@ -53,21 +64,58 @@ public class TradeExecutor {
 
     private final StrategyRunnerFactory strategyRunnerFactory;
 
+    private final StrategyRunnerExecutor strategyRunnerExecutor;
+
     private final OhlcvCacheManager ohlcvCacheManager;
 
+    private final MarketDataHub marketDataHub;
+
+    private final IndicatorCache indicatorCache;
+
+    private final TradeExecutorProperties tradeExecutorProperties;
+
     @Setter
     private Logger log;
 
-    private final Map<String, StrategyResult> strategyResultMap = new HashMap<>();
+    private final Map<String, StrategyResult> strategyResultMap = new ConcurrentHashMap<>();
+
+    private final Map<String, Integer> strategyResultValueMatchCountMap = new ConcurrentHashMap<>();
+
+    // rolling ohlcv window per asset (survives across cycles)
+    private final Map<String, OhlcvWindow> dailyOhlcvWindows = new ConcurrentHashMap<>();
+
+    private final Map<String, OhlcvWindow> minuteOhlcvWindows = new ConcurrentHashMap<>();
+
+    // resampled ohlcvs of asset by type and period (kept across cycles)
+    private final Map<String, Map<String, OhlcvResampler>> ohlcvResamplers = new ConcurrentHashMap<>();
+
+    private final Map<String, StrategyInputFingerprint> strategyInputFingerprintMap = new ConcurrentHashMap<>();
+
+    @Getter
+    private final AtomicLong strategyEvaluatedCount = new AtomicLong();
+
+    @Getter
+    private final AtomicLong strategySkippedCount = new AtomicLong();
 
-    private final Map<String, Integer> strategyResultValueMatchCountMap = new HashMap<>();
+    private final Lock orderLock = new ReentrantLock();
+
+    private final Lock logLock = new ReentrantLock();
 
     @Setter
     private TradeAssetStore tradeAssetStore;
 
+    /**
+     * Executes trade cycle
+     * market opened is checked by caller (cached per broker and date), not in every cycle
+     * @param trade trade
+     * @param strategy strategy
+     * @param dateTime date time (broker time zone)
+     * @param brokerClient broker client
+     */
     public void execute(Trade trade, Strategy strategy, LocalDateTime dateTime, BrokerClient brokerClient) throws InterruptedException {
         log.info("=".repeat(80));
         log.info("[{}] execute trade", trade.getName());
+        Instant startTime = Instant.now();
 
         // time zone
         ZoneId timeZone = brokerClient.getDefinition().getTimezone();
@@ -75,83 +123,186 @@ public class TradeExecutor {
         log.info("[{}] market dateTime: {}", trade.getName(), dateTime);
 
         // checks start,end time
-        if (!isOperatingTime(trade, dateTime)) {
+        if (!trade.isOperatingTime(dateTime)) {
             log.info("[{}] not operating time - {} ~ {}", trade.getName(), trade.getStartTime(), trade.getEndTime());
             return;
         }
 
-        // check market opened
-        if(!brokerClient.isOpened(dateTime)) {
-            log.info("[{}] market not opened.", trade.getName());
-            return;
-        }
-
         // basket
         Basket basket = basketService.getBasket(trade.getBasketId()).orElseThrow();
         log.info("[{}] basket: {}", trade.getName(), basket.getName());
 
+        // account snapshot (balance, waiting orders) of this cycle
+        TradeAccountSnapshot accountSnapshot = new TradeAccountSnapshot(brokerClient);
+
+        // releases ohlcv windows and cached state of removed assets
+        Set<String> assetIds = new HashSet<>();
+        basket.getBasketAssets().forEach(basketAsset -> assetIds.add(basketAsset.getAssetId()));
+        dailyOhlcvWindows.keySet().retainAll(assetIds);
+        minuteOhlcvWindows.keySet().retainAll(assetIds);
+        ohlcvResamplers.keySet().retainAll(assetIds);
+        strategyInputFingerprintMap.keySet().retainAll(assetIds);
+        if (tradeAssetStore != null) {
+            tradeAssetStore.retainAssets(trade.getTradeId(), assetIds);
+        }
+
         // checks buy condition
-        for (BasketAsset basketAsset : basket.getBasketAssets()) {
-            try {
-                // prevent mixed message by overhead
-                Thread.sleep(100);
-
-                // logging
-                log.info("-".repeat(80));
-                log.info("[{} - {}] check asset", basketAsset.getAssetId(), basketAsset.getName());
-
-                // daily ohlcvs
-                List<Ohlcv> dailyOhlcvs = brokerClient.getDailyOhlcvs(basketAsset);
-                List<Ohlcv> previousDailyOhlcvs = getPreviousDailyOhlcvs(basketAsset.getAssetId(), dailyOhlcvs, dateTime);
-                dailyOhlcvs.addAll(previousDailyOhlcvs);
-                TradeValidator.validateOhlcvs(dailyOhlcvs);
-
-                // minute ohlcvs
-                List<Ohlcv> minuteOhlcvs = brokerClient.getMinuteOhlcvs(basketAsset);
-                List<Ohlcv> previousMinuteOhlcvs = getPreviousMinuteOhlcvs(basketAsset.getAssetId(), minuteOhlcvs, dateTime);
-                minuteOhlcvs.addAll(previousMinuteOhlcvs);
-                TradeValidator.validateOhlcvs(minuteOhlcvs);
-
-                // creates trade asset
-                TradeAsset tradeAsset = tradeAssetStore.load(trade.getTradeId(), basketAsset.getAssetId())
-                        .orElse(TradeAsset.builder()
-                                .tradeId(trade.getTradeId())
-                                .assetId(basketAsset.getAssetId())
-                                .build());
-                tradeAsset.setName(basketAsset.getName());
-                tradeAsset.setMarket(basketAsset.getMarket());
-                tradeAsset.setType(basketAsset.getType());
-                tradeAsset.setExchange(basketAsset.getExchange());
-                tradeAsset.setMarketCap(basketAsset.getMarketCap());
-                tradeAsset.setDateTime(minuteOhlcvs.get(0).getDateTime());
-                tradeAsset.setPreviousClose(dailyOhlcvs.get(1).getClose());
-                tradeAsset.setOpen(dailyOhlcvs.get(0).getOpen());
-                tradeAsset.setClose(minuteOhlcvs.get(0).getClose());
-                tradeAsset.setVolume(dailyOhlcvs.get(0).getVolume());
-                tradeAsset.setDailyOhlcvs(dailyOhlcvs);
-                tradeAsset.setMinuteOhlcvs(minuteOhlcvs);
-
-                // check enabled
-                if (!basketAsset.isEnabled()) {
-                    tradeAsset.setMessage(null);
-                    if (tradeAssetStore != null) {
-                        tradeAssetStore.save(tradeAsset);
-                    }
-                    continue;
-                }
+        int concurrency = getConcurrency(brokerClient);
+        if (concurrency > 1) {
+            executeTradeAssetsConcurrently(trade, strategy, dateTime, accountSnapshot, basket.getBasketAssets(), concurrency);
+        } else {
+            for (BasketAsset basketAsset : basket.getBasketAssets()) {
+                executeTradeAsset(trade, strategy, dateTime, accountSnapshot, basketAsset);
+            }
+        }
 
-                // logging
-                log.info("[{} - {}] dailyOhlcvs({}):{}", tradeAsset.getAssetId(), tradeAsset.getName(), tradeAsset.getDailyOhlcvs().size(), tradeAsset.getDailyOhlcvs().isEmpty() ? null : tradeAsset.getDailyOhlcvs().get(0));
-                log.info("[{} - {}] minuteOhlcvs({}):{}", tradeAsset.getAssetId(), tradeAsset.getName(), tradeAsset.getMinuteOhlcvs().size(), tradeAsset.getMinuteOhlcvs().isEmpty() ? null : tradeAsset.getMinuteOhlcvs().get(0));
+        // logging
+        log.info("-".repeat(80));
+        log.info("[{}] account snapshot - balance fetched:{}, waiting orders fetched:{}", trade.getName(),
+                accountSnapshot.getBalanceFetchCount(), accountSnapshot.getWaitingOrdersFetchCount());
+        log.info("[{}] market data hub - {}", trade.getName(), marketDataHub.getMetrics(trade.getBrokerId()));
+        if (indicatorCache != null) {
+            log.info("[{}] indicator cache - {}", trade.getName(), indicatorCache.getMetrics());
+        }
+        if (isSkipUnchangedInputs()) {
+            log.info("[{}] strategy evaluated:{}, skipped:{}", trade.getName(), strategyEvaluatedCount.get(), strategySkippedCount.get());
+        }
+        if (strategyRunnerExecutor != null) {
+            log.info("[{}] strategy runner - {}", trade.getName(), strategyRunnerExecutor.getMetrics(strategy.getStrategyId()));
+        }
+        log.info("[{}] execute trade elapsed:{} ({}, concurrency:{})", trade.getName(), Duration.between(startTime, Instant.now()),
+                concurrency > 1 ? "concurrent" : "sequential", concurrency);
+    }
 
-                // balance
-                Balance balance = brokerClient.getBalance();
-                BalanceAsset balanceAsset = balance.getBalanceAsset(basketAsset.getAssetId()).orElse(null);
+    /**
+     * Checks skipping strategy evaluation of unchanged inputs is enabled
+     * @return whether enabled
+     */
+    private boolean isSkipUnchangedInputs() {
+        return tradeExecutorProperties != null && tradeExecutorProperties.isSkipUnchangedInputs();
+    }
 
-                // order book
-                OrderBook orderBook = brokerClient.getOrderBook(basketAsset);
-                TradeValidator.validateOrderBook(orderBook);
+    /**
+     * Runs strategy in strategy runner executor (within time budget)
+     * @param strategy strategy
+     * @param strategyRunner strategy runner
+     * @return execution
+     * @throws StrategyTimeoutException if time budget exceeded
+     */
+    private StrategyRunnerExecutor.Execution runStrategy(Strategy strategy, StrategyRunner strategyRunner) throws InterruptedException {
+        if (strategyRunnerExecutor != null) {
+            return strategyRunnerExecutor.execute(strategy.getStrategyId(), strategyRunner);
+        }
+        long startTime = System.nanoTime();
+        StrategyResult strategyResult = strategyRunner.run();
+        return new StrategyRunnerExecutor.Execution(strategyResult, System.nanoTime() - startTime, -1);
+    }
+
+    /**
+     * Gets number of assets to evaluate at the same time
+     * @param brokerClient broker client
+     * @return concurrency
+     */
+    private int getConcurrency(BrokerClient brokerClient) {
+        if (tradeExecutorProperties == null || !tradeExecutorProperties.isConcurrent()) {
+            return 1;
+        }
+        return Math.max(Math.min(tradeExecutorProperties.getMaxConcurrency(), brokerClient.getMaxConcurrency()), 1);
+    }
+
+    /**
+     * Executes basket assets concurrently in bounded pool
+     * @param trade trade
+     * @param strategy strategy
+     * @param dateTime date time
+     * @param accountSnapshot account snapshot
+     * @param basketAssets basket assets
+     * @param concurrency concurrency
+     */
+    private void executeTradeAssetsConcurrently(Trade trade, Strategy strategy, LocalDateTime dateTime, TradeAccountSnapshot accountSnapshot, List<BasketAsset> basketAssets, int concurrency) throws InterruptedException {
+        ConcurrentTaskRunner.run(Thread.currentThread().getName(), basketAssets, concurrency,
+                basketAsset -> executeTradeAsset(trade, strategy, dateTime, accountSnapshot, basketAsset),
+                throwable -> log.error(throwable.getMessage(), throwable));
+    }
+
+    /**
+     * Executes trade asset
+     * log events are buffered and flushed to trade logger as a block
+     * @param trade trade
+     * @param strategy strategy
+     * @param dateTime date time
+     * @param accountSnapshot account snapshot
+     * @param basketAsset basket asset
+     */
+    private void executeTradeAsset(Trade trade, Strategy strategy, LocalDateTime dateTime, TradeAccountSnapshot accountSnapshot, BasketAsset basketAsset) {
+        BrokerClient brokerClient = accountSnapshot.getBrokerClient();
+        Logger log = this.log.getLoggerContext().getLogger(this.log.getName() + "." + basketAsset.getAssetId());
+        TradeAssetLogBuffer logBuffer = new TradeAssetLogBuffer();
+        logBuffer.setContext(log.getLoggerContext());
+        logBuffer.start();
+        log.detachAndStopAllAppenders();
+        log.setAdditive(false);
+        log.addAppender(logBuffer);
+        try {
+            // logging
+            log.info("-".repeat(80));
+            log.info("[{} - {}] check asset", basketAsset.getAssetId(), basketAsset.getName());
+
+            // creates trade asset
+            TradeAsset tradeAsset = tradeAssetStore.load(trade.getTradeId(), basketAsset.getAssetId())
+                    .orElse(TradeAsset.builder()
+                            .tradeId(trade.getTradeId())
+                            .assetId(basketAsset.getAssetId())
+                            .build());
+            tradeAsset.setName(basketAsset.getName());
+            tradeAsset.setMarket(basketAsset.getMarket());
+            tradeAsset.setType(basketAsset.getType());
+            tradeAsset.setExchange(basketAsset.getExchange());
+            tradeAsset.setMarketCap(basketAsset.getMarketCap());
+
+            // ohlcvs are loaded on first access (memoized for this cycle)
+            tradeAsset.setDailyOhlcvsLoader(toSupplier(() -> getDailyOhlcvs(log, trade, brokerClient, basketAsset, dateTime)));
+            tradeAsset.setMinuteOhlcvsLoader(toSupplier(() -> getMinuteOhlcvs(log, trade, brokerClient, basketAsset, dateTime)));
+            tradeAsset.setOhlcvResamplers(ohlcvResamplers.computeIfAbsent(basketAsset.getAssetId(), key -> new ConcurrentHashMap<>()));
+            tradeAsset.setIndicatorCache(indicatorCache);
+
+            // check enabled
+            if (!basketAsset.isEnabled()) {
+                tradeAsset.setMessage(null);
+                applyPriceFields(tradeAsset, dateTime);
+                if (tradeAssetStore != null) {
+                    tradeAssetStore.save(tradeAsset);
+                }
+                return;
+            }
 
+            // balance
+            Balance balance = accountSnapshot.getBalance();
+            BalanceAsset balanceAsset = balance.getBalanceAsset(basketAsset.getAssetId()).orElse(null);
+
+            // order book (loaded on first access)
+            LazyOrderBook orderBook = new LazyOrderBook(toSupplier(() -> {
+                OrderBook loadedOrderBook = marketDataHub.getOrderBook(trade.getBrokerId(), brokerClient, basketAsset);
+                TradeValidator.validateOrderBook(loadedOrderBook);
+                return loadedOrderBook;
+            }));
+
+            // checks inputs changed since previous evaluation
+            // snapshot of context (mutated by evaluation)
+            Map<String, Object> context = tradeAsset.getContext() != null ? new HashMap<>(tradeAsset.getContext()) : null;
+            StrategyInputFingerprint previousFingerprint = isSkipUnchangedInputs()
+                    ? strategyInputFingerprintMap.remove(basketAsset.getAssetId())
+                    : null;
+            StrategyResult strategyResult;
+            if (previousFingerprint != null && previousFingerprint.matches(StrategyInputFingerprint.computeKey(
+                    strategy, trade.getStrategyVariables(), tradeAsset, balanceAsset, orderBook, context,
+                    previousFingerprint.dailyOhlcvsUsed(), previousFingerprint.minuteOhlcvsUsed(), previousFingerprint.orderBookUsed()))) {
+                // reuses previous result (threshold count keeps advancing)
+                strategyResult = previousFingerprint.strategyResult();
+                strategyInputFingerprintMap.put(basketAsset.getAssetId(), previousFingerprint);
+                strategySkippedCount.incrementAndGet();
+                log.info("[{} - {}] strategy skipped - inputs not changed", basketAsset.getAssetId(), basketAsset.getName());
+            } else {
                 // executes trade asset decider
                 log.info("[{} - {}] strategy start", basketAsset.getAssetId(), basketAsset.getName());
                 StrategyRunnerContext strategyRunnerContext = StrategyRunnerContext.builder()
@@ -165,88 +316,132 @@ public class TradeExecutor {
                         .build();
                 StrategyRunner strategyRunner = strategyRunnerFactory.getObject(strategyRunnerContext);
                 strategyRunner.setLog(log);
-                Instant strategyStartTime = Instant.now();
-                StrategyResult strategyResult = strategyRunner.run();
-                tradeAsset.setStrategyResult(strategyResult);
-                log.info("[{} - {}] strategy execution elapsed:{}", basketAsset.getAssetId(), basketAsset.getName(), Duration.between(strategyStartTime, Instant.now()));
-                log.info("[{} - {}] strategy result: {}", basketAsset.getAssetId(), basketAsset.getName(), strategyResult);
-
-                // save trade asset to store
-                if (tradeAssetStore != null) {
-                    tradeAssetStore.save(tradeAsset);
+                StrategyRunnerExecutor.Execution execution;
+                try {
+                    execution = runStrategy(strategy, strategyRunner);
+                } catch (StrategyTimeoutException e) {
+                    // clears previous result (not valid for current inputs), timeout is shown in trade asset message
+                    log.warn("[{} - {}] {}", basketAsset.getAssetId(), basketAsset.getName(), e.getMessage());
+                    tradeAsset.setStrategyResult(null);
+                    tradeAsset.setMessage(e.getMessage());
+                    applyPriceFields(tradeAsset, dateTime);
+                    if (tradeAssetStore != null) {
+                        tradeAssetStore.save(tradeAsset);
+                    }
+                    return;
                 }
-
-                // check strategy result and count
-                StrategyResult previousStrategyResult = strategyResultMap.get(basketAsset.getAssetId());
-                int strategyResultValueMatchCount = strategyResultValueMatchCountMap.getOrDefault(basketAsset.getAssetId(), 0);
-                if (Objects.equals(strategyResult, previousStrategyResult)) {
-                    strategyResultValueMatchCount ++;
-                } else {
-                    strategyResultValueMatchCount = 1;
+                strategyResult = execution.strategyResult();
+                strategyEvaluatedCount.incrementAndGet();
+                log.info("[{} - {}] strategy execution elapsed:{}, cpu:{}", basketAsset.getAssetId(), basketAsset.getName(),
+                        Duration.ofNanos(execution.elapsedTime()), execution.cpuTime() >= 0 ? Duration.ofNanos(execution.cpuTime()) : "-");
+                // fingerprint of inputs read by this evaluation
+                if (isSkipUnchangedInputs()) {
+                    boolean dailyOhlcvsUsed = tradeAsset.isDailyOhlcvsLoaded();
+                    boolean minuteOhlcvsUsed = tradeAsset.isMinuteOhlcvsLoaded();
+                    boolean orderBookUsed = orderBook.isLoaded();
+                    List<Object> key = StrategyInputFingerprint.computeKey(strategy, trade.getStrategyVariables(), tradeAsset, balanceAsset, orderBook,
+                            context, dailyOhlcvsUsed, minuteOhlcvsUsed, orderBookUsed);
+                    strategyInputFingerprintMap.put(basketAsset.getAssetId(),
+                            new StrategyInputFingerprint(key, dailyOhlcvsUsed, minuteOhlcvsUsed, orderBookUsed, strategyResult));
                 }
-                strategyResultMap.put(basketAsset.getAssetId(), strategyResult);
-                strategyResultValueMatchCountMap.put(basketAsset.getAssetId(), strategyResultValueMatchCount);
+            }
+            tradeAsset.setStrategyResult(strategyResult);
+            log.info("[{} - {}] strategy result: {}", basketAsset.getAssetId(), basketAsset.getName(), strategyResult);
 
-                // checks threshold exceeded
-                log.info("[{} - {}] strategyResultValueMatchCount: {}", basketAsset.getAssetId(), basketAsset.getName(), strategyResultValueMatchCount);
-                if (strategyResultValueMatchCount < trade.getThreshold()) {
-                    log.info("[{} - {}] threshold has not been exceeded yet - threshold is {}", basketAsset.getAssetId(), basketAsset.getName(), trade.getThreshold());
-                    continue;
-                }
+            // logging
+            applyPriceFields(tradeAsset, dateTime);
+            log.info("[{} - {}] dailyOhlcvs({}):{}", tradeAsset.getAssetId(), tradeAsset.getName(), tradeAsset.getDailyOhlcvs().size(), tradeAsset.getDailyOhlcvs().isEmpty() ? null : tradeAsset.getDailyOhlcvs().get(0));
+            if (tradeAsset.isMinuteOhlcvsLoaded()) {
+                log.info("[{} - {}] minuteOhlcvs({}):{}", tradeAsset.getAssetId(), tradeAsset.getName(), tradeAsset.getMinuteOhlcvs().size(), tradeAsset.getMinuteOhlcvs().isEmpty() ? null : tradeAsset.getMinuteOhlcvs().get(0));
+            } else {
+                log.info("[{} - {}] minuteOhlcvs: not loaded", tradeAsset.getAssetId(), tradeAsset.getName());
+            }
+            log.info("[{} - {}] orderBook: {}", tradeAsset.getAssetId(), tradeAsset.getName(), orderBook.isLoaded() ? orderBook : "not loaded");
 
-                //===============================================
-                // 1. null is no operation
-                //===============================================
-                if (strategyResult == null) {
-                    continue;
-                }
+            // save trade asset to store
+            if (tradeAssetStore != null) {
+                tradeAssetStore.save(tradeAsset);
+            }
 
-                //===============================================
-                // 2. apply holding weight
-                //===============================================
-                // defines
-                BigDecimal investAmount = trade.getInvestAmount();
-                BigDecimal holdingWeight = basketAsset.getHoldingWeight();
-                BigDecimal holdingWeightAmount = investAmount
-                        .divide(BigDecimal.valueOf(100), MathContext.DECIMAL32)
-                        .multiply(holdingWeight)
-                        .setScale(2, RoundingMode.HALF_UP);
-
-                StrategyResult.Action action = strategyResult.getAction();
-                BigDecimal position = strategyResult.getPosition();
-                BigDecimal positionAmount = holdingWeightAmount
-                        .multiply(position)
-                        .setScale(2, RoundingMode.HALF_UP);
-
-                BigDecimal currentOwnedAmount = balance.getBalanceAsset(basketAsset.getAssetId())
-                        .map(BalanceAsset::getValuationAmount)
-                        .orElse(BigDecimal.ZERO);
-                BigDecimal currentOwnedQuantity = balance.getBalanceAsset(basketAsset.getAssetId())
-                        .map(BalanceAsset::getQuantity)
-                        .orElse(BigDecimal.ZERO);
+            // check strategy result and count (concurrent map does not allow null value)
+            StrategyResult previousStrategyResult = strategyResultMap.get(basketAsset.getAssetId());
+            int strategyResultValueMatchCount = strategyResultValueMatchCountMap.compute(basketAsset.getAssetId(), (key, value) ->
+                    value != null && Objects.equals(strategyResult, previousStrategyResult) ? value + 1 : 1);
+            if (strategyResult != null) {
+                strategyResultMap.put(basketAsset.getAssetId(), strategyResult);
+            } else {
+                strategyResultMap.remove(basketAsset.getAssetId());
+            }
+
+            // checks threshold exceeded
+            log.info("[{} - {}] strategyResultValueMatchCount: {}", basketAsset.getAssetId(), basketAsset.getName(), strategyResultValueMatchCount);
+            if (strategyResultValueMatchCount < trade.getThreshold()) {
+                log.info("[{} - {}] threshold has not been exceeded yet - threshold is {}", basketAsset.getAssetId(), basketAsset.getName(), trade.getThreshold());
+                return;
+            }
 
+            //===============================================
+            // 1. null is no operation
+            //===============================================
+            if (strategyResult == null) {
+                return;
+            }
+
+            //===============================================
+            // 2. apply holding weight
+            //===============================================
+            // defines
+            BigDecimal investAmount = trade.getInvestAmount();
+            BigDecimal holdingWeight = basketAsset.getHoldingWeight();
+            BigDecimal holdingWeightAmount = investAmount
+                    .divide(BigDecimal.valueOf(100), MathContext.DECIMAL32)
+                    .multiply(holdingWeight)
+                    .setScale(2, RoundingMode.HALF_UP);
+
+            StrategyResult.Action action = strategyResult.getAction();
+            BigDecimal position = strategyResult.getPosition();
+            BigDecimal positionAmount = holdingWeightAmount
+                    .multiply(position)
+                    .setScale(2, RoundingMode.HALF_UP);
+
+            BigDecimal currentOwnedAmount = balance.getBalanceAsset(basketAsset.getAssetId())
+                    .map(BalanceAsset::getValuationAmount)
+                    .orElse(BigDecimal.ZERO);
+            BigDecimal currentOwnedQuantity = balance.getBalanceAsset(basketAsset.getAssetId())
+                    .map(BalanceAsset::getQuantity)
+                    .orElse(BigDecimal.ZERO);
+
+            // orders are placed one at a time (cash asset withdraw/deposit depends on current balance)
+            orderLock.lockInterruptibly();
+            try {
                 // buy
                 if (action == StrategyResult.Action.BUY) {
                     BigDecimal buyAmount = positionAmount.subtract(currentOwnedAmount);
                     if (buyAmount.compareTo(BigDecimal.ZERO) > 0) {
-                        BigDecimal buyPrice = calculateBuyPrice(orderBook);
+                        // fetches latest order book for order price
+                        OrderBook latestOrderBook = brokerClient.getOrderBook(basketAsset);
+                        TradeValidator.validateOrderBook(latestOrderBook);
+                        BigDecimal buyPrice = calculateBuyPrice(latestOrderBook);
                         BigDecimal buyQuantity = buyAmount
                                 .divide(buyPrice, MathContext.DECIMAL64)
                                 .setScale(brokerClient.getQuantityScale(), RoundingMode.HALF_UP);
                         // check minimum order amount
                         boolean canBuy = brokerClient.isAvailablePriceAndQuantity(buyPrice, buyQuantity);
                         if (canBuy) {
-                            buyTradeAsset(brokerClient, trade, tradeAsset, buyQuantity, buyPrice, strategyResult);
+                            buyTradeAsset(log, accountSnapshot, trade, tradeAsset, buyQuantity, buyPrice, strategyResult);
                         }
                     }
-                    continue;
+                    return;
                 }
 
                 // sell
                 if (action == StrategyResult.Action.SELL) {
                     BigDecimal sellAmount = currentOwnedAmount.subtract(positionAmount);
                     if (sellAmount.compareTo(BigDecimal.ZERO) > 0) {
-                        BigDecimal sellPrice = calculateSellPrice(orderBook);
+                        // fetches latest order book for order price
+                        OrderBook latestOrderBook = brokerClient.getOrderBook(basketAsset);
+                        TradeValidator.validateOrderBook(latestOrderBook);
+                        BigDecimal sellPrice = calculateSellPrice(latestOrderBook);
                         BigDecimal sellQuantity = sellAmount
                                 .divide(sellPrice, MathContext.DECIMAL64)
                                 .setScale(brokerClient.getQuantityScale(), RoundingMode.HALF_UP);
@@ -257,35 +452,115 @@ public class TradeExecutor {
                         // check minimum order amount
                         boolean canSell = brokerClient.isAvailablePriceAndQuantity(sellPrice, sellQuantity);
                         if (canSell) {
-                            sellTradeAsset(brokerClient, trade, tradeAsset, sellQuantity, sellPrice, strategyResult, balanceAsset);
+                            sellTradeAsset(log, accountSnapshot, trade, tradeAsset, sellQuantity, sellPrice, strategyResult, balanceAsset);
                         }
                     }
-                    continue;
+                    return;
                 }
+            } finally {
+                orderLock.unlock();
+            }
 
-            } catch (Throwable e) {
-                log.error(e.getMessage(), e);
-                sendErrorNotificationIfEnabled(trade, basketAsset, e);
+        } catch (Throwable e) {
+            log.error(e.getMessage(), e);
+            sendErrorNotificationIfEnabled(trade, basketAsset, e);
+        } finally {
+            log.detachAppender(logBuffer);
+            logBuffer.stop();
+            // flushes as a block (prevents mixed message)
+            logLock.lock();
+            try {
+                logBuffer.flush(this.log);
+            } finally {
+                logLock.unlock();
             }
         }
     }
 
-    private boolean isOperatingTime(Trade trade, LocalDateTime dateTime) {
-        if(trade.getStartTime() == null || trade.getEndTime() == null) {
-            return false;
-        }
-        LocalTime startTime = trade.getStartTime();
-        LocalTime endTime = trade.getEndTime();
-        LocalTime currentTime = dateTime.toLocalTime();
-        if (startTime.isAfter(endTime)) {
-            return !(currentTime.isBefore(startTime) || currentTime.equals(startTime))
-                    || !(currentTime.isAfter(endTime) || currentTime.equals(endTime));
+    /**
+     * Applies price fields of trade asset (minute ohlcvs are used only if already loaded)
+     * @param tradeAsset trade asset
+     * @param dateTime date time
+     */
+    private void applyPriceFields(TradeAsset tradeAsset, LocalDateTime dateTime) {
+        List<Ohlcv> dailyOhlcvs = tradeAsset.getDailyOhlcvs();
+        tradeAsset.setPreviousClose(dailyOhlcvs.get(1).getClose());
+        tradeAsset.setOpen(dailyOhlcvs.get(0).getOpen());
+        tradeAsset.setVolume(dailyOhlcvs.get(0).getVolume());
+        if (tradeAsset.isMinuteOhlcvsLoaded()) {
+            List<Ohlcv> minuteOhlcvs = tradeAsset.getMinuteOhlcvs();
+            tradeAsset.setDateTime(minuteOhlcvs.get(0).getDateTime());
+            tradeAsset.setClose(minuteOhlcvs.get(0).getClose());
         } else {
-            return (currentTime.isAfter(startTime) || currentTime.equals(startTime))
-                    && (currentTime.isBefore(endTime) || currentTime.equals(endTime));
+            // daily ohlcv of today contains current price
+            tradeAsset.setDateTime(dateTime.truncatedTo(ChronoUnit.MINUTES));
+            tradeAsset.setClose(dailyOhlcvs.get(0).getClose());
         }
     }
 
+    /**
+     * Converts loader to supplier (for lazy handle)
+     * @param loader loader
+     * @return supplier
+     * @param <T> value type
+     */
+    private static <T> Supplier<T> toSupplier(MarketDataHub.Loader<T> loader) {
+        return () -> {
+            try {
+                return loader.load();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    /**
+     * Gets daily ohlcvs from rolling window (time descending)
+     * @param log log
+     * @param trade trade
+     * @param brokerClient broker client
+     * @param asset asset
+     * @param dateTime date time
+     * @return daily ohlcvs
+     */
+    private List<Ohlcv> getDailyOhlcvs(Logger log, Trade trade, BrokerClient brokerClient, Asset asset, LocalDateTime dateTime) throws InterruptedException {
+        List<Ohlcv> ohlcvs = marketDataHub.getDailyOhlcvs(trade.getBrokerId(), brokerClient, asset);
+        OhlcvWindow window = dailyOhlcvWindows.computeIfAbsent(asset.getAssetId(), key -> new OhlcvWindow(Period.ofYears(3)));
+        if (!window.merge(ohlcvs)) {
+            List<Ohlcv> allOhlcvs = new ArrayList<>(ohlcvs);
+            allOhlcvs.addAll(getPreviousDailyOhlcvs(asset.getAssetId(), ohlcvs, dateTime));
+            TradeValidator.validateOhlcvs(allOhlcvs);
+            window.reset(allOhlcvs);
+            log.info("[{} - {}] daily ohlcv window reset:{}", asset.getAssetId(), asset.getName(), window.size());
+        }
+        window.evict(dateTime);
+        return window.getOhlcvs();
+    }
+
+    /**
+     * Gets minute ohlcvs from rolling window (time descending)
+     * @param log log
+     * @param trade trade
+     * @param brokerClient broker client
+     * @param asset asset
+     * @param dateTime date time
+     * @return minute ohlcvs
+     */
+    private List<Ohlcv> getMinuteOhlcvs(Logger log, Trade trade, BrokerClient brokerClient, Asset asset, LocalDateTime dateTime) throws InterruptedException {
+        List<Ohlcv> ohlcvs = marketDataHub.getMinuteOhlcvs(trade.getBrokerId(), brokerClient, asset);
+        OhlcvWindow window = minuteOhlcvWindows.computeIfAbsent(asset.getAssetId(), key -> new OhlcvWindow(Period.ofMonths(1)));
+        if (!window.merge(ohlcvs)) {
+            List<Ohlcv> allOhlcvs = new ArrayList<>(ohlcvs);
+            allOhlcvs.addAll(getPreviousMinuteOhlcvs(asset.getAssetId(), ohlcvs, dateTime));
+            TradeValidator.validateOhlcvs(allOhlcvs);
+            window.reset(allOhlcvs);
+            log.info("[{} - {}] minute ohlcv window reset:{}", asset.getAssetId(), asset.getName(), window.size());
+        }
+        window.evict(dateTime);
+        return window.getOhlcvs();
+    }
+
     private List<Ohlcv> getPreviousDailyOhlcvs(String assetId, List<Ohlcv> ohlcvs, LocalDateTime dateTime) {
         LocalDateTime dateTimeFrom = dateTime.minusYears(3);
         LocalDateTime dateTimeTo = ohlcvs.isEmpty()
@@ -336,7 +611,7 @@ public class TradeExecutor {
         return price.min(orderBook.getAskPrice());
     }
 
-    private void buyTradeAsset(BrokerClient brokerClient, Trade trade, TradeAsset tradeAsset, BigDecimal quantity, BigDecimal price, StrategyResult strategyResult) throws InterruptedException {
+    private void buyTradeAsset(Logger log, TradeAccountSnapshot accountSnapshot, Trade trade, TradeAsset tradeAsset, BigDecimal quantity, BigDecimal price, StrategyResult strategyResult) throws InterruptedException {
         Order order = Order.builder()
                 .orderAt(Instant.now())
                 .type(Order.Type.BUY)
@@ -351,7 +626,7 @@ public class TradeExecutor {
         log.info("[{}] buyTradeAsset: {}", tradeAsset.getName(), order);
         try {
             // check waiting order exists
-            Order waitingOrder = brokerClient.getWaitingOrders().stream()
+            Order waitingOrder = accountSnapshot.getWaitingOrders().stream()
                     .filter(element ->
                             Objects.equals(element.getSymbol(), order.getSymbol())
                                     && element.getType() == order.getType())
@@ -363,7 +638,7 @@ public class TradeExecutor {
                     if (!waitingOrder.getPrice().equals(price)) {
                         waitingOrder.setPrice(price);
                         log.info("[{}] amend buy order:{}", tradeAsset.getName(), waitingOrder);
-                        brokerClient.amendOrder(tradeAsset, waitingOrder);
+                        accountSnapshot.amendOrder(tradeAsset, waitingOrder);
                     }
                 }
                 return;
@@ -373,14 +648,14 @@ public class TradeExecutor {
             if (trade.getCashAssetId() != null) {
                 try {
                     BigDecimal buyAmount = quantity.multiply(price);
-                    withdrawBuyAmountFromCash(brokerClient, trade, buyAmount);
+                    withdrawBuyAmountFromCash(accountSnapshot, trade, buyAmount);
                 } catch (Exception ignore) {
                     log.warn(ignore.getMessage());
                 }
             }
 
             // submit buy order
-            brokerClient.submitOrder(tradeAsset, order);
+            accountSnapshot.submitOrder(tradeAsset, order);
             order.setResult(Order.Result.COMPLETED);
 
             // alarm
@@ -395,7 +670,7 @@ public class TradeExecutor {
         }
     }
 
-    private void sellTradeAsset(BrokerClient brokerClient, Trade trade, TradeAsset tradeAsset, BigDecimal quantity, BigDecimal price, StrategyResult strategyResult, BalanceAsset balanceAsset) throws InterruptedException {
+    private void sellTradeAsset(Logger log, TradeAccountSnapshot accountSnapshot, Trade trade, TradeAsset tradeAsset, BigDecimal quantity, BigDecimal price, StrategyResult strategyResult, BalanceAsset balanceAsset) throws InterruptedException {
         Order order = Order.builder()
                 .orderAt(Instant.now())
                 .type(Order.Type.SELL)
@@ -418,7 +693,7 @@ public class TradeExecutor {
         }
         try {
             // check waiting order exists
-            Order waitingOrder = brokerClient.getWaitingOrders().stream()
+            Order waitingOrder = accountSnapshot.getWaitingOrders().stream()
                     .filter(element ->
                             Objects.equals(element.getSymbol(), order.getSymbol())
                                     && element.getType() == order.getType())
@@ -430,19 +705,19 @@ public class TradeExecutor {
                     if (!waitingOrder.getPrice().equals(price)) {
                         waitingOrder.setPrice(price);
                         log.info("[{}] amend sell order:{}", tradeAsset.getName(), waitingOrder);
-                        brokerClient.amendOrder(tradeAsset, waitingOrder);
+                        accountSnapshot.amendOrder(tradeAsset, waitingOrder);
                     }
                 }
                 return;
             }
             // submit sell order
-            brokerClient.submitOrder(tradeAsset, order);
+            accountSnapshot.submitOrder(tradeAsset, order);
             order.setResult(Order.Result.COMPLETED);
             // deposit sell amount in cash
             if (trade.getCashAssetId() != null) {
                 try {
                     BigDecimal sellAmount = quantity.multiply(price);
-                    depositSellAmountToCash(brokerClient, trade, sellAmount);
+                    depositSellAmountToCash(accountSnapshot, trade, sellAmount);
                 } catch (Exception ignore) {
                     log.warn(ignore.getMessage());
                 }
@@ -493,15 +768,17 @@ public class TradeExecutor {
         }
     }
 
-    void withdrawBuyAmountFromCash(BrokerClient brokerClient, Trade trade, BigDecimal buyAmount) throws InterruptedException {
+    void withdrawBuyAmountFromCash(TradeAccountSnapshot accountSnapshot, Trade trade, BigDecimal buyAmount) throws InterruptedException {
+        BrokerClient brokerClient = accountSnapshot.getBrokerClient();
+
         // 계좌 정보 조회
-        Balance balance = brokerClient.getBalance();
+        Balance balance = accountSnapshot.getBalance();
 
         // 증거금 40% 로 가정 후 추가 (일부 파상 상품의 경우 증거금 부족 으로 매수 안되는 경우 있음)
         buyAmount = buyAmount.multiply(BigDecimal.valueOf(1.4));
 
         // 매수 미체결 주문 금액 추가 (예수금 에서 아직 차감 되지 않은 상태)
-        BigDecimal waitingBuyAmount = brokerClient.getWaitingOrders().stream()
+        BigDecimal waitingBuyAmount = accountSnapshot.getWaitingOrders().stream()
                 .filter(order -> order.getType() == Order.Type.BUY)
                 .map(order -> order.getPrice().multiply(order.getQuantity()))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
@@ -539,7 +816,7 @@ public class TradeExecutor {
                         .quantity(cashAssetSellQuantity)
                         .price(cashAssetSellPrice)
                         .build();
-                brokerClient.submitOrder(cashAsset, order);
+                accountSnapshot.submitOrder(cashAsset, order);
 
                 // 일정 시간 매수 완료 시 까지 대기
                 Thread.sleep(5_000);
@@ -547,14 +824,16 @@ public class TradeExecutor {
         }
     }
 
-    void depositSellAmountToCash(BrokerClient brokerClient, Trade trade, BigDecimal sellAmount) throws InterruptedException {
+    void depositSellAmountToCash(TradeAccountSnapshot accountSnapshot, Trade trade, BigDecimal sellAmount) throws InterruptedException {
+        BrokerClient brokerClient = accountSnapshot.getBrokerClient();
+
         // 설정 된 현금 대기 비중 계산
         BigDecimal cashBufferWeight = trade.getCashBufferWeight();
         BigDecimal cashBufferPercentage = cashBufferWeight.divide(BigDecimal.valueOf(100), MathContext.DECIMAL32);
         BigDecimal cashBufferAmount = trade.getInvestAmount().multiply(cashBufferPercentage);
 
         // 현재 잔고 + 매도 금엑 합산이 설정된 현금 대기 금액 이하인 경우 제외
-        Balance balance = brokerClient.getBalance();
+        Balance balance = accountSnapshot.getBalance();
         BigDecimal expectedCashAmount = balance.getCashAmount().add(sellAmount);
         if (expectedCashAmount.compareTo(cashBufferAmount) < 0) {
             return;
@@ -583,7 +862,7 @@ public class TradeExecutor {
                     .quantity(cashAssetBuyQuantity)
                     .price(cashAssetBuyPrice)
                     .build();
-            brokerClient.submitOrder(cashAsset, order);
+            accountSnapshot.submitOrder(cashAsset, order);
         }
     }
 
@@ -4,8 +4,10 @@ import lombok.RequiredArgsConstructor;
 import org.chomookun.arch4j.core.notification.NotificationService;
 import org.chomookun.fintics.core.asset.AssetService;
 import org.chomookun.fintics.core.basket.BasketService;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCache;
 import org.chomookun.fintics.core.ohlcv.OhlcvService;
 import org.chomookun.fintics.core.order.OrderService;
+import org.chomookun.fintics.core.strategy.runner.StrategyRunnerExecutor;
 import org.chomookun.fintics.core.strategy.runner.StrategyRunnerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -28,8 +30,16 @@ public class TradeExecutorFactory {
 
     private final StrategyRunnerFactory strategyRunnerFactory;
 
+    private final StrategyRunnerExecutor strategyRunnerExecutor;
+
     private final OhlcvCacheManager ohlcvCacheManager;
 
+    private final MarketDataHub marketDataHub;
+
+    private final IndicatorCache indicatorCache;
+
+    private final TradeExecutorProperties tradeExecutorProperties;
+
     public TradeExecutor getObject() {
         return TradeExecutor.builder()
                 .transactionManager(transactionManager)
@@ -39,7 +49,11 @@ public class TradeExecutorFactory {
                 .orderService(orderService)
                 .notificationService(notificationService)
                 .strategyRunnerFactory(strategyRunnerFactory)
+                .strategyRunnerExecutor(strategyRunnerExecutor)
                 .ohlcvCacheManager(ohlcvCacheManager)
+                .marketDataHub(marketDataHub)
+                .indicatorCache(indicatorCache)
+                .tradeExecutorProperties(tradeExecutorProperties)
                 .build();
     }
 
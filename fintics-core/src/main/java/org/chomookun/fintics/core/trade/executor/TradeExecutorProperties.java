@@ -0,0 +1,33 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Trade executor properties
+ */
+@ConfigurationProperties(prefix = "fintics.core.trade.trade-executor")
+@AllArgsConstructor
+@Getter
+@Builder
+public class TradeExecutorProperties {
+
+    /**
+     * evaluates basket assets concurrently
+     */
+    private final boolean concurrent;
+
+    /**
+     * max number of assets evaluated at the same time (limited by broker max concurrency)
+     */
+    private final int maxConcurrency;
+
+    /**
+     * reuses previous strategy result when inputs read by strategy have not changed
+     * (strategy must not depend on date time of cycle)
+     */
+    private final boolean skipUnchangedInputs;
+
+}
@@ -5,6 +5,7 @@ import org.chomookun.fintics.core.trade.entity.TradeEntity;
 import org.chomookun.fintics.core.order.model.Order;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 
@@ -55,6 +56,25 @@ public class Trade {
 
     private boolean notifyOnOrder;
 
+    /**
+     * Checks date time is in operating time (start time ~ end time)
+     * @param dateTime date time
+     * @return whether operating time
+     */
+    public boolean isOperatingTime(LocalDateTime dateTime) {
+        if(startTime == null || endTime == null) {
+            return false;
+        }
+        LocalTime currentTime = dateTime.toLocalTime();
+        if (startTime.isAfter(endTime)) {
+            return !(currentTime.isBefore(startTime) || currentTime.equals(startTime))
+                    || !(currentTime.isAfter(endTime) || currentTime.equals(endTime));
+        } else {
+            return (currentTime.isAfter(startTime) || currentTime.equals(startTime))
+                    && (currentTime.isBefore(endTime) || currentTime.equals(endTime));
+        }
+    }
+
     public static Trade from(TradeEntity tradeEntity) {
         return Trade.builder()
                 .tradeId(tradeEntity.getTradeId())
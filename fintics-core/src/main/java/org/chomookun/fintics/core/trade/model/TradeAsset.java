@@ -1,5 +1,6 @@
 package org.chomookun.fintics.core.trade.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -8,16 +9,26 @@ import org.chomookun.arch4j.core.common.support.ObjectMapperHolder;
 import org.chomookun.fintics.core.asset.model.Asset;
 import org.chomookun.fintics.core.strategy.runner.StrategyResult;
 import org.chomookun.fintics.core.trade.entity.TradeAssetEntity;
+import org.chomookun.fintics.core.ohlcv.indicator.Indicator;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCache;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorContext;
+import org.chomookun.fintics.core.ohlcv.indicator.Tools;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.chomookun.fintics.core.ohlcv.model.OhlcvColumns;
+import org.chomookun.fintics.core.ohlcv.model.OhlcvResampler;
+import org.chomookun.fintics.core.ohlcv.model.OhlcvSeries;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 @Data
-@EqualsAndHashCode(callSuper = true)
+@EqualsAndHashCode(callSuper = true, doNotUseGetters = true)
+@ToString(doNotUseGetters = true)
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -40,6 +51,80 @@ public class TradeAsset extends Asset {
 
     private List<Ohlcv> minuteOhlcvs;
 
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient Supplier<List<Ohlcv>> dailyOhlcvsLoader;
+
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient Supplier<List<Ohlcv>> minuteOhlcvsLoader;
+
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @Builder.Default
+    private transient Map<String, OhlcvResampler> ohlcvResamplers = new ConcurrentHashMap<>();
+
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @Builder.Default
+    private transient Map<String, ColumnarOhlcvs> columnarOhlcvsMap = new ConcurrentHashMap<>();
+
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @Builder.Default
+    private transient Map<String, OhlcvsDigest> ohlcvsDigestMap = new ConcurrentHashMap<>();
+
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient IndicatorCache indicatorCache;
+
+    /**
+     * Columnar ohlcvs memoized for source ohlcvs (daily or minute, compared by identity)
+     */
+    private static class ColumnarOhlcvs {
+
+        private final List<Ohlcv> ohlcvs;
+
+        private final OhlcvSeries ohlcvSeries;
+
+        private volatile OhlcvColumns ohlcvColumns;
+
+        ColumnarOhlcvs(List<Ohlcv> ohlcvs, OhlcvSeries ohlcvSeries) {
+            this.ohlcvs = ohlcvs;
+            this.ohlcvSeries = ohlcvSeries;
+        }
+
+        /**
+         * Gets ohlcv columns (created on first access)
+         * @return ohlcv columns
+         */
+        OhlcvColumns getOhlcvColumns() {
+            if (ohlcvColumns == null) {
+                ohlcvColumns = OhlcvColumns.of(ohlcvSeries);
+            }
+            return ohlcvColumns;
+        }
+
+    }
+
+    /**
+     * Digest of resampled ohlcvs memoized for resampled view (compared by identity, size and identity of first and last bars)
+     * resampled view is changed only by replacing last bucket, appending or evicting buckets, or resetting all buckets.
+     */
+    private record OhlcvsDigest(List<Ohlcv> ohlcvs, int size, Ohlcv firstOhlcv, Ohlcv lastOhlcv, String digest) {}
+
     private String message;
 
     private StrategyResult strategyResult;
@@ -47,6 +132,86 @@ public class TradeAsset extends Asset {
     @Builder.Default
     private Map<String,Object> context = new HashMap<>();
 
+    /**
+     * Gets daily ohlcvs (loads on first access)
+     * @return daily ohlcvs
+     */
+    public List<Ohlcv> getDailyOhlcvs() {
+        if (dailyOhlcvsLoader != null) {
+            dailyOhlcvs = dailyOhlcvsLoader.get();
+            dailyOhlcvsLoader = null;
+        }
+        return dailyOhlcvs;
+    }
+
+    /**
+     * Sets daily ohlcvs
+     * @param dailyOhlcvs daily ohlcvs
+     */
+    public void setDailyOhlcvs(List<Ohlcv> dailyOhlcvs) {
+        this.dailyOhlcvs = dailyOhlcvs;
+        this.dailyOhlcvsLoader = null;
+    }
+
+    /**
+     * Sets daily ohlcvs loader (invoked on first access and memoized)
+     * @param dailyOhlcvsLoader daily ohlcvs loader
+     */
+    @JsonIgnore
+    public void setDailyOhlcvsLoader(Supplier<List<Ohlcv>> dailyOhlcvsLoader) {
+        this.dailyOhlcvs = null;
+        this.dailyOhlcvsLoader = dailyOhlcvsLoader;
+    }
+
+    /**
+     * Checks daily ohlcvs are loaded
+     * @return whether loaded
+     */
+    @JsonIgnore
+    public boolean isDailyOhlcvsLoaded() {
+        return dailyOhlcvsLoader == null;
+    }
+
+    /**
+     * Gets minute ohlcvs (loads on first access)
+     * @return minute ohlcvs
+     */
+    public List<Ohlcv> getMinuteOhlcvs() {
+        if (minuteOhlcvsLoader != null) {
+            minuteOhlcvs = minuteOhlcvsLoader.get();
+            minuteOhlcvsLoader = null;
+        }
+        return minuteOhlcvs;
+    }
+
+    /**
+     * Sets minute ohlcvs
+     * @param minuteOhlcvs minute ohlcvs
+     */
+    public void setMinuteOhlcvs(List<Ohlcv> minuteOhlcvs) {
+        this.minuteOhlcvs = minuteOhlcvs;
+        this.minuteOhlcvsLoader = null;
+    }
+
+    /**
+     * Sets minute ohlcvs loader (invoked on first access and memoized)
+     * @param minuteOhlcvsLoader minute ohlcvs loader
+     */
+    @JsonIgnore
+    public void setMinuteOhlcvsLoader(Supplier<List<Ohlcv>> minuteOhlcvsLoader) {
+        this.minuteOhlcvs = null;
+        this.minuteOhlcvsLoader = minuteOhlcvsLoader;
+    }
+
+    /**
+     * Checks minute ohlcvs are loaded
+     * @return whether loaded
+     */
+    @JsonIgnore
+    public boolean isMinuteOhlcvsLoaded() {
+        return minuteOhlcvsLoader == null;
+    }
+
     public BigDecimal getNetChange() {
         return (close != null ? close : BigDecimal.ZERO)
                 .subtract(previousClose != null ? previousClose : BigDecimal.ZERO);
@@ -75,91 +240,231 @@ public class TradeAsset extends Asset {
                 .multiply(BigDecimal.valueOf(100));
     }
 
+    /**
+     * Sets ohlcv resamplers (shared across cycles, so only last bucket is resampled on new bar)
+     * @param ohlcvResamplers ohlcv resamplers by type and period
+     */
+    @JsonIgnore
+    public void setOhlcvResamplers(Map<String, OhlcvResampler> ohlcvResamplers) {
+        this.ohlcvResamplers = ohlcvResamplers;
+    }
+
+    /**
+     * Sets indicator cache (shared between trades, indicators are calculated without cache if not set)
+     * @param indicatorCache indicator cache
+     */
+    @JsonIgnore
+    public void setIndicatorCache(IndicatorCache indicatorCache) {
+        this.indicatorCache = indicatorCache;
+    }
+
+    /**
+     * Gets resampled ohlcvs (memoized per type and period, default resample mode of type)
+     * minute buckets are aligned to clock of day (date time of bucket is start of bucket),
+     * and daily buckets are period bars counted from newest bar (date time of bucket is newest bar).
+     * @param type ohlcv type
+     * @param period resample period
+     * @return resampled ohlcvs (read-only, time descending)
+     * @see OhlcvResampler
+     */
     public List<Ohlcv> getOhlcvs(Ohlcv.Type type, int period) {
+        return getOhlcvs(type, period, OhlcvResampler.getDefaultMode(type));
+    }
+
+    /**
+     * Gets resampled ohlcvs (memoized per type, period and mode)
+     * e.g. weekly ohlcvs are {@code getOhlcvs(Ohlcv.Type.DAILY, 1, OhlcvResampler.Mode.CALENDAR)}
+     * @param type ohlcv type
+     * @param period resample period
+     * @param mode resample mode
+     * @return resampled ohlcvs (read-only, time descending)
+     * @see OhlcvResampler.Mode
+     */
+    public List<Ohlcv> getOhlcvs(Ohlcv.Type type, int period, OhlcvResampler.Mode mode) {
         List<Ohlcv> ohlcvs;
         switch(type) {
-            case MINUTE -> ohlcvs = resampleOhlcvs(minuteOhlcvs, period);
-            case DAILY -> ohlcvs = resampleOhlcvs(dailyOhlcvs, period);
+            case MINUTE -> ohlcvs = getMinuteOhlcvs();
+            case DAILY -> ohlcvs = getDailyOhlcvs();
             default -> throw new IllegalArgumentException("invalid Ohlcv type");
         }
-        return Collections.unmodifiableList(ohlcvs);
+        if (ohlcvs == null || ohlcvs.isEmpty() || period <= 0) {
+            return Collections.emptyList();
+        }
+        OhlcvResampler ohlcvResampler = ohlcvResamplers.computeIfAbsent(String.format("%s:%d:%s", type, period, mode),
+                key -> new OhlcvResampler(type, period, mode));
+        return ohlcvResampler.resample(ohlcvs);
     }
 
+    /**
+     * Gets resampled ohlcvs (memoized per type and period)
+     * @param type ohlcv type name
+     * @param period resample period
+     * @return resampled ohlcvs (read-only, time descending)
+     */
     public List<Ohlcv> getOhlcvs(String type, int period) {
         return getOhlcvs(Ohlcv.Type.valueOf(type), period);
     }
 
-    private List<Ohlcv> resampleOhlcvs(List<Ohlcv> ohlcvs, int period) {
-        if (ohlcvs.isEmpty() || period <= 0) {
-            return Collections.emptyList();
+    /**
+     * Gets resampled ohlcvs as columns (memoized until ohlcvs are changed)
+     * @param type ohlcv type
+     * @param period resample period
+     * @return ohlcv columns (time descending)
+     */
+    public OhlcvColumns getOhlcvColumns(Ohlcv.Type type, int period) {
+        return getColumnarOhlcvs(type, period).getOhlcvColumns();
+    }
+
+    /**
+     * Gets resampled ohlcvs as columns
+     * @param type ohlcv type name
+     * @param period resample period
+     * @return ohlcv columns (time descending)
+     */
+    public OhlcvColumns getOhlcvColumns(String type, int period) {
+        return getOhlcvColumns(Ohlcv.Type.valueOf(type), period);
+    }
+
+    /**
+     * Gets resampled ohlcvs as columnar series (memoized until ohlcvs are changed)
+     * @param type ohlcv type
+     * @param period resample period
+     * @return ohlcv series (time descending)
+     */
+    public OhlcvSeries getOhlcvSeries(Ohlcv.Type type, int period) {
+        return getColumnarOhlcvs(type, period).ohlcvSeries;
+    }
+
+    /**
+     * Gets resampled ohlcvs as columnar series
+     * @param type ohlcv type name
+     * @param period resample period
+     * @return ohlcv series (time descending)
+     */
+    public OhlcvSeries getOhlcvSeries(String type, int period) {
+        return getOhlcvSeries(Ohlcv.Type.valueOf(type), period);
+    }
+
+    /**
+     * Gets indicators of resampled ohlcvs (calculated incrementally across cycles if supported)
+     * results are shared between calls and trades of same asset, bars and context (if indicator cache is set).
+     * @param type ohlcv type
+     * @param period resample period
+     * @param context indicator context
+     * @param <C> indicator context type
+     * @param <R> indicator type
+     * @return indicators (read-only, time descending)
+     */
+    public <C extends IndicatorContext, R extends Indicator> List<R> getIndicators(Ohlcv.Type type, int period, C context) {
+        String seriesId = String.format("%s:%s:%d", getAssetId(), type, period);
+        List<Ohlcv> ohlcvs = getOhlcvs(type, period);
+        if (indicatorCache == null) {
+            return Collections.unmodifiableList(Tools.indicators(seriesId, ohlcvs, context));
         }
+        String digest = getOhlcvsDigest(String.format("%s:%d", type, period), ohlcvs);
+        return indicatorCache.get(seriesId, ohlcvs, digest, context, () -> Tools.indicators(seriesId, ohlcvs, context));
+    }
+
+    /**
+     * Gets indicators of resampled ohlcvs (calculated incrementally across cycles if supported)
+     * @param type ohlcv type name
+     * @param period resample period
+     * @param context indicator context
+     * @param <C> indicator context type
+     * @param <R> indicator type
+     * @return indicators (read-only, time descending)
+     */
+    public <C extends IndicatorContext, R extends Indicator> List<R> getIndicators(String type, int period, C context) {
+        return getIndicators(Ohlcv.Type.valueOf(type), period, context);
+    }
+
+    /**
+     * Gets daily ohlcvs as columns (not resampled, memoized until ohlcvs are changed)
+     * @return daily ohlcv columns (time descending)
+     */
+    @JsonIgnore
+    public OhlcvColumns getDailyOhlcvColumns() {
+        return getColumnarOhlcvs(Ohlcv.Type.DAILY, 0).getOhlcvColumns();
+    }
 
-        List<Ohlcv> resampledOhlcvs = new ArrayList<>();
-        int dataSize = ohlcvs.size();
-        int currentIndex = 0;
+    /**
+     * Gets minute ohlcvs as columns (not resampled, memoized until ohlcvs are changed)
+     * @return minute ohlcv columns (time descending)
+     */
+    @JsonIgnore
+    public OhlcvColumns getMinuteOhlcvColumns() {
+        return getColumnarOhlcvs(Ohlcv.Type.MINUTE, 0).getOhlcvColumns();
+    }
 
-        while (currentIndex < dataSize) {
-            int endIndex = Math.min(currentIndex + period, dataSize);
-            List<Ohlcv> subList = ohlcvs.subList(currentIndex, endIndex);
-            Ohlcv resampledData = createResampledOhlcv(subList);
-            resampledOhlcvs.add(resampledData);
-            currentIndex += period;
+    /**
+     * Gets daily ohlcvs as columnar series (not resampled, memoized until ohlcvs are changed, no copy if loaded from series)
+     * @return daily ohlcv series (time descending)
+     */
+    @JsonIgnore
+    public OhlcvSeries getDailyOhlcvSeries() {
+        return getColumnarOhlcvs(Ohlcv.Type.DAILY, 0).ohlcvSeries;
+    }
+
+    /**
+     * Gets minute ohlcvs as columnar series (not resampled, memoized until ohlcvs are changed, no copy if loaded from series)
+     * @return minute ohlcv series (time descending)
+     */
+    @JsonIgnore
+    public OhlcvSeries getMinuteOhlcvSeries() {
+        return getColumnarOhlcvs(Ohlcv.Type.MINUTE, 0).ohlcvSeries;
+    }
+
+    /**
+     * Gets columnar ohlcvs (memoized per type and period, created again when source ohlcvs are changed)
+     * @param type ohlcv type
+     * @param period resample period (0 if not resampled)
+     * @return columnar ohlcvs
+     */
+    /**
+     * Gets digest of resampled ohlcvs (memoized until resampled ohlcvs are changed)
+     * @param key key of resampled ohlcvs (type and period)
+     * @param ohlcvs resampled ohlcvs (time descending)
+     * @return digest
+     * @see IndicatorCache#digest(List)
+     */
+    String getOhlcvsDigest(String key, List<Ohlcv> ohlcvs) {
+        int size = ohlcvs.size();
+        Ohlcv firstOhlcv = size > 0 ? ohlcvs.get(size - 1) : null;
+        Ohlcv lastOhlcv = size > 0 ? ohlcvs.get(0) : null;
+        OhlcvsDigest ohlcvsDigest = ohlcvsDigestMap.get(key);
+        if (ohlcvsDigest == null || ohlcvsDigest.ohlcvs() != ohlcvs || ohlcvsDigest.size() != size
+                || ohlcvsDigest.firstOhlcv() != firstOhlcv || ohlcvsDigest.lastOhlcv() != lastOhlcv) {
+            ohlcvsDigest = new OhlcvsDigest(ohlcvs, size, firstOhlcv, lastOhlcv, IndicatorCache.digest(ohlcvs));
+            ohlcvsDigestMap.put(key, ohlcvsDigest);
         }
+        return ohlcvsDigest.digest();
+    }
 
-        return resampledOhlcvs;
-    }
-
-    private Ohlcv createResampledOhlcv(List<Ohlcv> ohlcvs) {
-        // convert to series
-        List<Ohlcv> series = new ArrayList<>(ohlcvs);
-        Collections.reverse(series);
-        // merge ohlcv
-        Ohlcv.Type type = null;
-        LocalDateTime datetime = null;
-        ZoneId timezone = null;
-        BigDecimal open = BigDecimal.ZERO;
-        BigDecimal high = BigDecimal.ZERO;
-        BigDecimal low = BigDecimal.ZERO;
-        BigDecimal close = BigDecimal.ZERO;
-        BigDecimal volume = BigDecimal.ZERO;
-        for(int i = 0; i < series.size(); i ++ ) {
-            Ohlcv ohlcv = series.get(i);
-            if(i == 0) {
-                type = ohlcv.getType();
-                datetime = ohlcv.getDateTime();
-                timezone = ohlcv.getTimeZone();
-                open = ohlcv.getOpen();
-                high = ohlcv.getHigh();
-                low  = ohlcv.getLow();
-                close = ohlcv.getClose();
-                volume = ohlcv.getVolume();
-            }else{
-                datetime = ohlcv.getDateTime();
-                if(ohlcv.getHigh().compareTo(high) > 0) {
-                    high = ohlcv.getHigh();
-                }
-                if(ohlcv.getLow().compareTo(low ) < 0) {
-                    low  = ohlcv.getLow();
-                }
-                close = ohlcv.getClose();
-                volume = volume.add(ohlcv.getVolume());
+    private ColumnarOhlcvs getColumnarOhlcvs(Ohlcv.Type type, int period) {
+        List<Ohlcv> ohlcvs;
+        switch(type) {
+            case MINUTE -> ohlcvs = getMinuteOhlcvs();
+            case DAILY -> ohlcvs = getDailyOhlcvs();
+            default -> throw new IllegalArgumentException("invalid Ohlcv type");
+        }
+        String key = String.format("%s:%d", type, period);
+        ColumnarOhlcvs columnarOhlcvs = columnarOhlcvsMap.get(key);
+        if (columnarOhlcvs == null || columnarOhlcvs.ohlcvs != ohlcvs) {
+            OhlcvSeries ohlcvSeries;
+            if (ohlcvs == null) {
+                ohlcvSeries = OhlcvSeries.EMPTY;
+            } else {
+                ohlcvSeries = OhlcvSeries.of(period > 0 ? getOhlcvs(type, period) : ohlcvs);
             }
+            columnarOhlcvs = new ColumnarOhlcvs(ohlcvs, ohlcvSeries);
+            columnarOhlcvsMap.put(key, columnarOhlcvs);
         }
-        // return resampled ohlcvs
-        return Ohlcv.builder()
-                .type(type)
-                .dateTime(datetime)
-                .timeZone(timezone)
-                .open(open)
-                .high(high)
-                .low(low )
-                .close(close)
-                .volume(volume)
-                .build();
+        return columnarOhlcvs;
     }
 
     /**
      * Factory method
+     * context is copied, so strategy does not mutate context of (cached or pending) entity.
      * @param tradeAssetEntity trade asset entity
      * @return trade asset
      */
@@ -173,7 +478,7 @@ public class TradeAsset extends Asset {
                 .close(tradeAssetEntity.getClose())
                 .volume(tradeAssetEntity.getVolume())
                 .message(tradeAssetEntity.getMessage())
-                .context(tradeAssetEntity.getContext())
+                .context(tradeAssetEntity.getContext() != null ? new HashMap<>(tradeAssetEntity.getContext()) : null)
                 .strategyResult(tradeAssetEntity.getStrategyResult())
                 .build();
     }
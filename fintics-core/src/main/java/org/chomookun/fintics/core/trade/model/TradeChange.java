@@ -0,0 +1,17 @@
+package org.chomookun.fintics.core.trade.model;
+
+import lombok.*;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TradeChange {
+
+    private String tradeId;
+
+    private Type type;
+
+    public enum Type { SAVED, DELETED }
+
+}
@@ -158,9 +158,9 @@ values
 
 -- fintics_strategy
 insert into `fintics_strategy`
-    (`strategy_id`,`name`,`language`,`script`)
+    (`strategy_id`,`name`,`language`,`script`,`compile_static`)
 values
-    ('7c94187b346f4727a0f2478fdc53064f','Test Rule','GROOVY','return null');
+    ('7c94187b346f4727a0f2478fdc53064f','Test Rule','GROOVY','return null','N');
 
 -- fintics_trade
 insert into `fintics_trade`
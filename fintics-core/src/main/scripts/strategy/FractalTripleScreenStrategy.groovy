@@ -67,27 +67,27 @@ class Analyzer {
     Analyzer(TradeAsset tradeAsset, Ohlcv.Type ohlcvType, int ohlcvPeriod) {
         this.ohlcvs = tradeAsset.getOhlcvs(ohlcvType, ohlcvPeriod)
         this.ohlcv = this.ohlcvs.first()
-        this.smas = Tools.indicators(ohlcvs, SmaContext.DEFAULT)
+        this.smas = tradeAsset.getIndicators(ohlcvType, ohlcvPeriod, SmaContext.DEFAULT)
         this.sma = smas.first()
-        this.emas = Tools.indicators(ohlcvs, EmaContext.DEFAULT)
+        this.emas = tradeAsset.getIndicators(ohlcvType, ohlcvPeriod, EmaContext.DEFAULT)
         this.ema = emas.first()
-        this.macds = Tools.indicators(ohlcvs, MacdContext.DEFAULT)
+        this.macds = tradeAsset.getIndicators(ohlcvType, ohlcvPeriod, MacdContext.DEFAULT)
         this.macd = this.macds.first()
-        this.bollingerBands = Tools.indicators(ohlcvs, BollingerBandContext.DEFAULT)
+        this.bollingerBands = tradeAsset.getIndicators(ohlcvType, ohlcvPeriod, BollingerBandContext.DEFAULT)
         this.bollingerBand = bollingerBands.first()
-        this.dmis = Tools.indicators(ohlcvs, DmiContext.DEFAULT)
+        this.dmis = tradeAsset.getIndicators(ohlcvType, ohlcvPeriod, DmiContext.DEFAULT)
         this.dmi = this.dmis.first()
-        this.atrs = Tools.indicators(ohlcvs, AtrContext.DEFAULT)
+        this.atrs = tradeAsset.getIndicators(ohlcvType, ohlcvPeriod, AtrContext.DEFAULT)
         this.atr = atrs.first()
-        this.rsis = Tools.indicators(ohlcvs, RsiContext.DEFAULT)
+        this.rsis = tradeAsset.getIndicators(ohlcvType, ohlcvPeriod, RsiContext.DEFAULT)
         this.rsi = rsis.first()
-        this.ccis = Tools.indicators(ohlcvs, CciContext.DEFAULT)
+        this.ccis = tradeAsset.getIndicators(ohlcvType, ohlcvPeriod, CciContext.DEFAULT)
         this.cci = ccis.first()
-        this.stochasticSlows = Tools.indicators(ohlcvs, StochasticSlowContext.DEFAULT)
+        this.stochasticSlows = tradeAsset.getIndicators(ohlcvType, ohlcvPeriod, StochasticSlowContext.DEFAULT)
         this.stochasticSlow = stochasticSlows.first()
-        this.williamsRs = Tools.indicators(ohlcvs, WilliamsRContext.DEFAULT)
+        this.williamsRs = tradeAsset.getIndicators(ohlcvType, ohlcvPeriod, WilliamsRContext.DEFAULT)
         this.williamsR = williamsRs.first()
-        this.chaikinOscillators = Tools.indicators(ohlcvs, ChaikinOscillatorContext.DEFAULT)
+        this.chaikinOscillators = tradeAsset.getIndicators(ohlcvType, ohlcvPeriod, ChaikinOscillatorContext.DEFAULT)
         this.chaikinOscillator = chaikinOscillators.first()
     }
 
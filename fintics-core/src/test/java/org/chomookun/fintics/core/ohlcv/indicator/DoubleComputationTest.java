@@ -0,0 +1,254 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.ohlcv.indicator.atr.AtrContext;
+import org.chomookun.fintics.core.ohlcv.indicator.bolangerband.BollingerBandContext;
+import org.chomookun.fintics.core.ohlcv.indicator.cci.CciContext;
+import org.chomookun.fintics.core.ohlcv.indicator.chaikinoscillator.ChaikinOscillatorContext;
+import org.chomookun.fintics.core.ohlcv.indicator.dmi.DmiContext;
+import org.chomookun.fintics.core.ohlcv.indicator.ema.EmaContext;
+import org.chomookun.fintics.core.ohlcv.indicator.keltnerchannel.KeltnerChannel;
+import org.chomookun.fintics.core.ohlcv.indicator.keltnerchannel.KeltnerChannelContext;
+import org.chomookun.fintics.core.ohlcv.indicator.macd.MacdContext;
+import org.chomookun.fintics.core.ohlcv.indicator.obv.ObvContext;
+import org.chomookun.fintics.core.ohlcv.indicator.pricechannel.PriceChannelContext;
+import org.chomookun.fintics.core.ohlcv.indicator.rsi.RsiContext;
+import org.chomookun.fintics.core.ohlcv.indicator.sma.Sma;
+import org.chomookun.fintics.core.ohlcv.indicator.sma.SmaContext;
+import org.chomookun.fintics.core.ohlcv.indicator.stochasticslow.StochasticSlowContext;
+import org.chomookun.fintics.core.ohlcv.indicator.williamsr.WilliamsRContext;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.chomookun.fintics.core.ohlcv.model.OhlcvColumns;
+import org.chomookun.fintics.core.ohlcv.model.OhlcvSeries;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class DoubleComputationTest {
+
+    /**
+     * Creates random ohlcvs
+     * @param size size
+     * @return ohlcvs (time descending)
+     */
+    static List<Ohlcv> createOhlcvs(int size) {
+        Random random = new Random(0);
+        List<Ohlcv> ohlcvs = new ArrayList<>();
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 2, 9, 0);
+        BigDecimal close = BigDecimal.valueOf(10_000);
+        for (int i = 0; i < size; i ++) {
+            BigDecimal open = close;
+            close = open.add(BigDecimal.valueOf(random.nextInt(201) - 100)).max(BigDecimal.valueOf(100));
+            BigDecimal high = open.max(close).add(BigDecimal.valueOf(random.nextInt(50)));
+            BigDecimal low = open.min(close).subtract(BigDecimal.valueOf(random.nextInt(50)));
+            ohlcvs.add(Ohlcv.builder()
+                    .dateTime(dateTime.plusMinutes(i))
+                    .open(open)
+                    .high(high)
+                    .low(low)
+                    .close(close)
+                    .volume(BigDecimal.valueOf(random.nextInt(100_000)))
+                    .build());
+        }
+        Collections.reverse(ohlcvs);
+        return ohlcvs;
+    }
+
+    /**
+     * Tolerance of double computation against big decimal computation (DECIMAL128)
+     * absolute tolerance is one unit of last digit for values rounded to fixed scale.
+     */
+    record Tolerance(IndicatorContext context, double absolute) {}
+
+    static Stream<Tolerance> tolerances() {
+        MathContext mathContext = MathContext.DECIMAL128;
+        return Stream.of(
+                new Tolerance(SmaContext.builder().period(20).mathContext(mathContext).build(), 1e-6),
+                new Tolerance(EmaContext.builder().period(20).mathContext(mathContext).build(), 1e-6),
+                new Tolerance(BollingerBandContext.builder().period(20).sdMultiplier(2).mathContext(mathContext).build(), 1e-6),
+                new Tolerance(MacdContext.builder().shortPeriod(12).longPeriod(26).signalPeriod(9).mathContext(mathContext).build(), 1e-6),
+                new Tolerance(RsiContext.builder().period(14).signalPeriod(9).mathContext(mathContext).build(), 0.01),
+                new Tolerance(DmiContext.builder().period(14).mathContext(mathContext).build(), 1e-6),
+                new Tolerance(ObvContext.builder().period(14).signalPeriod(9).mathContext(mathContext).build(), 1),
+                new Tolerance(ChaikinOscillatorContext.builder().shortPeriod(3).longPeriod(10).signalPeriod(9).mathContext(mathContext).build(), 0.01),
+                new Tolerance(AtrContext.builder().period(14).signalPeriod(9).mathContext(mathContext).build(), 1e-6),
+                new Tolerance(CciContext.builder().period(14).signalPeriod(9).mathContext(mathContext).build(), 1e-6),
+                new Tolerance(StochasticSlowContext.builder().period(14).periodK(3).periodD(3).mathContext(mathContext).build(), 1e-6),
+                new Tolerance(WilliamsRContext.builder().period(14).signalPeriod(3).mathContext(mathContext).build(), 0.01),
+                new Tolerance(PriceChannelContext.builder().period(20).mathContext(mathContext).build(), 1e-6),
+                new Tolerance(KeltnerChannelContext.builder().period(20).atrPeriod(10).multiplier(1.5).mathContext(mathContext).build(), 1e-6)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("tolerances")
+    void indicatorValues(Tolerance tolerance) throws Exception {
+        // given
+        List<Ohlcv> ohlcvs = createOhlcvs(1_000);
+        // when
+        List<? extends Indicator> indicators = Tools.indicators(ohlcvs, tolerance.context());
+        IndicatorValues indicatorValues = Tools.indicatorValues(ohlcvs, tolerance.context());
+        // then
+        assertEquals(ohlcvs.size(), indicatorValues.getSize());
+        for (String name : indicatorValues.getNames()) {
+            for (int i = 0; i < indicators.size(); i ++) {
+                Indicator indicator = indicators.get(i);
+                BigDecimal expected = (BigDecimal) indicator.getClass()
+                        .getMethod("get" + Character.toUpperCase(name.charAt(0)) + name.substring(1))
+                        .invoke(indicator);
+                double actual = indicatorValues.get(name, i);
+                double delta = tolerance.absolute() + Math.abs(expected.doubleValue()) * 1e-9;
+                assertEquals(expected.doubleValue(), actual, delta, String.format("%s.%s[%d]", tolerance.context().getClass().getSimpleName(), name, i));
+            }
+        }
+    }
+
+    @Test
+    void indicatorsWithDoubleComputation() {
+        // given
+        List<Ohlcv> ohlcvs = createOhlcvs(100);
+        SmaContext smaContext = SmaContext.builder()
+                .period(20)
+                .computationMode(IndicatorContext.ComputationMode.DOUBLE)
+                .build();
+        // when
+        List<Sma> smas = Tools.indicators(ohlcvs, smaContext);
+        // then
+        IndicatorValues indicatorValues = Tools.indicatorValues(ohlcvs, smaContext);
+        assertEquals(ohlcvs.size(), smas.size());
+        for (int i = 0; i < smas.size(); i ++) {
+            assertEquals(ohlcvs.get(i).getDateTime(), smas.get(i).getDateTime());
+            assertEquals(indicatorValues.get("value", i), smas.get(i).getValue().doubleValue());
+        }
+    }
+
+    @Test
+    void indicatorsWithDoubleComputationSkipsSameAsBigDecimal() {
+        // given
+        List<Ohlcv> ohlcvs = createOhlcvs(100);
+        KeltnerChannelContext keltnerChannelContext = KeltnerChannelContext.builder()
+                .period(20)
+                .atrPeriod(10)
+                .multiplier(1.5)
+                .computationMode(IndicatorContext.ComputationMode.DOUBLE)
+                .build();
+        // when
+        List<KeltnerChannel> keltnerChannels = Tools.indicators(ohlcvs, keltnerChannelContext);
+        // then
+        assertEquals(Tools.indicators(ohlcvs, KeltnerChannelContext.DEFAULT).size(), keltnerChannels.size());
+        assertTrue(Double.isNaN(Tools.indicatorValues(ohlcvs, keltnerChannelContext).get("center", ohlcvs.size() - 1)));
+    }
+
+    @Test
+    void indicatorValuesWithOhlcvColumns() {
+        // given
+        List<Ohlcv> ohlcvs = createOhlcvs(100);
+        OhlcvColumns ohlcvColumns = OhlcvColumns.of(ohlcvs);
+        // when
+        IndicatorValues indicatorValues = Tools.indicatorValues(ohlcvColumns, RsiContext.DEFAULT);
+        // then
+        assertArrayEquals(Tools.indicatorValues(ohlcvs, RsiContext.DEFAULT).get("value"), indicatorValues.get("value"));
+    }
+
+    @Tag("manual")
+    @Test
+    void benchmark() {
+        List<Ohlcv> ohlcvs = createOhlcvs(10_000);
+        OhlcvColumns ohlcvColumns = OhlcvColumns.of(ohlcvs);
+        tolerances().forEach(tolerance -> {
+            IndicatorContext context = tolerance.context();
+            for (int i = 0; i < 3; i ++) {
+                Tools.indicators(ohlcvs, context);
+                Tools.indicatorValues(ohlcvColumns, context);
+            }
+            long startTime = System.nanoTime();
+            Tools.indicators(ohlcvs, context);
+            long bigDecimalTime = System.nanoTime() - startTime;
+            startTime = System.nanoTime();
+            Tools.indicatorValues(ohlcvColumns, context);
+            long doubleTime = System.nanoTime() - startTime;
+            log.info("{} - big decimal: {}ms, double: {}ms", context.getClass().getSimpleName(), bigDecimalTime / 1_000_000.0, doubleTime / 1_000_000.0);
+        });
+    }
+
+    static List<IndicatorContext> batchContexts() {
+        return List.of(
+                SmaContext.of(20),
+                SmaContext.of(60),
+                EmaContext.of(26),
+                BollingerBandContext.DEFAULT,
+                MacdContext.DEFAULT,
+                RsiContext.DEFAULT,
+                DmiContext.DEFAULT,
+                AtrContext.DEFAULT,
+                CciContext.DEFAULT,
+                KeltnerChannelContext.of(20, 14, 2.0),
+                SmaContext.of(20)
+        );
+    }
+
+    @Test
+    void indicatorValuesOfContexts() {
+        // given
+        List<Ohlcv> ohlcvs = createOhlcvs(500);
+        List<IndicatorContext> contexts = batchContexts();
+        // when (columns and intermediates are shared, same context is calculated once)
+        Map<IndicatorContext, IndicatorValues> indicatorValuesMap = Tools.indicatorValues(ohlcvs, contexts);
+        Map<IndicatorContext, IndicatorValues> ohlcvSeriesIndicatorValuesMap = Tools.indicatorValues(OhlcvSeries.of(ohlcvs), contexts);
+        // then (same as separate calculation)
+        assertEquals(contexts.size() - 1, indicatorValuesMap.size());
+        for (IndicatorContext context : contexts) {
+            IndicatorValues expected = Tools.indicatorValues(ohlcvs, context);
+            for (String name : expected.getNames()) {
+                assertArrayEquals(expected.get(name), indicatorValuesMap.get(context).get(name), context + "." + name);
+                assertArrayEquals(expected.get(name), ohlcvSeriesIndicatorValuesMap.get(context).get(name), context + "." + name);
+            }
+        }
+    }
+
+    @Test
+    void doubleSeriesIntermediates() {
+        // given
+        DoubleSeries doubleSeries = DoubleSeries.of(createOhlcvs(100));
+        // when, then (calculated once)
+        assertSame(doubleSeries.getTrs(), doubleSeries.getTrs());
+        assertSame(doubleSeries.getTypicalPrices(), doubleSeries.getTypicalPrices());
+        assertSame(doubleSeries.getCloseEmas(12), doubleSeries.getCloseEmas(12));
+        assertSame(doubleSeries.getCloseSmas(20), doubleSeries.getCloseSmas(20));
+        assertSame(doubleSeries.getTrEmas(14), doubleSeries.getTrEmas(14));
+        assertNotSame(doubleSeries.getCloseEmas(12), doubleSeries.getCloseEmas(26));
+        assertArrayEquals(IndicatorCalculator.emas(doubleSeries.getClose(), 12), doubleSeries.getCloseEmas(12));
+        assertArrayEquals(IndicatorCalculator.emas(doubleSeries.getTrs(), 14), doubleSeries.getTrEmas(14));
+    }
+
+    @Tag("manual")
+    @Test
+    void batchBenchmark() {
+        List<Ohlcv> ohlcvs = createOhlcvs(6_000);
+        List<IndicatorContext> contexts = batchContexts();
+        for (int i = 0; i < 100; i ++) {
+            long startTime = System.nanoTime();
+            contexts.forEach(context -> Tools.indicatorValues(ohlcvs, context));
+            long separateTime = System.nanoTime() - startTime;
+            startTime = System.nanoTime();
+            Tools.indicatorValues(ohlcvs, contexts);
+            long batchTime = System.nanoTime() - startTime;
+            log.info("{} contexts - separate: {}ms, batch: {}ms", contexts.size(), separateTime / 1_000_000.0, batchTime / 1_000_000.0);
+        }
+    }
+
+}
@@ -0,0 +1,258 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.ohlcv.indicator.ema.EmaContext;
+import org.chomookun.fintics.core.ohlcv.indicator.obv.ObvContext;
+import org.chomookun.fintics.core.ohlcv.indicator.pricechannel.PriceChannelContext;
+import org.chomookun.fintics.core.ohlcv.indicator.rsi.RsiContext;
+import org.chomookun.fintics.core.ohlcv.indicator.sma.SmaContext;
+import org.chomookun.fintics.core.ohlcv.indicator.stochasticslow.StochasticSlowContext;
+import org.chomookun.fintics.core.ohlcv.indicator.williamsr.WilliamsRContext;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class IncrementalIndicatorCalculatorTest {
+
+    static Stream<IndicatorContext> contexts() {
+        return Stream.of(
+                EmaContext.DEFAULT,
+                RsiContext.DEFAULT,
+                ObvContext.DEFAULT,
+                StochasticSlowContext.DEFAULT,
+                WilliamsRContext.DEFAULT,
+                PriceChannelContext.DEFAULT
+        );
+    }
+
+    /**
+     * Creates random ohlcvs
+     * @param size size
+     * @return ohlcvs (time ascending)
+     */
+    static List<Ohlcv> createSeries(int size) {
+        List<Ohlcv> series = new ArrayList<>(DoubleComputationTest.createOhlcvs(size));
+        Collections.reverse(series);
+        return series;
+    }
+
+    /**
+     * Calculates indicators with batch calculator
+     * @param series series (time ascending)
+     * @param context context
+     * @return indicators (time ascending)
+     */
+    static List<Indicator> calculate(List<Ohlcv> series, IndicatorContext context) {
+        IndicatorCalculator<IndicatorContext, Indicator> calculator = IndicatorCalculatorFactory.getIndicator(context);
+        return calculator.calculate(series);
+    }
+
+    /**
+     * Creates partial bar of bar (before bar is completed)
+     * @param ohlcv ohlcv
+     * @return partial ohlcv
+     */
+    static Ohlcv createPartialOhlcv(Ohlcv ohlcv) {
+        return Ohlcv.builder()
+                .dateTime(ohlcv.getDateTime())
+                .open(ohlcv.getOpen())
+                .high(ohlcv.getOpen().max(ohlcv.getClose()))
+                .low(ohlcv.getOpen().min(ohlcv.getClose()))
+                .close(ohlcv.getOpen().add(BigDecimal.ONE))
+                .volume(BigDecimal.ONE)
+                .build();
+    }
+
+    @ParameterizedTest
+    @MethodSource("contexts")
+    void updateAndReplaceLast(IndicatorContext context) {
+        // given
+        List<Ohlcv> series = createSeries(300);
+        IncrementalIndicatorCalculator<IndicatorContext, Indicator> calculator = IndicatorCalculatorFactory.getIncrementalIndicator(context);
+        // when
+        List<Indicator> indicators = new ArrayList<>();
+        for (Ohlcv ohlcv : series) {
+            calculator.update(createPartialOhlcv(ohlcv));
+            calculator.replaceLast(createPartialOhlcv(ohlcv));
+            indicators.add(calculator.replaceLast(ohlcv));
+        }
+        // then
+        assertEquals(calculate(series, context), indicators);
+    }
+
+    @ParameterizedTest
+    @MethodSource("contexts")
+    void sync(IndicatorContext context) {
+        // given
+        List<Ohlcv> series = createSeries(300);
+        int windowSize = 100;
+        IncrementalIndicatorCalculator<IndicatorContext, Indicator> calculator = IndicatorCalculatorFactory.getIncrementalIndicator(context);
+        // when
+        for (int i = 1; i <= series.size(); i ++) {
+            // current bar is partial, head is evicted (rolling window)
+            int fromIndex = Math.max(i - windowSize, 0);
+            List<Ohlcv> window = new ArrayList<>(series.subList(fromIndex, i));
+            window.set(window.size() - 1, createPartialOhlcv(series.get(i - 1)));
+            calculator.sync(window);
+            window.set(window.size() - 1, series.get(i - 1));
+            List<Indicator> indicators = calculator.sync(window);
+            // then (same as batch over all consumed bars, evicted head is kept in state)
+            assertEquals(calculate(series.subList(0, i), context).subList(fromIndex, i), indicators);
+        }
+    }
+
+    /**
+     * Counts pushed bars of incremental indicator calculator
+     */
+    static class CountingCalculator extends IncrementalIndicatorCalculator<IndicatorContext, Indicator> {
+
+        private final IncrementalIndicatorCalculator<IndicatorContext, Indicator> calculator;
+
+        private int pushCount;
+
+        CountingCalculator(IndicatorContext context) {
+            super(context);
+            this.calculator = IndicatorCalculatorFactory.getIncrementalIndicator(context);
+        }
+
+        @Override
+        protected Indicator push(Ohlcv ohlcv) {
+            pushCount ++;
+            return calculator.push(ohlcv);
+        }
+
+        @Override
+        protected void undo() {
+            calculator.undo();
+        }
+
+        @Override
+        protected void clear() {
+            calculator.clear();
+        }
+
+    }
+
+    @ParameterizedTest
+    @MethodSource("contexts")
+    void syncWithRollingWindow(IndicatorContext context) {
+        // given
+        List<Ohlcv> series = createSeries(1_000);
+        int windowSize = 200;
+        CountingCalculator calculator = new CountingCalculator(context);
+        calculator.sync(series.subList(0, windowSize));
+        // when (head is evicted and new bar is appended in every update)
+        for (int i = windowSize + 1; i <= series.size(); i ++) {
+            List<Indicator> indicators = calculator.sync(series.subList(i - windowSize, i));
+            assertEquals(windowSize, indicators.size());
+            assertEquals(windowSize, calculator.size());
+        }
+        // then (each update replaces last bar and appends new bar only, no full recalculation)
+        int updateCount = series.size() - windowSize;
+        assertEquals(windowSize + updateCount * 2, calculator.pushCount);
+        assertEquals(calculate(series, context).subList(series.size() - windowSize, series.size()),
+                calculator.sync(series.subList(series.size() - windowSize, series.size())));
+    }
+
+    @ParameterizedTest
+    @MethodSource("contexts")
+    void syncWithEvictedHead(IndicatorContext context) {
+        // given
+        List<Ohlcv> series = createSeries(300);
+        IncrementalIndicatorCalculator<IndicatorContext, Indicator> calculator = IndicatorCalculatorFactory.getIncrementalIndicator(context);
+        calculator.sync(series.subList(0, 200));
+        // when (head bars are evicted and new bars are appended)
+        List<Indicator> indicators = calculator.sync(series.subList(50, 210));
+        // then (evicted head is kept in state)
+        assertEquals(calculate(series.subList(0, 210), context).subList(50, 210), indicators);
+        assertEquals(160, calculator.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("contexts")
+    void syncWithChangedHead(IndicatorContext context) {
+        // given
+        List<Ohlcv> series = new ArrayList<>(createSeries(300));
+        IncrementalIndicatorCalculator<IndicatorContext, Indicator> calculator = IndicatorCalculatorFactory.getIncrementalIndicator(context);
+        List<Indicator> expected = calculate(series, context);
+        calculator.sync(series);
+        // when (head bucket of resampled series is changed with same date time)
+        series.set(0, createPartialOhlcv(series.get(0)));
+        List<Indicator> indicators = calculator.sync(series);
+        // then (head is not recalculated)
+        assertEquals(expected, indicators);
+    }
+
+    @ParameterizedTest
+    @MethodSource("contexts")
+    void syncWithOlderHead(IndicatorContext context) {
+        // given
+        List<Ohlcv> series = createSeries(300);
+        IncrementalIndicatorCalculator<IndicatorContext, Indicator> calculator = IndicatorCalculatorFactory.getIncrementalIndicator(context);
+        calculator.sync(series.subList(100, 200));
+        // when (older bars are prepended, e.g. history is loaded)
+        List<Indicator> indicators = calculator.sync(series.subList(0, 200));
+        // then
+        assertEquals(calculate(series.subList(0, 200), context), indicators);
+        assertEquals(200, calculator.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("contexts")
+    void syncWithNotContinuedSeries(IndicatorContext context) {
+        // given
+        List<Ohlcv> series = createSeries(300);
+        IncrementalIndicatorCalculator<IndicatorContext, Indicator> calculator = IndicatorCalculatorFactory.getIncrementalIndicator(context);
+        calculator.sync(series.subList(0, 100));
+        // when
+        List<Indicator> indicators = calculator.sync(series.subList(150, 300));
+        // then
+        assertEquals(calculate(series.subList(150, 300), context), indicators);
+        assertEquals(150, calculator.size());
+    }
+
+    @Test
+    void indicatorsWithSeriesId() {
+        // given
+        List<Ohlcv> ohlcvs = DoubleComputationTest.createOhlcvs(300);
+        String seriesId = "test:MINUTE:1";
+        // when, then (results are views valid until next calculation)
+        List<Indicator> indicators = Tools.indicators(seriesId, ohlcvs.subList(1, 300), RsiContext.DEFAULT);
+        assertEquals(Tools.indicators(ohlcvs.subList(1, 300), RsiContext.DEFAULT), indicators);
+        List<Indicator> nextIndicators = Tools.indicators(seriesId, ohlcvs, RsiContext.of(14, 9));
+        assertEquals(Tools.indicators(ohlcvs, RsiContext.DEFAULT), nextIndicators);
+        assertThrows(UnsupportedOperationException.class, () -> nextIndicators.set(0, null));
+        // not supported context is calculated by batch calculator
+        assertEquals(Tools.indicators(ohlcvs, SmaContext.DEFAULT), Tools.indicators(seriesId, ohlcvs, SmaContext.DEFAULT));
+        IncrementalIndicatorStore.evict(seriesId);
+    }
+
+    @Tag("manual")
+    @Test
+    void benchmark() {
+        List<Ohlcv> series = createSeries(10_000);
+        contexts().forEach(context -> {
+            IncrementalIndicatorCalculator<IndicatorContext, Indicator> calculator = IndicatorCalculatorFactory.getIncrementalIndicator(context);
+            calculator.sync(series.subList(0, series.size() - 1));
+            long startTime = System.nanoTime();
+            calculate(series, context);
+            long batchTime = System.nanoTime() - startTime;
+            startTime = System.nanoTime();
+            calculator.sync(series);
+            long incrementalTime = System.nanoTime() - startTime;
+            log.info("{} - batch: {}ms, incremental: {}ms", context.getClass().getSimpleName(), batchTime / 1_000_000.0, incrementalTime / 1_000_000.0);
+        });
+    }
+
+}
@@ -0,0 +1,127 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import org.chomookun.fintics.core.ohlcv.indicator.rsi.Rsi;
+import org.chomookun.fintics.core.ohlcv.indicator.rsi.RsiContext;
+import org.chomookun.fintics.core.ohlcv.indicator.sma.Sma;
+import org.chomookun.fintics.core.ohlcv.indicator.sma.SmaContext;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndicatorCacheTest {
+
+    private final IndicatorCache indicatorCache = new IndicatorCache(IndicatorCacheProperties.builder()
+            .maxSize(1_000)
+            .build());
+
+    @BeforeEach
+    @AfterEach
+    void clear() {
+        IncrementalIndicatorStore.clear();
+    }
+
+    @Test
+    void indicators() {
+        // given
+        List<Ohlcv> ohlcvs = DoubleComputationTest.createOhlcvs(300);
+        String seriesId = "test:MINUTE:1";
+        long hitCount = indicatorCache.getMetrics().getHitCount().get();
+        long missCount = indicatorCache.getMetrics().getMissCount().get();
+        // when
+        List<Sma> smas = Tools.indicators(indicatorCache, seriesId, ohlcvs, SmaContext.of(20));
+        List<Sma> cachedSmas = Tools.indicators(indicatorCache, seriesId, new ArrayList<>(ohlcvs), SmaContext.of(20));
+        // then (same result is shared and read-only)
+        assertSame(smas, cachedSmas);
+        assertEquals(Tools.indicators(ohlcvs, SmaContext.of(20)), smas);
+        assertThrows(UnsupportedOperationException.class, () -> smas.remove(0));
+        assertEquals(hitCount + 1, indicatorCache.getMetrics().getHitCount().get());
+        assertEquals(missCount + 1, indicatorCache.getMetrics().getMissCount().get());
+    }
+
+    @Test
+    void indicatorsWithDifferentKey() {
+        // given
+        List<Ohlcv> ohlcvs = DoubleComputationTest.createOhlcvs(300);
+        List<Rsi> rsis = Tools.indicators(indicatorCache, "test:MINUTE:1", ohlcvs, RsiContext.DEFAULT);
+        // when, then (other series, context and new bar are calculated)
+        assertNotSame(rsis, Tools.indicators(indicatorCache, "test:MINUTE:5", ohlcvs, RsiContext.DEFAULT));
+        assertNotSame(rsis, Tools.indicators(indicatorCache, "test:MINUTE:1", ohlcvs, RsiContext.of(7, 9)));
+        assertNotSame(rsis, Tools.indicators(indicatorCache, "test:MINUTE:1", ohlcvs.subList(1, 300), RsiContext.DEFAULT));
+        assertEquals(4, indicatorCache.size());
+    }
+
+    @Test
+    void indicatorsWithChangedLastBar() {
+        // given
+        List<Ohlcv> ohlcvs = new ArrayList<>(DoubleComputationTest.createOhlcvs(300));
+        List<Rsi> rsis = Tools.indicators(indicatorCache, "test:MINUTE:1", ohlcvs, RsiContext.DEFAULT);
+        // when (current bar is changed within minute)
+        Ohlcv lastOhlcv = ohlcvs.get(0);
+        ohlcvs.set(0, Ohlcv.builder()
+                .dateTime(lastOhlcv.getDateTime())
+                .open(lastOhlcv.getOpen())
+                .high(lastOhlcv.getHigh().add(BigDecimal.TEN))
+                .low(lastOhlcv.getLow())
+                .close(lastOhlcv.getHigh().add(BigDecimal.TEN))
+                .volume(lastOhlcv.getVolume().add(BigDecimal.ONE))
+                .build());
+        List<Rsi> changedRsis = Tools.indicators(indicatorCache, "test:MINUTE:1", ohlcvs, RsiContext.DEFAULT);
+        // then
+        assertNotSame(rsis, changedRsis);
+        assertEquals(Tools.indicators(ohlcvs, RsiContext.DEFAULT), changedRsis);
+    }
+
+    @Test
+    void indicatorsWithChangedHistoryBar() {
+        // given
+        List<Ohlcv> ohlcvs = new ArrayList<>(DoubleComputationTest.createOhlcvs(300));
+        List<Sma> smas = Tools.indicators(indicatorCache, "test:MINUTE:1", ohlcvs, SmaContext.of(20));
+        // when (old bar is corrected, last bar and size are same)
+        Ohlcv ohlcv = ohlcvs.get(10);
+        ohlcvs.set(10, Ohlcv.builder()
+                .dateTime(ohlcv.getDateTime())
+                .open(ohlcv.getOpen())
+                .high(ohlcv.getHigh())
+                .low(ohlcv.getLow())
+                .close(ohlcv.getClose().add(BigDecimal.ONE))
+                .volume(ohlcv.getVolume())
+                .build());
+        List<Sma> changedSmas = Tools.indicators(indicatorCache, "test:MINUTE:1", ohlcvs, SmaContext.of(20));
+        // then
+        assertNotSame(smas, changedSmas);
+        assertEquals(Tools.indicators(ohlcvs, SmaContext.of(20)), changedSmas);
+    }
+
+    @Test
+    void indicatorsWithMaxSize() {
+        // given
+        IndicatorCache indicatorCache = new IndicatorCache(IndicatorCacheProperties.builder()
+                .maxSize(2)
+                .build());
+        List<Ohlcv> ohlcvs = DoubleComputationTest.createOhlcvs(100);
+        // when
+        for (int period = 1; period <= 3; period++) {
+            Tools.indicators(indicatorCache, "test:MINUTE:1", ohlcvs, SmaContext.of(period * 10));
+        }
+        // then (least recently used result is evicted)
+        assertEquals(2, indicatorCache.size());
+        assertEquals(1, indicatorCache.getMetrics().getEvictionCount().get());
+    }
+
+    @Test
+    void digest() {
+        // given
+        List<Ohlcv> ohlcvs = DoubleComputationTest.createOhlcvs(100);
+        // when, then
+        assertEquals(IndicatorCache.digest(ohlcvs), IndicatorCache.digest(new ArrayList<>(ohlcvs)));
+        assertNotEquals(IndicatorCache.digest(ohlcvs), IndicatorCache.digest(ohlcvs.subList(0, 99)));
+    }
+
+}
@@ -0,0 +1,174 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Slf4j
+class IndicatorCalculatorTest {
+
+    /**
+     * Creates random price series (mixed scale)
+     * @param size size
+     * @param seed random seed
+     * @return series
+     */
+    static List<BigDecimal> createSeries(int size, long seed) {
+        Random random = new Random(seed);
+        List<BigDecimal> series = new ArrayList<>();
+        BigDecimal price = BigDecimal.valueOf(10_000);
+        for (int i = 0; i < size; i ++) {
+            price = price.add(BigDecimal.valueOf(random.nextInt(201) - 100, random.nextInt(3)))
+                    .max(BigDecimal.ONE);
+            series.add(price);
+        }
+        return series;
+    }
+
+    /**
+     * Naive simple moving average (sums each window)
+     */
+    static List<BigDecimal> naiveSmas(List<BigDecimal> series, int period, MathContext mathContext) {
+        List<BigDecimal> smas = new ArrayList<>();
+        for(int i = 0; i < series.size(); i ++) {
+            List<BigDecimal> periodSeries = series.subList(Math.max(i - period + 1, 0), i + 1);
+            BigDecimal sum = BigDecimal.ZERO;
+            for(BigDecimal value : periodSeries) {
+                sum = sum.add(value);
+            }
+            smas.add(sum.divide(BigDecimal.valueOf(periodSeries.size()), mathContext));
+        }
+        return smas;
+    }
+
+    /**
+     * Naive standard deviation (sums each window)
+     */
+    static List<BigDecimal> naiveSds(List<BigDecimal> series, int period, MathContext mathContext) {
+        List<BigDecimal> stds = new ArrayList<>();
+        for (int i = 0; i < series.size(); i ++) {
+            List<BigDecimal> periodSeries = series.subList(Math.max(i - period + 1, 0), i + 1);
+            BigDecimal mean = periodSeries.stream()
+                    .reduce(BigDecimal.ZERO, BigDecimal::add)
+                    .divide(BigDecimal.valueOf(periodSeries.size()), mathContext);
+            BigDecimal sumSquaredDeviations = periodSeries.stream()
+                    .map(x -> x.subtract(mean).pow(2))
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal variance = sumSquaredDeviations
+                    .divide(BigDecimal.valueOf(periodSeries.size()), mathContext);
+            stds.add(BigDecimal.valueOf(Math.sqrt(variance.doubleValue())));
+        }
+        return stds;
+    }
+
+    /**
+     * Naive absolute deviation (sums each window)
+     */
+    static List<BigDecimal> naiveAds(List<BigDecimal> series, int period, MathContext mathContext) {
+        List<BigDecimal> ads = new ArrayList<>();
+        for (int i = 0; i < series.size(); i ++) {
+            List<BigDecimal> periodSeries = series.subList(Math.max(i - period + 1, 0), i + 1);
+            BigDecimal sum = periodSeries.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal mean = sum.divide(BigDecimal.valueOf(periodSeries.size()), mathContext);
+            BigDecimal sumOfAbsoluteDifferences = periodSeries.stream()
+                    .map(value -> value.subtract(mean).abs())
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            ads.add(sumOfAbsoluteDifferences.divide(BigDecimal.valueOf(periodSeries.size()), mathContext));
+        }
+        return ads;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1,DECIMAL32", "5,DECIMAL32", "20,DECIMAL32", "20,DECIMAL128", "60,DECIMAL64", "1000,DECIMAL32"})
+    void smas(int period, String mathContextName) throws Exception {
+        // given
+        MathContext mathContext = (MathContext) MathContext.class.getField(mathContextName).get(null);
+        List<BigDecimal> series = createSeries(500, period);
+        // when
+        List<BigDecimal> smas = IndicatorCalculator.smas(series, period, mathContext);
+        // then
+        assertEquals(naiveSmas(series, period, mathContext), smas);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1,DECIMAL32", "5,DECIMAL32", "20,DECIMAL32", "20,DECIMAL128", "60,DECIMAL64", "1000,DECIMAL32"})
+    void sds(int period, String mathContextName) throws Exception {
+        // given
+        MathContext mathContext = (MathContext) MathContext.class.getField(mathContextName).get(null);
+        List<BigDecimal> series = createSeries(500, period);
+        // when
+        List<BigDecimal> sds = IndicatorCalculator.sds(series, period, mathContext);
+        // then
+        assertEquals(naiveSds(series, period, mathContext), sds);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1,DECIMAL32", "5,DECIMAL32", "20,DECIMAL32", "20,DECIMAL128", "60,DECIMAL64", "1000,DECIMAL32"})
+    void ads(int period, String mathContextName) throws Exception {
+        // given
+        MathContext mathContext = (MathContext) MathContext.class.getField(mathContextName).get(null);
+        List<BigDecimal> series = createSeries(500, period);
+        // when
+        List<BigDecimal> ads = IndicatorCalculator.ads(series, period, mathContext);
+        // then
+        assertEquals(naiveAds(series, period, mathContext), ads);
+    }
+
+    @Test
+    void emptySeries() {
+        assertEquals(List.of(), IndicatorCalculator.smas(List.of(), 20, MathContext.DECIMAL32));
+        assertEquals(List.of(), IndicatorCalculator.sds(List.of(), 20, MathContext.DECIMAL32));
+        assertEquals(List.of(), IndicatorCalculator.ads(List.of(), 20, MathContext.DECIMAL32));
+    }
+
+    @Tag("manual")
+    @Test
+    void benchmark() {
+        List<BigDecimal> series = createSeries(10_000, 0);
+        MathContext mathContext = MathContext.DECIMAL128;
+        for (int period : new int[]{20, 60, 120}) {
+            log.info("smas({}) - naive: {}ms, rolling: {}ms", period,
+                    measure(() -> naiveSmas(series, period, mathContext)),
+                    measure(() -> IndicatorCalculator.smas(series, period, mathContext)));
+            log.info("sds({}) - naive: {}ms, rolling: {}ms", period,
+                    measure(() -> naiveSds(series, period, mathContext)),
+                    measure(() -> IndicatorCalculator.sds(series, period, mathContext)));
+            log.info("ads({}) - naive: {}ms, rolling: {}ms", period,
+                    measure(() -> naiveAds(series, period, mathContext)),
+                    measure(() -> IndicatorCalculator.ads(series, period, mathContext)));
+        }
+        // zScores reads only last value of full period standard deviation
+        log.info("sds(full period) - naive: {}ms, rolling: {}ms",
+                measure(() -> naiveSds(series, series.size(), MathContext.DECIMAL32)),
+                measure(() -> IndicatorCalculator.sds(series, series.size(), MathContext.DECIMAL32)));
+    }
+
+    /**
+     * Measures average elapsed time after warm up
+     * @param supplier supplier
+     * @return average elapsed milliseconds
+     */
+    private static double measure(Supplier<?> supplier) {
+        for (int i = 0; i < 2; i ++) {
+            supplier.get();
+        }
+        int count = 3;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < count; i ++) {
+            supplier.get();
+        }
+        return (System.nanoTime() - startTime) / 1_000_000.0 / count;
+    }
+
+}
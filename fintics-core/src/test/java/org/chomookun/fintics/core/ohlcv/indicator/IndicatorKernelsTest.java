@@ -0,0 +1,152 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Slf4j
+class IndicatorKernelsTest {
+
+    static final int[] PERIODS = {1, 2, 3, 5, 14, 20, 60, 120, 200};
+
+    static IndicatorKernels scalar = IndicatorKernels.scalar();
+
+    static IndicatorKernels vector;
+
+    @BeforeAll
+    static void loadVector() {
+        vector = IndicatorKernels.vector().orElse(null);
+    }
+
+    /**
+     * Creates random prices
+     * @param size size
+     * @param seed seed
+     * @return prices (time ascending)
+     */
+    static double[] createPrices(int size, long seed) {
+        Random random = new Random(seed);
+        double[] prices = new double[size];
+        double price = 10_000;
+        for (int i = 0; i < size; i ++) {
+            // includes unchanged price (zero difference)
+            price = Math.max(price + random.nextInt(21) - 10, 100);
+            prices[i] = price;
+        }
+        return prices;
+    }
+
+    static void assertClose(double[] expected, double[] actual, String message) {
+        assertEquals(expected.length, actual.length, message);
+        for (int i = 0; i < expected.length; i ++) {
+            double tolerance = Math.max(Math.abs(expected[i]), 1.0) * 1e-9;
+            assertEquals(expected[i], actual[i], tolerance, message + "[" + i + "]");
+        }
+    }
+
+    @Test
+    void scalar() {
+        // given
+        double[] series = {1, 2, 3, 4, 5};
+        // when, then
+        assertArrayEquals(new double[]{1, 1.5, 2, 3, 4}, scalar.smas(series, 3));
+        assertArrayEquals(new double[]{0, 0.5, 2.0 / 3, 2.0 / 3, 2.0 / 3}, scalar.ads(series, 3), 1e-12);
+        assertArrayEquals(new double[]{0, 1, 2, 3, 4}, scalar.obvs(series, new double[]{1, 1, 1, 1, 1}));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 7, 8, 9, 31, 100, 1_001})
+    void vectorSameAsScalar(int size) {
+        assumeTrue(vector != null, "jdk.incubator.vector module not available");
+        // given
+        double[] close = createPrices(size, 0);
+        double[] high = createPrices(size, 1);
+        double[] low = createPrices(size, 2);
+        double[] volume = createPrices(size, 3);
+        // when, then (element-wise kernels are exact)
+        assertArrayEquals(scalar.trs(high, low, close), vector.trs(high, low, close));
+        assertArrayEquals(scalar.typicalPrices(high, low, close), vector.typicalPrices(high, low, close));
+        assertArrayEquals(scalar.obvs(close, volume), vector.obvs(close, volume));
+        // window kernels differ by summation order
+        for (int period : PERIODS) {
+            assertClose(scalar.smas(close, period), vector.smas(close, period), "smas(" + period + ")");
+            assertClose(scalar.sds(close, period), vector.sds(close, period), "sds(" + period + ")");
+            assertClose(scalar.ads(close, period), vector.ads(close, period), "ads(" + period + ")");
+        }
+    }
+
+    @Test
+    void getInstance() {
+        // default is scalar unless vector property is set
+        if (!Boolean.getBoolean(IndicatorKernels.VECTOR_PROPERTY)) {
+            assertSame(scalar, IndicatorKernels.getInstance());
+        }
+    }
+
+    @Test
+    void loadFallback() {
+        // disabled
+        assertSame(scalar, IndicatorKernelsLoader.load(false, IndicatorKernelsLoader.VECTOR_CLASS_NAME));
+        // not available (e.g. incubator module is not added or vector classes are not in class path)
+        String notExistClassName = IndicatorKernelsLoader.class.getPackageName() + ".NotExistIndicatorKernels";
+        assertTrue(IndicatorKernelsLoader.loadVector(notExistClassName).isEmpty());
+        assertSame(scalar, IndicatorKernelsLoader.load(true, notExistClassName));
+        // enabled and available
+        if (vector != null) {
+            assertSame(vector.getClass(), IndicatorKernelsLoader.load(true, IndicatorKernelsLoader.VECTOR_CLASS_NAME).getClass());
+        }
+    }
+
+    @Tag("manual")
+    @Test
+    void benchmark() {
+        assumeTrue(vector != null, "jdk.incubator.vector module not available");
+        // 10k minute bars
+        int size = 10_000;
+        double[] close = createPrices(size, 0);
+        double[] high = createPrices(size, 1);
+        double[] low = createPrices(size, 2);
+        double[] volume = createPrices(size, 3);
+        benchmark("sma(20)", kernels -> kernels.smas(close, 20));
+        benchmark("sma(60)", kernels -> kernels.smas(close, 60));
+        benchmark("sma(120)", kernels -> kernels.smas(close, 120));
+        benchmark("ad(20)", kernels -> kernels.ads(close, 20));
+        benchmark("ad(60)", kernels -> kernels.ads(close, 60));
+        benchmark("ad(120)", kernels -> kernels.ads(close, 120));
+        benchmark("tr", kernels -> kernels.trs(high, low, close));
+        benchmark("typical price", kernels -> kernels.typicalPrices(high, low, close));
+        benchmark("obv", kernels -> kernels.obvs(close, volume));
+    }
+
+    private void benchmark(String name, Function<IndicatorKernels, double[]> kernel) {
+        int iterations = 2_000;
+        double blackhole = 0;
+        long scalarTime = 0;
+        long vectorTime = 0;
+        for (int round = 0; round < 3; round ++) {
+            long startTime = System.nanoTime();
+            for (int i = 0; i < iterations; i ++) {
+                blackhole += kernel.apply(scalar)[0];
+            }
+            scalarTime = System.nanoTime() - startTime;
+            startTime = System.nanoTime();
+            for (int i = 0; i < iterations; i ++) {
+                blackhole += kernel.apply(vector)[0];
+            }
+            vectorTime = System.nanoTime() - startTime;
+        }
+        log.info("{} - scalar: {}us, vector: {}us, gain: {}x ({})", name,
+                scalarTime / iterations / 1_000.0, vectorTime / iterations / 1_000.0,
+                Math.round((double) scalarTime / vectorTime * 100) / 100.0, blackhole);
+    }
+
+}
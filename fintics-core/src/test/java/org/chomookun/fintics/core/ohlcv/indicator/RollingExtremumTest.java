@@ -0,0 +1,149 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.ohlcv.indicator.pricechannel.PriceChannelContext;
+import org.chomookun.fintics.core.ohlcv.indicator.stochasticslow.StochasticSlowContext;
+import org.chomookun.fintics.core.ohlcv.indicator.williamsr.WilliamsRContext;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class RollingExtremumTest {
+
+    /**
+     * Creates random values (many equal values with different scale)
+     * @param random random
+     * @param size size
+     * @return values
+     */
+    static List<BigDecimal> createValues(Random random, int size) {
+        List<BigDecimal> values = new ArrayList<>();
+        for (int i = 0; i < size; i ++) {
+            values.add(BigDecimal.valueOf(random.nextInt(20)).setScale(random.nextInt(3)));
+        }
+        return values;
+    }
+
+    /**
+     * Naive rolling extremum (scans window, same as previous calculators)
+     * @param values values
+     * @param period period
+     * @param max true if maximum
+     * @return extremum at each index
+     */
+    static List<BigDecimal> naiveRolling(List<BigDecimal> values, int period, boolean max) {
+        List<BigDecimal> extremums = new ArrayList<>();
+        for (int i = 0; i < values.size(); i ++) {
+            List<BigDecimal> periodValues = values.subList(Math.max(i - period + 1, 0), i + 1);
+            extremums.add(max
+                    ? periodValues.stream().max(Comparator.naturalOrder()).get()
+                    : periodValues.stream().min(Comparator.naturalOrder()).get());
+        }
+        return extremums;
+    }
+
+    @Test
+    void addAndGet() {
+        Random random = new Random(0);
+        for (int trial = 0; trial < 200; trial ++) {
+            // given
+            List<BigDecimal> values = createValues(random, 1 + random.nextInt(200));
+            int period = 1 + random.nextInt(30);
+            RollingExtremum<BigDecimal> max = RollingExtremum.max(period);
+            RollingExtremum<BigDecimal> min = RollingExtremum.min(period);
+            // when
+            List<BigDecimal> maxes = new ArrayList<>();
+            List<BigDecimal> mins = new ArrayList<>();
+            for (BigDecimal value : values) {
+                max.add(value);
+                min.add(value);
+                maxes.add(max.get());
+                mins.add(min.get());
+            }
+            // then (same instance, earliest among equal values)
+            List<BigDecimal> expectedMaxes = naiveRolling(values, period, true);
+            List<BigDecimal> expectedMins = naiveRolling(values, period, false);
+            for (int i = 0; i < values.size(); i ++) {
+                assertSame(expectedMaxes.get(i), maxes.get(i), "period:" + period + ", index:" + i);
+                assertSame(expectedMins.get(i), mins.get(i), "period:" + period + ", index:" + i);
+            }
+        }
+    }
+
+    @Test
+    void undo() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 200; trial ++) {
+            // given
+            List<BigDecimal> values = createValues(random, 1 + random.nextInt(200));
+            int period = 1 + random.nextInt(30);
+            RollingExtremum<BigDecimal> max = RollingExtremum.max(period);
+            // when (adds other value, undoes and adds value)
+            List<BigDecimal> maxes = new ArrayList<>();
+            for (BigDecimal value : values) {
+                max.add(BigDecimal.valueOf(random.nextInt(40) - 10));
+                max.undo();
+                max.add(value);
+                maxes.add(max.get());
+            }
+            // then
+            List<BigDecimal> expectedMaxes = naiveRolling(values, period, true);
+            for (int i = 0; i < values.size(); i ++) {
+                assertSame(expectedMaxes.get(i), maxes.get(i), "period:" + period + ", index:" + i);
+            }
+            assertThrows(IllegalStateException.class, () -> {
+                max.undo();
+                max.undo();
+            });
+        }
+    }
+
+    @Test
+    void rollingMaxAndMin() {
+        Random random = new Random(2);
+        for (int trial = 0; trial < 200; trial ++) {
+            // given
+            List<BigDecimal> values = createValues(random, random.nextInt(200));
+            double[] doubleValues = values.stream().mapToDouble(BigDecimal::doubleValue).toArray();
+            int period = 1 + random.nextInt(30);
+            // when
+            double[] maxes = RollingExtremum.rollingMax(doubleValues, period);
+            double[] mins = RollingExtremum.rollingMin(doubleValues, period);
+            // then
+            assertArrayEquals(naiveRolling(values, period, true).stream().mapToDouble(BigDecimal::doubleValue).toArray(), maxes);
+            assertArrayEquals(naiveRolling(values, period, false).stream().mapToDouble(BigDecimal::doubleValue).toArray(), mins);
+        }
+    }
+
+    @Tag("manual")
+    @Test
+    void benchmark() {
+        List<BigDecimal> values = createValues(new Random(0), 10_000);
+        List<Ohlcv> ohlcvs = DoubleComputationTest.createOhlcvs(10_000);
+        for (int period : new int[]{20, 60, 120}) {
+            long startTime = System.nanoTime();
+            naiveRolling(values, period, true);
+            long naiveTime = System.nanoTime() - startTime;
+            startTime = System.nanoTime();
+            RollingExtremum<BigDecimal> max = RollingExtremum.max(period);
+            values.forEach(max::add);
+            long dequeTime = System.nanoTime() - startTime;
+            log.info("rolling max({}) - naive: {}ms, deque: {}ms", period, naiveTime / 1_000_000.0, dequeTime / 1_000_000.0);
+            for (IndicatorContext context : List.of(PriceChannelContext.of(period), WilliamsRContext.of(period, 3), StochasticSlowContext.of(period, 3, 3))) {
+                startTime = System.nanoTime();
+                Tools.indicators(ohlcvs, context);
+                log.info("{}({}) - {}ms", context.getClass().getSimpleName(), period, (System.nanoTime() - startTime) / 1_000_000.0);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,238 @@
+package org.chomookun.fintics.core.ohlcv.model;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OhlcvResamplerTest {
+
+    /**
+     * Resamples ohlcvs by grouping (reference)
+     * @param type ohlcv type
+     * @param period period
+     * @param ohlcvs ohlcvs (time descending)
+     * @return resampled ohlcvs (time descending)
+     */
+    static List<Ohlcv> resample(Ohlcv.Type type, int period, List<Ohlcv> ohlcvs) {
+        Map<LocalDateTime, List<Ohlcv>> bucketMap = new LinkedHashMap<>();
+        for (int i = ohlcvs.size() - 1; i >= 0; i --) {
+            Ohlcv ohlcv = ohlcvs.get(i);
+            bucketMap.computeIfAbsent(OhlcvResampler.getBucketDateTime(type, period, ohlcv.getDateTime()), key -> new ArrayList<>())
+                    .add(ohlcv);
+        }
+        List<Ohlcv> resampledOhlcvs = new ArrayList<>();
+        bucketMap.forEach((dateTime, bucket) -> resampledOhlcvs.add(Ohlcv.builder()
+                .type(bucket.get(0).getType())
+                .dateTime(dateTime)
+                .timeZone(bucket.get(0).getTimeZone())
+                .open(bucket.get(0).getOpen())
+                .high(bucket.stream().map(Ohlcv::getHigh).max(BigDecimal::compareTo).orElseThrow())
+                .low(bucket.stream().map(Ohlcv::getLow).min(BigDecimal::compareTo).orElseThrow())
+                .close(bucket.get(bucket.size() - 1).getClose())
+                .volume(bucket.stream().map(Ohlcv::getVolume).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .build()));
+        Collections.reverse(resampledOhlcvs);
+        return resampledOhlcvs;
+    }
+
+    /**
+     * Resamples ohlcvs by bar count from newest bar (reference)
+     * @param period period
+     * @param ohlcvs ohlcvs (time descending)
+     * @return resampled ohlcvs (time descending)
+     */
+    static List<Ohlcv> resampleBarCount(int period, List<Ohlcv> ohlcvs) {
+        List<Ohlcv> resampledOhlcvs = new ArrayList<>();
+        for (int i = 0; i < ohlcvs.size(); i += period) {
+            List<Ohlcv> bucket = new ArrayList<>(ohlcvs.subList(i, Math.min(i + period, ohlcvs.size())));
+            Collections.reverse(bucket);
+            resampledOhlcvs.add(Ohlcv.builder()
+                    .type(bucket.get(0).getType())
+                    .dateTime(bucket.get(bucket.size() - 1).getDateTime())
+                    .timeZone(bucket.get(0).getTimeZone())
+                    .open(bucket.get(0).getOpen())
+                    .high(bucket.stream().map(Ohlcv::getHigh).max(BigDecimal::compareTo).orElseThrow())
+                    .low(bucket.stream().map(Ohlcv::getLow).min(BigDecimal::compareTo).orElseThrow())
+                    .close(bucket.get(bucket.size() - 1).getClose())
+                    .volume(bucket.stream().map(Ohlcv::getVolume).reduce(BigDecimal.ZERO, BigDecimal::add))
+                    .build());
+        }
+        return resampledOhlcvs;
+    }
+
+    @Test
+    void getBucketDateTime() {
+        // minute (aligned to clock)
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 3, 10, 17);
+        assertEquals(dateTime, OhlcvResampler.getBucketDateTime(Ohlcv.Type.MINUTE, 1, dateTime));
+        assertEquals(LocalDateTime.of(2024, 1, 3, 10, 15), OhlcvResampler.getBucketDateTime(Ohlcv.Type.MINUTE, 5, dateTime));
+        assertEquals(LocalDateTime.of(2024, 1, 3, 10, 15), OhlcvResampler.getBucketDateTime(Ohlcv.Type.MINUTE, 15, dateTime));
+        assertEquals(LocalDateTime.of(2024, 1, 3, 10, 0), OhlcvResampler.getBucketDateTime(Ohlcv.Type.MINUTE, 60, dateTime));
+        // daily (period is number of ISO weeks)
+        LocalDateTime wednesday = LocalDate.of(2024, 1, 3).atStartOfDay();
+        assertEquals(LocalDate.of(2024, 1, 1).atStartOfDay(), OhlcvResampler.getBucketDateTime(Ohlcv.Type.DAILY, 1, wednesday));
+        assertEquals(LocalDate.of(2024, 1, 1).atStartOfDay(), OhlcvResampler.getBucketDateTime(Ohlcv.Type.DAILY, 1, wednesday.plusDays(4)));
+        assertEquals(LocalDate.of(2024, 1, 8).atStartOfDay(), OhlcvResampler.getBucketDateTime(Ohlcv.Type.DAILY, 1, wednesday.plusDays(5)));
+        LocalDateTime twoWeeks = OhlcvResampler.getBucketDateTime(Ohlcv.Type.DAILY, 2, wednesday);
+        assertEquals(twoWeeks, OhlcvResampler.getBucketDateTime(Ohlcv.Type.DAILY, 2, twoWeeks.plusDays(13)));
+        assertNotEquals(twoWeeks, OhlcvResampler.getBucketDateTime(Ohlcv.Type.DAILY, 2, twoWeeks.plusDays(14)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 5, 15, 60})
+    void resample(int period) {
+        // given
+        List<Ohlcv> ohlcvs = OhlcvSeriesTest.createOhlcvs(1_000);
+        OhlcvResampler ohlcvResampler = new OhlcvResampler(Ohlcv.Type.MINUTE, period);
+        // when
+        List<Ohlcv> resampledOhlcvs = ohlcvResampler.resample(ohlcvs);
+        // then
+        assertEquals(resample(Ohlcv.Type.MINUTE, period, ohlcvs), resampledOhlcvs);
+        assertEquals(resampledOhlcvs.size(), ohlcvResampler.getResampledCount());
+        assertThrows(UnsupportedOperationException.class, () -> resampledOhlcvs.remove(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 15, 60})
+    void resampleIncrementally(int period) {
+        // given (rolling window of source)
+        List<Ohlcv> allOhlcvs = new ArrayList<>(OhlcvSeriesTest.createOhlcvs(1_000));
+        Collections.reverse(allOhlcvs);
+        List<Ohlcv> series = new ArrayList<>(allOhlcvs.subList(0, 300));
+        OhlcvResampler ohlcvResampler = new OhlcvResampler(Ohlcv.Type.MINUTE, period);
+        ohlcvResampler.resample(descending(series));
+        Random random = new Random(0);
+        for (int i = 300; i < allOhlcvs.size(); i ++) {
+            // when (new bar, changed last bar or evicted head)
+            switch (random.nextInt(3)) {
+                case 0 -> series.add(allOhlcvs.get(i));
+                case 1 -> {
+                    Ohlcv lastOhlcv = series.get(series.size() - 1);
+                    series.set(series.size() - 1, Ohlcv.builder()
+                            .type(lastOhlcv.getType())
+                            .dateTime(lastOhlcv.getDateTime())
+                            .open(lastOhlcv.getOpen())
+                            .high(lastOhlcv.getHigh().add(BigDecimal.ONE))
+                            .low(lastOhlcv.getLow())
+                            .close(lastOhlcv.getHigh().add(BigDecimal.ONE))
+                            .volume(lastOhlcv.getVolume().add(BigDecimal.ONE))
+                            .build());
+                }
+                default -> {
+                    series.add(allOhlcvs.get(i));
+                    series.remove(0);
+                }
+            }
+            List<Ohlcv> ohlcvs = descending(series);
+            List<Ohlcv> resampledOhlcvs = ohlcvResampler.resample(ohlcvs);
+            // then (same as full resample, only last and first bucket are resampled)
+            assertEquals(resample(Ohlcv.Type.MINUTE, period, ohlcvs), resampledOhlcvs);
+            assertTrue(ohlcvResampler.getResampledCount() <= 3, "resampled count:" + ohlcvResampler.getResampledCount());
+        }
+    }
+
+    @Test
+    void resampleNotContinued() {
+        // given
+        List<Ohlcv> ohlcvs = OhlcvSeriesTest.createOhlcvs(1_000);
+        OhlcvResampler ohlcvResampler = new OhlcvResampler(Ohlcv.Type.MINUTE, 5);
+        ohlcvResampler.resample(ohlcvs.subList(500, 1_000));
+        // when (gap between previous and current source)
+        List<Ohlcv> resampledOhlcvs = ohlcvResampler.resample(ohlcvs.subList(0, 300));
+        // then
+        assertEquals(resample(Ohlcv.Type.MINUTE, 5, ohlcvs.subList(0, 300)), resampledOhlcvs);
+        assertEquals(resampledOhlcvs.size(), ohlcvResampler.getResampledCount());
+        // unchanged
+        ohlcvResampler.resample(ohlcvs.subList(0, 300));
+        assertEquals(0, ohlcvResampler.getResampledCount());
+        // empty
+        assertTrue(ohlcvResampler.resample(List.of()).isEmpty());
+    }
+
+    @Test
+    void resampleDailyToWeekly() {
+        // given (2024-01-01 is monday, weekends are skipped)
+        List<Ohlcv> ohlcvs = new ArrayList<>();
+        for (LocalDate date = LocalDate.of(2024, 1, 1); date.isBefore(LocalDate.of(2024, 1, 20)); date = date.plusDays(1)) {
+            if (date.getDayOfWeek().getValue() <= 5) {
+                ohlcvs.add(0, Ohlcv.of("test", Ohlcv.Type.DAILY, date.atStartOfDay(), null, 100, 110, 90, 105, 10));
+            }
+        }
+        // when
+        List<Ohlcv> resampledOhlcvs = new OhlcvResampler(Ohlcv.Type.DAILY, 1, OhlcvResampler.Mode.CALENDAR).resample(ohlcvs);
+        // then
+        assertEquals(3, resampledOhlcvs.size());
+        assertEquals(LocalDate.of(2024, 1, 15).atStartOfDay(), resampledOhlcvs.get(0).getDateTime());
+        assertEquals(LocalDate.of(2024, 1, 1).atStartOfDay(), resampledOhlcvs.get(2).getDateTime());
+        assertEquals(50, resampledOhlcvs.get(2).getVolume().longValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 5, 7})
+    void resampleDailyByBarCount(int period) {
+        // given (weekends and holiday(2024-01-03) are skipped)
+        List<Ohlcv> ohlcvs = new ArrayList<>();
+        for (LocalDate date = LocalDate.of(2024, 1, 1); date.isBefore(LocalDate.of(2024, 3, 1)); date = date.plusDays(1)) {
+            if (date.getDayOfWeek().getValue() <= 5 && !date.equals(LocalDate.of(2024, 1, 3))) {
+                ohlcvs.add(0, Ohlcv.of("test", Ohlcv.Type.DAILY, date.atStartOfDay(), null, 100, 110, 90, 105, 10));
+            }
+        }
+        OhlcvResampler ohlcvResampler = new OhlcvResampler(Ohlcv.Type.DAILY, period);
+        // when
+        List<Ohlcv> resampledOhlcvs = ohlcvResampler.resample(ohlcvs);
+        // then (default mode of daily is bar count, date time of bucket is newest bar)
+        assertEquals(OhlcvResampler.Mode.BAR_COUNT, ohlcvResampler.getMode());
+        assertEquals(resampleBarCount(period, ohlcvs), resampledOhlcvs);
+        assertEquals(ohlcvs.get(0).getDateTime(), resampledOhlcvs.get(0).getDateTime());
+        assertEquals(period * 10L, resampledOhlcvs.get(0).getVolume().longValue());
+    }
+
+    @Test
+    void resampleBarCountIncrementally() {
+        // given
+        List<Ohlcv> allOhlcvs = OhlcvSeriesTest.createOhlcvs(1_000);
+        List<Ohlcv> ohlcvs = new ArrayList<>(allOhlcvs.subList(1, 301));
+        OhlcvResampler ohlcvResampler = new OhlcvResampler(Ohlcv.Type.MINUTE, 7, OhlcvResampler.Mode.BAR_COUNT);
+        ohlcvResampler.resample(ohlcvs);
+        // when (changed last bar)
+        Ohlcv lastOhlcv = ohlcvs.get(0);
+        ohlcvs.set(0, Ohlcv.builder()
+                .type(lastOhlcv.getType())
+                .dateTime(lastOhlcv.getDateTime())
+                .open(lastOhlcv.getOpen())
+                .high(lastOhlcv.getHigh().add(BigDecimal.ONE))
+                .low(lastOhlcv.getLow())
+                .close(lastOhlcv.getHigh().add(BigDecimal.ONE))
+                .volume(lastOhlcv.getVolume().add(BigDecimal.ONE))
+                .build());
+        List<Ohlcv> resampledOhlcvs = ohlcvResampler.resample(ohlcvs);
+        // then (only newest bucket is resampled)
+        assertEquals(resampleBarCount(7, ohlcvs), resampledOhlcvs);
+        assertEquals(1, ohlcvResampler.getResampledCount());
+        // when (new bar shifts all buckets)
+        ohlcvs.add(0, allOhlcvs.get(0));
+        resampledOhlcvs = ohlcvResampler.resample(ohlcvs);
+        // then
+        assertEquals(resampleBarCount(7, ohlcvs), resampledOhlcvs);
+        assertEquals(resampledOhlcvs.size(), ohlcvResampler.getResampledCount());
+    }
+
+    private static List<Ohlcv> descending(List<Ohlcv> series) {
+        List<Ohlcv> ohlcvs = new ArrayList<>(series);
+        Collections.reverse(ohlcvs);
+        return ohlcvs;
+    }
+
+}
@@ -0,0 +1,205 @@
+package org.chomookun.fintics.core.ohlcv.model;
+
+import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.ohlcv.indicator.Tools;
+import org.chomookun.fintics.core.ohlcv.indicator.rsi.RsiContext;
+import org.chomookun.fintics.core.ohlcv.indicator.sma.SmaContext;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class OhlcvSeriesTest {
+
+    /**
+     * Creates random ohlcvs (scale 4, same as stored ohlcv)
+     * @param size size
+     * @return ohlcvs (time descending)
+     */
+    static List<Ohlcv> createOhlcvs(int size) {
+        Random random = new Random(0);
+        List<Ohlcv> ohlcvs = new ArrayList<>();
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 2, 9, 0);
+        BigDecimal close = BigDecimal.valueOf(100_000_000, 4);
+        for (int i = 0; i < size; i ++) {
+            BigDecimal open = close;
+            close = open.add(BigDecimal.valueOf(random.nextInt(20_001) - 10_000, 4)).max(BigDecimal.valueOf(1_000_000, 4));
+            ohlcvs.add(Ohlcv.builder()
+                    .assetId("US.TEST")
+                    .type(Ohlcv.Type.MINUTE)
+                    .dateTime(dateTime.plusMinutes(i))
+                    .timeZone(ZoneId.of("America/New_York"))
+                    .open(open)
+                    .high(open.max(close).add(BigDecimal.valueOf(random.nextInt(5_000), 4)))
+                    .low(open.min(close).subtract(BigDecimal.valueOf(random.nextInt(5_000), 4)))
+                    .close(close)
+                    .volume(BigDecimal.valueOf(random.nextInt(100_000)))
+                    .interpolated(random.nextInt(10) == 0)
+                    .build());
+        }
+        Collections.reverse(ohlcvs);
+        return ohlcvs;
+    }
+
+    @Test
+    void of() {
+        // given
+        List<Ohlcv> ohlcvs = createOhlcvs(100);
+        // when
+        OhlcvSeries ohlcvSeries = OhlcvSeries.of(ohlcvs);
+        // then
+        assertEquals("US.TEST", ohlcvSeries.getAssetId());
+        assertEquals(Ohlcv.Type.MINUTE, ohlcvSeries.getType());
+        assertEquals(ZoneId.of("America/New_York"), ohlcvSeries.getTimeZone());
+        assertTrue(ohlcvSeries.isDescending());
+        assertEquals(ohlcvs, ohlcvSeries.toList());
+        for (int i = 0; i < ohlcvs.size(); i ++) {
+            assertEquals(ohlcvs.get(i).getClose().doubleValue(), ohlcvSeries.getCloses()[i]);
+            assertEquals(ohlcvs.get(i).getDateTime(), ohlcvSeries.getDateTime(i));
+        }
+    }
+
+    @Test
+    void ofWithMixedScaleAndNull() {
+        // given
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 2, 0, 0);
+        List<Ohlcv> ohlcvs = List.of(
+                Ohlcv.builder().dateTime(dateTime.plusDays(1)).open(new BigDecimal("1.25")).close(new BigDecimal("3")).build(),
+                Ohlcv.builder().dateTime(dateTime).open(new BigDecimal("10")).close(new BigDecimal("2.5")).build());
+        // when
+        OhlcvSeries ohlcvSeries = OhlcvSeries.of(ohlcvs);
+        // then (values are same, scale is max scale of column)
+        assertEquals(0, new BigDecimal("10").compareTo(ohlcvSeries.getOpen(1)));
+        assertEquals(new BigDecimal("1.25"), ohlcvSeries.getOpen(0));
+        assertEquals(new BigDecimal("3.0"), ohlcvSeries.getClose(0));
+        assertNull(ohlcvSeries.getVolume(0));
+        assertTrue(Double.isNaN(ohlcvSeries.getVolumes()[0]));
+        assertThrows(IllegalArgumentException.class, () -> OhlcvSeries.of(List.of(Ohlcv.builder()
+                .dateTime(dateTime.plusSeconds(1))
+                .build())));
+    }
+
+    @Test
+    void sliceAndAscending() {
+        // given
+        List<Ohlcv> ohlcvs = createOhlcvs(100);
+        OhlcvSeries ohlcvSeries = OhlcvSeries.of(ohlcvs);
+        List<Ohlcv> series = new ArrayList<>(ohlcvs);
+        Collections.reverse(series);
+        // when
+        OhlcvSeries slice = ohlcvSeries.slice(10, 40);
+        OhlcvSeries ascending = ohlcvSeries.ascending();
+        // then
+        assertEquals(ohlcvs.subList(10, 40), slice.toList());
+        assertEquals(series, ascending.toList());
+        assertEquals(series.subList(60, 90), slice.ascending().toList());
+        assertEquals(ohlcvs.subList(15, 20), slice.slice(5, 10).toList());
+        assertEquals(ohlcvs.subList(15, 20), ohlcvSeries.toList().subList(10, 40).subList(5, 10));
+        assertEquals(ohlcvs, ascending.descending().toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> slice.getOhlcv(30));
+        assertThrows(IndexOutOfBoundsException.class, () -> ohlcvSeries.slice(50, 101));
+    }
+
+    @Test
+    void sliceByDateTime() {
+        // given
+        List<Ohlcv> ohlcvs = createOhlcvs(100);
+        OhlcvSeries ohlcvSeries = OhlcvSeries.of(ohlcvs);
+        LocalDateTime dateTimeFrom = ohlcvs.get(70).getDateTime();
+        LocalDateTime dateTimeTo = ohlcvs.get(20).getDateTime();
+        // when
+        OhlcvSeries slice = ohlcvSeries.slice(dateTimeFrom, dateTimeTo);
+        // then (same as filter of cache manager)
+        List<Ohlcv> expected = ohlcvs.stream()
+                .filter(ohlcv -> !ohlcv.getDateTime().isBefore(dateTimeFrom) && !ohlcv.getDateTime().isAfter(dateTimeTo))
+                .toList();
+        assertEquals(expected, slice.toList());
+        assertEquals(ohlcvs.subList(21, 70), ohlcvSeries.slice(dateTimeFrom.plusSeconds(30), dateTimeTo.minusSeconds(30)).toList());
+        assertTrue(ohlcvSeries.slice(dateTimeTo, dateTimeFrom).isEmpty());
+    }
+
+    @Test
+    void ofWithSeriesList() {
+        // given
+        OhlcvSeries ohlcvSeries = OhlcvSeries.of(createOhlcvs(100));
+        // when
+        OhlcvSeries result = OhlcvSeries.of(ohlcvSeries.toList());
+        // then (no copy)
+        assertSame(ohlcvSeries, result);
+    }
+
+    @Test
+    void toListKeepsOhlcv() {
+        // given
+        OhlcvSeries ohlcvSeries = OhlcvSeries.of(createOhlcvs(100));
+        List<Ohlcv> ohlcvs = ohlcvSeries.toList();
+        // when
+        Ohlcv ohlcv = ohlcvs.get(15);
+        // then (same instance on repeated access and from sub list)
+        assertSame(ohlcv, ohlcvs.get(15));
+        assertSame(ohlcv, ohlcvs.subList(10, 40).get(5));
+        assertNotSame(ohlcv, ohlcvSeries.toList().get(15));
+    }
+
+    @Test
+    void ohlcvColumns() {
+        // given
+        List<Ohlcv> ohlcvs = createOhlcvs(100);
+        OhlcvSeries ohlcvSeries = OhlcvSeries.of(ohlcvs).ascending();
+        // when
+        OhlcvColumns ohlcvColumns = OhlcvColumns.of(ohlcvSeries);
+        // then (time descending, epoch milliseconds of time zone)
+        assertEquals(100, ohlcvColumns.getSize());
+        assertEquals(ohlcvs.get(0).getDateTime().atZone(ohlcvs.get(0).getTimeZone()).toInstant().toEpochMilli(), ohlcvColumns.getTimestamps()[0]);
+        assertEquals(ohlcvs.get(0).getClose().doubleValue(), ohlcvColumns.getClose()[0]);
+        assertArrayEquals(OhlcvColumns.of(ohlcvs).getTimestamps(), ohlcvColumns.getTimestamps());
+    }
+
+    @Test
+    void indicators() {
+        // given
+        List<Ohlcv> ohlcvs = createOhlcvs(200);
+        OhlcvSeries ohlcvSeries = OhlcvSeries.of(ohlcvs);
+        // when, then
+        assertEquals(Tools.indicators(ohlcvs, RsiContext.DEFAULT), Tools.indicators(ohlcvSeries, RsiContext.DEFAULT));
+        assertEquals(Tools.indicators(ohlcvs, SmaContext.DEFAULT), Tools.indicators(ohlcvSeries.ascending(), SmaContext.DEFAULT));
+        assertArrayEquals(Tools.indicatorValues(ohlcvs, RsiContext.DEFAULT).get("value"), Tools.indicatorValues(ohlcvSeries, RsiContext.DEFAULT).get("value"));
+    }
+
+    @Tag("manual")
+    @Test
+    void benchmark() {
+        List<Ohlcv> ohlcvs = createOhlcvs(10_000);
+        OhlcvSeries ohlcvSeries = OhlcvSeries.of(ohlcvs);
+        LocalDateTime dateTimeFrom = ohlcvs.get(8_000).getDateTime();
+        LocalDateTime dateTimeTo = ohlcvs.get(100).getDateTime();
+        for (int i = 0; i < 3; i ++) {
+            long startTime = System.nanoTime();
+            List<Ohlcv> filtered = ohlcvs.stream()
+                    .filter(ohlcv -> !ohlcv.getDateTime().isBefore(dateTimeFrom) && !ohlcv.getDateTime().isAfter(dateTimeTo))
+                    .toList();
+            long filterTime = System.nanoTime() - startTime;
+            startTime = System.nanoTime();
+            OhlcvSeries slice = ohlcvSeries.slice(dateTimeFrom, dateTimeTo);
+            long sliceTime = System.nanoTime() - startTime;
+            log.info("filter({}) - list: {}ms, series: {}ms", filtered.size(), filterTime / 1_000_000.0, sliceTime / 1_000_000.0);
+            startTime = System.nanoTime();
+            Tools.indicatorValues(ohlcvs, RsiContext.DEFAULT);
+            long listTime = System.nanoTime() - startTime;
+            startTime = System.nanoTime();
+            Tools.indicatorValues(slice, RsiContext.DEFAULT);
+            long seriesTime = System.nanoTime() - startTime;
+            log.info("indicatorValues - list: {}ms, series: {}ms", listTime / 1_000_000.0, seriesTime / 1_000_000.0);
+        }
+    }
+
+}
@@ -1,18 +1,29 @@
 package org.chomookun.fintics.core.strategy.runner;
 
 import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.ohlcv.indicator.Tools;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
 import org.chomookun.fintics.core.broker.model.OrderBook;
 import org.chomookun.fintics.core.strategy.model.Strategy;
 import org.chomookun.fintics.core.trade.model.Trade;
 import org.chomookun.fintics.core.trade.model.TradeAsset;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 @Slf4j
 class GroovyStrategyRunnerTest {
 
@@ -62,11 +73,12 @@ class GroovyStrategyRunnerTest {
     }
 
     @Test
-    void getImportClause() {
+    void getImportPaths() {
         // when
-        String importClause = GroovyStrategyRunner.getImportClause();
+        Set<String> importPaths = GroovyStrategyRunner.getImportPaths();
         // then
-        log.info("{}", importClause);
+        assertTrue(importPaths.contains(StrategyResult.Action.class.getName()));
+        assertTrue(importPaths.contains(Tools.class.getPackageName() + ".*"));
     }
 
     @Test
@@ -91,4 +103,194 @@ class GroovyStrategyRunnerTest {
         log.info("== strategyResult:{}", strategyResult);
     }
 
-}
\ No newline at end of file
+    @Test
+    void runWithImports() {
+        // given
+        Strategy strategy = Strategy.builder()
+                .script("return StrategyResult.of(Action.BUY, 1.0, 'test')")
+                .build();
+        // when
+        StrategyRunner strategyRunner = GroovyStrategyRunner.builder()
+                .tradeAsset(getTestTradeAsset())
+                .strategy(strategy)
+                .dateTime(LocalDateTime.now())
+                .orderBook(getTestOrderBook())
+                .build();
+        StrategyResult strategyResult = strategyRunner.run();
+        // then
+        assertEquals(StrategyResult.Action.BUY, strategyResult.getAction());
+    }
+
+    @Test
+    void getScriptClass() {
+        // given
+        Strategy strategy = Strategy.builder()
+                .strategyId("test-script-class")
+                .script("return null")
+                .build();
+        // when
+        Class<?> scriptClass = GroovyStrategyRunner.getScriptClass(strategy);
+        Class<?> cachedScriptClass = GroovyStrategyRunner.getScriptClass(strategy);
+        strategy.setScript("return 1");
+        Class<?> changedScriptClass = GroovyStrategyRunner.getScriptClass(strategy);
+        GroovyStrategyRunner.evictScriptClass(strategy.getStrategyId());
+        Class<?> evictedScriptClass = GroovyStrategyRunner.getScriptClass(strategy);
+        // then
+        assertSame(scriptClass, cachedScriptClass);
+        assertNotSame(scriptClass, changedScriptClass);
+        assertNotSame(changedScriptClass, evictedScriptClass);
+    }
+
+    @Test
+    void getScriptClassConcurrently() throws Exception {
+        // given
+        Strategy strategy = Strategy.builder()
+                .strategyId("test-script-class-concurrently")
+                .script("return null")
+                .build();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            // when
+            List<Future<Class<?>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i ++) {
+                futures.add(executorService.submit(() -> GroovyStrategyRunner.getScriptClass(strategy)));
+            }
+            Set<Class<?>> scriptClasses = new HashSet<>();
+            for (Future<Class<?>> future : futures) {
+                scriptClasses.add(future.get());
+            }
+            // then (cached one is compiled by one of callers, and reused after)
+            Class<?> cachedScriptClass = GroovyStrategyRunner.getScriptClass(strategy);
+            assertTrue(scriptClasses.contains(cachedScriptClass));
+            assertSame(cachedScriptClass, GroovyStrategyRunner.getScriptClass(strategy));
+        } finally {
+            executorService.shutdownNow();
+            GroovyStrategyRunner.evictScriptClass(strategy.getStrategyId());
+        }
+    }
+
+    @Test
+    void retainScriptClasses() {
+        // given
+        Strategy retainedStrategy = Strategy.builder()
+                .strategyId("test-retained")
+                .script("return null")
+                .build();
+        Strategy deletedStrategy = Strategy.builder()
+                .strategyId("test-deleted")
+                .script("return null")
+                .build();
+        Class<?> retainedScriptClass = GroovyStrategyRunner.getScriptClass(retainedStrategy);
+        Class<?> deletedScriptClass = GroovyStrategyRunner.getScriptClass(deletedStrategy);
+        // when
+        GroovyStrategyRunner.retainScriptClasses(Set.of(retainedStrategy.getStrategyId()));
+        // then
+        assertSame(retainedScriptClass, GroovyStrategyRunner.getScriptClass(retainedStrategy));
+        assertNotSame(deletedScriptClass, GroovyStrategyRunner.getScriptClass(deletedStrategy));
+        GroovyStrategyRunner.evictScriptClass(retainedStrategy.getStrategyId());
+        GroovyStrategyRunner.evictScriptClass(deletedStrategy.getStrategyId());
+    }
+
+    static final String RSI_MACD_SCRIPT = """
+            List<Rsi> rsis = (List<Rsi>) Tools.indicators(tradeAsset.getMinuteOhlcvs(), RsiContext.DEFAULT)
+            List<Macd> macds = (List<Macd>) Tools.indicators(tradeAsset.getMinuteOhlcvs(), MacdContext.DEFAULT)
+            BigDecimal score = BigDecimal.ZERO
+            for (int i = 0; i < rsis.size(); i ++) {
+                Rsi rsi = rsis.get(i)
+                Macd macd = macds.get(i)
+                if (rsi.value != null && rsi.signal != null && rsi.value > rsi.signal) {
+                    score = score + BigDecimal.ONE
+                }
+                if (macd.oscillator != null && macd.oscillator > BigDecimal.ZERO) {
+                    score = score + BigDecimal.ONE
+                }
+            }
+            if (score > BigDecimal.valueOf(rsis.size())) {
+                return StrategyResult.of(Action.BUY, BigDecimal.ONE, "score:${score}, price:${orderBook.price}")
+            }
+            return StrategyResult.of(Action.SELL, BigDecimal.ZERO, "score:${score}, price:${orderBook.price}")
+            """;
+
+    StrategyResult runStrategy(Strategy strategy, TradeAsset tradeAsset) {
+        return GroovyStrategyRunner.builder()
+                .tradeAsset(tradeAsset)
+                .strategy(strategy)
+                .dateTime(LocalDateTime.now())
+                .orderBook(getTestOrderBook())
+                .build()
+                .run();
+    }
+
+    @Test
+    void runWithCompileStatic() {
+        // given
+        Strategy dynamicStrategy = Strategy.builder()
+                .strategyId("test-dynamic")
+                .script(RSI_MACD_SCRIPT)
+                .build();
+        Strategy staticStrategy = Strategy.builder()
+                .strategyId("test-static")
+                .script(RSI_MACD_SCRIPT)
+                .compileStatic(true)
+                .build();
+        TradeAsset tradeAsset = getTestTradeAsset();
+        // when
+        StrategyResult dynamicResult = runStrategy(dynamicStrategy, tradeAsset);
+        StrategyResult staticResult = runStrategy(staticStrategy, tradeAsset);
+        // then
+        log.info("== dynamicResult:{}, staticResult:{}", dynamicResult, staticResult);
+        assertEquals(dynamicResult.getAction(), staticResult.getAction());
+        assertEquals(dynamicResult.getDescription(), staticResult.getDescription());
+    }
+
+    @Test
+    void validateWithCompileStaticError() {
+        // given
+        Strategy strategy = Strategy.builder()
+                .script("def price = orderBook.unknownPrice\nreturn null")
+                .compileStatic(true)
+                .build();
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> GroovyStrategyRunner.validate(strategy));
+        // then
+        log.info("== message:{}", exception.getMessage());
+        assertTrue(exception.getMessage().contains("line 1"));
+        assertTrue(exception.getMessage().contains("unknownPrice"));
+    }
+
+    @Tag("manual")
+    @Test
+    void benchmarkCompileStatic() {
+        // given
+        Strategy dynamicStrategy = Strategy.builder()
+                .strategyId("benchmark-dynamic")
+                .script(RSI_MACD_SCRIPT)
+                .build();
+        Strategy staticStrategy = Strategy.builder()
+                .strategyId("benchmark-static")
+                .script(RSI_MACD_SCRIPT)
+                .compileStatic(true)
+                .build();
+        TradeAsset tradeAsset = getTestTradeAsset();
+        int warmup = 100;
+        int iterations = 1000;
+        for (int i = 0; i < warmup; i++) {
+            runStrategy(dynamicStrategy, tradeAsset);
+            runStrategy(staticStrategy, tradeAsset);
+        }
+        // when
+        long dynamicStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            runStrategy(dynamicStrategy, tradeAsset);
+        }
+        long dynamicElapsed = System.nanoTime() - dynamicStart;
+        long staticStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            runStrategy(staticStrategy, tradeAsset);
+        }
+        long staticElapsed = System.nanoTime() - staticStart;
+        // then
+        log.info("== dynamic: {} us/run, static: {} us/run", dynamicElapsed / iterations / 1000, staticElapsed / iterations / 1000);
+    }
+
+}
@@ -0,0 +1,119 @@
+package org.chomookun.fintics.core.strategy.runner;
+
+import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.broker.model.OrderBook;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.chomookun.fintics.core.strategy.model.Strategy;
+import org.chomookun.fintics.core.trade.model.TradeAsset;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class JavaStrategyRunnerTest {
+
+    static final String SCRIPT = """
+            import java.math.BigDecimal;
+            import java.util.List;
+
+            public class TestStrategy implements JavaStrategy {
+                @Override
+                public StrategyResult run(JavaStrategyContext context) {
+                    List<Ohlcv> ohlcvs = context.getTradeAsset().getMinuteOhlcvs();
+                    BigDecimal price = context.getOrderBook().getPrice();
+                    if (price.compareTo(ohlcvs.get(0).getClose()) > 0) {
+                        return StrategyResult.of(Action.BUY, BigDecimal.ONE, "price:" + price);
+                    }
+                    return StrategyResult.of(Action.SELL, BigDecimal.ZERO, "price:" + price);
+                }
+            }
+            """;
+
+    OrderBook getTestOrderBook() {
+        return OrderBook.builder()
+                .price(BigDecimal.valueOf(10000))
+                .bidPrice(BigDecimal.valueOf(9990))
+                .askPrice(BigDecimal.valueOf(10010))
+                .build();
+    }
+
+    TradeAsset getTestTradeAsset() {
+        return TradeAsset.builder()
+                .minuteOhlcvs(IntStream.range(1,501)
+                        .mapToObj(i -> {
+                            BigDecimal price = BigDecimal.valueOf(1000 - (i*10));
+                            return Ohlcv.builder()
+                                    .dateTime(LocalDateTime.now().minusMinutes(i))
+                                    .open(price)
+                                    .high(price)
+                                    .low(price)
+                                    .close(price)
+                                    .volume(BigDecimal.valueOf(100))
+                                    .build();
+                        })
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Test
+    void run() {
+        // given
+        Strategy strategy = Strategy.builder()
+                .strategyId("test-java")
+                .language(Strategy.Language.JAVA)
+                .script(SCRIPT)
+                .build();
+        // when
+        StrategyResult strategyResult = JavaStrategyRunner.builder()
+                .strategy(strategy)
+                .dateTime(LocalDateTime.now())
+                .tradeAsset(getTestTradeAsset())
+                .orderBook(getTestOrderBook())
+                .build()
+                .run();
+        // then
+        log.info("== strategyResult:{}", strategyResult);
+        assertEquals(StrategyResult.Action.BUY, strategyResult.getAction());
+        assertEquals("price:10000", strategyResult.getDescription());
+    }
+
+    @Test
+    void validateWithCompileError() {
+        // given
+        Strategy strategy = Strategy.builder()
+                .language(Strategy.Language.JAVA)
+                .script(SCRIPT.replace("getPrice()", "getUnknownPrice()"))
+                .build();
+        // when
+        StrategyCompileException exception = assertThrows(StrategyCompileException.class, () -> JavaStrategyRunner.validate(strategy));
+        // then
+        log.info("== errors:{}", exception.getErrors());
+        assertEquals(1, exception.getErrors().size());
+        assertTrue(exception.getErrors().get(0).startsWith("[line 8,"));
+    }
+
+    @Test
+    void getStrategyClass() {
+        // given
+        Strategy strategy = Strategy.builder()
+                .strategyId("test-java-class")
+                .language(Strategy.Language.JAVA)
+                .script(SCRIPT)
+                .build();
+        // when
+        Class<?> strategyClass = JavaStrategyRunner.getStrategyClass(strategy);
+        Class<?> cachedStrategyClass = JavaStrategyRunner.getStrategyClass(strategy);
+        JavaStrategyRunner.evictStrategyClass(strategy.getStrategyId());
+        Class<?> evictedStrategyClass = JavaStrategyRunner.getStrategyClass(strategy);
+        // then
+        assertSame(strategyClass, cachedStrategyClass);
+        assertNotSame(strategyClass, evictedStrategyClass);
+        assertNotSame(strategyClass.getClassLoader(), evictedStrategyClass.getClassLoader());
+    }
+
+}
@@ -0,0 +1,157 @@
+package org.chomookun.fintics.core.strategy.runner;
+
+import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.broker.model.OrderBook;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.chomookun.fintics.core.strategy.model.Strategy;
+import org.chomookun.fintics.core.trade.model.TradeAsset;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class PythonStrategyRunnerTest {
+
+    OrderBook getTestOrderBook() {
+        return OrderBook.builder()
+                .price(BigDecimal.valueOf(10000))
+                .bidPrice(BigDecimal.valueOf(9990))
+                .askPrice(BigDecimal.valueOf(10010))
+                .build();
+    }
+
+    TradeAsset getTestTradeAsset() {
+        return TradeAsset.builder()
+                .minuteOhlcvs(IntStream.range(1,501)
+                        .mapToObj(i -> {
+                            BigDecimal price = BigDecimal.valueOf(1000 - (i*10));
+                            return Ohlcv.builder()
+                                    .dateTime(LocalDateTime.now().minusMinutes(i))
+                                    .open(price)
+                                    .high(price)
+                                    .low(price)
+                                    .close(price)
+                                    .volume(BigDecimal.valueOf(100))
+                                    .build();
+                        })
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    StrategyResult runStrategy(Strategy strategy) {
+        return PythonStrategyRunner.builder()
+                .strategy(strategy)
+                .dateTime(LocalDateTime.now())
+                .tradeAsset(getTestTradeAsset())
+                .orderBook(getTestOrderBook())
+                .build()
+                .run();
+    }
+
+    @Test
+    void run() {
+        // given
+        Strategy strategy = Strategy.builder()
+                .strategyId("test-python")
+                .language(Strategy.Language.PYTHON)
+                .script("strategy_result = {'action': 'BUY', 'position': 0.5, 'description': \"it's test\"}")
+                .build();
+        // when
+        StrategyResult strategyResult = runStrategy(strategy);
+        // then
+        log.info("== strategyResult:{}", strategyResult);
+        assertEquals(StrategyResult.Action.BUY, strategyResult.getAction());
+        assertEquals(0, BigDecimal.valueOf(0.5).compareTo(strategyResult.getPosition()));
+        assertEquals("it's test", strategyResult.getDescription());
+    }
+
+    @Test
+    void runWithoutResult() {
+        // given
+        Strategy strategy = Strategy.builder()
+                .strategyId("test-python-none")
+                .language(Strategy.Language.PYTHON)
+                .script("price = order_book.getPrice()")
+                .build();
+        // when
+        StrategyResult strategyResult = runStrategy(strategy);
+        // then
+        assertNull(strategyResult);
+    }
+
+    @Test
+    void runWithBindingReset() {
+        // given
+        Strategy defineStrategy = Strategy.builder()
+                .strategyId("test-python-define")
+                .language(Strategy.Language.PYTHON)
+                .script("leaked = 1")
+                .build();
+        Strategy checkStrategy = Strategy.builder()
+                .strategyId("test-python-check")
+                .language(Strategy.Language.PYTHON)
+                .script("strategy_result = {'action': 'SELL' if 'leaked' in globals() else 'BUY', 'position': 0}")
+                .build();
+        // when
+        runStrategy(defineStrategy);
+        StrategyResult strategyResult = runStrategy(checkStrategy);
+        // then
+        assertEquals(StrategyResult.Action.BUY, strategyResult.getAction());
+    }
+
+    @Test
+    void runWithOhlcvColumns() {
+        // given
+        Strategy strategy = Strategy.builder()
+                .strategyId("test-python-columns")
+                .language(Strategy.Language.PYTHON)
+                .script("""
+                        closes = trade_asset.getMinuteOhlcvColumns().getClose()
+                        mean = sum(closes[:20]) / 20
+                        strategy_result = {'action': 'BUY' if closes[0] > mean else 'SELL', 'position': len(closes)}
+                        """)
+                .build();
+        // when
+        StrategyResult strategyResult = runStrategy(strategy);
+        // then
+        assertEquals(StrategyResult.Action.BUY, strategyResult.getAction());
+        assertEquals(500, strategyResult.getPosition().intValue());
+    }
+
+    @Tag("manual")
+    @Test
+    void benchmark() {
+        // given
+        Strategy strategy = Strategy.builder()
+                .strategyId("benchmark-python")
+                .language(Strategy.Language.PYTHON)
+                .script("""
+                        closes = trade_asset.getMinuteOhlcvColumns().getClose()
+                        mean = sum(closes[:20]) / 20
+                        strategy_result = {'action': 'BUY' if closes[0] > mean else 'SELL', 'position': 1}
+                        """)
+                .build();
+        // when
+        long coldStart = System.nanoTime();
+        runStrategy(strategy);
+        long coldElapsed = System.nanoTime() - coldStart;
+        int iterations = 1000;
+        for (int i = 0; i < iterations; i++) {
+            runStrategy(strategy);
+        }
+        long warmStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            runStrategy(strategy);
+        }
+        long warmElapsed = System.nanoTime() - warmStart;
+        // then
+        log.info("== cold: {} ms, warm: {} us/run", coldElapsed / 1_000_000, warmElapsed / iterations / 1000);
+    }
+
+}
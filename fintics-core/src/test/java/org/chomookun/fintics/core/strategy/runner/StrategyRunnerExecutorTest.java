@@ -0,0 +1,156 @@
+package org.chomookun.fintics.core.strategy.runner;
+
+import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.strategy.model.Strategy;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class StrategyRunnerExecutorTest {
+
+    private static StrategyRunnerExecutor createStrategyRunnerExecutor(int poolSize, long timeout) {
+        StrategyRunnerExecutorProperties strategyRunnerExecutorProperties = StrategyRunnerExecutorProperties.builder()
+                .poolSize(poolSize)
+                .timeout(timeout)
+                .build();
+        return new StrategyRunnerExecutor(strategyRunnerExecutorProperties);
+    }
+
+    private static StrategyRunner createGroovyStrategyRunner(String strategyId, String script) {
+        Strategy strategy = Strategy.builder()
+                .strategyId(strategyId)
+                .language(Strategy.Language.GROOVY)
+                .script(script)
+                .build();
+        return GroovyStrategyRunner.builder()
+                .strategy(strategy)
+                .dateTime(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Test strategy runner (ignores interrupt until released)
+     */
+    static class StuckStrategyRunner extends StrategyRunner {
+
+        final AtomicBoolean released = new AtomicBoolean();
+
+        StuckStrategyRunner() {
+            super(Strategy.builder().build(), null, LocalDateTime.now(), null, null, null, null);
+        }
+
+        @Override
+        public StrategyResult run() {
+            while (!released.get()) {
+                Thread.onSpinWait();
+            }
+            return null;
+        }
+
+    }
+
+    @Test
+    void execute() throws Exception {
+        // given
+        StrategyRunnerExecutor strategyRunnerExecutor = createStrategyRunnerExecutor(1, 10_000);
+        StrategyRunner strategyRunner = createGroovyStrategyRunner("test-execute", """
+                long sum = 0
+                for (int i = 0; i < 1_000_000; i ++) { sum += i }
+                return StrategyResult.of(Action.BUY, BigDecimal.ONE, "sum:${sum}")
+                """);
+        try {
+            // when
+            StrategyRunnerExecutor.Execution execution = strategyRunnerExecutor.execute("test-execute", strategyRunner);
+            // then
+            log.info("== execution:{}, metrics:{}", execution, strategyRunnerExecutor.getMetrics("test-execute"));
+            assertEquals(StrategyResult.Action.BUY, execution.strategyResult().getAction());
+            assertTrue(execution.elapsedTime() > 0);
+            assertEquals(1, strategyRunnerExecutor.getMetrics("test-execute").getRunCount().get());
+        } finally {
+            strategyRunnerExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void executeWithTimeout() throws Exception {
+        // given
+        StrategyRunnerExecutor strategyRunnerExecutor = createStrategyRunnerExecutor(1, 500);
+        StrategyRunner runawayStrategyRunner = createGroovyStrategyRunner("test-runaway", "while (true) { }");
+        StrategyRunner strategyRunner = createGroovyStrategyRunner("test-next", "return null");
+        try {
+            // when
+            StrategyTimeoutException exception = assertThrows(StrategyTimeoutException.class, () ->
+                    strategyRunnerExecutor.execute("test-runaway", runawayStrategyRunner));
+            // then - runaway script is interrupted, so next strategy runs in same (single) thread
+            log.info("== message:{}", exception.getMessage());
+            assertNull(strategyRunnerExecutor.execute("test-next", strategyRunner).strategyResult());
+            assertEquals(1, strategyRunnerExecutor.getMetrics("test-runaway").getTimeoutCount().get());
+        } finally {
+            strategyRunnerExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void executeWithQueueWait() throws Exception {
+        // given
+        StrategyRunnerExecutor strategyRunnerExecutor = createStrategyRunnerExecutor(1, 1_000);
+        StrategyRunner strategyRunner1 = createGroovyStrategyRunner("test-queue-1", "Thread.sleep(700); return null");
+        StrategyRunner strategyRunner2 = createGroovyStrategyRunner("test-queue-2", "Thread.sleep(700); return null");
+        try {
+            // when
+            CompletableFuture<StrategyRunnerExecutor.Execution> future1 = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return strategyRunnerExecutor.execute("test-queue-1", strategyRunner1);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            Thread.sleep(100);
+            StrategyRunnerExecutor.Execution execution2 = strategyRunnerExecutor.execute("test-queue-2", strategyRunner2);
+            // then - waiting in queue is not counted in time budget
+            assertNull(future1.get().strategyResult());
+            assertNull(execution2.strategyResult());
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(execution2.elapsedTime()) > 1_000);
+            assertEquals(0, strategyRunnerExecutor.getMetrics("test-queue-2").getTimeoutCount().get());
+        } finally {
+            strategyRunnerExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void executeWithStuckWorker() throws Exception {
+        // given
+        StrategyRunnerExecutor strategyRunnerExecutor = createStrategyRunnerExecutor(1, 300);
+        StuckStrategyRunner stuckStrategyRunner = new StuckStrategyRunner();
+        StrategyRunner strategyRunner = createGroovyStrategyRunner("test-next", "return null");
+        try {
+            // when
+            assertThrows(StrategyTimeoutException.class, () -> strategyRunnerExecutor.execute("test-stuck", stuckStrategyRunner));
+            // then - stuck worker is replaced, so other strategy runs
+            assertEquals(2, strategyRunnerExecutor.getPoolSize());
+            assertEquals(1, strategyRunnerExecutor.getMetrics("test-stuck").getStuckCount().get());
+            assertNull(strategyRunnerExecutor.execute("test-next", strategyRunner).strategyResult());
+            // same strategy is refused while stuck run is running
+            StrategyTimeoutException exception = assertThrows(StrategyTimeoutException.class, () ->
+                    strategyRunnerExecutor.execute("test-stuck", new StuckStrategyRunner()));
+            log.info("== message:{}", exception.getMessage());
+            // retired worker is removed when stuck run ends
+            stuckStrategyRunner.released.set(true);
+            for (int i = 0; i < 100 && strategyRunnerExecutor.getPoolSize() > 1; i ++) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, strategyRunnerExecutor.getPoolSize());
+            assertEquals(0, strategyRunnerExecutor.getMetrics("test-stuck").getStuckRunningCount().get());
+        } finally {
+            stuckStrategyRunner.released.set(true);
+            strategyRunnerExecutor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package org.chomookun.fintics.core.trade;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TradeServiceAfterCommitTest {
+
+    @Test
+    void runAfterCommit() {
+        // given
+        AtomicInteger count = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            TradeService.runAfterCommit(count::incrementAndGet);
+            // then (deferred until commit)
+            assertEquals(0, count.get());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, count.get());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void runAfterCommitRolledBack() {
+        // given
+        AtomicInteger count = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            TradeService.runAfterCommit(count::incrementAndGet);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            // then (not published)
+            assertEquals(0, count.get());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void runAfterCommitWithoutTransaction() {
+        // given
+        AtomicInteger count = new AtomicInteger();
+        // when
+        TradeService.runAfterCommit(count::incrementAndGet);
+        // then (immediately)
+        assertEquals(1, count.get());
+    }
+
+}
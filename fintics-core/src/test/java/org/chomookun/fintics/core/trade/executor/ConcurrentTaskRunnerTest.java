@@ -0,0 +1,55 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentTaskRunnerTest {
+
+    @Test
+    void run() throws Exception {
+        // given
+        List<Integer> items = IntStream.range(0, 20).boxed().toList();
+        AtomicInteger runningCount = new AtomicInteger();
+        AtomicInteger maxRunningCount = new AtomicInteger();
+        Set<Integer> completedItems = ConcurrentHashMap.newKeySet();
+        // when
+        ConcurrentTaskRunner.run("test", items, 4, item -> {
+            maxRunningCount.accumulateAndGet(runningCount.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            runningCount.decrementAndGet();
+            completedItems.add(item);
+        }, throwable -> fail(throwable));
+        // then (all items are completed, bounded by concurrency)
+        assertEquals(items.size(), completedItems.size());
+        assertTrue(maxRunningCount.get() > 1);
+        assertTrue(maxRunningCount.get() <= 4);
+    }
+
+    @Test
+    void runWithFailedTask() throws Exception {
+        // given
+        List<Integer> items = IntStream.range(0, 10).boxed().toList();
+        Set<Integer> completedItems = ConcurrentHashMap.newKeySet();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        // when
+        ConcurrentTaskRunner.run("test", items, 2, item -> {
+            if (item == 3) {
+                throw new IllegalStateException("failed:" + item);
+            }
+            completedItems.add(item);
+        }, errors::add);
+        // then (failure does not stop other tasks)
+        assertEquals(items.size() - 1, completedItems.size());
+        assertEquals(1, errors.size());
+        assertEquals("failed:3", errors.get(0).getMessage());
+    }
+
+}
@@ -0,0 +1,93 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.asset.model.Asset;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class MarketDataHubTest {
+
+    private static MarketDataHub createMarketDataHub(long ttl) {
+        MarketDataHubProperties marketDataHubProperties = MarketDataHubProperties.builder()
+                .ohlcvTtl(ttl)
+                .orderBookTtl(ttl)
+                .build();
+        return new MarketDataHub(marketDataHubProperties);
+    }
+
+    @Test
+    void getWithConcurrentRequests() throws Exception {
+        // given
+        MarketDataHub marketDataHub = createMarketDataHub(0);
+        Asset asset = Asset.builder().assetId("KR.005930").build();
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        // when
+        List<Future<String>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return marketDataHub.get("broker", asset, MarketDataHub.Kind.ORDER_BOOK, 0, () -> {
+                        loadCount.incrementAndGet();
+                        Thread.sleep(200);
+                        return "value";
+                    });
+                }));
+            }
+            startLatch.countDown();
+            for (Future<String> future : futures) {
+                assertEquals("value", future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        // then
+        log.info("loadCount:{}, metrics:{}", loadCount.get(), marketDataHub.getMetrics("broker"));
+        assertTrue(loadCount.get() < threadCount);
+        assertEquals(threadCount - loadCount.get(), marketDataHub.getMetrics("broker").getSavedCount());
+    }
+
+    @Test
+    void getWithTtl() throws Exception {
+        // given
+        MarketDataHub marketDataHub = createMarketDataHub(60_000);
+        Asset asset = Asset.builder().assetId("KR.005930").build();
+        AtomicInteger loadCount = new AtomicInteger();
+        // when
+        for (int i = 0; i < 3; i++) {
+            marketDataHub.get("broker", asset, MarketDataHub.Kind.DAILY_OHLCVS, 60_000, loadCount::incrementAndGet);
+        }
+        marketDataHub.get("other-broker", asset, MarketDataHub.Kind.DAILY_OHLCVS, 60_000, loadCount::incrementAndGet);
+        // then
+        assertEquals(2, loadCount.get());
+        assertEquals(2, marketDataHub.getMetrics("broker").getHitCount().get());
+        assertEquals(1, marketDataHub.getMetrics("other-broker").getMissCount().get());
+    }
+
+    @Test
+    void getWithError() throws Exception {
+        // given
+        MarketDataHub marketDataHub = createMarketDataHub(60_000);
+        Asset asset = Asset.builder().assetId("KR.005930").build();
+        // when
+        assertThrows(IllegalStateException.class, () ->
+                marketDataHub.get("broker", asset, MarketDataHub.Kind.MINUTE_OHLCVS, 60_000, () -> {
+                    throw new IllegalStateException("error");
+                }));
+        String value = marketDataHub.get("broker", asset, MarketDataHub.Kind.MINUTE_OHLCVS, 60_000, () -> "value");
+        // then
+        assertEquals("value", value);
+        assertEquals(2, marketDataHub.getMetrics("broker").getMissCount().get());
+    }
+
+}
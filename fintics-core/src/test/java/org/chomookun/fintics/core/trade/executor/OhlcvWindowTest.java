@@ -0,0 +1,103 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class OhlcvWindowTest {
+
+    private static List<Ohlcv> createOhlcvs(LocalDateTime dateTime, int size, BigDecimal close) {
+        return IntStream.range(0, size).mapToObj(i -> Ohlcv.builder()
+                .dateTime(dateTime.minusMinutes(i))
+                .close(close)
+                .build()).collect(Collectors.toList());
+    }
+
+    @Test
+    void mergeWithEmpty() {
+        // given
+        OhlcvWindow window = new OhlcvWindow(Period.ofMonths(1));
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0);
+        // when
+        boolean merged = window.merge(createOhlcvs(now, 10, BigDecimal.ONE));
+        // then
+        assertFalse(merged);
+    }
+
+    @Test
+    void mergeWithNewOhlcvs() {
+        // given
+        OhlcvWindow window = new OhlcvWindow(Period.ofMonths(1));
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0);
+        window.reset(createOhlcvs(now, 100, BigDecimal.ONE));
+        // when
+        boolean merged = window.merge(createOhlcvs(now.plusMinutes(2), 10, BigDecimal.TEN));
+        // then
+        assertTrue(merged);
+        assertEquals(3, window.getMergedCount());
+        List<Ohlcv> ohlcvs = window.getOhlcvs();
+        assertEquals(102, ohlcvs.size());
+        assertEquals(now.plusMinutes(2), ohlcvs.get(0).getDateTime());
+        // last bar of window is replaced
+        assertEquals(now, ohlcvs.get(2).getDateTime());
+        assertEquals(BigDecimal.TEN, ohlcvs.get(2).getClose());
+        assertEquals(BigDecimal.ONE, ohlcvs.get(3).getClose());
+        TradeValidator.validateOhlcvs(ohlcvs);
+    }
+
+    @Test
+    void mergeWithGap() {
+        // given
+        OhlcvWindow window = new OhlcvWindow(Period.ofMonths(1));
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0);
+        window.reset(createOhlcvs(now, 100, BigDecimal.ONE));
+        // when
+        boolean merged = window.merge(createOhlcvs(now.plusMinutes(20), 10, BigDecimal.ONE));
+        // then
+        assertFalse(merged);
+        assertEquals(100, window.size());
+    }
+
+    @Test
+    void mergeWithInvalidOhlcvs() {
+        // given
+        OhlcvWindow window = new OhlcvWindow(Period.ofMonths(1));
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0);
+        window.reset(createOhlcvs(now, 100, BigDecimal.ONE));
+        List<Ohlcv> ohlcvs = new ArrayList<>(createOhlcvs(now.plusMinutes(3), 5, BigDecimal.ONE));
+        ohlcvs.set(1, ohlcvs.get(2));
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> window.merge(ohlcvs));
+    }
+
+    @Test
+    void evict() {
+        // given
+        OhlcvWindow window = new OhlcvWindow(Period.ofDays(1));
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0);
+        window.reset(createOhlcvs(now, 60 * 48, BigDecimal.ONE));
+        // when
+        window.evict(now);
+        // then
+        List<Ohlcv> ohlcvs = window.getOhlcvs();
+        assertEquals(60 * 24 + 1, ohlcvs.size());
+        assertEquals(now, ohlcvs.get(0).getDateTime());
+        assertEquals(now.minusDays(1), ohlcvs.get(ohlcvs.size() - 1).getDateTime());
+        // appends after eviction
+        window.merge(createOhlcvs(now.plusMinutes(1), 2, BigDecimal.ONE));
+        assertEquals(now.plusMinutes(1), window.getOhlcvs().get(0).getDateTime());
+        TradeValidator.validateOhlcvs(window.getOhlcvs());
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.broker.model.BalanceAsset;
+import org.chomookun.fintics.core.broker.model.OrderBook;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.chomookun.fintics.core.strategy.model.Strategy;
+import org.chomookun.fintics.core.trade.model.TradeAsset;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class StrategyInputFingerprintTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0);
+
+    private final Strategy strategy = Strategy.builder()
+            .language(Strategy.Language.GROOVY)
+            .script("return null")
+            .build();
+
+    private final BalanceAsset balanceAsset = BalanceAsset.builder()
+            .quantity(BigDecimal.TEN)
+            .build();
+
+    private final OrderBook orderBook = OrderBook.builder()
+            .askPrice(BigDecimal.valueOf(101))
+            .bidPrice(BigDecimal.valueOf(100))
+            .build();
+
+    private TradeAsset createTradeAsset(BigDecimal minuteClose) {
+        return TradeAsset.builder()
+                .dailyOhlcvs(List.of(Ohlcv.of("test", Ohlcv.Type.DAILY, now.toLocalDate().atStartOfDay(), null, 100, 110, 90, 105, 1000)))
+                .minuteOhlcvs(List.of(Ohlcv.of("test", Ohlcv.Type.MINUTE, now, null, 100, 110, 90, minuteClose.doubleValue(), 10)))
+                .build();
+    }
+
+    @Test
+    void computeWithSameInputs() {
+        // when
+        List<Object> key1 = StrategyInputFingerprint.computeKey(strategy, null, createTradeAsset(BigDecimal.ONE), balanceAsset, orderBook, null, true, true, true);
+        List<Object> key2 = StrategyInputFingerprint.computeKey(strategy, null, createTradeAsset(BigDecimal.ONE), balanceAsset, orderBook, null, true, true, true);
+        // then
+        assertEquals(key1, key2);
+    }
+
+    @Test
+    void computeWithChangedInputs() {
+        // when
+        List<Object> key = StrategyInputFingerprint.computeKey(strategy, null, createTradeAsset(BigDecimal.ONE), balanceAsset, orderBook, null, true, true, true);
+        List<Object> minuteChangedKey = StrategyInputFingerprint.computeKey(strategy, null, createTradeAsset(BigDecimal.valueOf(2)), balanceAsset, orderBook, null, true, true, true);
+        List<Object> contextChangedKey = StrategyInputFingerprint.computeKey(strategy, null, createTradeAsset(BigDecimal.ONE), balanceAsset, orderBook, Map.of("count", 1), true, true, true);
+        List<Object> variablesChangedKey = StrategyInputFingerprint.computeKey(strategy, "a=1", createTradeAsset(BigDecimal.ONE), balanceAsset, orderBook, null, true, true, true);
+        // then
+        assertNotEquals(key, minuteChangedKey);
+        assertNotEquals(key, contextChangedKey);
+        assertNotEquals(key, variablesChangedKey);
+    }
+
+    @Test
+    void computeWithUnusedInputs() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        TradeAsset tradeAsset = createTradeAsset(BigDecimal.ONE);
+        tradeAsset.setMinuteOhlcvsLoader(() -> {
+            loadCount.incrementAndGet();
+            return List.of();
+        });
+        // when
+        List<Object> key1 = StrategyInputFingerprint.computeKey(strategy, null, tradeAsset, balanceAsset, orderBook, null, true, false, true);
+        List<Object> key2 = StrategyInputFingerprint.computeKey(strategy, null, createTradeAsset(BigDecimal.valueOf(2)), balanceAsset, orderBook, null, true, false, true);
+        // then
+        assertEquals(0, loadCount.get());
+        assertEquals(key1, key2);
+    }
+
+    @Test
+    void computeWithSameHashInputs() {
+        // when ("Aa" and "BB" have same hash code)
+        List<Object> key1 = StrategyInputFingerprint.computeKey(strategy, "Aa", createTradeAsset(BigDecimal.ONE), balanceAsset, orderBook, null, true, true, true);
+        List<Object> key2 = StrategyInputFingerprint.computeKey(strategy, "BB", createTradeAsset(BigDecimal.ONE), balanceAsset, orderBook, null, true, true, true);
+        StrategyInputFingerprint fingerprint = new StrategyInputFingerprint(key1, true, true, true, null);
+        // then
+        assertEquals(key1.hashCode(), key2.hashCode());
+        assertFalse(fingerprint.matches(key2));
+    }
+
+    @Test
+    void computeWithMutatedOhlcv() {
+        // given
+        TradeAsset tradeAsset = createTradeAsset(BigDecimal.ONE);
+        List<Object> key = StrategyInputFingerprint.computeKey(strategy, null, tradeAsset, balanceAsset, orderBook, null, true, true, true);
+        StrategyInputFingerprint fingerprint = new StrategyInputFingerprint(key, true, true, true, null);
+        // when (current bar is updated in place)
+        tradeAsset.getMinuteOhlcvs().get(0).setClose(BigDecimal.TEN);
+        // then
+        assertFalse(fingerprint.matches(StrategyInputFingerprint.computeKey(strategy, null, tradeAsset, balanceAsset, orderBook, null, true, true, true)));
+    }
+
+}
@@ -0,0 +1,169 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import org.chomookun.fintics.core.asset.model.Asset;
+import org.chomookun.fintics.core.broker.client.BrokerClient;
+import org.chomookun.fintics.core.broker.model.Balance;
+import org.chomookun.fintics.core.broker.model.DividendProfit;
+import org.chomookun.fintics.core.broker.model.OrderBook;
+import org.chomookun.fintics.core.broker.model.RealizedProfit;
+import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.chomookun.fintics.core.order.model.Order;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TradeAccountSnapshotTest {
+
+    /**
+     * Test broker client (counts calls)
+     */
+    static class TestBrokerClient extends BrokerClient {
+
+        int balanceCallCount;
+
+        int waitingOrdersCallCount;
+
+        boolean amendFailed;
+
+        final List<Order> waitingOrders = new ArrayList<>();
+
+        TestBrokerClient() {
+            super(null, new Properties());
+        }
+
+        @Override
+        public boolean isOpened(LocalDateTime datetime) {
+            return true;
+        }
+
+        @Override
+        public List<Ohlcv> getMinuteOhlcvs(Asset asset) {
+            return List.of();
+        }
+
+        @Override
+        public List<Ohlcv> getDailyOhlcvs(Asset asset) {
+            return List.of();
+        }
+
+        @Override
+        public OrderBook getOrderBook(Asset asset) {
+            return null;
+        }
+
+        @Override
+        public Balance getBalance() {
+            balanceCallCount ++;
+            return Balance.builder().cashAmount(BigDecimal.valueOf(balanceCallCount)).build();
+        }
+
+        @Override
+        public Order submitOrder(Asset asset, Order order) {
+            Order submittedOrder = Order.builder()
+                    .assetId(order.getAssetId())
+                    .type(order.getType())
+                    .kind(order.getKind())
+                    .price(order.getPrice())
+                    .quantity(order.getQuantity())
+                    .brokerOrderId("broker-" + order.getAssetId())
+                    .build();
+            waitingOrders.add(submittedOrder);
+            return submittedOrder;
+        }
+
+        @Override
+        public List<Order> getWaitingOrders() {
+            waitingOrdersCallCount ++;
+            return new ArrayList<>(waitingOrders);
+        }
+
+        @Override
+        public Order amendOrder(Asset asset, Order order) {
+            if (amendFailed) {
+                throw new IllegalStateException("amend failed");
+            }
+            return order;
+        }
+
+        @Override
+        public List<RealizedProfit> getRealizedProfits(LocalDate dateFrom, LocalDate dateTo) {
+            return List.of();
+        }
+
+        @Override
+        public List<DividendProfit> getDividendProfits(LocalDate dateFrom, LocalDate dateTo) {
+            return List.of();
+        }
+
+    }
+
+    private static Order createOrder(String assetId, Order.Kind kind) {
+        return Order.builder()
+                .assetId(assetId)
+                .type(Order.Type.BUY)
+                .kind(kind)
+                .price(BigDecimal.valueOf(1_000))
+                .quantity(BigDecimal.ONE)
+                .build();
+    }
+
+    @Test
+    void fetchOncePerCycle() throws Exception {
+        // given
+        TestBrokerClient brokerClient = new TestBrokerClient();
+        TradeAccountSnapshot accountSnapshot = new TradeAccountSnapshot(brokerClient);
+        // when
+        for (int i = 0; i < 3; i ++) {
+            accountSnapshot.getBalance();
+            accountSnapshot.getWaitingOrders();
+        }
+        // then
+        assertEquals(1, accountSnapshot.getBalanceFetchCount());
+        assertEquals(1, accountSnapshot.getWaitingOrdersFetchCount());
+        assertEquals(1, brokerClient.balanceCallCount);
+        assertEquals(1, brokerClient.waitingOrdersCallCount);
+    }
+
+    @Test
+    void submitOrder() throws Exception {
+        // given
+        TestBrokerClient brokerClient = new TestBrokerClient();
+        TradeAccountSnapshot accountSnapshot = new TradeAccountSnapshot(brokerClient);
+        accountSnapshot.getBalance();
+        accountSnapshot.getWaitingOrders();
+        // when
+        accountSnapshot.submitOrder(Asset.builder().assetId("KR.000001").build(), createOrder("KR.000001", Order.Kind.LIMIT));
+        accountSnapshot.submitOrder(Asset.builder().assetId("KR.000002").build(), createOrder("KR.000002", Order.Kind.MARKET));
+        // then (balance is invalidated, limit order is applied as submitted order without re-fetch)
+        assertEquals(BigDecimal.valueOf(2), accountSnapshot.getBalance().getCashAmount());
+        assertEquals(2, accountSnapshot.getBalanceFetchCount());
+        List<Order> waitingOrders = accountSnapshot.getWaitingOrders();
+        assertEquals(1, waitingOrders.size());
+        assertEquals("broker-KR.000001", waitingOrders.get(0).getBrokerOrderId());
+        assertEquals(1, accountSnapshot.getWaitingOrdersFetchCount());
+    }
+
+    @Test
+    void amendOrderFailed() throws Exception {
+        // given
+        TestBrokerClient brokerClient = new TestBrokerClient();
+        brokerClient.waitingOrders.add(createOrder("KR.000001", Order.Kind.LIMIT));
+        TradeAccountSnapshot accountSnapshot = new TradeAccountSnapshot(brokerClient);
+        Order waitingOrder = accountSnapshot.getWaitingOrders().get(0);
+        brokerClient.amendFailed = true;
+        // when
+        waitingOrder.setPrice(BigDecimal.valueOf(2_000));
+        assertThrows(IllegalStateException.class, () -> accountSnapshot.amendOrder(Asset.builder().assetId("KR.000001").build(), waitingOrder));
+        // then (waiting orders are re-fetched)
+        accountSnapshot.getWaitingOrders();
+        assertEquals(2, accountSnapshot.getWaitingOrdersFetchCount());
+    }
+
+}
@@ -0,0 +1,303 @@
+package org.chomookun.fintics.core.trade.executor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.chomookun.arch4j.core.common.data.IdGenerator;
+import org.chomookun.arch4j.core.common.test.CoreTestSupport;
+import org.chomookun.fintics.core.FinticsCoreConfiguration;
+import org.chomookun.fintics.core.trade.entity.TradeAssetEntity;
+import org.chomookun.fintics.core.trade.model.TradeAsset;
+import org.chomookun.fintics.core.trade.repository.TradeAssetRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = FinticsCoreConfiguration.class)
+@RequiredArgsConstructor
+class TradeAssetStoreTest extends CoreTestSupport {
+
+    final ObjectMapper objectMapper;
+
+    final TradeAssetRepository tradeAssetRepository;
+
+    final PlatformTransactionManager transactionManager;
+
+    /**
+     * Test string redis template (records published messages)
+     */
+    static class TestStringRedisTemplate extends StringRedisTemplate {
+
+        final List<String> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Long convertAndSend(String channel, Object message) {
+            messages.add((String) message);
+            return 1L;
+        }
+
+    }
+
+    /**
+     * Test transaction manager (fails to begin transaction given times)
+     */
+    static class FailingTransactionManager implements PlatformTransactionManager {
+
+        final PlatformTransactionManager transactionManager;
+
+        final AtomicInteger failCount;
+
+        FailingTransactionManager(PlatformTransactionManager transactionManager, int failCount) {
+            this.transactionManager = transactionManager;
+            this.failCount = new AtomicInteger(failCount);
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            if (failCount.getAndDecrement() > 0) {
+                throw new CannotCreateTransactionException("test");
+            }
+            return transactionManager.getTransaction(definition);
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            transactionManager.commit(status);
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            transactionManager.rollback(status);
+        }
+
+    }
+
+    private TradeAssetStore createTradeAssetStore(StringRedisTemplate stringRedisTemplate, PlatformTransactionManager transactionManager) {
+        TradeAssetStore tradeAssetStore = TradeAssetStore.builder()
+                .stringRedisTemplate(stringRedisTemplate)
+                .objectMapper(objectMapper)
+                .tradeAssetRepository(tradeAssetRepository)
+                .transactionManager(transactionManager)
+                .tradeAssetStoreProperties(TradeAssetStoreProperties.builder()
+                        .queueCapacity(100)
+                        .flushInterval(60_000)   // flushed by test
+                        .maxRetryCount(1)
+                        .fullPublishInterval(60_000)
+                        .build())
+                .build();
+        tradeAssetStore.start();
+        return tradeAssetStore;
+    }
+
+    private static TradeAsset createTradeAsset(String tradeId, String assetId, int open, int close) {
+        return TradeAsset.builder()
+                .tradeId(tradeId)
+                .assetId(assetId)
+                .open(BigDecimal.valueOf(open))
+                .close(BigDecimal.valueOf(close))
+                .build();
+    }
+
+    private BigDecimal getPersistedClose(String tradeId, String assetId) {
+        TradeAssetEntity.Pk pk = TradeAssetEntity.Pk.builder()
+                .tradeId(tradeId)
+                .assetId(assetId)
+                .build();
+        return tradeAssetRepository.findById(pk)
+                .map(TradeAssetEntity::getClose)
+                .orElse(null);
+    }
+
+    @Test
+    void saveWriteBehind() {
+        // given
+        String tradeId = IdGenerator.uuid();
+        TradeAssetStore tradeAssetStore = createTradeAssetStore(new TestStringRedisTemplate(), transactionManager);
+        try {
+            // when
+            tradeAssetStore.save(createTradeAsset(tradeId, "test", 100, 110));
+            // then (not persisted until flushed, but loaded from cache)
+            assertNull(getPersistedClose(tradeId, "test"));
+            assertEquals(0, BigDecimal.valueOf(110).compareTo(tradeAssetStore.load(tradeId, "test").orElseThrow().getClose()));
+            tradeAssetStore.flush();
+            assertEquals(0, BigDecimal.valueOf(110).compareTo(getPersistedClose(tradeId, "test")));
+        } finally {
+            tradeAssetStore.close();
+        }
+    }
+
+    @Test
+    void saveCoalesced() {
+        // given
+        String tradeId = IdGenerator.uuid();
+        TestStringRedisTemplate stringRedisTemplate = new TestStringRedisTemplate();
+        TradeAssetStore tradeAssetStore = createTradeAssetStore(stringRedisTemplate, transactionManager);
+        try {
+            // when
+            for (int close = 101; close <= 103; close ++) {
+                tradeAssetStore.save(createTradeAsset(tradeId, "test", 100, close));
+            }
+            // then (latest only)
+            assertEquals(1, tradeAssetStore.getPendingCount());
+            tradeAssetStore.flush();
+            assertEquals(0, tradeAssetStore.getPendingCount());
+            assertEquals(0, BigDecimal.valueOf(103).compareTo(getPersistedClose(tradeId, "test")));
+            assertEquals(1, stringRedisTemplate.messages.size());
+        } finally {
+            tradeAssetStore.close();
+        }
+    }
+
+    @Test
+    void loadedContextMutatedWhilePending() {
+        // given
+        String tradeId = IdGenerator.uuid();
+        TradeAssetStore tradeAssetStore = createTradeAssetStore(new TestStringRedisTemplate(), transactionManager);
+        try {
+            TradeAsset tradeAsset = createTradeAsset(tradeId, "test", 100, 110);
+            tradeAsset.getContext().put("count", 1);
+            tradeAssetStore.save(tradeAsset);
+            // when (strategy mutates context of loaded trade asset before pending save is flushed)
+            TradeAsset loadedTradeAsset = tradeAssetStore.load(tradeId, "test").orElseThrow();
+            loadedTradeAsset.getContext().put("count", 2);
+            loadedTradeAsset.getContext().put("added", true);
+            tradeAsset.getContext().put("count", 3);
+            tradeAssetStore.flush();
+            // then (saved snapshot is persisted, and cached context is not changed)
+            TradeAssetEntity.Pk pk = TradeAssetEntity.Pk.builder()
+                    .tradeId(tradeId)
+                    .assetId("test")
+                    .build();
+            Map<String, Object> persistedContext = tradeAssetRepository.findById(pk).orElseThrow().getContext();
+            assertEquals("1", String.valueOf(persistedContext.get("count")));
+            assertFalse(persistedContext.containsKey("added"));
+            assertEquals(Map.of("count", 1), tradeAssetStore.load(tradeId, "test").orElseThrow().getContext());
+        } finally {
+            tradeAssetStore.close();
+        }
+    }
+
+    @Test
+    void publishDelta() throws Exception {
+        // given
+        String tradeId = IdGenerator.uuid();
+        TestStringRedisTemplate stringRedisTemplate = new TestStringRedisTemplate();
+        TradeAssetStore tradeAssetStore = createTradeAssetStore(stringRedisTemplate, transactionManager);
+        try {
+            // when
+            tradeAssetStore.save(createTradeAsset(tradeId, "test", 100, 110));
+            tradeAssetStore.flush();
+            tradeAssetStore.save(createTradeAsset(tradeId, "test", 100, 120));
+            tradeAssetStore.flush();
+            tradeAssetStore.save(createTradeAsset(tradeId, "test", 100, 120));
+            tradeAssetStore.flush();
+            // then (first is full, next is changed field only, unchanged is not published)
+            assertEquals(2, stringRedisTemplate.messages.size());
+            JsonNode fullMessage = objectMapper.readTree(stringRedisTemplate.messages.get(0));
+            assertTrue(fullMessage.path("full").asBoolean());
+            assertTrue(fullMessage.has("open"));
+            assertTrue(fullMessage.has("message"));
+            JsonNode deltaMessage = objectMapper.readTree(stringRedisTemplate.messages.get(1));
+            assertFalse(deltaMessage.path("full").asBoolean());
+            assertEquals(tradeId, deltaMessage.path("tradeId").asText());
+            assertEquals(120, deltaMessage.path("close").asInt());
+            assertFalse(deltaMessage.has("open"));
+        } finally {
+            tradeAssetStore.close();
+        }
+    }
+
+    @Test
+    void flushFailed() {
+        // given
+        String tradeId = IdGenerator.uuid();
+        TradeAssetStore tradeAssetStore = createTradeAssetStore(new TestStringRedisTemplate(), new FailingTransactionManager(transactionManager, 1));
+        try {
+            // when
+            tradeAssetStore.save(createTradeAsset(tradeId, "test", 100, 110));
+            tradeAssetStore.flush();
+            // then (re-queued and persisted by next flush)
+            assertEquals(1, tradeAssetStore.getPendingCount());
+            assertNull(getPersistedClose(tradeId, "test"));
+            tradeAssetStore.flush();
+            assertEquals(0, tradeAssetStore.getPendingCount());
+            assertEquals(0, BigDecimal.valueOf(110).compareTo(getPersistedClose(tradeId, "test")));
+        } finally {
+            tradeAssetStore.close();
+        }
+    }
+
+    @Test
+    void flushFailedRequeuedBehindNewerSave() {
+        // given
+        String tradeId = IdGenerator.uuid();
+        TradeAssetStore tradeAssetStore = createTradeAssetStore(new TestStringRedisTemplate(), new FailingTransactionManager(transactionManager, 1));
+        try {
+            tradeAssetStore.save(createTradeAsset(tradeId, "test", 100, 110));
+            tradeAssetStore.flush();
+            // when (newer save while failed one is re-queued)
+            tradeAssetStore.save(createTradeAsset(tradeId, "test", 100, 120));
+            tradeAssetStore.flush();
+            // then
+            assertEquals(0, BigDecimal.valueOf(120).compareTo(getPersistedClose(tradeId, "test")));
+        } finally {
+            tradeAssetStore.close();
+        }
+    }
+
+    @Test
+    void flushFailedExceedsMaxRetryCount() {
+        // given
+        String tradeId = IdGenerator.uuid();
+        TradeAssetStore tradeAssetStore = createTradeAssetStore(new TestStringRedisTemplate(), new FailingTransactionManager(transactionManager, Integer.MAX_VALUE));
+        try {
+            // when
+            tradeAssetStore.save(createTradeAsset(tradeId, "test", 100, 110));
+            tradeAssetStore.flush();
+            tradeAssetStore.flush();
+            // then (dropped after max retry count)
+            assertEquals(0, tradeAssetStore.getPendingCount());
+        } finally {
+            tradeAssetStore.close();
+        }
+    }
+
+    @Test
+    void evict() {
+        // given
+        String tradeId = IdGenerator.uuid();
+        TestStringRedisTemplate stringRedisTemplate = new TestStringRedisTemplate();
+        TradeAssetStore tradeAssetStore = createTradeAssetStore(stringRedisTemplate, transactionManager);
+        try {
+            tradeAssetStore.save(createTradeAsset(tradeId, "test1", 100, 110));
+            tradeAssetStore.save(createTradeAsset(tradeId, "test2", 100, 110));
+            tradeAssetStore.flush();
+            // when
+            tradeAssetStore.retainAssets(tradeId, Set.of("test1"));
+            // then
+            assertEquals(1, tradeAssetStore.getTradeAssetCacheMap().size());
+            tradeAssetStore.evict(tradeId);
+            assertTrue(tradeAssetStore.getTradeAssetCacheMap().isEmpty());
+            // published state is evicted (next publish is full)
+            tradeAssetStore.save(createTradeAsset(tradeId, "test1", 100, 110));
+            tradeAssetStore.flush();
+            assertEquals(3, stringRedisTemplate.messages.size());
+        } finally {
+            tradeAssetStore.close();
+        }
+    }
+
+}
@@ -1,14 +1,27 @@
 package org.chomookun.fintics.core.trade.model;
 
 import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.ohlcv.indicator.IndicatorCache;
 import org.chomookun.fintics.core.ohlcv.model.Ohlcv;
+import org.chomookun.fintics.core.ohlcv.model.OhlcvColumns;
+import org.chomookun.fintics.core.ohlcv.model.OhlcvSeries;
+import org.chomookun.fintics.core.ohlcv.model.OhlcvResampler;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 @Slf4j
@@ -19,7 +32,7 @@ public class TradeAssetTest {
         // given
         String assetId = "test";
         Ohlcv.Type type = Ohlcv.Type.MINUTE;
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0);
         List<Ohlcv> minuteOhlcvs = new ArrayList<>(){{
             add(Ohlcv.of(assetId, type, now.minusMinutes(1), null, 1000, 1100, 900, 1050, 100));
             add(Ohlcv.of(assetId, type, now.minusMinutes(2), null, 1060, 1200, 1030, 1040, 200));
@@ -34,6 +47,7 @@ public class TradeAssetTest {
         log.info("resampleOhlcvs:{}", resampleOhlcvs);
         assertEquals(1, resampleOhlcvs.size());
         Ohlcv ohlcv = resampleOhlcvs.get(0);
+        assertEquals(now.minusMinutes(3), ohlcv.getDateTime());
         assertEquals(1050, ohlcv.getOpen().longValue());
         assertEquals(1400, ohlcv.getHigh().longValue());
         assertEquals(800, ohlcv.getLow().longValue());
@@ -46,7 +60,7 @@ public class TradeAssetTest {
         // given
         String assetId = "test";
         Ohlcv.Type type = Ohlcv.Type.MINUTE;
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0);
         List<Ohlcv> minuteOhlcvs = new ArrayList<>(){{
             add(Ohlcv.of(assetId, type, now.minusMinutes(1), null, 1000, 1100, 900, 1050, 100));
             add(Ohlcv.of(assetId, type, now.minusMinutes(2), null, 1060, 1200, 1030, 1040, 200));
@@ -72,7 +86,7 @@ public class TradeAssetTest {
         // given
         String assetId = "test";
         Ohlcv.Type type = Ohlcv.Type.MINUTE;
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0);
         List<Ohlcv> minuteOhlcvs = new ArrayList<>(){{
             add(Ohlcv.of(assetId, type, now.minusMinutes(1), null, 1000, 1100, 900, 1050, 100));
             add(Ohlcv.of(assetId, type, now.minusMinutes(2), null, 1060, 1200, 1030, 1040, 200));
@@ -100,6 +114,163 @@ public class TradeAssetTest {
         assertEquals(980, ohlcv2.getLow().longValue());
         assertEquals(1050, ohlcv2.getClose().longValue());
         assertEquals(300, ohlcv2.getVolume().longValue());
+        assertEquals(now.minusMinutes(6), ohlcv2.getDateTime());
+    }
+
+    @Test
+    void getOhlcvsAlignedToCalendar() {
+        // given
+        String assetId = "test";
+        Ohlcv.Type type = Ohlcv.Type.MINUTE;
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 2);
+        List<Ohlcv> minuteOhlcvs = new ArrayList<>(){{
+            add(Ohlcv.of(assetId, type, now.minusMinutes(1), null, 1000, 1100, 900, 1050, 100));
+            add(Ohlcv.of(assetId, type, now.minusMinutes(2), null, 1060, 1200, 1030, 1040, 200));
+            add(Ohlcv.of(assetId, type, now.minusMinutes(3), null, 1050, 1400, 800, 900, 300));
+        }};
+        TradeAsset tradeAsset = TradeAsset.builder()
+                .minuteOhlcvs(minuteOhlcvs)
+                .build();
+        // when
+        List<Ohlcv> resampleOhlcvs = tradeAsset.getOhlcvs(Ohlcv.Type.MINUTE, 5);
+        // then (09:59 and 10:00 ~ 10:01 are in different 5 minutes buckets)
+        assertEquals(2, resampleOhlcvs.size());
+        assertEquals(LocalDateTime.of(2024, 1, 2, 10, 0), resampleOhlcvs.get(0).getDateTime());
+        assertEquals(300, resampleOhlcvs.get(0).getVolume().longValue());
+        assertEquals(LocalDateTime.of(2024, 1, 2, 9, 55), resampleOhlcvs.get(1).getDateTime());
+        assertEquals(300, resampleOhlcvs.get(1).getVolume().longValue());
+    }
+
+    @Test
+    void getOhlcvsMemoized() {
+        // given
+        String assetId = "test";
+        Ohlcv.Type type = Ohlcv.Type.MINUTE;
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0);
+        List<Ohlcv> minuteOhlcvs = new ArrayList<>(){{
+            add(Ohlcv.of(assetId, type, now.minusMinutes(1), null, 1000, 1100, 900, 1050, 100));
+            add(Ohlcv.of(assetId, type, now.minusMinutes(2), null, 1060, 1200, 1030, 1040, 200));
+        }};
+        Map<String, OhlcvResampler> ohlcvResamplers = new HashMap<>();
+        TradeAsset tradeAsset = TradeAsset.builder()
+                .minuteOhlcvs(minuteOhlcvs)
+                .build();
+        tradeAsset.setOhlcvResamplers(ohlcvResamplers);
+        // when
+        List<Ohlcv> resampleOhlcvs = tradeAsset.getOhlcvs(Ohlcv.Type.MINUTE, 5);
+        // then
+        assertSame(resampleOhlcvs, tradeAsset.getOhlcvs(Ohlcv.Type.MINUTE, 5));
+        assertEquals(0, ohlcvResamplers.get("MINUTE:5:CALENDAR").getResampledCount());
+        assertEquals(1, ohlcvResamplers.size());
+        assertEquals(2, tradeAsset.getOhlcvs(Ohlcv.Type.MINUTE, 1).size());
+        assertEquals(2, ohlcvResamplers.size());
+    }
+
+    @Test
+    void getMinuteOhlcvsWithLoader() {
+        // given
+        String assetId = "test";
+        Ohlcv.Type type = Ohlcv.Type.MINUTE;
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0);
+        List<Ohlcv> minuteOhlcvs = new ArrayList<>(){{
+            add(Ohlcv.of(assetId, type, now.minusMinutes(1), null, 1000, 1100, 900, 1050, 100));
+            add(Ohlcv.of(assetId, type, now.minusMinutes(2), null, 1060, 1200, 1030, 1040, 200));
+        }};
+        AtomicInteger loadCount = new AtomicInteger();
+        TradeAsset tradeAsset = TradeAsset.builder().build();
+        tradeAsset.setMinuteOhlcvsLoader(() -> {
+            loadCount.incrementAndGet();
+            return minuteOhlcvs;
+        });
+        // when
+        log.info("tradeAsset:{}", tradeAsset);
+        boolean loadedBeforeAccess = tradeAsset.isMinuteOhlcvsLoaded();
+        tradeAsset.getMinuteOhlcvs();
+        tradeAsset.getOhlcvs(Ohlcv.Type.MINUTE, 1);
+        // then
+        assertFalse(loadedBeforeAccess);
+        assertTrue(tradeAsset.isMinuteOhlcvsLoaded());
+        assertEquals(1, loadCount.get());
+        assertEquals(minuteOhlcvs, tradeAsset.getMinuteOhlcvs());
+    }
+
+    @Test
+    void getOhlcvColumns() {
+        // given
+        String assetId = "test";
+        Ohlcv.Type type = Ohlcv.Type.MINUTE;
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0);
+        List<Ohlcv> minuteOhlcvs = new ArrayList<>(){{
+            add(Ohlcv.of(assetId, type, now.minusMinutes(1), null, 1000, 1100, 900, 1050, 100));
+            add(Ohlcv.of(assetId, type, now.minusMinutes(2), null, 1060, 1200, 1030, 1040, 200));
+            add(Ohlcv.of(assetId, type, now.minusMinutes(3), null, 1050, 1400, 800, 900, 300));
+        }};
+        TradeAsset tradeAsset = TradeAsset.builder()
+                .minuteOhlcvs(minuteOhlcvs)
+                .build();
+        // when
+        OhlcvColumns rawColumns = tradeAsset.getMinuteOhlcvColumns();
+        OhlcvColumns resampledColumns = tradeAsset.getOhlcvColumns(Ohlcv.Type.MINUTE, 3);
+        // then
+        assertEquals(3, rawColumns.getSize());
+        assertArrayEquals(new double[]{1050, 1040, 900}, rawColumns.getClose());
+        assertEquals(now.minusMinutes(1).toInstant(ZoneOffset.UTC).toEpochMilli(), rawColumns.getTimestamps()[0]);
+        assertEquals(1, resampledColumns.getSize());
+        assertEquals(1400, resampledColumns.getHigh()[0]);
+        assertEquals(600, resampledColumns.getVolume()[0]);
+    }
+
+    @Test
+    void getOhlcvSeriesMemoized() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0);
+        List<Ohlcv> ohlcvs = new ArrayList<>();
+        for (int i = 1; i <= 100; i ++) {
+            ohlcvs.add(Ohlcv.of("test", Ohlcv.Type.MINUTE, now.minusMinutes(i), null, 1000, 1100, 900, 1000 + i, 100));
+        }
+        List<Ohlcv> minuteOhlcvs = OhlcvSeries.of(ohlcvs).toList();
+        TradeAsset tradeAsset = TradeAsset.builder()
+                .minuteOhlcvs(minuteOhlcvs)
+                .build();
+        // when
+        OhlcvSeries ohlcvSeries = tradeAsset.getMinuteOhlcvSeries();
+        OhlcvSeries resampledOhlcvSeries = tradeAsset.getOhlcvSeries(Ohlcv.Type.MINUTE, 5);
+        OhlcvColumns ohlcvColumns = tradeAsset.getMinuteOhlcvColumns();
+        // then (no copy if loaded from series, memoized until ohlcvs are changed)
+        assertSame(OhlcvSeries.of(minuteOhlcvs), ohlcvSeries);
+        assertSame(ohlcvSeries, tradeAsset.getMinuteOhlcvSeries());
+        assertSame(resampledOhlcvSeries, tradeAsset.getOhlcvSeries(Ohlcv.Type.MINUTE, 5));
+        assertSame(ohlcvColumns, tradeAsset.getMinuteOhlcvColumns());
+        assertEquals(20, resampledOhlcvSeries.size());
+        tradeAsset.setMinuteOhlcvs(minuteOhlcvs.subList(0, 50));
+        assertEquals(50, tradeAsset.getMinuteOhlcvSeries().size());
+        assertEquals(10, tradeAsset.getOhlcvSeries(Ohlcv.Type.MINUTE, 5).size());
+        assertEquals(50, tradeAsset.getMinuteOhlcvColumns().getSize());
+    }
+
+    @Test
+    void getOhlcvsDigestMemoized() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 10, 0);
+        List<Ohlcv> ohlcvs = new ArrayList<>();
+        for (int i = 1; i <= 100; i ++) {
+            ohlcvs.add(Ohlcv.of("test", Ohlcv.Type.MINUTE, now.minusMinutes(i), null, 1000, 1100, 900, 1000 + i, 100));
+        }
+        TradeAsset tradeAsset = TradeAsset.builder()
+                .minuteOhlcvs(ohlcvs)
+                .build();
+        // when
+        List<Ohlcv> resampledOhlcvs = tradeAsset.getOhlcvs(Ohlcv.Type.MINUTE, 5);
+        String digest = tradeAsset.getOhlcvsDigest("MINUTE:5", resampledOhlcvs);
+        // then (memoized until resampled ohlcvs are changed)
+        assertEquals(IndicatorCache.digest(resampledOhlcvs), digest);
+        assertSame(digest, tradeAsset.getOhlcvsDigest("MINUTE:5", tradeAsset.getOhlcvs(Ohlcv.Type.MINUTE, 5)));
+        List<Ohlcv> newOhlcvs = new ArrayList<>(ohlcvs);
+        newOhlcvs.add(0, Ohlcv.of("test", Ohlcv.Type.MINUTE, now, null, 1000, 1100, 900, 1200, 100));
+        tradeAsset.setMinuteOhlcvs(newOhlcvs);
+        List<Ohlcv> newResampledOhlcvs = tradeAsset.getOhlcvs(Ohlcv.Type.MINUTE, 5);
+        assertEquals(IndicatorCache.digest(newResampledOhlcvs), tradeAsset.getOhlcvsDigest("MINUTE:5", newResampledOhlcvs));
+        assertNotEquals(digest, tradeAsset.getOhlcvsDigest("MINUTE:5", newResampledOhlcvs));
     }
 
 }
@@ -0,0 +1,161 @@
+package org.chomookun.fintics.core.ohlcv.indicator;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector(SIMD) indicator kernels
+ * loaded reflectively by {@link IndicatorKernelsLoader} (requires --add-modules jdk.incubator.vector).
+ */
+class VectorIndicatorKernels implements IndicatorKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    // summing each window costs period / lanes per value, so long period falls back to scalar kernels
+    private static final int MAX_WINDOW_SUM_PERIOD = SPECIES.length() * 16;
+
+    private final ScalarIndicatorKernels scalarKernels = ScalarIndicatorKernels.INSTANCE;
+
+    @Override
+    public double[] smas(double[] series, int period) {
+        if (period > MAX_WINDOW_SUM_PERIOD) {
+            return scalarKernels.smas(series, period);
+        }
+        int length = SPECIES.length();
+        double[] smas = new double[series.length];
+        // head (partial window)
+        double sum = 0.0;
+        int head = Math.min(period - 1, series.length);
+        for (int i = 0; i < head; i ++) {
+            sum += series[i];
+            smas[i] = sum / (i + 1);
+        }
+        // full window (sums window of each lane)
+        int i = head;
+        int upperBound = head + SPECIES.loopBound(series.length - head);
+        for (; i < upperBound; i += length) {
+            DoubleVector windowSum = DoubleVector.zero(SPECIES);
+            for (int j = i - period + 1; j <= i; j ++) {
+                windowSum = windowSum.add(DoubleVector.fromArray(SPECIES, series, j));
+            }
+            windowSum.div(period).intoArray(smas, i);
+        }
+        for (; i < series.length; i ++) {
+            double windowSum = 0.0;
+            for (int j = i - period + 1; j <= i; j ++) {
+                windowSum += series[j];
+            }
+            smas[i] = windowSum / period;
+        }
+        return smas;
+    }
+
+    @Override
+    public double[] sds(double[] series, int period) {
+        // sliding window update is sequential scan
+        return scalarKernels.sds(series, period);
+    }
+
+    @Override
+    public double[] ads(double[] series, int period) {
+        if (period > MAX_WINDOW_SUM_PERIOD) {
+            return scalarKernels.ads(series, period);
+        }
+        double[] ads = new double[series.length];
+        double[] smas = smas(series, period);
+        for (int i = 0; i < series.length; i ++) {
+            int from = Math.max(i - period + 1, 0);
+            int count = i - from + 1;
+            DoubleVector mean = DoubleVector.broadcast(SPECIES, smas[i]);
+            DoubleVector sumVector = DoubleVector.zero(SPECIES);
+            int j = from;
+            int upperBound = from + SPECIES.loopBound(count);
+            for (; j < upperBound; j += SPECIES.length()) {
+                sumVector = sumVector.add(DoubleVector.fromArray(SPECIES, series, j).sub(mean).abs());
+            }
+            double sumOfAbsoluteDifferences = sumVector.reduceLanes(VectorOperators.ADD);
+            for (; j <= i; j ++) {
+                sumOfAbsoluteDifferences += Math.abs(series[j] - smas[i]);
+            }
+            ads[i] = sumOfAbsoluteDifferences / count;
+        }
+        return ads;
+    }
+
+    @Override
+    public double[] trs(double[] high, double[] low, double[] close) {
+        double[] trs = new double[close.length];
+        if (trs.length == 0) {
+            return trs;
+        }
+        trs[0] = Math.max(Math.abs(high[0] - low[0]),
+                Math.max(Math.abs(high[0] - close[0]), Math.abs(close[0] - low[0])));
+        int i = 1;
+        int upperBound = 1 + SPECIES.loopBound(trs.length - 1);
+        for (; i < upperBound; i += SPECIES.length()) {
+            DoubleVector highVector = DoubleVector.fromArray(SPECIES, high, i);
+            DoubleVector lowVector = DoubleVector.fromArray(SPECIES, low, i);
+            DoubleVector previousCloseVector = DoubleVector.fromArray(SPECIES, close, i - 1);
+            highVector.sub(lowVector).abs()
+                    .max(highVector.sub(previousCloseVector).abs().max(previousCloseVector.sub(lowVector).abs()))
+                    .intoArray(trs, i);
+        }
+        for (; i < trs.length; i ++) {
+            double previousClose = close[i - 1];
+            trs[i] = Math.max(Math.abs(high[i] - low[i]),
+                    Math.max(Math.abs(high[i] - previousClose), Math.abs(previousClose - low[i])));
+        }
+        return trs;
+    }
+
+    @Override
+    public double[] typicalPrices(double[] high, double[] low, double[] close) {
+        double[] typicalPrices = new double[close.length];
+        int i = 0;
+        int upperBound = SPECIES.loopBound(typicalPrices.length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, high, i)
+                    .add(DoubleVector.fromArray(SPECIES, low, i))
+                    .add(DoubleVector.fromArray(SPECIES, close, i))
+                    .div(3)
+                    .intoArray(typicalPrices, i);
+        }
+        for (; i < typicalPrices.length; i ++) {
+            typicalPrices[i] = (high[i] + low[i] + close[i]) / 3;
+        }
+        return typicalPrices;
+    }
+
+    @Override
+    public double[] obvs(double[] close, double[] volume) {
+        // signed volumes (branch free), then prefix sum
+        double[] signedVolumes = new double[close.length];
+        int i = 1;
+        int upperBound = close.length > 0 ? 1 + SPECIES.loopBound(close.length - 1) : 0;
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+        for (; i < upperBound; i += SPECIES.length()) {
+            DoubleVector priceDiff = DoubleVector.fromArray(SPECIES, close, i)
+                    .sub(DoubleVector.fromArray(SPECIES, close, i - 1));
+            DoubleVector volumeVector = DoubleVector.fromArray(SPECIES, volume, i);
+            VectorMask<Double> up = priceDiff.compare(VectorOperators.GT, 0.0);
+            VectorMask<Double> down = priceDiff.compare(VectorOperators.LT, 0.0);
+            zero.blend(volumeVector, up)
+                    .blend(volumeVector.neg(), down)
+                    .intoArray(signedVolumes, i);
+        }
+        for (; i < close.length; i ++) {
+            double priceDiff = close[i] - close[i - 1];
+            signedVolumes[i] = priceDiff > 0 ? volume[i] : priceDiff < 0 ? -volume[i] : 0.0;
+        }
+        double[] obvs = new double[close.length];
+        double obv = 0.0;
+        for (i = 1; i < obvs.length; i ++) {
+            obv += signedVolumes[i];
+            obvs[i] = obv;
+        }
+        return obvs;
+    }
+
+}
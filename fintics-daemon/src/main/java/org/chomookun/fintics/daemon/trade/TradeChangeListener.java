@@ -0,0 +1,109 @@
+package org.chomookun.fintics.daemon.trade;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.trade.TradeChannels;
+import org.chomookun.fintics.core.trade.model.TradeChange;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trade change listener
+ * applies trade change event (saved, deleted) to trade thread incrementally.
+ * trade thread is started/stopped on separate single thread (stop joins trade thread),
+ * so redis listener thread is not blocked, and pending changes of same trade are coalesced.
+ */
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+@Slf4j
+public class TradeChangeListener implements MessageListener {
+
+    private final ObjectProvider<RedisMessageListenerContainer> containerProvider;
+
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    private final ObjectMapper objectMapper;
+
+    private final TradeThreadSynchronizer tradeThreadSynchronizer;
+
+    private RedisMessageListenerContainer ownedContainer;
+
+    private final ExecutorService synchronizeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "trade-change");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Set<String> pendingTradeIds = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void initialize() {
+        RedisMessageListenerContainer container = containerProvider.getIfAvailable();
+        if (container == null) {
+            ownedContainer = new RedisMessageListenerContainer();
+            ownedContainer.setConnectionFactory(redisConnectionFactory);
+            ownedContainer.afterPropertiesSet();
+            ownedContainer.start();
+            container = ownedContainer;
+        }
+        container.addMessageListener(this, TradeChannels.TRADE_CHANGE_CHANNEL);
+    }
+
+    @PreDestroy
+    void destroy() throws Exception {
+        if (ownedContainer != null) {
+            ownedContainer.destroy();
+        }
+        synchronizeExecutor.shutdownNow();
+        synchronizeExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        TradeChange tradeChange;
+        try {
+            tradeChange = objectMapper.readValue(message.getBody(), TradeChange.class);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        onTradeChange(tradeChange);
+    }
+
+    /**
+     * Handles trade change (synchronizes trade thread asynchronously)
+     * @param tradeChange trade change
+     */
+    void onTradeChange(TradeChange tradeChange) {
+        String tradeId = tradeChange.getTradeId();
+        log.info("Trade changed - {}:{}", tradeChange.getType(), tradeId);
+        // already pending (synchronizer reads latest trade)
+        if (!pendingTradeIds.add(tradeId)) {
+            return;
+        }
+        synchronizeExecutor.execute(() -> {
+            pendingTradeIds.remove(tradeId);
+            try {
+                tradeThreadSynchronizer.synchronize(tradeId);
+            } catch (Throwable e) {
+                log.error(e.getMessage(), e);
+            }
+        });
+    }
+
+}
@@ -28,6 +28,15 @@ public class TradeRunnable implements Runnable {
     @Getter
     private final Integer interval;
 
+    @Getter
+    private final ZoneId timezone;
+
+    @Getter
+    private final LocalTime startTime;
+
+    @Getter
+    private final LocalTime endTime;
+
     private final TradeService tradeService;
 
     private final StrategyService strategyService;
@@ -40,6 +49,8 @@ public class TradeRunnable implements Runnable {
 
     private final TradeAssetStoreFactory tradeAssetStoreFactory;
 
+    private final TradeScheduler tradeScheduler;
+
     private final Logger log;
 
     @Setter
@@ -53,21 +64,29 @@ public class TradeRunnable implements Runnable {
     protected TradeRunnable(
         String tradeId,
         Integer interval,
+        ZoneId timezone,
+        LocalTime startTime,
+        LocalTime endTime,
         TradeService tradeService,
         StrategyService strategyService,
         BrokerService brokerService,
         TradeExecutor tradeExecutor,
         BrokerClientFactory brokerClientFactory,
-        TradeAssetStoreFactory tradeAssetStoreFactory
+        TradeAssetStoreFactory tradeAssetStoreFactory,
+        TradeScheduler tradeScheduler
     ){
         this.tradeId = tradeId;
         this.interval = interval;
+        this.timezone = timezone;
+        this.startTime = startTime;
+        this.endTime = endTime;
         this.tradeService = tradeService;
         this.strategyService = strategyService;
         this.brokerService = brokerService;
         this.tradeExecutor = tradeExecutor;
         this.brokerClientFactory = brokerClientFactory;
         this.tradeAssetStoreFactory = tradeAssetStoreFactory;
+        this.tradeScheduler = tradeScheduler;
         // log
         this.log = (Logger) LoggerFactory.getLogger(tradeId);
     }
@@ -86,34 +105,83 @@ public class TradeRunnable implements Runnable {
         tradeExecutor.setTradeAssetStore(statusHandler);
         // start loop
         log.info("Start TradeRunnable: {}", tradeId);
+        LocalDateTime cycleDateTime = null;
+        int failureCount = 0;
         while(!Thread.currentThread().isInterrupted() && !interrupted) {
-            Instant tradeStartTime = Instant.now();
+            Instant tradeStartTime = null;
             try {
-                // wait interval
-                log.info("Waiting interval: {} seconds", interval);
-                Thread.sleep(interval * 1_000);
-
-                // call trade executor
+                // wait next cycle (aligned to wall-clock, coalesces overrun ticks)
                 Trade trade = tradeService.getTrade(tradeId).orElseThrow();
-                Strategy strategy = strategyService.getStrategy(trade.getStrategyId()).orElseThrow();
                 Broker broker = brokerService.getBroker(trade.getBrokerId()).orElseThrow();
                 BrokerClient brokerClient = brokerClientFactory.getObject(broker);
                 ZoneId timezone = brokerClient.getDefinition().getTimezone();
+                LocalDateTime currentDateTime = Instant.now()
+                        .atZone(timezone)
+                        .toLocalDateTime();
+                // cycle date time is reset after failure, so only executed cycles are reported as overrun
+                if (cycleDateTime == null || cycleDateTime.isBefore(currentDateTime)) {
+                    LocalDateTime nextCycleDateTime = tradeScheduler.getNextCycleDateTime(trade, currentDateTime);
+                    if (cycleDateTime != null && trade.isOperatingTime(cycleDateTime)) {
+                        long skippedCount = Duration.between(cycleDateTime, currentDateTime).getSeconds() / trade.getInterval() + 1;
+                        log.warn("Previous cycle overran, skipped {} cycle(s)", skippedCount);
+                    }
+                    cycleDateTime = nextCycleDateTime;
+                }
+                log.info("Waiting next cycle: {}", cycleDateTime);
+                tradeScheduler.sleepUntil(cycleDateTime, timezone);
+
+                // call trade executor
+                tradeStartTime = Instant.now();
+                trade = tradeService.getTrade(tradeId).orElseThrow();
+                Strategy strategy = strategyService.getStrategy(trade.getStrategyId()).orElseThrow();
+                broker = brokerService.getBroker(trade.getBrokerId()).orElseThrow();
+                brokerClient = brokerClientFactory.getObject(broker);
+                timezone = brokerClient.getDefinition().getTimezone();
                 LocalDateTime dateTime = Instant.now()
                         .atZone(timezone)
                         .toLocalDateTime();
+
+                // parks until next session if market is not opened today (trade executor relies on this check)
+                if (!tradeScheduler.isOpened(trade, brokerClient, dateTime)) {
+                    cycleDateTime = tradeScheduler.getNextSessionDateTime(trade, dateTime.toLocalDate().atTime(LocalTime.MAX));
+                    log.info("Market not opened, parks until next session: {}", cycleDateTime);
+                    failureCount = 0;
+                    continue;
+                }
                 tradeExecutor.execute(trade, strategy, dateTime, brokerClient);
+                cycleDateTime = tradeScheduler.getNextCycleDateTime(trade, cycleDateTime);
+                failureCount = 0;
 
             } catch (InterruptedException e) {
                 log.warn("TradeRunnable is interrupted.");
                 break;
             } catch (Throwable e) {
                 log.error(e.getMessage(), e);
+                // failed cycle is not overrun, next cycle is aligned from current time
+                cycleDateTime = null;
+                // backs off (lookups before waiting may fail repeatedly)
+                failureCount ++;
+                try {
+                    Duration backOff = TradeScheduler.getBackOffDuration(interval, failureCount);
+                    log.warn("Trade cycle failed ({} time(s)), backs off: {}", failureCount, backOff);
+                    Thread.sleep(backOff.toMillis());
+                } catch (InterruptedException ie) {
+                    log.warn("TradeRunnable is interrupted.");
+                    break;
+                }
             } finally {
-                log.info("Trade elapsed time: {}",  Duration.between(tradeStartTime, Instant.now()));
+                if (tradeStartTime != null) {
+                    log.info("Trade elapsed time: {}", Duration.between(tradeStartTime, Instant.now()));
+                }
             }
         }
         log.info("End TradeRunnable: {}", tradeId);
+        // evicts cached state of stopped (or deleted) trade
+        try {
+            statusHandler.evict(tradeId);
+        } catch (Throwable e) {
+            log.warn("Evict trade asset store error: {}", e.getMessage());
+        }
         if (this.logAppender != null) {
             this.logAppender.stop();
             log.detachAppender(this.logAppender);
@@ -26,16 +26,22 @@ public class TradeRunnableFactory {
 
     private final TradeAssetStoreFactory tradeAssetStoreFactory;
 
+    private final TradeScheduler tradeScheduler;
+
     public TradeRunnable getObject(Trade trade) {
         return TradeRunnable.builder()
                 .tradeId(trade.getTradeId())
                 .interval(trade.getInterval())
+                .timezone(trade.getTimezone())
+                .startTime(trade.getStartTime())
+                .endTime(trade.getEndTime())
                 .tradeService(tradeService)
                 .strategyService(strategyService)
                 .brokerService(brokerService)
                 .tradeExecutor(tradeExecutorFactory.getObject())
                 .brokerClientFactory(brokerClientFactory)
                 .tradeAssetStoreFactory(tradeAssetStoreFactory)
+                .tradeScheduler(tradeScheduler)
                 .build();
     }
 
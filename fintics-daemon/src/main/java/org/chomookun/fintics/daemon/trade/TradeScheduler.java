@@ -0,0 +1,132 @@
+package org.chomookun.fintics.daemon.trade;
+
+import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.broker.client.BrokerClient;
+import org.chomookun.fintics.core.trade.model.Trade;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trade scheduler
+ * fires trade cycles at fixed rate aligned to wall-clock (broker time zone),
+ * and parks trade until next session open out of operating time.
+ */
+@Component
+@Slf4j
+public class TradeScheduler {
+
+    private static final Duration MAX_BACK_OFF = Duration.ofMinutes(10);
+
+    private final Map<String, MarketOpened> marketOpenedMap = new ConcurrentHashMap<>();
+
+    /**
+     * Market opened result of date
+     * @param date date
+     * @param opened opened
+     */
+    private record MarketOpened(LocalDate date, boolean opened) {}
+
+    /**
+     * Gets next cycle date time
+     * next wall-clock aligned tick in operating time, or first tick of next session.
+     * overrun ticks are coalesced (never returns date time before current)
+     * @param trade trade
+     * @param dateTime current date time (broker time zone)
+     * @return next cycle date time
+     */
+    public LocalDateTime getNextCycleDateTime(Trade trade, LocalDateTime dateTime) {
+        int interval = Math.max(trade.getInterval(), 1);
+        LocalDateTime nextDateTime = getNextAlignedDateTime(dateTime, interval);
+        if (trade.getStartTime() == null || trade.getEndTime() == null || trade.isOperatingTime(nextDateTime)) {
+            return nextDateTime;
+        }
+        return getNextSessionDateTime(trade, dateTime);
+    }
+
+    /**
+     * Gets first cycle date time of next session (after date time)
+     * next aligned tick if start time is not set
+     * @param trade trade
+     * @param dateTime date time
+     * @return next session date time
+     */
+    public LocalDateTime getNextSessionDateTime(Trade trade, LocalDateTime dateTime) {
+        int interval = Math.max(trade.getInterval(), 1);
+        if (trade.getStartTime() == null) {
+            return getNextAlignedDateTime(dateTime, interval);
+        }
+        LocalDateTime startDateTime = dateTime.toLocalDate().atTime(trade.getStartTime());
+        if (!startDateTime.isAfter(dateTime)) {
+            startDateTime = startDateTime.plusDays(1);
+        }
+        LocalDateTime nextDateTime = getNextAlignedDateTime(startDateTime.minusSeconds(1), interval);
+        // start time itself is excluded in overnight session
+        if (!trade.isOperatingTime(nextDateTime)) {
+            nextDateTime = getNextAlignedDateTime(nextDateTime, interval);
+        }
+        return nextDateTime;
+    }
+
+    /**
+     * Gets next date time aligned to interval boundary of day
+     * @param dateTime date time
+     * @param interval interval seconds
+     * @return aligned date time (exclusive)
+     */
+    static LocalDateTime getNextAlignedDateTime(LocalDateTime dateTime, int interval) {
+        LocalDateTime startOfDay = dateTime.toLocalDate().atStartOfDay();
+        long secondOfDay = Duration.between(startOfDay, dateTime).getSeconds();
+        long nextSecondOfDay = (secondOfDay / interval + 1) * interval;
+        // alignment restarts at midnight
+        LocalDateTime nextDateTime = startOfDay.plusSeconds(nextSecondOfDay);
+        LocalDateTime nextStartOfDay = startOfDay.plusDays(1);
+        return nextDateTime.isAfter(nextStartOfDay) ? nextStartOfDay : nextDateTime;
+    }
+
+    /**
+     * Gets back-off duration after failed cycle
+     * doubles interval per consecutive failure (bounded by max back-off)
+     * @param interval interval seconds
+     * @param failureCount number of consecutive failures (starts at 1)
+     * @return back-off duration
+     */
+    public static Duration getBackOffDuration(Integer interval, int failureCount) {
+        long seconds = Math.max(interval != null ? interval : 1, 1);
+        int shift = Math.min(Math.max(failureCount - 1, 0), 20);
+        Duration backOff = Duration.ofSeconds(seconds << shift);
+        return backOff.compareTo(MAX_BACK_OFF) > 0 ? MAX_BACK_OFF : backOff;
+    }
+
+    /**
+     * Checks market opened (cached per broker and date)
+     * @param trade trade
+     * @param brokerClient broker client
+     * @param dateTime date time
+     * @return whether market is opened
+     */
+    public boolean isOpened(Trade trade, BrokerClient brokerClient, LocalDateTime dateTime) throws InterruptedException {
+        LocalDate date = dateTime.toLocalDate();
+        MarketOpened marketOpened = marketOpenedMap.get(trade.getBrokerId());
+        if (marketOpened == null || !marketOpened.date().equals(date)) {
+            marketOpened = new MarketOpened(date, brokerClient.isOpened(dateTime));
+            marketOpenedMap.put(trade.getBrokerId(), marketOpened);
+        }
+        return marketOpened.opened();
+    }
+
+    /**
+     * Sleeps until date time
+     * @param dateTime date time
+     * @param timezone time zone of date time
+     */
+    public void sleepUntil(LocalDateTime dateTime, ZoneId timezone) throws InterruptedException {
+        long sleepMillis = Duration.between(Instant.now(), dateTime.atZone(timezone).toInstant()).toMillis();
+        if (sleepMillis > 0) {
+            Thread.sleep(sleepMillis);
+        }
+    }
+
+}
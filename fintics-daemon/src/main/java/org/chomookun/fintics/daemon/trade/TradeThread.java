@@ -2,19 +2,44 @@ package org.chomookun.fintics.daemon.trade;
 
 import lombok.Getter;
 
-@Getter
-public class TradeThread extends Thread {
+import java.util.concurrent.ThreadFactory;
 
+/**
+ * Trade thread
+ * wraps platform or virtual thread which runs trade runnable
+ */
+public class TradeThread {
+
+    @Getter
     private final TradeRunnable tradeRunnable;
 
-    public TradeThread(ThreadGroup threadGroup, TradeRunnable tradeRunnable, String tradeId) {
-        super(threadGroup, tradeRunnable, tradeId);
+    private final Thread thread;
+
+    public TradeThread(ThreadFactory threadFactory, TradeRunnable tradeRunnable, String tradeId) {
         this.tradeRunnable = tradeRunnable;
+        this.thread = threadFactory.newThread(tradeRunnable);
+        this.thread.setName(tradeId);
+    }
+
+    public String getName() {
+        return thread.getName();
+    }
+
+    public void start() {
+        thread.start();
     }
 
     public void interrupt() {
-        super.interrupt();
+        thread.interrupt();
         tradeRunnable.setInterrupted(true);
     }
 
+    public void join(long millis) throws InterruptedException {
+        thread.join(millis);
+    }
+
+    public boolean isAlive() {
+        return thread.isAlive();
+    }
+
 }
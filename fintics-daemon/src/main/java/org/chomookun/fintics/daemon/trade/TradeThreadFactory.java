@@ -0,0 +1,64 @@
+package org.chomookun.fintics.daemon.trade;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Trade thread factory
+ * creates platform thread in trade thread group, or virtual thread if enabled and supported.
+ */
+@Component
+@Slf4j
+public class TradeThreadFactory implements ThreadFactory {
+
+    private final ThreadGroup threadGroup = new ThreadGroup("trade");
+
+    private final ThreadFactory virtualThreadFactory;
+
+    /**
+     * Constructor
+     * @param tradeThreadProperties trade thread properties
+     */
+    public TradeThreadFactory(TradeThreadProperties tradeThreadProperties) {
+        this.virtualThreadFactory = tradeThreadProperties.isVirtual() ? createVirtualThreadFactory() : null;
+    }
+
+    /**
+     * Creates virtual thread factory (Thread.ofVirtual().factory()) by reflection
+     * build toolchain is java 17, so falls back to platform thread when not supported
+     * @return virtual thread factory or null
+     */
+    static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Object factory = Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+            log.info("Trade thread runs on virtual thread.");
+            return (ThreadFactory) factory;
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual thread is not supported in java {}, falls back to platform thread.", Runtime.version().feature());
+            return null;
+        }
+    }
+
+    /**
+     * Checks virtual thread
+     * @return whether virtual thread is used
+     */
+    public boolean isVirtual() {
+        return virtualThreadFactory != null;
+    }
+
+    @Override
+    public Thread newThread(@NotNull Runnable runnable) {
+        if (virtualThreadFactory != null) {
+            return virtualThreadFactory.newThread(runnable);
+        }
+        Thread thread = new Thread(threadGroup, runnable);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+}
@@ -22,7 +22,7 @@ public class TradeThreadManager implements ApplicationListener<ContextStoppedEve
 
     private final TradeRunnableFactory tradeRunnableFactory;
 
-    private final ThreadGroup tradeThreadGroup = new ThreadGroup("trade");
+    private final TradeThreadFactory tradeThreadFactory;
 
     private final Map<String,TradeThread> tradeThreadMap = new ConcurrentHashMap<>();
 
@@ -41,13 +41,17 @@ public class TradeThreadManager implements ApplicationListener<ContextStoppedEve
             TradeLogAppender tradeLogAppender = tradeLogAppenderFactory.getObject(context, trade);
             tradeRunnable.setLogAppender(tradeLogAppender);
             // run thread
-            TradeThread tradeThread = new TradeThread(tradeThreadGroup, tradeRunnable, trade.getTradeId());
-            tradeThread.setDaemon(true);
+            TradeThread tradeThread = new TradeThread(tradeThreadFactory, tradeRunnable, trade.getTradeId());
             tradeThread.start();
             tradeThreadMap.put(trade.getTradeId(), tradeThread);
         }
     }
 
+    /**
+     * Stops trade thread
+     * blocks until trade thread ends (max 60 seconds), so not called on listener thread (see TradeChangeListener)
+     * @param id trade id
+     */
     public synchronized void stopTradeThread(String id) {
         synchronized (this) {
             log.info("Stop Trade Thread - {}", id);
@@ -104,7 +108,7 @@ public class TradeThreadManager implements ApplicationListener<ContextStoppedEve
     @Override
     public void onApplicationEvent(@NotNull ContextStoppedEvent event) {
         log.info("Shutdown all trade trade.[{}]", event);
-        tradeThreadGroup.interrupt();
+        tradeThreadMap.values().forEach(TradeThread::interrupt);
     }
 
 }
@@ -0,0 +1,22 @@
+package org.chomookun.fintics.daemon.trade;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Trade thread properties
+ */
+@ConfigurationProperties(prefix = "fintics.daemon.trade.trade-thread")
+@AllArgsConstructor
+@Getter
+@Builder
+public class TradeThreadProperties {
+
+    /**
+     * runs trade runnable on virtual thread (requires java 21+)
+     */
+    private final boolean virtual;
+
+}
@@ -2,6 +2,8 @@ package org.chomookun.fintics.daemon.trade;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.chomookun.fintics.core.strategy.runner.StrategyRunnerFactory;
+import org.chomookun.fintics.core.trade.TradeService;
 import org.chomookun.fintics.core.trade.entity.TradeEntity;
 import org.chomookun.fintics.core.trade.repository.TradeRepository;
 import org.chomookun.fintics.core.trade.model.Trade;
@@ -10,6 +12,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -18,61 +23,96 @@ public class TradeThreadSynchronizer {
 
     private final TradeRepository tradeRepository;
 
+    private final TradeService tradeService;
+
     private final TradeThreadManager tradeThreadManager;
 
+    private final StrategyRunnerFactory strategyRunnerFactory;
+
     /**
-     * synchronizes thread and database info
+     * reconciles threads with database info
+     * trade changes are applied by change event (TradeChangeListener), this is a safety net.
      */
-    @Scheduled(initialDelay = 1_000, fixedDelay = 10_000)
+    @Scheduled(initialDelay = 1_000, fixedDelay = 60_000)
     @Transactional(readOnly = true)
-    public void synchronize() {
+    public synchronized void synchronize() {
         log.info("TradeSynchronizer.synchronize.");
         List<TradeEntity> tradeEntities = tradeRepository.findAll();
 
         // deleted trade thread
-        for(Thread tradeThread : tradeThreadManager.getTradeThreads()) {
+        for(TradeThread tradeThread : tradeThreadManager.getTradeThreads()) {
             String tradeId = tradeThread.getName();
             boolean notExists = tradeEntities.stream()
                     .noneMatch(tradeEntity ->
                             tradeEntity.getTradeId().equals(tradeId));
             if(notExists) {
                 tradeThreadManager.stopTradeThread(tradeId);
-                sleep();
             }
         }
 
-        // start trade thread if enabled
+        // applies trade
         for(TradeEntity tradeEntity : tradeEntities) {
-            Trade trade = Trade.from(tradeEntity);
-            if(trade.isEnabled()) {
-                TradeThread tradeThread = tradeThreadManager.getTradeThread(trade.getTradeId()).orElse(null);
-                if(tradeThread == null) {
-                    tradeThreadManager.startTradeThread(trade);
-                    sleep();
-                    continue;
-                }
-                if(tradeThread.getTradeRunnable().getInterval().intValue() != trade.getInterval().intValue()) {
-                    tradeThreadManager.restartTradeThread(trade);
-                    sleep();
-                }
-            }else{
-                if(tradeThreadManager.isTradeThreadRunning(trade.getTradeId())) {
-                    tradeThreadManager.stopTradeThread(trade.getTradeId());
-                    sleep();
-                }
+            applyTrade(Trade.from(tradeEntity));
+        }
+
+        // releases compiled strategies not used by enabled trade (e.g. deleted strategy)
+        Set<String> strategyIds = tradeEntities.stream()
+                .filter(TradeEntity::isEnabled)
+                .map(TradeEntity::getStrategyId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        strategyRunnerFactory.retain(strategyIds);
+    }
+
+    /**
+     * synchronizes single trade thread (on trade change event)
+     * @param tradeId trade id
+     */
+    public synchronized void synchronize(String tradeId) {
+        log.info("TradeSynchronizer.synchronize - {}", tradeId);
+        Trade trade = tradeService.getTrade(tradeId).orElse(null);
+        if (trade == null) {
+            if (tradeThreadManager.isTradeThreadRunning(tradeId)) {
+                tradeThreadManager.stopTradeThread(tradeId);
             }
+            return;
         }
+        applyTrade(trade);
     }
 
     /**
-     * force sleep
+     * starts, restarts(if schedule is changed) or stops trade thread
+     * @param trade trade
      */
-    private static void sleep() {
-        try {
-            Thread.sleep(3_000);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+    void applyTrade(Trade trade) {
+        if(trade.isEnabled()) {
+            TradeThread tradeThread = tradeThreadManager.getTradeThread(trade.getTradeId()).orElse(null);
+            if(tradeThread == null) {
+                tradeThreadManager.startTradeThread(trade);
+                return;
+            }
+            if(isScheduleChanged(tradeThread.getTradeRunnable(), trade)) {
+                tradeThreadManager.restartTradeThread(trade);
+            }
+        }else{
+            if(tradeThreadManager.isTradeThreadRunning(trade.getTradeId())) {
+                tradeThreadManager.stopTradeThread(trade.getTradeId());
+            }
         }
     }
 
+    /**
+     * checks schedule of trade (interval, timezone, start and end time) is changed from running trade thread.
+     * other fields are read by trade runnable in every cycle, so thread is not restarted for them.
+     * @param tradeRunnable trade runnable of running thread
+     * @param trade trade
+     * @return whether schedule is changed
+     */
+    static boolean isScheduleChanged(TradeRunnable tradeRunnable, Trade trade) {
+        return !Objects.equals(tradeRunnable.getInterval(), trade.getInterval())
+                || !Objects.equals(tradeRunnable.getTimezone(), trade.getTimezone())
+                || !Objects.equals(tradeRunnable.getStartTime(), trade.getStartTime())
+                || !Objects.equals(tradeRunnable.getEndTime(), trade.getEndTime());
+    }
+
 }
@@ -0,0 +1,103 @@
+package org.chomookun.fintics.daemon.trade;
+
+import org.chomookun.fintics.core.trade.model.TradeChange;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TradeChangeListenerTest {
+
+    /**
+     * Test trade thread synchronizer (records synchronized trade id, blocks until released)
+     */
+    static class TestTradeThreadSynchronizer extends TradeThreadSynchronizer {
+
+        final List<String> tradeIds = new CopyOnWriteArrayList<>();
+
+        final CountDownLatch startedLatch = new CountDownLatch(1);
+
+        final CountDownLatch releaseLatch = new CountDownLatch(1);
+
+        TestTradeThreadSynchronizer() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public synchronized void synchronize(String tradeId) {
+            startedLatch.countDown();
+            try {
+                releaseLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            tradeIds.add(tradeId);
+        }
+
+    }
+
+    private static TradeChange createTradeChange(String tradeId) {
+        return TradeChange.builder()
+                .tradeId(tradeId)
+                .type(TradeChange.Type.SAVED)
+                .build();
+    }
+
+    @Test
+    void onTradeChangeNotBlocked() throws Exception {
+        // given
+        TestTradeThreadSynchronizer tradeThreadSynchronizer = new TestTradeThreadSynchronizer();
+        TradeChangeListener tradeChangeListener = new TradeChangeListener(null, null, null, tradeThreadSynchronizer);
+        try {
+            // when (synchronizer blocks as stopping trade thread)
+            long startTime = System.nanoTime();
+            tradeChangeListener.onTradeChange(createTradeChange("trade1"));
+            assertTrue(tradeThreadSynchronizer.startedLatch.await(10, TimeUnit.SECONDS));
+            tradeChangeListener.onTradeChange(createTradeChange("trade2"));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            // then (listener thread returns immediately)
+            assertTrue(elapsedMillis < 5_000, "elapsed:" + elapsedMillis);
+            assertTrue(tradeThreadSynchronizer.tradeIds.isEmpty());
+            tradeThreadSynchronizer.releaseLatch.countDown();
+            waitUntil(() -> tradeThreadSynchronizer.tradeIds.size() == 2);
+            assertEquals(List.of("trade1", "trade2"), tradeThreadSynchronizer.tradeIds);
+        } finally {
+            tradeChangeListener.destroy();
+        }
+    }
+
+    @Test
+    void onTradeChangeCoalesced() throws Exception {
+        // given
+        TestTradeThreadSynchronizer tradeThreadSynchronizer = new TestTradeThreadSynchronizer();
+        TradeChangeListener tradeChangeListener = new TradeChangeListener(null, null, null, tradeThreadSynchronizer);
+        try {
+            tradeChangeListener.onTradeChange(createTradeChange("trade1"));
+            assertTrue(tradeThreadSynchronizer.startedLatch.await(10, TimeUnit.SECONDS));
+            // when (changes of same trade while pending)
+            for (int i = 0; i < 3; i ++) {
+                tradeChangeListener.onTradeChange(createTradeChange("trade2"));
+            }
+            tradeThreadSynchronizer.releaseLatch.countDown();
+            // then
+            waitUntil(() -> tradeThreadSynchronizer.tradeIds.size() >= 2);
+            Thread.sleep(100);
+            assertEquals(List.of("trade1", "trade2"), tradeThreadSynchronizer.tradeIds);
+        } finally {
+            tradeChangeListener.destroy();
+        }
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timeout");
+            Thread.sleep(10);
+        }
+    }
+
+}
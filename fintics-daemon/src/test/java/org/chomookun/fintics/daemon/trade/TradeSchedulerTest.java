@@ -0,0 +1,106 @@
+package org.chomookun.fintics.daemon.trade;
+
+import org.chomookun.fintics.core.trade.model.Trade;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TradeSchedulerTest {
+
+    private final TradeScheduler tradeScheduler = new TradeScheduler();
+
+    private Trade createTrade(int interval, LocalTime startTime, LocalTime endTime) {
+        return Trade.builder()
+                .tradeId("test")
+                .interval(interval)
+                .startTime(startTime)
+                .endTime(endTime)
+                .build();
+    }
+
+    @Test
+    void getNextCycleDateTimeAligned() {
+        // given
+        Trade trade = createTrade(60, LocalTime.of(9, 0), LocalTime.of(15, 30));
+        // when
+        LocalDateTime nextDateTime = tradeScheduler.getNextCycleDateTime(trade, LocalDateTime.of(2024, 1, 2, 10, 15, 42));
+        // then
+        assertEquals(LocalDateTime.of(2024, 1, 2, 10, 16, 0), nextDateTime);
+    }
+
+    @Test
+    void getNextCycleDateTimeOnBoundary() {
+        // given
+        Trade trade = createTrade(30, LocalTime.of(9, 0), LocalTime.of(15, 30));
+        // when
+        LocalDateTime nextDateTime = tradeScheduler.getNextCycleDateTime(trade, LocalDateTime.of(2024, 1, 2, 10, 15, 30));
+        // then
+        assertEquals(LocalDateTime.of(2024, 1, 2, 10, 16, 0), nextDateTime);
+    }
+
+    @Test
+    void getNextCycleDateTimeBeforeSession() {
+        // given
+        Trade trade = createTrade(60, LocalTime.of(9, 0), LocalTime.of(15, 30));
+        // when
+        LocalDateTime nextDateTime = tradeScheduler.getNextCycleDateTime(trade, LocalDateTime.of(2024, 1, 2, 3, 10, 0));
+        // then
+        assertEquals(LocalDateTime.of(2024, 1, 2, 9, 0, 0), nextDateTime);
+    }
+
+    @Test
+    void getNextCycleDateTimeAfterSession() {
+        // given
+        Trade trade = createTrade(60, LocalTime.of(9, 0), LocalTime.of(15, 30));
+        // when
+        LocalDateTime nextDateTime = tradeScheduler.getNextCycleDateTime(trade, LocalDateTime.of(2024, 1, 2, 15, 30, 0));
+        // then
+        assertEquals(LocalDateTime.of(2024, 1, 3, 9, 0, 0), nextDateTime);
+    }
+
+    @Test
+    void getNextCycleDateTimeOvernightSession() {
+        // given
+        Trade trade = createTrade(60, LocalTime.of(22, 0), LocalTime.of(6, 0));
+        // when
+        LocalDateTime inSessionDateTime = tradeScheduler.getNextCycleDateTime(trade, LocalDateTime.of(2024, 1, 2, 23, 59, 30));
+        LocalDateTime outOfSessionDateTime = tradeScheduler.getNextCycleDateTime(trade, LocalDateTime.of(2024, 1, 2, 12, 0, 0));
+        // then
+        assertEquals(LocalDateTime.of(2024, 1, 3, 0, 0, 0), inSessionDateTime);
+        assertEquals(LocalDateTime.of(2024, 1, 2, 22, 1, 0), outOfSessionDateTime);
+    }
+
+    @Test
+    void getNextSessionDateTime() {
+        // given
+        Trade trade = createTrade(60, LocalTime.of(9, 0), LocalTime.of(15, 30));
+        // when
+        LocalDateTime nextDateTime = tradeScheduler.getNextSessionDateTime(trade, LocalDateTime.of(2024, 1, 2, 0, 0).toLocalDate().atTime(LocalTime.MAX));
+        // then
+        assertEquals(LocalDateTime.of(2024, 1, 3, 9, 0, 0), nextDateTime);
+    }
+
+    @Test
+    void getNextSessionDateTimeWithoutStartTime() {
+        // given
+        Trade trade = createTrade(60, null, null);
+        // when
+        LocalDateTime nextDateTime = tradeScheduler.getNextSessionDateTime(trade, LocalDateTime.of(2024, 1, 2, 0, 0).toLocalDate().atTime(LocalTime.MAX));
+        // then
+        assertEquals(LocalDateTime.of(2024, 1, 3, 0, 0, 0), nextDateTime);
+    }
+
+    @Test
+    void getBackOffDuration() {
+        assertEquals(Duration.ofSeconds(60), TradeScheduler.getBackOffDuration(60, 1));
+        assertEquals(Duration.ofSeconds(120), TradeScheduler.getBackOffDuration(60, 2));
+        assertEquals(Duration.ofSeconds(240), TradeScheduler.getBackOffDuration(60, 3));
+        assertEquals(Duration.ofMinutes(10), TradeScheduler.getBackOffDuration(60, 100));
+        assertEquals(Duration.ofSeconds(1), TradeScheduler.getBackOffDuration(null, 1));
+    }
+
+}
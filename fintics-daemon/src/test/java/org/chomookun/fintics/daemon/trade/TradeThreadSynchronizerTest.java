@@ -0,0 +1,111 @@
+package org.chomookun.fintics.daemon.trade;
+
+import org.chomookun.fintics.core.trade.model.Trade;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TradeThreadSynchronizerTest {
+
+    /**
+     * Test trade thread manager (records calls, does not start thread)
+     */
+    static class TestTradeThreadManager extends TradeThreadManager {
+
+        final Map<String, TradeThread> tradeThreads = new HashMap<>();
+
+        final List<String> calls = new ArrayList<>();
+
+        TestTradeThreadManager() {
+            super(null, null, null);
+        }
+
+        @Override
+        public synchronized void startTradeThread(Trade trade) {
+            calls.add("start:" + trade.getTradeId());
+            TradeRunnable tradeRunnable = TradeRunnable.builder()
+                    .tradeId(trade.getTradeId())
+                    .interval(trade.getInterval())
+                    .timezone(trade.getTimezone())
+                    .startTime(trade.getStartTime())
+                    .endTime(trade.getEndTime())
+                    .build();
+            tradeThreads.put(trade.getTradeId(), new TradeThread(Thread::new, tradeRunnable, trade.getTradeId()));
+        }
+
+        @Override
+        public synchronized void stopTradeThread(String id) {
+            calls.add("stop:" + id);
+            tradeThreads.remove(id);
+        }
+
+        @Override
+        public synchronized void restartTradeThread(Trade trade) {
+            calls.add("restart:" + trade.getTradeId());
+            tradeThreads.remove(trade.getTradeId());
+            startTradeThread(trade);
+        }
+
+        @Override
+        public Optional<TradeThread> getTradeThread(String id) {
+            return Optional.ofNullable(tradeThreads.get(id));
+        }
+
+    }
+
+    private static Trade createTrade(boolean enabled, int interval, int sort) {
+        return createTrade(enabled, interval, sort, "test", LocalTime.of(9, 0));
+    }
+
+    private static Trade createTrade(boolean enabled, int interval, int sort, String name, LocalTime startTime) {
+        return Trade.builder()
+                .tradeId("test")
+                .name(name)
+                .enabled(enabled)
+                .interval(interval)
+                .sort(sort)
+                .timezone(ZoneId.of("Asia/Seoul"))
+                .startTime(startTime)
+                .endTime(LocalTime.of(15, 30))
+                .build();
+    }
+
+    @Test
+    void applyTrade() {
+        // given
+        TestTradeThreadManager tradeThreadManager = new TestTradeThreadManager();
+        TradeThreadSynchronizer tradeThreadSynchronizer = new TradeThreadSynchronizer(null, null, tradeThreadManager, null);
+        // when
+        tradeThreadSynchronizer.applyTrade(createTrade(true, 60, 1));   // started
+        tradeThreadSynchronizer.applyTrade(createTrade(true, 60, 1));   // unchanged
+        tradeThreadSynchronizer.applyTrade(createTrade(true, 60, 2));   // sort is not schedule
+        tradeThreadSynchronizer.applyTrade(createTrade(true, 60, 2, "changed", LocalTime.of(9, 0)));   // name is read in every cycle
+        tradeThreadSynchronizer.applyTrade(createTrade(true, 30, 2));   // restarted (interval)
+        tradeThreadSynchronizer.applyTrade(createTrade(true, 30, 2, "test", LocalTime.of(10, 0)));   // restarted (start time)
+        tradeThreadSynchronizer.applyTrade(createTrade(false, 30, 2));  // stopped
+        tradeThreadSynchronizer.applyTrade(createTrade(false, 30, 2));  // not running
+        // then
+        assertEquals(List.of("start:test", "restart:test", "start:test", "restart:test", "start:test", "stop:test"), tradeThreadManager.calls);
+    }
+
+    @Test
+    void isScheduleChanged() {
+        // given
+        TestTradeThreadManager tradeThreadManager = new TestTradeThreadManager();
+        tradeThreadManager.startTradeThread(createTrade(true, 60, 1));
+        TradeRunnable tradeRunnable = tradeThreadManager.getTradeThread("test").orElseThrow().getTradeRunnable();
+        // when, then
+        assertFalse(TradeThreadSynchronizer.isScheduleChanged(tradeRunnable, createTrade(true, 60, 2, "changed", LocalTime.of(9, 0))));
+        assertTrue(TradeThreadSynchronizer.isScheduleChanged(tradeRunnable, createTrade(true, 30, 1)));
+        assertTrue(TradeThreadSynchronizer.isScheduleChanged(tradeRunnable, createTrade(true, 60, 1, "test", LocalTime.of(10, 0))));
+    }
+
+}
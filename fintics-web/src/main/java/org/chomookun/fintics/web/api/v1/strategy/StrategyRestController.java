@@ -9,6 +9,7 @@ import org.chomookun.fintics.web.api.v1.strategy.dto.StrategyResponse;
 import org.chomookun.fintics.core.strategy.model.Strategy;
 import org.chomookun.fintics.core.strategy.model.StrategySearch;
 import org.chomookun.fintics.core.strategy.StrategyService;
+import org.chomookun.fintics.core.strategy.runner.StrategyCompileException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -68,6 +69,7 @@ public class StrategyRestController {
                 .language(strategyRequest.getLanguage())
                 .variables(strategyRequest.getVariables())
                 .script(strategyRequest.getScript())
+                .compileStatic(strategyRequest.isCompileStatic())
                 .build();
         Strategy savedStrategy = strategyService.saveStrategy(strategy);
         return ResponseEntity.ok(StrategyResponse.from(savedStrategy));
@@ -84,6 +86,7 @@ public class StrategyRestController {
         strategy.setLanguage(strategyRequest.getLanguage());
         strategy.setVariables(strategyRequest.getVariables());
         strategy.setScript(strategyRequest.getScript());
+        strategy.setCompileStatic(strategyRequest.isCompileStatic());
         Strategy savedStrategy = strategyService.saveStrategy(strategy);
         return ResponseEntity.ok(StrategyResponse.from(savedStrategy));
     }
@@ -102,4 +105,17 @@ public class StrategyRestController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Handles compile errors of strategy script (shown in strategy editor)
+     * @param exception strategy compile exception
+     * @return strategy response with compile errors
+     */
+    @ExceptionHandler(StrategyCompileException.class)
+    public ResponseEntity<StrategyResponse> handleStrategyCompileException(StrategyCompileException exception) {
+        StrategyResponse strategyResponse = StrategyResponse.builder()
+                .compileErrors(exception.getErrors())
+                .build();
+        return ResponseEntity.badRequest().body(strategyResponse);
+    }
+
 }
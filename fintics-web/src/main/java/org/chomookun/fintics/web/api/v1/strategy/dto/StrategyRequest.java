@@ -23,4 +23,6 @@ public class StrategyRequest {
 
     private String script;
 
+    private boolean compileStatic;
+
 }
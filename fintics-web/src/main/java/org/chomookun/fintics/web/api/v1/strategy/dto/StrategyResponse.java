@@ -4,6 +4,8 @@ import lombok.Builder;
 import lombok.Getter;
 import org.chomookun.fintics.core.strategy.model.Strategy;
 
+import java.util.List;
+
 @Builder
 @Getter
 public class StrategyResponse {
@@ -20,6 +22,10 @@ public class StrategyResponse {
 
     private String script;
 
+    private boolean compileStatic;
+
+    private List<String> compileErrors;
+
     public static StrategyResponse from(Strategy strategy) {
         return StrategyResponse.builder()
                 .strategyId(strategy.getStrategyId())
@@ -28,6 +34,7 @@ public class StrategyResponse {
                 .language(strategy.getLanguage())
                 .variables(strategy.getVariables())
                 .script(strategy.getScript())
+                .compileStatic(strategy.isCompileStatic())
                 .build();
     }
 
@@ -1,10 +1,13 @@
 package org.chomookun.fintics.web.ws.v1.trade;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.chomookun.fintics.core.trade.TradeChannels;
+import org.chomookun.fintics.core.trade.TradeService;
 import org.chomookun.fintics.core.trade.model.TradeAsset;
 import org.chomookun.fintics.web.ws.v1.trade.dto.TradeAssetMessage;
 import org.chomookun.fintics.web.ws.v1.trade.dto.TradeLogMessage;
@@ -16,19 +19,42 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Trade asset handler
+ * merges published changed fields into cached trade asset and sends to subscribers.
+ * cached trade asset is replaced by full message (published periodically), loaded from database on miss,
+ * and least recently used one is evicted when exceeds max size.
+ */
 @Component
 @Lazy(false)
 @RequiredArgsConstructor
 @Slf4j
 public class TradeAssetHandler implements MessageListener {
 
+    private static final int MAX_SIZE = 1_000;
+
     private final RedisMessageListenerContainer container;
 
     private final ObjectMapper objectMapper;
 
     private final SimpMessagingTemplate simpMessagingTemplate;
 
+    private final TradeService tradeService;
+
+    private final Map<String, TradeAsset> tradeAssetMap = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TradeAsset> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    private final Lock lock = new ReentrantLock();
+
     @PostConstruct
     void initialize() {
         container.addMessageListener(this, TradeChannels.TRADE_ASSET_CHANNEL);
@@ -36,13 +62,42 @@ public class TradeAssetHandler implements MessageListener {
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
+        // message contains changed fields only (all fields if full)
+        JsonNode delta;
+        try {
+            delta = objectMapper.readTree(message.getBody());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        String tradeId = delta.path("tradeId").asText();
+        String assetId = delta.path("assetId").asText();
+        boolean full = delta.path("full").asBoolean(false);
+        if (delta instanceof ObjectNode objectNode) {
+            objectNode.remove("full");
+        }
+        String key = tradeId + ":" + assetId;
         TradeAsset tradeAsset;
+        lock.lock();
         try {
-            tradeAsset = objectMapper.readValue(message.getBody(), TradeAsset.class);
+            tradeAsset = tradeAssetMap.get(key);
+            if (tradeAsset == null || full) {
+                // loads base on miss (already persisted before published)
+                tradeAsset = full ? null : tradeService.getTradeAsset(tradeId, assetId).orElse(null);
+                if (tradeAsset == null) {
+                    tradeAsset = TradeAsset.builder()
+                            .tradeId(tradeId)
+                            .assetId(assetId)
+                            .build();
+                }
+            }
+            tradeAsset = objectMapper.readerForUpdating(tradeAsset).readValue(delta);
+            tradeAssetMap.put(key, tradeAsset);
         } catch (IOException e) {
             throw new RuntimeException(e);
+        } finally {
+            lock.unlock();
         }
-        String destination = String.format("/trades/%s/assets", tradeAsset.getTradeId());
+        String destination = String.format("/trades/%s/assets", tradeId);
         TradeAssetMessage tradeAssetMessage = TradeAssetMessage.from(tradeAsset);
         simpMessagingTemplate.convertAndSend(destination, tradeAssetMessage);
     }